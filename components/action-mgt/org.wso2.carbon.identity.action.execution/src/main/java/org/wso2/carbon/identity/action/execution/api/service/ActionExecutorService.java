@@ -23,6 +23,8 @@ import org.wso2.carbon.identity.action.execution.api.model.ActionExecutionStatus
 import org.wso2.carbon.identity.action.execution.api.model.ActionType;
 import org.wso2.carbon.identity.action.execution.api.model.FlowContext;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * This interface defines the Action Executor Service.
  * Action Executor Service is the component that is responsible for executing the action based on the action type
@@ -62,4 +64,49 @@ public interface ActionExecutorService {
      */
     ActionExecutionStatus execute(ActionType actionType, String actionId,
                                   FlowContext flowContext, String tenantDomain) throws ActionExecutionException;
+
+    /**
+     * Execute the action based on the action type and the flow context without waiting for the action endpoint.
+     * The returned future completes with an {@link ActionExecutionException} if an error occurs while executing
+     * the action.
+     *
+     * @param actionType   Action Type
+     * @param flowContext  Flow context of the corresponding flow
+     * @param tenantDomain Tenant Domain
+     * @return Future of the {@link ActionExecutionStatus} of the action execution
+     */
+    default CompletableFuture<ActionExecutionStatus<?>> executeAsync(ActionType actionType, FlowContext flowContext,
+                                                                      String tenantDomain) {
+
+        CompletableFuture<ActionExecutionStatus<?>> future = new CompletableFuture<>();
+        try {
+            future.complete(execute(actionType, flowContext, tenantDomain));
+        } catch (ActionExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Execute the given action based on the action type and the flow context without waiting for the action
+     * endpoint. The returned future completes with an {@link ActionExecutionException} if an error occurs while
+     * executing the action.
+     *
+     * @param actionType   Action Type
+     * @param actionId     The action id of the action that need to be executed
+     * @param flowContext  Flow context of the corresponding flow
+     * @param tenantDomain Tenant Domain
+     * @return Future of the {@link ActionExecutionStatus} of the action execution
+     */
+    default CompletableFuture<ActionExecutionStatus<?>> executeAsync(ActionType actionType, String actionId,
+                                                                      FlowContext flowContext, String tenantDomain) {
+
+        CompletableFuture<ActionExecutionStatus<?>> future = new CompletableFuture<>();
+        try {
+            future.complete(execute(actionType, actionId, flowContext, tenantDomain));
+        } catch (ActionExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
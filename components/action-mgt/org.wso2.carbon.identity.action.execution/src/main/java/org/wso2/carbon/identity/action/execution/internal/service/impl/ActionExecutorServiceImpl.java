@@ -25,6 +25,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
 import org.wso2.carbon.identity.action.execution.api.exception.ActionExecutionException;
 import org.wso2.carbon.identity.action.execution.api.exception.ActionExecutionRequestBuilderException;
 import org.wso2.carbon.identity.action.execution.api.exception.ActionExecutionResponseProcessorException;
@@ -53,8 +54,12 @@ import org.wso2.carbon.identity.action.execution.api.service.ActionExecutionResp
 import org.wso2.carbon.identity.action.execution.api.service.ActionExecutorService;
 import org.wso2.carbon.identity.action.execution.internal.component.ActionExecutionServiceComponentHolder;
 import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionCircuitBreaker;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionEndpointMetrics;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionDiagnosticLogger;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionResponseCache;
+import org.wso2.carbon.identity.action.execution.internal.util.AsyncAPIClient;
 import org.wso2.carbon.identity.action.execution.internal.util.AuthMethods;
 import org.wso2.carbon.identity.action.execution.internal.util.OperationComparator;
 import org.wso2.carbon.identity.action.execution.internal.util.RequestFilter;
@@ -69,8 +74,13 @@ import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
@@ -89,10 +99,23 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
     private final APIClient apiClient;
     private final ExecutorService executorService = ThreadLocalAwareExecutors.newFixedThreadPool(THREAD_POOL_SIZE);
+    private final ActionCircuitBreaker circuitBreaker;
+    private final ActionResponseCache responseCache;
+    // Last seen update time of each action, and the action seen for each action type of a tenant, used to drop the
+    // circuit and the cached responses of actions which are updated, deactivated or deleted.
+    private final Map<String, Long> actionVersions = new ConcurrentHashMap<>();
+    private final Map<String, String> actionIdsByType = new ConcurrentHashMap<>();
+    private volatile AsyncAPIClient asyncApiClient;
 
     private ActionExecutorServiceImpl() {
 
         apiClient = new APIClient();
+        ActionExecutorConfig config = ActionExecutorConfig.getInstance();
+        circuitBreaker = new ActionCircuitBreaker(config.getCircuitBreakerSlidingWindowSize(),
+                config.getCircuitBreakerMinimumRequests(), config.getCircuitBreakerFailureRateThreshold(),
+                config.getCircuitBreakerOpenStateDurationInMillis());
+        responseCache = new ActionResponseCache(config.getResponseCacheTimeToLiveInMillis(),
+                config.getResponseCacheMaxEntries());
     }
 
     public static ActionExecutorServiceImpl getInstance() {
@@ -113,6 +136,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
         try {
             List<Action> actions = getActionsByActionType(actionType, tenantDomain);
+            syncActionOfType(actionType, tenantDomain, actions);
             validateActions(actions, actionType);
             // As of now only one action is allowed.
             Action action = actions.get(0);
@@ -136,6 +160,10 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
 
         try {
             Action action = getActionByActionId(actionType, actionId, tenantDomain);
+            if (action == null) {
+                forgetAction(actionId);
+                throw new ActionExecutionRuntimeException("No action found for action id: " + actionId);
+            }
             return execute(action, flowContext, tenantDomain);
         } catch (ActionExecutionRuntimeException e) {
             LOG.debug("Skip executing action for action type: " + actionType.name(), e);
@@ -144,10 +172,87 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         }
     }
 
+    @Override
+    public CompletableFuture<ActionExecutionStatus<?>> executeAsync(ActionType actionType, FlowContext flowContext,
+                                                                     String tenantDomain) {
+
+        try {
+            List<Action> actions = getActionsByActionType(actionType, tenantDomain);
+            syncActionOfType(actionType, tenantDomain, actions);
+            validateActions(actions, actionType);
+            // As of now only one action is allowed.
+            return executeAsync(actions.get(0), flowContext, tenantDomain);
+        } catch (ActionExecutionRuntimeException e) {
+            LOG.debug("Skip executing actions for action type: " + actionType.name(), e);
+            // Skip executing actions when no action available is considered as action execution being successful.
+            return CompletableFuture.completedFuture(
+                    new SuccessStatus.Builder().setResponseContext(flowContext.getContextData()).build());
+        } catch (ActionExecutionException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ActionExecutionStatus<?>> executeAsync(ActionType actionType, String actionId,
+                                                                     FlowContext flowContext, String tenantDomain) {
+
+        if (StringUtils.isBlank(actionId)) {
+            return failedFuture(new ActionExecutionException("Action Id cannot be blank."));
+        }
+
+        try {
+            Action action = getActionByActionId(actionType, actionId, tenantDomain);
+            if (action == null) {
+                forgetAction(actionId);
+                throw new ActionExecutionRuntimeException("No action found for action id: " + actionId);
+            }
+            return executeAsync(action, flowContext, tenantDomain);
+        } catch (ActionExecutionRuntimeException e) {
+            LOG.debug("Skip executing action for action type: " + actionType.name(), e);
+            // Skip executing actions when no action available is considered as action execution being successful.
+            return CompletableFuture.completedFuture(
+                    new SuccessStatus.Builder().setResponseContext(flowContext.getContextData()).build());
+        } catch (ActionExecutionException e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * Get the metrics of the action endpoints called through the asynchronous execution path.
+     *
+     * @return Endpoint metrics, or an empty list if no action has been executed asynchronously.
+     */
+    public List<ActionEndpointMetrics> getEndpointMetrics() {
+
+        AsyncAPIClient client = asyncApiClient;
+        return client != null ? client.getEndpointMetrics() : Collections.emptyList();
+    }
+
+    /**
+     * Get the state and the counters of the circuits of the executed actions.
+     *
+     * @return Circuit metrics of the actions.
+     */
+    public List<ActionCircuitBreaker.CircuitMetrics> getCircuitMetrics() {
+
+        return circuitBreaker.getCircuitMetrics();
+    }
+
+    /**
+     * Get the response cache of the actions, which exposes the hit, miss and size counts of the cache.
+     *
+     * @return Response cache.
+     */
+    public ActionResponseCache getResponseCache() {
+
+        return responseCache;
+    }
+
     private ActionExecutionStatus<?> execute(Action action, FlowContext flowContext, String tenantDomain)
             throws ActionExecutionException {
 
         if (action.getStatus() != Action.Status.ACTIVE) {
+            forgetAction(action.getId());
             // If no active actions are detected, it is regarded as the action execution being successful.
             return new SuccessStatus.Builder().setResponseContext(flowContext.getContextData()).build();
         }
@@ -168,6 +273,34 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         return executeAction(action, actionRequest, flowContext, actionExecutionResponseProcessor);
     }
 
+    private CompletableFuture<ActionExecutionStatus<?>> executeAsync(Action action, FlowContext flowContext,
+                                                                      String tenantDomain)
+            throws ActionExecutionException {
+
+        if (action.getStatus() != Action.Status.ACTIVE) {
+            forgetAction(action.getId());
+            // If no active actions are detected, it is regarded as the action execution being successful.
+            return CompletableFuture.completedFuture(
+                    new SuccessStatus.Builder().setResponseContext(flowContext.getContextData()).build());
+        }
+
+        DIAGNOSTIC_LOGGER.logActionInitiation(action);
+
+        if (!evaluateActionRule(action, flowContext, tenantDomain)) {
+            // If the action rule is not satisfied, it is regarded as the action execution being successful.
+            return CompletableFuture.completedFuture(
+                    new SuccessStatus.Builder().setResponseContext(flowContext.getContextData()).build());
+        }
+
+        DIAGNOSTIC_LOGGER.logActionExecution(action);
+
+        ActionType actionType = ActionType.valueOf(action.getType().getActionType());
+        ActionExecutionRequest actionRequest = buildActionExecutionRequest(actionType, action, flowContext);
+        ActionExecutionResponseProcessor actionExecutionResponseProcessor = getResponseProcessor(actionType);
+
+        return executeActionAsync(action, actionRequest, flowContext, actionExecutionResponseProcessor);
+    }
+
     private Action getActionByActionId(ActionType actionType, String actionId, String tenantDomain)
             throws ActionExecutionException {
 
@@ -190,6 +323,44 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         }
     }
 
+    /**
+     * Drop the state kept for the previous action of the action type, if the action is deleted or replaced.
+     */
+    private void syncActionOfType(ActionType actionType, String tenantDomain, List<Action> actions) {
+
+        String typeKey = tenantDomain + ":" + actionType.name();
+        String actionId = CollectionUtils.isEmpty(actions) ? null : actions.get(0).getId();
+        String previousActionId = actionId != null ? actionIdsByType.put(typeKey, actionId) :
+                actionIdsByType.remove(typeKey);
+        if (previousActionId != null && !previousActionId.equals(actionId)) {
+            forgetAction(previousActionId);
+        }
+    }
+
+    /**
+     * Drop the circuit and the cached responses of the action, if the action is updated after they were recorded.
+     */
+    private void syncActionVersion(Action action) {
+
+        long version = action.getUpdatedAt() != null ? action.getUpdatedAt().getTime() : 0L;
+        Long previousVersion = actionVersions.put(action.getId(), version);
+        if (previousVersion != null && previousVersion != version) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Action id: " + action.getId() + " is updated. Resetting its circuit and cached responses.");
+            }
+            circuitBreaker.reset(action.getId());
+            responseCache.clear(action.getId());
+        }
+    }
+
+    private void forgetAction(String actionId) {
+
+        if (actionVersions.remove(actionId) != null) {
+            circuitBreaker.reset(actionId);
+            responseCache.clear(actionId);
+        }
+    }
+
     private void validateActions(List<Action> actions, ActionType actionType) throws ActionExecutionException {
 
         if (CollectionUtils.isEmpty(actions)) {
@@ -253,17 +424,29 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
                                                    ActionExecutionResponseProcessor actionExecutionResponseProcessor)
             throws ActionExecutionException {
 
+        syncActionVersion(action);
         Authentication endpointAuthentication = action.getEndpoint().getAuthentication();
         AuthMethods.AuthMethod authenticationMethod;
 
         try {
             authenticationMethod = getAuthenticationMethod(action.getId(), endpointAuthentication);
             String payload = serializeRequest(actionRequest);
-
-            logActionRequest(action, payload);
-
-            ActionInvocationResponse actionInvocationResponse =
-                    executeActionAsynchronously(action, authenticationMethod, payload);
+            String responseCacheKey = getResponseCacheKey(action, actionRequest);
+
+            ActionInvocationResponse actionInvocationResponse = getCachedResponse(action, responseCacheKey);
+            if (actionInvocationResponse == null) {
+                if (isCircuitOpen(action)) {
+                    actionInvocationResponse = buildCircuitOpenResponse();
+                } else {
+                    logActionRequest(action, payload);
+                    try {
+                        actionInvocationResponse =
+                                executeActionAsynchronously(action, authenticationMethod, payload);
+                    } finally {
+                        recordInvocationOutcome(action, actionInvocationResponse, responseCacheKey);
+                    }
+                }
+            }
             return processActionResponse(action, actionInvocationResponse, flowContext, actionRequest,
                     actionExecutionResponseProcessor);
         } catch (ActionMgtException | JsonProcessingException | ActionExecutionResponseProcessorException e) {
@@ -271,6 +454,196 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         }
     }
 
+    private CompletableFuture<ActionExecutionStatus<?>> executeActionAsync(
+            Action action, ActionExecutionRequest actionRequest, FlowContext flowContext,
+            ActionExecutionResponseProcessor actionExecutionResponseProcessor) throws ActionExecutionException {
+
+        syncActionVersion(action);
+        Authentication endpointAuthentication = action.getEndpoint().getAuthentication();
+        ActionType actionType = ActionType.valueOf(action.getType().getActionType());
+        CompletableFuture<ActionInvocationResponse> actionInvocation;
+
+        try {
+            AuthMethods.AuthMethod authenticationMethod = getAuthenticationMethod(action.getId(),
+                    endpointAuthentication);
+            String payload = serializeRequest(actionRequest);
+            String responseCacheKey = getResponseCacheKey(action, actionRequest);
+
+            ActionInvocationResponse cachedResponse = getCachedResponse(action, responseCacheKey);
+            if (cachedResponse != null) {
+                actionInvocation = CompletableFuture.completedFuture(cachedResponse);
+            } else if (isCircuitOpen(action)) {
+                actionInvocation = CompletableFuture.completedFuture(buildCircuitOpenResponse());
+            } else {
+                logActionRequest(action, payload);
+
+                try {
+                    actionInvocation = getAsyncAPIClient().callAPI(actionType, action.getEndpoint().getUri(),
+                            authenticationMethod, payload, ActionExecutorConfig.getInstance()
+                                    .getExecutionTimeoutInMillis(actionType));
+                } catch (RuntimeException e) {
+                    /* The outcome of a call admitted by the circuit breaker is always recorded, so that a failure
+                       to start the call does not hold the trial call of a half open circuit forever. */
+                    actionInvocation = failedFuture(e);
+                }
+                actionInvocation = actionInvocation.whenComplete((actionInvocationResponse, throwable) ->
+                        recordInvocationOutcome(action, throwable == null ? actionInvocationResponse : null,
+                                responseCacheKey));
+            }
+        } catch (ActionMgtException | JsonProcessingException e) {
+            throw new ActionExecutionException("Error occurred while executing action: " + action.getId(), e);
+        }
+
+        // Responses are processed on the executor, so that the I/O threads of the HTTP client are not held.
+        Map<String, String> logContext = MDC.getCopyOfContextMap();
+        CompletableFuture<ActionExecutionStatus<?>> executionStatus = actionInvocation.thenApplyAsync(
+                actionInvocationResponse -> {
+                    Map<String, String> previousLogContext = MDC.getCopyOfContextMap();
+                    setLogContext(logContext);
+                    try {
+                        return processActionResponse(action, actionInvocationResponse, flowContext, actionRequest,
+                                actionExecutionResponseProcessor);
+                    } catch (ActionExecutionException e) {
+                        throw new CompletionException(e);
+                    } catch (ActionExecutionResponseProcessorException e) {
+                        throw new CompletionException(new ActionExecutionException(
+                                "Error occurred while executing action: " + action.getId(), e));
+                    } finally {
+                        // The pooled thread must not keep the log context of this request.
+                        setLogContext(previousLogContext);
+                    }
+                }, executorService);
+        CompletableFuture<ActionExecutionStatus<?>> result = new CompletableFuture<>();
+        executionStatus.whenComplete((status, throwable) -> {
+            if (throwable == null) {
+                result.complete(status);
+            } else {
+                result.completeExceptionally(toActionExecutionException(action, throwable));
+            }
+        });
+        return result;
+    }
+
+    private static void setLogContext(Map<String, String> logContext) {
+
+        if (logContext != null) {
+            MDC.setContextMap(logContext);
+        } else {
+            MDC.clear();
+        }
+    }
+
+    private String getResponseCacheKey(Action action, ActionExecutionRequest actionRequest)
+            throws JsonProcessingException {
+
+        ActionType actionType = ActionType.valueOf(action.getType().getActionType());
+        if (!ActionExecutorConfig.getInstance().isResponseCacheEnabled(actionType)) {
+            return null;
+        }
+        // The request id and the flow id differ on every request, hence they are not part of the key.
+        Map<String, Object> requestContent = new LinkedHashMap<>();
+        requestContent.put("actionType", actionRequest.getActionType());
+        requestContent.put("event", actionRequest.getEvent());
+        requestContent.put("allowedOperations", actionRequest.getAllowedOperations());
+        return ActionResponseCache.buildKey(action.getId(), action.getEndpoint().getUri(),
+                serializeRequest(requestContent));
+    }
+
+    private ActionInvocationResponse getCachedResponse(Action action, String responseCacheKey) {
+
+        if (responseCacheKey == null) {
+            return null;
+        }
+        ActionInvocationResponse cachedResponse = responseCache.get(responseCacheKey);
+        if (cachedResponse != null) {
+            DIAGNOSTIC_LOGGER.logCachedResponse(action);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Using the cached response for action type: " + action.getType().getActionType() +
+                        " action id: " + action.getId());
+            }
+        }
+        return cachedResponse;
+    }
+
+    private boolean isCircuitOpen(Action action) {
+
+        if (!ActionExecutorConfig.getInstance().isCircuitBreakerEnabled() ||
+                circuitBreaker.allowRequest(action.getId())) {
+            return false;
+        }
+        DIAGNOSTIC_LOGGER.logCircuitOpen(action);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Skip calling API: " + action.getEndpoint().getUri() + " for action id: " + action.getId() +
+                    " as the circuit is open.");
+        }
+        return true;
+    }
+
+    private ActionInvocationResponse buildCircuitOpenResponse() {
+
+        // Handled in the same way as an unreachable endpoint.
+        return new ActionInvocationResponse.Builder()
+                .errorLog("Action endpoint is not called as its circuit is open due to repeated failures.").build();
+    }
+
+    private void recordInvocationOutcome(Action action, ActionInvocationResponse actionInvocationResponse,
+                                         String responseCacheKey) {
+
+        if (ActionExecutorConfig.getInstance().isCircuitBreakerEnabled()) {
+            ActionCircuitBreaker.State state = circuitBreaker.recordOutcome(action.getId(),
+                    isEndpointFailure(actionInvocationResponse));
+            if (state != null) {
+                DIAGNOSTIC_LOGGER.logCircuitStateChange(action, state);
+                LOG.info("Circuit of API: " + action.getEndpoint().getUri() + " for action id: " + action.getId() +
+                        " changed to state: " + state);
+            }
+        }
+        if (responseCacheKey != null && actionInvocationResponse != null) {
+            responseCache.put(responseCacheKey, actionInvocationResponse);
+        }
+    }
+
+    private static boolean isEndpointFailure(ActionInvocationResponse actionInvocationResponse) {
+
+        // Error responses returned by the endpoint for invalid requests do not indicate an unhealthy endpoint.
+        return actionInvocationResponse == null || (actionInvocationResponse.isError() &&
+                (actionInvocationResponse.isRetry() || actionInvocationResponse.getResponse() == null));
+    }
+
+    private static ActionExecutionException toActionExecutionException(Action action, Throwable throwable) {
+
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                throwable.getCause() : throwable;
+        if (cause instanceof ActionExecutionException) {
+            return (ActionExecutionException) cause;
+        }
+        return new ActionExecutionException("Error occurred while executing action: " + action.getId(), cause);
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private AsyncAPIClient getAsyncAPIClient() {
+
+        AsyncAPIClient client = asyncApiClient;
+        if (client == null) {
+            synchronized (this) {
+                client = asyncApiClient;
+                if (client == null) {
+                    // Created on first use, so that the I/O threads are started only if actions are executed
+                    // asynchronously.
+                    client = new AsyncAPIClient();
+                    asyncApiClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
     private boolean evaluateActionRule(Action action, FlowContext flowContext, String tenantDomain)
             throws ActionExecutionException {
 
@@ -532,7 +905,7 @@ public class ActionExecutorServiceImpl implements ActionExecutorService {
         }
     }
 
-    private String serializeRequest(ActionExecutionRequest request) throws JsonProcessingException {
+    private String serializeRequest(Object request) throws JsonProcessingException {
 
         ObjectMapper requestObjectmapper = new ObjectMapper();
         requestObjectmapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
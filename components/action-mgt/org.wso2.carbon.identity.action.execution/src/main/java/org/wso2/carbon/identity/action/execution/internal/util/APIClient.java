@@ -18,14 +18,10 @@
 
 package org.wso2.carbon.identity.action.execution.internal.util;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
-import org.apache.http.HttpStatus;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
@@ -35,18 +31,9 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.util.EntityUtils;
-import org.wso2.carbon.identity.action.execution.api.exception.ActionInvocationException;
-import org.wso2.carbon.identity.action.execution.api.model.ActionExecutionStatus;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationErrorResponse;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationFailureResponse;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationIncompleteResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
-import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationSuccessResponse;
 import org.wso2.carbon.identity.action.execution.api.model.ActionType;
-import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
-import org.wso2.carbon.identity.action.execution.internal.service.impl.ResponseDataDeserializer;
 
-import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 
@@ -57,8 +44,8 @@ public class APIClient {
 
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final ActionExecutionDiagnosticLogger DIAGNOSTIC_LOGGER = new ActionExecutionDiagnosticLogger();
-    private static final String ACTION_STATUS = "actionStatus";
     private final CloseableHttpClient httpClient;
+    private final ActionInvocationResponseHandler responseHandler = new ActionInvocationResponseHandler();
 
     public APIClient() {
 
@@ -137,158 +124,11 @@ public class APIClient {
 
     private ActionInvocationResponse handleResponse(ActionType actionType, HttpResponse response) {
 
-        int statusCode = response.getStatusLine().getStatusCode();
         HttpEntity responseEntity = response.getEntity();
-
-        ActionInvocationResponse.Builder actionInvocationResponseBuilder = new ActionInvocationResponse.Builder();
-
-        switch (statusCode) {
-            case HttpStatus.SC_OK:
-                handleSuccessOrFailure(actionType, actionInvocationResponseBuilder, responseEntity, statusCode);
-                break;
-            case HttpStatus.SC_BAD_REQUEST:
-            case HttpStatus.SC_UNAUTHORIZED:
-                handleClientError(actionInvocationResponseBuilder, responseEntity, statusCode);
-                break;
-            case HttpStatus.SC_INTERNAL_SERVER_ERROR:
-                handleServerError(actionInvocationResponseBuilder, responseEntity, statusCode);
-                break;
-            case HttpStatus.SC_BAD_GATEWAY:
-            case HttpStatus.SC_SERVICE_UNAVAILABLE:
-            case HttpStatus.SC_GATEWAY_TIMEOUT:
-                handleServerError(actionInvocationResponseBuilder, responseEntity, statusCode);
-                actionInvocationResponseBuilder.retry(true);
-                break;
-            default:
-                actionInvocationResponseBuilder.errorLog("Unexpected response received with status code: " + statusCode
-                        + ".");
-                break;
-        }
-
-        return actionInvocationResponseBuilder.build();
-    }
-
-    private void handleSuccessOrFailure(ActionType actionType, ActionInvocationResponse.Builder builder,
-                                        HttpEntity entity, int statusCode) {
-
-        try {
-            builder.response(handleSuccessOrFailureResponse(actionType, entity));
-        } catch (ActionInvocationException e) {
-            builder.errorLog("Unexpected response for status code: " + statusCode + ". " + e.getMessage());
-        }
-    }
-
-    private void handleClientError(ActionInvocationResponse.Builder builder, HttpEntity entity, int statusCode) {
-
-        try {
-            ActionInvocationResponse.APIResponse errorResponse = handleErrorResponse(entity);
-            if (errorResponse != null) {
-                builder.response(errorResponse);
-            } else {
-                builder.errorLog("Failed to execute the action request. Received status code: " + statusCode + ".");
-            }
-        } catch (ActionInvocationException e) {
-            LOG.debug("JSON payload received for status code: " + statusCode +
-                    " is not of the expected error response format. ", e);
-            builder.errorLog("Unexpected error response received for the status code: " + statusCode + ". "
-                    + e.getMessage());
-        }
-    }
-
-    private void handleServerError(ActionInvocationResponse.Builder builder, HttpEntity entity, int statusCode) {
-
-        try {
-            ActionInvocationResponse.APIResponse errorResponse = handleErrorResponse(entity);
-            if (errorResponse != null) {
-                builder.response(errorResponse);
-            } else {
-                builder.errorLog("Failed to execute the action request. Received status code: " + statusCode + ".");
-                builder.retry(true);
-            }
-        } catch (ActionInvocationException e) {
-            LOG.debug("JSON payload received for status code: " + statusCode +
-                    " is not of the expected error response format. ", e);
-            builder.errorLog("Unexpected error response received for the status code: " + statusCode + ". "
-                    + e.getMessage());
-            builder.retry(true);
-        }
-    }
-
-    private ActionInvocationResponse.APIResponse handleSuccessOrFailureResponse(ActionType actionType,
-                                                                                HttpEntity responseEntity)
-            throws ActionInvocationException {
-
-        return deserializeSuccessOrFailureResponse(actionType, responseEntity);
-    }
-
-    private ActionInvocationResponse.APIResponse handleErrorResponse(HttpEntity responseEntity)
-            throws ActionInvocationException {
-
-        // If an error response is received, return the error response in order to communicate back to the client.
-        if (isAcceptablePayload(responseEntity)) {
-            return deserialize(responseEntity, ActionInvocationErrorResponse.class);
-        }
-        return null;
-    }
-
-    private String validateJsonResponse(HttpEntity responseEntity) throws ActionInvocationException {
-
-        if (!isAcceptablePayload(responseEntity)) {
-            throw new ActionInvocationException("The response content type is not application/json.");
-        }
-
-        try {
-            return EntityUtils.toString(responseEntity);
-        } catch (IOException e) {
-            throw new ActionInvocationException("Reading JSON response failed.", e);
-        }
-    }
-
-    private ActionInvocationResponse.APIResponse deserializeSuccessOrFailureResponse(ActionType actionType,
-                                                                                     HttpEntity responseEntity)
-            throws ActionInvocationException {
-
-        try {
-            String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
-            String actionStatus = rootNode.path(ACTION_STATUS).asText();
-            if (actionStatus.isEmpty()) {
-                throw new ActionInvocationException("Reading JSON response failed.");
-            }
-            if (actionStatus.equals(ActionExecutionStatus.Status.SUCCESS.name())) {
-                // Configure dynamic deserializer for the extended ResponseData class based on the action type.
-                SimpleModule module = new SimpleModule();
-                module.addDeserializer(ResponseData.class, new ResponseDataDeserializer());
-                objectMapper.setConfig(objectMapper.getDeserializationConfig()
-                        .withAttribute(ResponseDataDeserializer.ACTION_TYPE_ATTR_NAME, actionType));
-                objectMapper.registerModule(module);
-                return objectMapper.readValue(jsonResponse, ActionInvocationSuccessResponse.class);
-            } else if (actionStatus.equals(ActionExecutionStatus.Status.INCOMPLETE.name())) {
-                return objectMapper.readValue(jsonResponse, ActionInvocationIncompleteResponse.class);
-            } else {
-                return objectMapper.readValue(jsonResponse, ActionInvocationFailureResponse.class);
-            }
-        } catch (IOException e) {
-            throw new ActionInvocationException("Reading JSON response failed.", e);
-        }
-    }
-
-    private <T> T deserialize(HttpEntity responseEntity, Class<T> returnType) throws ActionInvocationException {
-
-        try {
-            String jsonResponse = validateJsonResponse(responseEntity);
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(jsonResponse, returnType);
-        } catch (IOException e) {
-            throw new ActionInvocationException("Parsing JSON response failed.", e);
-        }
-    }
-
-    private boolean isAcceptablePayload(HttpEntity responseEntity) {
-
-        return responseEntity != null && responseEntity.getContentType() != null &&
-                responseEntity.getContentType().getValue().contains("application/json");
+        String contentType = responseEntity != null && responseEntity.getContentType() != null ?
+                responseEntity.getContentType().getValue() : null;
+        return responseHandler.handleResponse(actionType, response.getStatusLine().getStatusCode(), contentType,
+                () -> EntityUtils.toString(responseEntity));
     }
 
     private static void logEndpointUnavailability(HttpPost request, int currentAttempt, int retryCount) {
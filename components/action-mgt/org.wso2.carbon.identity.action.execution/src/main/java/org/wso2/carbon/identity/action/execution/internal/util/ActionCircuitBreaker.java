@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of the action endpoints, kept per action.
+ * <p>
+ * The outcomes of the latest invocations of an action are kept in a sliding window. Once the window holds the
+ * minimum number of invocations and the failure rate reaches the threshold, the circuit opens and invocations of the
+ * action are rejected without calling the endpoint. After the open state duration, a single trial invocation is
+ * allowed. The circuit closes if the trial succeeds, and opens again otherwise.
+ */
+public class ActionCircuitBreaker {
+
+    /**
+     * State of the circuit of an action.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int slidingWindowSize;
+    private final int minimumRequests;
+    private final int failureRateThreshold;
+    private final long openStateDurationNanos;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * @param slidingWindowSize         Number of latest invocations considered for the failure rate.
+     * @param minimumRequests           Minimum number of invocations in the window before the circuit can open.
+     * @param failureRateThreshold      Failure rate, as a percentage, at which the circuit opens.
+     * @param openStateDurationInMillis Time the circuit stays open before a trial invocation is allowed.
+     */
+    public ActionCircuitBreaker(int slidingWindowSize, int minimumRequests, int failureRateThreshold,
+                                long openStateDurationInMillis) {
+
+        this.slidingWindowSize = Math.max(1, slidingWindowSize);
+        this.minimumRequests = Math.max(1, Math.min(minimumRequests, this.slidingWindowSize));
+        this.failureRateThreshold = Math.max(1, Math.min(failureRateThreshold, 100));
+        this.openStateDurationNanos = TimeUnit.MILLISECONDS.toNanos(openStateDurationInMillis);
+    }
+
+    /**
+     * Check whether the endpoint of the action can be invoked. A rejected invocation is counted as short-circuited.
+     *
+     * @param actionId Action id.
+     * @return True if the invocation is allowed.
+     */
+    public boolean allowRequest(String actionId) {
+
+        return getCircuit(actionId).allowRequest();
+    }
+
+    /**
+     * Record the outcome of an allowed invocation.
+     *
+     * @param actionId Action id.
+     * @param failed   Whether the invocation failed.
+     * @return The new state if the outcome changed the state of the circuit, or null otherwise.
+     */
+    public State recordOutcome(String actionId, boolean failed) {
+
+        return getCircuit(actionId).recordOutcome(failed);
+    }
+
+    /**
+     * @param actionId Action id.
+     * @return State of the circuit of the action.
+     */
+    public State getState(String actionId) {
+
+        Circuit circuit = circuits.get(actionId);
+        return circuit != null ? circuit.getMetrics().getState() : State.CLOSED;
+    }
+
+    /**
+     * @return Metrics of the circuits of the invoked actions.
+     */
+    public List<CircuitMetrics> getCircuitMetrics() {
+
+        List<CircuitMetrics> metrics = new ArrayList<>();
+        circuits.values().forEach(circuit -> metrics.add(circuit.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Drop the circuit of an action, for example when the action is updated or deleted.
+     *
+     * @param actionId Action id.
+     */
+    public void reset(String actionId) {
+
+        circuits.remove(actionId);
+    }
+
+    private Circuit getCircuit(String actionId) {
+
+        return circuits.computeIfAbsent(actionId, Circuit::new);
+    }
+
+    /**
+     * Circuit of a single action.
+     */
+    private class Circuit {
+
+        private final String actionId;
+        private final boolean[] window = new boolean[slidingWindowSize];
+        private int windowIndex;
+        private int requestCount;
+        private int failureCount;
+        private State state = State.CLOSED;
+        private long openedAt;
+        private boolean trialInFlight;
+        private long shortCircuitedCount;
+        private long openedCount;
+
+        Circuit(String actionId) {
+
+            this.actionId = actionId;
+        }
+
+        synchronized boolean allowRequest() {
+
+            switch (state) {
+                case OPEN:
+                    if (System.nanoTime() - openedAt < openStateDurationNanos) {
+                        shortCircuitedCount++;
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    trialInFlight = true;
+                    return true;
+                case HALF_OPEN:
+                    if (trialInFlight) {
+                        shortCircuitedCount++;
+                        return false;
+                    }
+                    trialInFlight = true;
+                    return true;
+                case CLOSED:
+                default:
+                    return true;
+            }
+        }
+
+        synchronized State recordOutcome(boolean failed) {
+
+            if (state == State.HALF_OPEN) {
+                trialInFlight = false;
+                if (failed) {
+                    open();
+                    return State.OPEN;
+                }
+                state = State.CLOSED;
+                clearWindow();
+                return State.CLOSED;
+            }
+            if (state == State.OPEN) {
+                // Outcome of an invocation allowed before the circuit opened.
+                return null;
+            }
+            if (requestCount == slidingWindowSize) {
+                if (window[windowIndex]) {
+                    failureCount--;
+                }
+            } else {
+                requestCount++;
+            }
+            window[windowIndex] = failed;
+            if (failed) {
+                failureCount++;
+            }
+            windowIndex = (windowIndex + 1) % slidingWindowSize;
+            if (requestCount >= minimumRequests && failureCount * 100 >= failureRateThreshold * requestCount) {
+                open();
+                return State.OPEN;
+            }
+            return null;
+        }
+
+        synchronized CircuitMetrics getMetrics() {
+
+            return new CircuitMetrics(actionId, state, requestCount, failureCount, shortCircuitedCount, openedCount);
+        }
+
+        private void open() {
+
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            openedCount++;
+            clearWindow();
+        }
+
+        private void clearWindow() {
+
+            windowIndex = 0;
+            requestCount = 0;
+            failureCount = 0;
+        }
+    }
+
+    /**
+     * Snapshot of the state and the counters of the circuit of an action.
+     */
+    public static class CircuitMetrics {
+
+        private final String actionId;
+        private final State state;
+        private final int requestCount;
+        private final int failureCount;
+        private final long shortCircuitedCount;
+        private final long openedCount;
+
+        CircuitMetrics(String actionId, State state, int requestCount, int failureCount, long shortCircuitedCount,
+                       long openedCount) {
+
+            this.actionId = actionId;
+            this.state = state;
+            this.requestCount = requestCount;
+            this.failureCount = failureCount;
+            this.shortCircuitedCount = shortCircuitedCount;
+            this.openedCount = openedCount;
+        }
+
+        public String getActionId() {
+
+            return actionId;
+        }
+
+        public State getState() {
+
+            return state;
+        }
+
+        /**
+         * @return Number of invocations in the sliding window.
+         */
+        public int getRequestCount() {
+
+            return requestCount;
+        }
+
+        /**
+         * @return Number of failed invocations in the sliding window.
+         */
+        public int getFailureCount() {
+
+            return failureCount;
+        }
+
+        /**
+         * @return Number of invocations rejected while the circuit was open.
+         */
+        public long getShortCircuitedCount() {
+
+            return shortCircuitedCount;
+        }
+
+        /**
+         * @return Number of times the circuit opened.
+         */
+        public long getOpenedCount() {
+
+            return openedCount;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request and latency metrics of the calls made to an action endpoint by the {@link AsyncAPIClient}.
+ * Each attempt of a request is counted separately, and the latency is measured per attempt.
+ */
+public class ActionEndpointMetrics {
+
+    private final String endpoint;
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder responseCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+
+    ActionEndpointMetrics(String endpoint) {
+
+        this.endpoint = endpoint;
+    }
+
+    void recordRequestStarted() {
+
+        requestCount.increment();
+        inFlightCount.incrementAndGet();
+    }
+
+    void recordResponse(long latencyNanos) {
+
+        responseCount.increment();
+        recordCompletion(latencyNanos);
+    }
+
+    void recordFailure(long latencyNanos, boolean timedOut) {
+
+        failureCount.increment();
+        if (timedOut) {
+            timeoutCount.increment();
+        }
+        recordCompletion(latencyNanos);
+    }
+
+    void recordRetry() {
+
+        retryCount.increment();
+    }
+
+    private void recordCompletion(long latencyNanos) {
+
+        inFlightCount.decrementAndGet();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public String getEndpoint() {
+
+        return endpoint;
+    }
+
+    /**
+     * @return Number of attempts sent to the endpoint, including the retries.
+     */
+    public long getRequestCount() {
+
+        return requestCount.sum();
+    }
+
+    /**
+     * @return Number of attempts which received a response, regardless of the status code.
+     */
+    public long getResponseCount() {
+
+        return responseCount.sum();
+    }
+
+    /**
+     * @return Number of attempts which failed without a response, including the timed out attempts.
+     */
+    public long getFailureCount() {
+
+        return failureCount.sum();
+    }
+
+    public long getTimeoutCount() {
+
+        return timeoutCount.sum();
+    }
+
+    public long getRetryCount() {
+
+        return retryCount.sum();
+    }
+
+    public int getInFlightCount() {
+
+        return inFlightCount.get();
+    }
+
+    public long getAverageLatencyMillis() {
+
+        long completed = responseCount.sum() + failureCount.sum();
+        return completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.sum() / completed);
+    }
+
+    public long getMaxLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+}
@@ -172,6 +172,51 @@ public class ActionExecutionDiagnosticLogger {
         triggerLogEvent(addActionConfigParams(diagnosticLogBuilder, action));
     }
 
+    public void logCircuitStateChange(Action action, ActionCircuitBreaker.State state) {
+
+        if (!LoggerUtils.isDiagnosticLogsEnabled()) {
+            return;
+        }
+        String message = state == ActionCircuitBreaker.State.OPEN ?
+                "Circuit of external endpoint " + action.getEndpoint().getUri() + " for " +
+                        action.getType().getDisplayName() + " action is opened due to repeated failures." :
+                "Circuit of external endpoint " + action.getEndpoint().getUri() + " for " +
+                        action.getType().getDisplayName() + " action is closed as the endpoint recovered.";
+        DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = initializeDiagnosticLogBuilder(
+                ActionExecutionLogConstants.ActionIDs.SEND_ACTION_REQUEST, message,
+                state == ActionCircuitBreaker.State.OPEN ? DiagnosticLog.ResultStatus.FAILED :
+                        DiagnosticLog.ResultStatus.SUCCESS);
+        triggerLogEvent(addActionConfigParams(diagnosticLogBuilder, action)
+                .configParam("circuitState", state.name()));
+    }
+
+    public void logCircuitOpen(Action action) {
+
+        if (!LoggerUtils.isDiagnosticLogsEnabled()) {
+            return;
+        }
+        DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = initializeDiagnosticLogBuilder(
+                ActionExecutionLogConstants.ActionIDs.SEND_ACTION_REQUEST,
+                "External endpoint " + action.getEndpoint().getUri() + " for " + action.getType().getDisplayName() +
+                        " action is not called as its circuit is open.",
+                DiagnosticLog.ResultStatus.FAILED);
+        triggerLogEvent(addActionConfigParams(diagnosticLogBuilder, action)
+                .configParam("circuitState", ActionCircuitBreaker.State.OPEN.name()));
+    }
+
+    public void logCachedResponse(Action action) {
+
+        if (!LoggerUtils.isDiagnosticLogsEnabled()) {
+            return;
+        }
+        DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = initializeDiagnosticLogBuilder(
+                ActionExecutionLogConstants.ActionIDs.RECEIVE_ACTION_RESPONSE,
+                "Using the cached response of external endpoint " + action.getEndpoint().getUri() + " for " +
+                        action.getType().getDisplayName() + " action.",
+                DiagnosticLog.ResultStatus.SUCCESS);
+        triggerLogEvent(addActionConfigParams(diagnosticLogBuilder, action));
+    }
+
     public void logPerformableOperations(Action action, List<String> allowedOps, List<String> notAllowedOps) {
 
         if (!LoggerUtils.isDiagnosticLogsEnabled()) {
@@ -189,11 +234,16 @@ public class ActionExecutionDiagnosticLogger {
 
     public void logAPICallRetry(HttpPost request, int currentAttempt, int retryCount) {
 
+        logAPICallRetry(String.valueOf(request.getURI()), currentAttempt, retryCount);
+    }
+
+    public void logAPICallRetry(String endpoint, int currentAttempt, int retryCount) {
+
         if (!LoggerUtils.isDiagnosticLogsEnabled()) {
             return;
         }
 
-        String message = "External endpoint " + request.getURI() + " for action execution seems to be unavailable. " +
+        String message = "External endpoint " + endpoint + " for action execution seems to be unavailable. " +
                 (currentAttempt < retryCount
                         ? "Retrying API call attempt " + currentAttempt + " of " + (retryCount - 1) + "."
                         : "Maximum retry attempts reached.");
@@ -204,11 +254,16 @@ public class ActionExecutionDiagnosticLogger {
 
     public void logAPICallTimeout(HttpPost request, int currentAttempt, int retryCount) {
 
+        logAPICallTimeout(String.valueOf(request.getURI()), currentAttempt, retryCount);
+    }
+
+    public void logAPICallTimeout(String endpoint, int currentAttempt, int retryCount) {
+
         if (!LoggerUtils.isDiagnosticLogsEnabled()) {
             return;
         }
 
-        String message = "Request to the external endpoint " + request.getURI() + " for action execution timed out. " +
+        String message = "Request to the external endpoint " + endpoint + " for action execution timed out. " +
                 (currentAttempt < retryCount
                         ? "Retrying attempt " + currentAttempt + " of " + (retryCount - 1) + "."
                         : "Maximum retry attempts reached.");
@@ -219,6 +274,11 @@ public class ActionExecutionDiagnosticLogger {
 
     public void logAPICallError(HttpPost request) {
 
+        logAPICallError(String.valueOf(request.getURI()));
+    }
+
+    public void logAPICallError(String endpoint) {
+
         if (!LoggerUtils.isDiagnosticLogsEnabled()) {
             return;
         }
@@ -226,7 +286,7 @@ public class ActionExecutionDiagnosticLogger {
         triggerLogEvent(
                 initializeDiagnosticLogBuilder(
                         ActionExecutionLogConstants.ActionIDs.SEND_ACTION_REQUEST,
-                        "Request for external endpoint " + request.getURI() + " for action failed" +
+                        "Request for external endpoint " + endpoint + " for action failed" +
                                 " due to an error.",
                         DiagnosticLog.ResultStatus.FAILED));
     }
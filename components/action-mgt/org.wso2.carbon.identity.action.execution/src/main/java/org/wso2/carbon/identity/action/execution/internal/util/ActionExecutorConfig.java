@@ -50,11 +50,31 @@ public class ActionExecutorConfig {
     private static final String HTTP_CONNECTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPConnectionTimeout";
     private static final String HTTP_CONNECTION_POOL_SIZE_PROPERTY = "Actions.HTTPClient.HTTPConnectionPoolSize";
     private static final String HTTP_REQUEST_RETRY_COUNT_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryCount";
+    private static final String HTTP_REQUEST_RETRY_BACKOFF_PROPERTY = "Actions.HTTPClient.HTTPRequestRetryBackoff";
+    private static final String HTTP_EXECUTION_TIMEOUT_PROPERTY = "Actions.HTTPClient.HTTPExecutionTimeout";
+    private static final String CIRCUIT_BREAKER_ENABLE_PROPERTY = "Actions.CircuitBreaker.Enable";
+    private static final String CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_PROPERTY =
+            "Actions.CircuitBreaker.SlidingWindowSize";
+    private static final String CIRCUIT_BREAKER_MINIMUM_REQUESTS_PROPERTY = "Actions.CircuitBreaker.MinimumRequests";
+    private static final String CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD_PROPERTY =
+            "Actions.CircuitBreaker.FailureRateThreshold";
+    private static final String CIRCUIT_BREAKER_OPEN_STATE_DURATION_PROPERTY =
+            "Actions.CircuitBreaker.OpenStateDuration";
+    private static final String RESPONSE_CACHE_TIME_TO_LIVE_PROPERTY = "Actions.ResponseCache.TimeToLive";
+    private static final String RESPONSE_CACHE_MAX_ENTRIES_PROPERTY = "Actions.ResponseCache.MaxEntries";
     private static final int DEFAULT_HTTP_REQUEST_RETRY_COUNT = 2;
     private static final int DEFAULT_HTTP_CONNECTION_POOL_SIZE = 20;
     private static final int DEFAULT_HTTP_READ_TIMEOUT_IN_MILLIS = 5000;
     private static final int DEFAULT_HTTP_CONNECTION_REQUEST_TIMEOUT_IN_MILLIS = 2000;
     private static final int DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS = 2000;
+    private static final int DEFAULT_HTTP_REQUEST_RETRY_BACKOFF_IN_MILLIS = 100;
+    private static final int DEFAULT_HTTP_EXECUTION_TIMEOUT_IN_MILLIS = 10000;
+    private static final int DEFAULT_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE = 20;
+    private static final int DEFAULT_CIRCUIT_BREAKER_MINIMUM_REQUESTS = 10;
+    private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD = 50;
+    private static final int DEFAULT_CIRCUIT_BREAKER_OPEN_STATE_DURATION_IN_MILLIS = 30000;
+    private static final int DEFAULT_RESPONSE_CACHE_TIME_TO_LIVE_IN_MILLIS = 60000;
+    private static final int DEFAULT_RESPONSE_CACHE_MAX_ENTRIES = 1000;
 
     private ActionExecutorConfig() {
 
@@ -166,6 +186,155 @@ public class ActionExecutorConfig {
         return parseTimeoutConfig(HTTP_CONNECTION_TIMEOUT_PROPERTY, DEFAULT_HTTP_CONNECTION_TIMEOUT_IN_MILLIS);
     }
 
+    /**
+     * Retrieves the initial delay between two attempts of an asynchronous action request. The delay is doubled on
+     * each subsequent attempt.
+     * If the configuration value is invalid or missing, the default value is parsed.
+     *
+     * @return The retry backoff int value in milliseconds.
+     */
+    public int getHttpRequestRetryBackoffInMillis() {
+
+        return parseTimeoutConfig(HTTP_REQUEST_RETRY_BACKOFF_PROPERTY, DEFAULT_HTTP_REQUEST_RETRY_BACKOFF_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the time allowed for an asynchronous execution of an action of the given type, including all the
+     * attempts and the delays between them. The value configured for the action type in
+     * 'actions.types.{action_type}.execution_timeout' takes precedence over 'actions.http_client.execution_timeout'.
+     * If the configuration value is invalid or missing, the default value is parsed.
+     *
+     * @param actionType Action Type
+     * @return The execution timeout int value in milliseconds.
+     */
+    public int getExecutionTimeoutInMillis(ActionType actionType) {
+
+        int defaultTimeout = parseTimeoutConfig(HTTP_EXECUTION_TIMEOUT_PROPERTY,
+                DEFAULT_HTTP_EXECUTION_TIMEOUT_IN_MILLIS);
+        switch (actionType) {
+            case PRE_ISSUE_ACCESS_TOKEN:
+                return parseTimeoutConfig(ActionTypeConfig.PRE_ISSUE_ACCESS_TOKEN.getExecutionTimeoutProperty(),
+                        defaultTimeout);
+            case AUTHENTICATION:
+                return parseTimeoutConfig(ActionTypeConfig.AUTHENTICATION.getExecutionTimeoutProperty(),
+                        defaultTimeout);
+            case PRE_UPDATE_PASSWORD:
+                return parseTimeoutConfig(ActionTypeConfig.PRE_UPDATE_PASSWORD.getExecutionTimeoutProperty(),
+                        defaultTimeout);
+            case PRE_UPDATE_PROFILE:
+                return parseTimeoutConfig(ActionTypeConfig.PRE_UPDATE_PROFILE.getExecutionTimeoutProperty(),
+                        defaultTimeout);
+            default:
+                return defaultTimeout;
+        }
+    }
+
+    /**
+     * Returns a boolean value based on the system configuration: 'actions.circuit_breaker.enable' that enables or
+     * disables the circuit breaker of the action endpoints. The circuit breaker is enabled by default.
+     *
+     * @return 'false' if configuration is 'false', return 'true' otherwise.
+     */
+    public boolean isCircuitBreakerEnabled() {
+
+        String circuitBreakerEnabledValue =
+                (String) IdentityConfigParser.getInstance().getConfiguration().get(CIRCUIT_BREAKER_ENABLE_PROPERTY);
+        return StringUtils.isBlank(circuitBreakerEnabledValue) || Boolean.parseBoolean(circuitBreakerEnabledValue);
+    }
+
+    /**
+     * Retrieves the number of latest invocations of an action considered when deciding to open its circuit.
+     * If the configuration value is invalid or missing, the default value is parsed.
+     *
+     * @return The sliding window size of the circuit breaker.
+     */
+    public int getCircuitBreakerSlidingWindowSize() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE);
+    }
+
+    /**
+     * Retrieves the minimum number of invocations of an action before its circuit can open.
+     * If the configuration value is invalid or missing, the default value is parsed.
+     *
+     * @return The minimum number of requests of the circuit breaker.
+     */
+    public int getCircuitBreakerMinimumRequests() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_MINIMUM_REQUESTS_PROPERTY, DEFAULT_CIRCUIT_BREAKER_MINIMUM_REQUESTS);
+    }
+
+    /**
+     * Retrieves the failure rate, as a percentage, at which the circuit of an action opens.
+     * If the configuration value is invalid or missing, the default value is parsed.
+     *
+     * @return The failure rate threshold of the circuit breaker.
+     */
+    public int getCircuitBreakerFailureRateThreshold() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD);
+    }
+
+    /**
+     * Retrieves the time the circuit of an action stays open before a trial invocation is allowed.
+     * If the configuration value is invalid or missing, the default value is parsed.
+     *
+     * @return The open state duration int value in milliseconds.
+     */
+    public int getCircuitBreakerOpenStateDurationInMillis() {
+
+        return parseTimeoutConfig(CIRCUIT_BREAKER_OPEN_STATE_DURATION_PROPERTY,
+                DEFAULT_CIRCUIT_BREAKER_OPEN_STATE_DURATION_IN_MILLIS);
+    }
+
+    /**
+     * Returns a boolean value based on the system configuration: 'actions.types.{action_type}.response_cache.enable'
+     * that enables caching of the responses of the actions of the given type. Only the action types whose endpoints
+     * respond the same for the same request should enable it.
+     *
+     * @param actionType Action Type
+     * @return 'true' if configuration is 'true', return 'false' otherwise.
+     */
+    public boolean isResponseCacheEnabled(ActionType actionType) {
+
+        switch (actionType) {
+            case PRE_ISSUE_ACCESS_TOKEN:
+                return isActionTypeEnabled(ActionTypeConfig.PRE_ISSUE_ACCESS_TOKEN.getResponseCacheEnableProperty());
+            case AUTHENTICATION:
+                return isActionTypeEnabled(ActionTypeConfig.AUTHENTICATION.getResponseCacheEnableProperty());
+            case PRE_UPDATE_PASSWORD:
+                return isActionTypeEnabled(ActionTypeConfig.PRE_UPDATE_PASSWORD.getResponseCacheEnableProperty());
+            case PRE_UPDATE_PROFILE:
+                return isActionTypeEnabled(ActionTypeConfig.PRE_UPDATE_PROFILE.getResponseCacheEnableProperty());
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Retrieves the time a cached action response is reused.
+     * If the configuration value is invalid or missing, the default value is parsed.
+     *
+     * @return The response cache time to live int value in milliseconds.
+     */
+    public int getResponseCacheTimeToLiveInMillis() {
+
+        return parseTimeoutConfig(RESPONSE_CACHE_TIME_TO_LIVE_PROPERTY, DEFAULT_RESPONSE_CACHE_TIME_TO_LIVE_IN_MILLIS);
+    }
+
+    /**
+     * Retrieves the maximum number of cached action responses.
+     * If the configuration value is invalid or missing, the default value is parsed.
+     *
+     * @return The maximum number of entries of the response cache.
+     */
+    public int getResponseCacheMaxEntries() {
+
+        return parseTimeoutConfig(RESPONSE_CACHE_MAX_ENTRIES_PROPERTY, DEFAULT_RESPONSE_CACHE_MAX_ENTRIES);
+    }
+
     private int parseTimeoutConfig(String timeoutTypeName, int defaultTimeout) {
 
         int timeoutPropertyValue = defaultTimeout;
@@ -337,39 +506,52 @@ public class ActionExecutorConfig {
                 "Actions.Types.PreIssueAccessToken.ActionRequest.ExcludedHeaders.Header",
                 "Actions.Types.PreIssueAccessToken.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.PreIssueAccessToken.ActionRequest.AllowedHeaders.Header",
-                "Actions.Types.PreIssueAccessToken.ActionRequest.AllowedParameters.Parameter"),
+                "Actions.Types.PreIssueAccessToken.ActionRequest.AllowedParameters.Parameter",
+                "Actions.Types.PreIssueAccessToken.ExecutionTimeout",
+                "Actions.Types.PreIssueAccessToken.ResponseCache.Enable"),
         AUTHENTICATION("Actions.Types.Authentication.Enable",
                 "Actions.Types.Authentication.ActionRequest.ExcludedHeaders.Header",
                 "Actions.Types.Authentication.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.Authentication.ActionRequest.AllowedHeaders.Header",
-                "Actions.Types.Authentication.ActionRequest.AllowedParameters.Parameter"),
+                "Actions.Types.Authentication.ActionRequest.AllowedParameters.Parameter",
+                "Actions.Types.Authentication.ExecutionTimeout",
+                "Actions.Types.Authentication.ResponseCache.Enable"),
 
         PRE_UPDATE_PASSWORD("Actions.Types.PreUpdatePassword.Enable",
                 "Actions.Types.PreUpdatePassword.ActionRequest.ExcludedHeaders.Header",
                 "Actions.Types.PreUpdatePassword.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.PreUpdatePassword.ActionRequest.AllowedHeaders.Header",
-                "Actions.Types.PreUpdatePassword.ActionRequest.AllowedParameters.Parameter"),
+                "Actions.Types.PreUpdatePassword.ActionRequest.AllowedParameters.Parameter",
+                "Actions.Types.PreUpdatePassword.ExecutionTimeout",
+                "Actions.Types.PreUpdatePassword.ResponseCache.Enable"),
 
         PRE_UPDATE_PROFILE("Actions.Types.PreUpdateProfile.Enable",
                 "Actions.Types.PreUpdateProfile.ActionRequest.ExcludedHeaders.Header",
                 "Actions.Types.PreUpdateProfile.ActionRequest.ExcludedParameters.Parameter",
                 "Actions.Types.PreUpdateProfile.ActionRequest.AllowedHeaders.Header",
-                "Actions.Types.PreUpdateProfile.ActionRequest.AllowedParameters.Parameter");
+                "Actions.Types.PreUpdateProfile.ActionRequest.AllowedParameters.Parameter",
+                "Actions.Types.PreUpdateProfile.ExecutionTimeout",
+                "Actions.Types.PreUpdateProfile.ResponseCache.Enable");
 
         private final String actionTypeEnableProperty;
         private final String excludedHeadersProperty;
         private final String excludedParamsProperty;
         private final String allowedHeaderProperty;
         private final String allowedParamsProperty;
+        private final String executionTimeoutProperty;
+        private final String responseCacheEnableProperty;
 
         ActionTypeConfig(String actionTypeEnableProperty, String excludedHeadersProperty,
-                         String excludedParamsProperty, String allowedHeaderProperty, String allowedParamsProperty) {
+                         String excludedParamsProperty, String allowedHeaderProperty, String allowedParamsProperty,
+                         String executionTimeoutProperty, String responseCacheEnableProperty) {
 
             this.actionTypeEnableProperty = actionTypeEnableProperty;
             this.excludedHeadersProperty = excludedHeadersProperty;
             this.excludedParamsProperty = excludedParamsProperty;
             this.allowedHeaderProperty = allowedHeaderProperty;
             this.allowedParamsProperty = allowedParamsProperty;
+            this.executionTimeoutProperty = executionTimeoutProperty;
+            this.responseCacheEnableProperty = responseCacheEnableProperty;
         }
 
         public String getActionTypeEnableProperty() {
@@ -396,5 +578,15 @@ public class ActionExecutorConfig {
 
             return allowedParamsProperty;
         }
+
+        public String getExecutionTimeoutProperty() {
+
+            return executionTimeoutProperty;
+        }
+
+        public String getResponseCacheEnableProperty() {
+
+            return responseCacheEnableProperty;
+        }
     }
 }
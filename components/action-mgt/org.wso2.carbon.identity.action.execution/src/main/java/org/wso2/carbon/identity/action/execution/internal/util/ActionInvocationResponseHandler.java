@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+import org.wso2.carbon.identity.action.execution.api.exception.ActionInvocationException;
+import org.wso2.carbon.identity.action.execution.api.model.ActionExecutionStatus;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationErrorResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationFailureResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationIncompleteResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationSuccessResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.action.execution.api.model.ResponseData;
+import org.wso2.carbon.identity.action.execution.internal.service.impl.ResponseDataDeserializer;
+
+import java.io.IOException;
+
+/**
+ * This class maps the responses received from the external services to action invocation responses.
+ * It is shared by the blocking and the asynchronous API clients, so that both handle the status codes and the
+ * payloads of the action endpoints in the same way.
+ */
+class ActionInvocationResponseHandler {
+
+    private static final Log LOG = LogFactory.getLog(ActionInvocationResponseHandler.class);
+    private static final String ACTION_STATUS = "actionStatus";
+
+    /**
+     * Map a response received from the action endpoint to an action invocation response.
+     *
+     * @param actionType  Action type.
+     * @param statusCode  HTTP status code of the response.
+     * @param contentType Content type of the response, or null if the response has no content.
+     * @param bodyReader  Reader of the response body.
+     * @return Action invocation response.
+     */
+    ActionInvocationResponse handleResponse(ActionType actionType, int statusCode, String contentType,
+                                            ResponseBodyReader bodyReader) {
+
+        ResponseContent responseContent = new ResponseContent(contentType, bodyReader);
+        ActionInvocationResponse.Builder actionInvocationResponseBuilder = new ActionInvocationResponse.Builder();
+
+        switch (statusCode) {
+            case HttpStatus.SC_OK:
+                handleSuccessOrFailure(actionType, actionInvocationResponseBuilder, responseContent, statusCode);
+                break;
+            case HttpStatus.SC_BAD_REQUEST:
+            case HttpStatus.SC_UNAUTHORIZED:
+                handleClientError(actionInvocationResponseBuilder, responseContent, statusCode);
+                break;
+            case HttpStatus.SC_INTERNAL_SERVER_ERROR:
+                handleServerError(actionInvocationResponseBuilder, responseContent, statusCode);
+                break;
+            case HttpStatus.SC_BAD_GATEWAY:
+            case HttpStatus.SC_SERVICE_UNAVAILABLE:
+            case HttpStatus.SC_GATEWAY_TIMEOUT:
+                handleServerError(actionInvocationResponseBuilder, responseContent, statusCode);
+                actionInvocationResponseBuilder.retry(true);
+                break;
+            default:
+                actionInvocationResponseBuilder.errorLog("Unexpected response received with status code: " + statusCode
+                        + ".");
+                break;
+        }
+
+        return actionInvocationResponseBuilder.build();
+    }
+
+    private void handleSuccessOrFailure(ActionType actionType, ActionInvocationResponse.Builder builder,
+                                        ResponseContent content, int statusCode) {
+
+        try {
+            builder.response(handleSuccessOrFailureResponse(actionType, content));
+        } catch (ActionInvocationException e) {
+            builder.errorLog("Unexpected response for status code: " + statusCode + ". " + e.getMessage());
+        }
+    }
+
+    private void handleClientError(ActionInvocationResponse.Builder builder, ResponseContent content, int statusCode) {
+
+        try {
+            ActionInvocationResponse.APIResponse errorResponse = handleErrorResponse(content);
+            if (errorResponse != null) {
+                builder.response(errorResponse);
+            } else {
+                builder.errorLog("Failed to execute the action request. Received status code: " + statusCode + ".");
+            }
+        } catch (ActionInvocationException e) {
+            LOG.debug("JSON payload received for status code: " + statusCode +
+                    " is not of the expected error response format. ", e);
+            builder.errorLog("Unexpected error response received for the status code: " + statusCode + ". "
+                    + e.getMessage());
+        }
+    }
+
+    private void handleServerError(ActionInvocationResponse.Builder builder, ResponseContent content, int statusCode) {
+
+        try {
+            ActionInvocationResponse.APIResponse errorResponse = handleErrorResponse(content);
+            if (errorResponse != null) {
+                builder.response(errorResponse);
+            } else {
+                builder.errorLog("Failed to execute the action request. Received status code: " + statusCode + ".");
+                builder.retry(true);
+            }
+        } catch (ActionInvocationException e) {
+            LOG.debug("JSON payload received for status code: " + statusCode +
+                    " is not of the expected error response format. ", e);
+            builder.errorLog("Unexpected error response received for the status code: " + statusCode + ". "
+                    + e.getMessage());
+            builder.retry(true);
+        }
+    }
+
+    private ActionInvocationResponse.APIResponse handleSuccessOrFailureResponse(ActionType actionType,
+                                                                                ResponseContent responseContent)
+            throws ActionInvocationException {
+
+        return deserializeSuccessOrFailureResponse(actionType, responseContent);
+    }
+
+    private ActionInvocationResponse.APIResponse handleErrorResponse(ResponseContent responseContent)
+            throws ActionInvocationException {
+
+        // If an error response is received, return the error response in order to communicate back to the client.
+        if (isAcceptablePayload(responseContent)) {
+            return deserialize(responseContent, ActionInvocationErrorResponse.class);
+        }
+        return null;
+    }
+
+    private String validateJsonResponse(ResponseContent responseContent) throws ActionInvocationException {
+
+        if (!isAcceptablePayload(responseContent)) {
+            throw new ActionInvocationException("The response content type is not application/json.");
+        }
+
+        try {
+            return responseContent.bodyReader.read();
+        } catch (IOException e) {
+            throw new ActionInvocationException("Reading JSON response failed.", e);
+        }
+    }
+
+    private ActionInvocationResponse.APIResponse deserializeSuccessOrFailureResponse(ActionType actionType,
+                                                                                     ResponseContent responseContent)
+            throws ActionInvocationException {
+
+        try {
+            String jsonResponse = validateJsonResponse(responseContent);
+            ObjectMapper objectMapper = new ObjectMapper();
+            JsonNode rootNode = objectMapper.readTree(jsonResponse);
+            String actionStatus = rootNode.path(ACTION_STATUS).asText();
+            if (actionStatus.isEmpty()) {
+                throw new ActionInvocationException("Reading JSON response failed.");
+            }
+            if (actionStatus.equals(ActionExecutionStatus.Status.SUCCESS.name())) {
+                // Configure dynamic deserializer for the extended ResponseData class based on the action type.
+                SimpleModule module = new SimpleModule();
+                module.addDeserializer(ResponseData.class, new ResponseDataDeserializer());
+                objectMapper.setConfig(objectMapper.getDeserializationConfig()
+                        .withAttribute(ResponseDataDeserializer.ACTION_TYPE_ATTR_NAME, actionType));
+                objectMapper.registerModule(module);
+                return objectMapper.readValue(jsonResponse, ActionInvocationSuccessResponse.class);
+            } else if (actionStatus.equals(ActionExecutionStatus.Status.INCOMPLETE.name())) {
+                return objectMapper.readValue(jsonResponse, ActionInvocationIncompleteResponse.class);
+            } else {
+                return objectMapper.readValue(jsonResponse, ActionInvocationFailureResponse.class);
+            }
+        } catch (IOException e) {
+            throw new ActionInvocationException("Reading JSON response failed.", e);
+        }
+    }
+
+    private <T> T deserialize(ResponseContent responseContent, Class<T> returnType) throws ActionInvocationException {
+
+        try {
+            String jsonResponse = validateJsonResponse(responseContent);
+            ObjectMapper objectMapper = new ObjectMapper();
+            return objectMapper.readValue(jsonResponse, returnType);
+        } catch (IOException e) {
+            throw new ActionInvocationException("Parsing JSON response failed.", e);
+        }
+    }
+
+    private boolean isAcceptablePayload(ResponseContent responseContent) {
+
+        return responseContent.contentType != null && responseContent.contentType.contains("application/json");
+    }
+
+    /**
+     * Reads the body of a response.
+     */
+    @FunctionalInterface
+    interface ResponseBodyReader {
+
+        String read() throws IOException;
+    }
+
+    /**
+     * Content type and body reader of a response.
+     */
+    private static class ResponseContent {
+
+        private final String contentType;
+        private final ResponseBodyReader bodyReader;
+
+        ResponseContent(String contentType, ResponseBodyReader bodyReader) {
+
+            this.contentType = contentType;
+            this.bodyReader = bodyReader;
+        }
+    }
+}
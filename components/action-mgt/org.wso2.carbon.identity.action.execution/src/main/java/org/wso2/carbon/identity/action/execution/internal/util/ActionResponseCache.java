@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node local cache of the responses of action endpoints, for the action types configured as idempotent.
+ * <p>
+ * Responses are keyed by the action and a SHA-256 hash of the request content, and expire after the configured
+ * time to live. Only successful and failed responses are cached; error and incomplete responses always reach the
+ * endpoint again. Once the size limit is reached, the least recently used response is evicted.
+ */
+public class ActionResponseCache {
+
+    private final long timeToLiveNanos;
+    private final Map<String, CacheEntry> entries;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param timeToLiveInMillis Time a response is served from the cache.
+     * @param maxEntries         Maximum number of cached responses.
+     */
+    public ActionResponseCache(long timeToLiveInMillis, int maxEntries) {
+
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveInMillis);
+        this.entries = new BoundedEntryMap(Math.max(1, maxEntries));
+    }
+
+    /**
+     * Build the cache key of a request.
+     *
+     * @param actionId Action id.
+     * @param endpoint Endpoint URL of the action.
+     * @param content  Request content which decides the response, excluding per request values such as the
+     *                 request id.
+     * @return Cache key.
+     */
+    public static String buildKey(String actionId, String endpoint, String content) {
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(content.getBytes(StandardCharsets.UTF_8));
+            return actionId + ":" + endpoint + ":" + Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
+
+    /**
+     * @param key Cache key.
+     * @return Cached response, or null if there is no unexpired response for the key.
+     */
+    public ActionInvocationResponse get(String key) {
+
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired()) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.response;
+    }
+
+    /**
+     * Cache the response if it can be reused for the same request.
+     *
+     * @param key      Cache key.
+     * @param response Response received from the endpoint.
+     */
+    public void put(String key, ActionInvocationResponse response) {
+
+        if (!isCacheable(response)) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new CacheEntry(response, System.nanoTime() + timeToLiveNanos));
+        }
+    }
+
+    /**
+     * Drop the cached responses of an action.
+     *
+     * @param actionId Action id.
+     */
+    public void clear(String actionId) {
+
+        String prefix = actionId + ":";
+        synchronized (entries) {
+            Iterator<String> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().startsWith(prefix)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public int getSize() {
+
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static boolean isCacheable(ActionInvocationResponse response) {
+
+        return response != null && (response.isSuccess() || response.isFailure()) && response.getResponse() != null;
+    }
+
+    /**
+     * Cached response with its expiry time.
+     */
+    private static class CacheEntry {
+
+        private final ActionInvocationResponse response;
+        private final long expiresAt;
+
+        CacheEntry(ActionInvocationResponse response, long expiresAt) {
+
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Access ordered map which evicts the least recently used entry once the size limit is reached.
+     */
+    private static class BoundedEntryMap extends LinkedHashMap<String, CacheEntry> {
+
+        private static final long serialVersionUID = 4392188637108523734L;
+        private final int maxSize;
+
+        BoundedEntryMap(int maxSize) {
+
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+
+            return size() > maxSize;
+        }
+    }
+}
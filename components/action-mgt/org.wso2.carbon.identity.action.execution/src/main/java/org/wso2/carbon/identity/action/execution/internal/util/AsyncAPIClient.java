@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.internal.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is responsible for making non-blocking API calls to the external services.
+ * <p>
+ * Requests are sent through a non-blocking HTTP client, so no thread waits for the response of an action endpoint.
+ * Retries are scheduled with an exponential backoff on a scheduler thread instead of sleeping, and the whole
+ * execution, including the retries, is bounded by the given execution timeout. Responses are handled in the same way
+ * as {@link APIClient}.
+ * <p>
+ * The callbacks of the HTTP client and the scheduled retries run on threads which do not carry the tenant and the log
+ * context of the request, hence they run with the context captured when the request is made, so that the diagnostic
+ * logs of the request are published for the tenant of the request.
+ */
+public class AsyncAPIClient {
+
+    private static final Log LOG = LogFactory.getLog(AsyncAPIClient.class);
+    private static final int MAX_TRACKED_ENDPOINTS = 1000;
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    private static final String UNTRACKED_ENDPOINTS = "other";
+
+    private final CloseableHttpAsyncClient httpClient;
+    private final PoolingAsyncClientConnectionManager connectionManager;
+    private final ScheduledExecutorService scheduler;
+    private final ActionInvocationResponseHandler responseHandler = new ActionInvocationResponseHandler();
+    private final ActionExecutionDiagnosticLogger diagnosticLogger = new ActionExecutionDiagnosticLogger();
+    private final Map<String, ActionEndpointMetrics> endpointMetrics = new ConcurrentHashMap<>();
+
+    public AsyncAPIClient() {
+
+        int readTimeout = ActionExecutorConfig.getInstance().getHttpReadTimeoutInMillis();
+        int connectionRequestTimeout = ActionExecutorConfig.getInstance().getHttpConnectionRequestTimeoutInMillis();
+        int connectionTimeout = ActionExecutorConfig.getInstance().getHttpConnectionTimeoutInMillis();
+        int poolSize = ActionExecutorConfig.getInstance().getHttpConnectionPoolSize();
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectionTimeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                .build();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                .setRedirectsEnabled(false)
+                .build();
+        connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(poolSize)
+                .setMaxConnPerRoute(poolSize)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .disableAutomaticRetries()
+                .build();
+        httpClient.start();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ActionExecutionRetryScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Call the action endpoint without blocking the calling thread.
+     *
+     * @param actionType      Action type.
+     * @param url             Endpoint URL.
+     * @param authMethod      Authentication method of the endpoint, or null if the endpoint is not secured.
+     * @param payload         Request payload.
+     * @param timeoutInMillis Time allowed for the execution, including the retries and the delays between them.
+     * @return Future which completes with the action invocation response. The future completes with an error
+     * response when the endpoint does not respond within the given time or when all the attempts fail.
+     */
+    public CompletableFuture<ActionInvocationResponse> callAPI(ActionType actionType, String url,
+                                                               AuthMethods.AuthMethod authMethod, String payload,
+                                                               long timeoutInMillis) {
+
+        CompletableFuture<ActionInvocationResponse> result = new CompletableFuture<>();
+        SimpleHttpRequest request;
+        try {
+            request = buildRequest(actionType, url, authMethod, payload);
+        } catch (IllegalArgumentException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        RequestExecution execution = new RequestExecution(actionType, url, request, result);
+        try {
+            ScheduledFuture<?> timeoutTask = scheduler.schedule(
+                    () -> execution.runInRequestContext(() -> execution.expire(timeoutInMillis)),
+                    timeoutInMillis, TimeUnit.MILLISECONDS);
+            result.whenComplete((response, throwable) -> timeoutTask.cancel(false));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        execution.attempt();
+        return result;
+    }
+
+    /**
+     * @return Metrics of the action endpoints called through this client.
+     */
+    public List<ActionEndpointMetrics> getEndpointMetrics() {
+
+        return new ArrayList<>(endpointMetrics.values());
+    }
+
+    /**
+     * @param endpoint Endpoint URL.
+     * @return Metrics of the given action endpoint, or null if the endpoint has not been called.
+     */
+    public ActionEndpointMetrics getEndpointMetrics(String endpoint) {
+
+        return endpointMetrics.get(endpoint);
+    }
+
+    public int getLeasedConnectionCount() {
+
+        return getPoolStats().getLeased();
+    }
+
+    public int getPendingConnectionRequestCount() {
+
+        return getPoolStats().getPending();
+    }
+
+    public int getAvailableConnectionCount() {
+
+        return getPoolStats().getAvailable();
+    }
+
+    public int getMaxConnectionCount() {
+
+        return getPoolStats().getMax();
+    }
+
+    /**
+     * Stop the client. Pending executions complete with an error response.
+     */
+    public void close() {
+
+        scheduler.shutdownNow();
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    private PoolStats getPoolStats() {
+
+        return connectionManager.getTotalStats();
+    }
+
+    private SimpleHttpRequest buildRequest(ActionType actionType, String url, AuthMethods.AuthMethod authMethod,
+                                           String payload) {
+
+        SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.post(url)
+                .setBody(payload, ContentType.APPLICATION_JSON)
+                .setHeader("Accept", "application/json")
+                .setHeader(ActionAPIVersionResolver.API_VERSION_HEADER,
+                        ActionAPIVersionResolver.resolveAPIVersion(actionType));
+        if (authMethod != null) {
+            authMethod.applyAuthHeaders(requestBuilder::setHeader);
+        }
+        return requestBuilder.build();
+    }
+
+    private ActionEndpointMetrics getMetrics(String endpoint) {
+
+        ActionEndpointMetrics metrics = endpointMetrics.get(endpoint);
+        if (metrics != null) {
+            return metrics;
+        }
+        // Bound the number of tracked endpoints, as endpoints are configured by the tenants.
+        String metricsKey = endpointMetrics.size() < MAX_TRACKED_ENDPOINTS ? endpoint : UNTRACKED_ENDPOINTS;
+        return endpointMetrics.computeIfAbsent(metricsKey, ActionEndpointMetrics::new);
+    }
+
+    private static boolean isTimeout(Exception e) {
+
+        return e instanceof ConnectTimeoutException || e instanceof SocketTimeoutException;
+    }
+
+    private static String getContentType(SimpleHttpResponse response) {
+
+        Header contentType = response.getFirstHeader(HttpHeaders.CONTENT_TYPE);
+        return contentType != null ? contentType.getValue() : null;
+    }
+
+    /**
+     * State of a single execution of an action request, across its attempts.
+     */
+    private class RequestExecution {
+
+        private final ActionType actionType;
+        private final String endpoint;
+        private final SimpleHttpRequest request;
+        private final CompletableFuture<ActionInvocationResponse> result;
+        private final ActionEndpointMetrics metrics;
+        private final int retryCount = ActionExecutorConfig.getInstance().getHttpRequestRetryCount();
+        private final int retryBackoff = ActionExecutorConfig.getInstance().getHttpRequestRetryBackoffInMillis();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        private final int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        private final Map<String, String> logContext = MDC.getCopyOfContextMap();
+        private volatile Future<SimpleHttpResponse> inFlightRequest;
+        private volatile ActionInvocationResponse lastResponse;
+        private volatile Throwable lastError;
+
+        RequestExecution(ActionType actionType, String endpoint, SimpleHttpRequest request,
+                         CompletableFuture<ActionInvocationResponse> result) {
+
+            this.actionType = actionType;
+            this.endpoint = endpoint;
+            this.request = request;
+            this.result = result;
+            this.metrics = getMetrics(endpoint);
+        }
+
+        void attempt() {
+
+            if (result.isDone()) {
+                return;
+            }
+            int currentAttempt = attempts.incrementAndGet();
+            long startTime = System.nanoTime();
+            metrics.recordRequestStarted();
+            try {
+                inFlightRequest = httpClient.execute(request, new FutureCallback<SimpleHttpResponse>() {
+
+                    @Override
+                    public void completed(SimpleHttpResponse response) {
+
+                        metrics.recordResponse(System.nanoTime() - startTime);
+                        runInRequestContext(() -> {
+                            try {
+                                onResponse(response, currentAttempt);
+                            } catch (RuntimeException e) {
+                                completeWithError(e);
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+
+                        boolean timedOut = isTimeout(e);
+                        metrics.recordFailure(System.nanoTime() - startTime, timedOut);
+                        runInRequestContext(() -> {
+                            try {
+                                onFailure(e, currentAttempt, timedOut);
+                            } catch (RuntimeException ex) {
+                                completeWithError(ex);
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void cancelled() {
+
+                        metrics.recordFailure(System.nanoTime() - startTime, false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                metrics.recordFailure(System.nanoTime() - startTime, false);
+                onFailure(e, currentAttempt, false);
+            }
+        }
+
+        /**
+         * Run the task with the tenant and the log context of the thread which made the request, restoring the
+         * context of the current thread afterwards.
+         */
+        void runInRequestContext(Runnable task) {
+
+            Map<String, String> previousLogContext = MDC.getCopyOfContextMap();
+            PrivilegedCarbonContext.startTenantFlow();
+            try {
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantId(tenantId);
+                carbonContext.setTenantDomain(tenantDomain);
+                setLogContext(logContext);
+                task.run();
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+                setLogContext(previousLogContext);
+            }
+        }
+
+        void expire(long timeoutInMillis) {
+
+            if (result.isDone()) {
+                return;
+            }
+            LOG.warn("Request for API: " + endpoint + " did not complete within the execution timeout of " +
+                    timeoutInMillis + " ms.", lastError);
+            result.complete(new ActionInvocationResponse.Builder()
+                    .errorLog("Failed to execute the action request within the execution timeout.").build());
+            Future<SimpleHttpResponse> pendingRequest = inFlightRequest;
+            if (pendingRequest != null) {
+                pendingRequest.cancel(true);
+            }
+        }
+
+        private void onResponse(SimpleHttpResponse response, int currentAttempt) {
+
+            ActionInvocationResponse actionInvocationResponse;
+            try {
+                actionInvocationResponse = responseHandler.handleResponse(actionType, response.getCode(),
+                        getContentType(response), response::getBodyText);
+            } catch (RuntimeException e) {
+                onFailure(e, currentAttempt, false);
+                return;
+            }
+            if (!actionInvocationResponse.isError() || !actionInvocationResponse.isRetry()) {
+                result.complete(actionInvocationResponse);
+                return;
+            }
+            lastResponse = actionInvocationResponse;
+            logEndpointUnavailability(endpoint, currentAttempt, retryCount);
+            retryOrComplete(currentAttempt);
+        }
+
+        private void onFailure(Exception e, int currentAttempt, boolean timedOut) {
+
+            lastError = e;
+            if (timedOut) {
+                logEndpointTimeout(endpoint, currentAttempt, retryCount);
+                retryOrComplete(currentAttempt);
+                return;
+            }
+            diagnosticLogger.logAPICallError(endpoint);
+            LOG.error("Request for API: " + endpoint + " failed due to an error.", e);
+            completeWithLastOutcome();
+        }
+
+        private void retryOrComplete(int currentAttempt) {
+
+            if (currentAttempt >= retryCount || result.isDone()) {
+                completeWithLastOutcome();
+                return;
+            }
+            long backoff = (long) retryBackoff << Math.min(currentAttempt - 1, MAX_BACKOFF_SHIFT);
+            metrics.recordRetry();
+            try {
+                scheduler.schedule(() -> runInRequestContext(this::attempt), backoff, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                completeWithLastOutcome();
+            }
+        }
+
+        private void completeWithError(RuntimeException e) {
+
+            LOG.error("Error while handling the response of API: " + endpoint, e);
+            result.complete(new ActionInvocationResponse.Builder()
+                    .errorLog("Failed to execute the action request or maximum retry attempts reached.").build());
+        }
+
+        private void completeWithLastOutcome() {
+
+            if (result.isDone()) {
+                return;
+            }
+            LOG.warn("Maximum retry attempts reached for API: " + endpoint, lastError);
+            result.complete(lastResponse != null ? lastResponse : new ActionInvocationResponse.Builder()
+                    .errorLog("Failed to execute the action request or maximum retry attempts reached.").build());
+        }
+    }
+
+    private static void setLogContext(Map<String, String> logContext) {
+
+        if (logContext != null) {
+            MDC.setContextMap(logContext);
+        } else {
+            MDC.clear();
+        }
+    }
+
+    private void logEndpointUnavailability(String endpoint, int currentAttempt, int retryCount) {
+
+        diagnosticLogger.logAPICallRetry(endpoint, currentAttempt, retryCount);
+        if (currentAttempt < retryCount) {
+            LOG.debug("API: " + endpoint + " seems to be unavailable. Retrying attempt " +
+                    currentAttempt + " of " + (retryCount - 1) + ".");
+        } else {
+            LOG.debug("API: " + endpoint + " seems to be unavailable. Maximum retry attempts reached.");
+        }
+    }
+
+    private void logEndpointTimeout(String endpoint, int currentAttempt, int retryCount) {
+
+        diagnosticLogger.logAPICallTimeout(endpoint, currentAttempt, retryCount);
+        if (currentAttempt < retryCount) {
+            LOG.debug("Request for API: " + endpoint + " timed out. Retrying attempt " +
+                    currentAttempt + " of " + (retryCount - 1) + ".");
+        } else {
+            LOG.debug("Request for API: " + endpoint + " timed out. Maximum retry attempts reached.");
+        }
+    }
+}
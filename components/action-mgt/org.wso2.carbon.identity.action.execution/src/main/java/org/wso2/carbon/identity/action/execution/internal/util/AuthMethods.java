@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.action.management.api.model.Authentication;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
  * This class contains the authentication methods.
@@ -41,7 +42,17 @@ public final class AuthMethods {
      */
     public interface AuthMethod {
 
-        void applyAuth(HttpPost httpPost);
+        /**
+         * Apply the authentication headers through the given header setter.
+         *
+         * @param headerSetter Setter of a request header, accepting the header name and value.
+         */
+        void applyAuthHeaders(BiConsumer<String, String> headerSetter);
+
+        default void applyAuth(HttpPost httpPost) {
+
+            applyAuthHeaders(httpPost::setHeader);
+        }
 
         String getAuthType();
     }
@@ -63,9 +74,9 @@ public final class AuthMethods {
         }
 
         @Override
-        public void applyAuth(HttpPost httpPost) {
+        public void applyAuthHeaders(BiConsumer<String, String> headerSetter) {
 
-            httpPost.setHeader("Authorization", "Bearer " + token);
+            headerSetter.accept("Authorization", "Bearer " + token);
         }
 
         @Override
@@ -95,12 +106,12 @@ public final class AuthMethods {
         }
 
         @Override
-        public void applyAuth(HttpPost httpPost) {
+        public void applyAuthHeaders(BiConsumer<String, String> headerSetter) {
 
             String auth = username + ":" + password;
             byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes(StandardCharsets.UTF_8));
             String authHeader = "Basic " + new String(encodedAuth, StandardCharsets.UTF_8);
-            httpPost.setHeader("Authorization", authHeader);
+            headerSetter.accept("Authorization", authHeader);
         }
 
         @Override
@@ -130,9 +141,9 @@ public final class AuthMethods {
         }
 
         @Override
-        public void applyAuth(HttpPost httpPost) {
+        public void applyAuthHeaders(BiConsumer<String, String> headerSetter) {
 
-            httpPost.setHeader(apiHeader, apiKey);
+            headerSetter.accept(apiHeader, apiKey);
         }
 
         @Override
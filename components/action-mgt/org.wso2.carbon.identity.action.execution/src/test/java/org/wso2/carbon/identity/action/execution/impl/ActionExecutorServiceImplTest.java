@@ -65,8 +65,11 @@ import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionExe
 import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionExecutionResponseProcessorFactory;
 import org.wso2.carbon.identity.action.execution.internal.service.impl.ActionExecutorServiceImpl;
 import org.wso2.carbon.identity.action.execution.internal.util.APIClient;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionCircuitBreaker;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionDiagnosticLogger;
 import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionResponseCache;
+import org.wso2.carbon.identity.action.execution.internal.util.AsyncAPIClient;
 import org.wso2.carbon.identity.action.execution.internal.util.RequestFilter;
 import org.wso2.carbon.identity.action.management.api.exception.ActionMgtException;
 import org.wso2.carbon.identity.action.management.api.model.Action;
@@ -81,20 +84,28 @@ import org.wso2.carbon.identity.rule.evaluation.api.service.RuleEvaluationServic
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class ActionExecutorServiceImplTest {
 
@@ -673,6 +684,154 @@ public class ActionExecutorServiceImplTest {
         assertEquals(actionExecutionStatusWithActionIds.getStatus(), expectedStatus.getStatus());
     }
 
+    @Test
+    public void testActionExecutionShortCircuitedWhenCircuitIsOpen() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Action action = createAction();
+        mockActionExecution(actionType, action);
+        when(ActionExecutorConfig.getInstance().isCircuitBreakerEnabled()).thenReturn(true);
+        setField(actionExecutorService, "circuitBreaker", new ActionCircuitBreaker(2, 2, 50, 60000));
+
+        ActionInvocationResponse actionInvocationResponse = createActionInvocationResponseWithoutAPIResponse();
+        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+                fail("Expected an ActionExecutionException as the endpoint is not reachable.");
+            } catch (ActionExecutionException e) {
+                assertEquals(e.getMessage(), "Received an invalid or unexpected response for action type: " +
+                        "PRE_ISSUE_ACCESS_TOKEN action ID: actionId");
+            }
+        }
+
+        verify(apiClient, times(2)).callAPI(any(), any(), any(), any());
+        verify(actionExecutionDiagnosticLogger).logCircuitStateChange(action, ActionCircuitBreaker.State.OPEN);
+        verify(actionExecutionDiagnosticLogger).logCircuitOpen(action);
+        assertEquals(actionExecutorService.getCircuitMetrics().get(0).getShortCircuitedCount(), 1);
+    }
+
+    @Test
+    public void testCircuitTrialIsReleasedWhenAsyncCallFailsToStart() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Action action = createAction();
+        mockActionExecution(actionType, action);
+        when(ActionExecutorConfig.getInstance().isCircuitBreakerEnabled()).thenReturn(true);
+        // The circuit opens on the first failure, and allows a trial call right after it opens.
+        setField(actionExecutorService, "circuitBreaker", new ActionCircuitBreaker(2, 1, 50, 0));
+
+        AsyncAPIClient asyncApiClient = mock(AsyncAPIClient.class);
+        CompletableFuture<ActionInvocationResponse> failedInvocation = new CompletableFuture<>();
+        failedInvocation.completeExceptionally(new IllegalStateException("Connection refused"));
+        when(asyncApiClient.callAPI(any(), any(), any(), any(), anyLong())).thenReturn(failedInvocation)
+                .thenThrow(new IllegalStateException("Client is closed"));
+        setField(actionExecutorService, "asyncApiClient", asyncApiClient);
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                actionExecutorService.executeAsync(actionType, FlowContext.create(), "tenantDomain").join();
+                fail("Expected the execution to fail as the endpoint is not reachable.");
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof ActionExecutionException);
+            }
+        }
+
+        // The trial calls which failed to start are recorded as failures, so the circuit keeps allowing trials.
+        verify(asyncApiClient, times(3)).callAPI(any(), any(), any(), any(), anyLong());
+        assertEquals(actionExecutorService.getCircuitMetrics().get(0).getState(), ActionCircuitBreaker.State.OPEN);
+        assertEquals(actionExecutorService.getCircuitMetrics().get(0).getShortCircuitedCount(), 0);
+    }
+
+    @Test
+    public void testCircuitIsResetWhenActionIsUpdated() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Action action = createAction();
+        when(action.getUpdatedAt()).thenReturn(new Timestamp(1000L));
+        mockActionExecution(actionType, action);
+        when(ActionExecutorConfig.getInstance().isCircuitBreakerEnabled()).thenReturn(true);
+        setField(actionExecutorService, "circuitBreaker", new ActionCircuitBreaker(2, 2, 50, 60000));
+
+        ActionInvocationResponse actionInvocationResponse = createActionInvocationResponseWithoutAPIResponse();
+        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+                fail("Expected an ActionExecutionException as the endpoint is not reachable.");
+            } catch (ActionExecutionException e) {
+                // Expected, as the endpoint is not reachable.
+            }
+        }
+        assertEquals(actionExecutorService.getCircuitMetrics().get(0).getState(), ActionCircuitBreaker.State.OPEN);
+
+        // The endpoint of the updated action is called again, instead of being skipped by the open circuit.
+        when(action.getUpdatedAt()).thenReturn(new Timestamp(2000L));
+        try {
+            actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+            fail("Expected an ActionExecutionException as the endpoint is not reachable.");
+        } catch (ActionExecutionException e) {
+            // Expected, as the endpoint is not reachable.
+        }
+        verify(apiClient, times(3)).callAPI(any(), any(), any(), any());
+        verify(actionExecutionDiagnosticLogger, never()).logCircuitOpen(action);
+
+        // The circuit of a deleted action is dropped.
+        when(actionManagementService.getActionsByActionType(any(), any())).thenReturn(Collections.emptyList());
+        actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+        assertEquals(actionExecutorService.getCircuitMetrics().size(), 0);
+    }
+
+    @Test
+    public void testActionExecutionUsesCachedResponse() throws Exception {
+
+        ActionType actionType = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+        Action action = createAction();
+        mockActionExecution(actionType, action);
+        when(ActionExecutorConfig.getInstance().isResponseCacheEnabled(actionType)).thenReturn(true);
+        setField(actionExecutorService, "responseCache", new ActionResponseCache(60000, 10));
+        requestFilter.when(() -> RequestFilter.getFilteredHeaders(any(), any(), any()))
+                .thenReturn(new ArrayList<Header>());
+        requestFilter.when(() -> RequestFilter.getFilteredParams(any(), any(), any()))
+                .thenReturn(new ArrayList<Param>());
+        when(actionExecutionRequestBuilder.buildActionExecutionRequest(any(), any())).thenReturn(
+                createActionExecutionRequest(actionType));
+
+        ActionInvocationResponse actionInvocationResponse = createSuccessActionInvocationResponse();
+        when(apiClient.callAPI(any(), any(), any(), any())).thenReturn(actionInvocationResponse);
+        ActionExecutionStatus expectedStatus = new SuccessStatus.Builder().build();
+        when(actionExecutionResponseProcessor.processSuccessResponse(any(), any())).thenReturn(expectedStatus);
+
+        ActionExecutionStatus firstStatus =
+                actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+        ActionExecutionStatus secondStatus =
+                actionExecutorService.execute(actionType, FlowContext.create(), "tenantDomain");
+
+        assertEquals(firstStatus.getStatus(), expectedStatus.getStatus());
+        assertEquals(secondStatus.getStatus(), expectedStatus.getStatus());
+        verify(apiClient, times(1)).callAPI(any(), any(), any(), any());
+        verify(actionExecutionDiagnosticLogger).logCachedResponse(action);
+        assertEquals(actionExecutorService.getResponseCache().getHitCount(), 1);
+    }
+
+    private void mockActionExecution(ActionType actionType, Action action) throws Exception {
+
+        when(actionManagementService.getActionsByActionType(any(), any())).thenReturn(
+                Collections.singletonList(action));
+        actionExecutionRequestBuilderFactory.when(
+                        () -> ActionExecutionRequestBuilderFactory.getActionExecutionRequestBuilder(any()))
+                .thenReturn(actionExecutionRequestBuilder);
+        actionExecutionResponseProcessorFactory.when(() -> ActionExecutionResponseProcessorFactory
+                        .getActionExecutionResponseProcessor(any()))
+                .thenReturn(actionExecutionResponseProcessor);
+        when(actionExecutionRequestBuilder.getSupportedActionType()).thenReturn(actionType);
+        when(actionExecutionRequestBuilder.buildActionExecutionRequest(any(), any())).thenReturn(
+                mock(ActionExecutionRequest.class));
+        when(actionExecutionResponseProcessor.getSupportedActionType()).thenReturn(actionType);
+    }
+
     private String getJSONRequestPayload(ActionExecutionRequest actionExecutionRequest) throws JsonProcessingException {
 
         ObjectMapper requestObjectmapper = new ObjectMapper();
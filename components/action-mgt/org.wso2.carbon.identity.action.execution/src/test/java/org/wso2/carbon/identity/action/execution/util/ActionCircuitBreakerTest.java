@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionCircuitBreaker;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the {@link ActionCircuitBreaker}.
+ */
+public class ActionCircuitBreakerTest {
+
+    private static final String ACTION_ID = "actionId";
+
+    @Test
+    public void testCircuitStaysClosedBelowMinimumRequests() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(10, 4, 50, 60000);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+            assertNull(circuitBreaker.recordOutcome(ACTION_ID, true));
+        }
+        assertEquals(circuitBreaker.getState(ACTION_ID), ActionCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testCircuitOpensWhenFailureRateReachesThreshold() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(10, 4, 50, 60000);
+
+        assertNull(circuitBreaker.recordOutcome(ACTION_ID, false));
+        assertNull(circuitBreaker.recordOutcome(ACTION_ID, false));
+        assertNull(circuitBreaker.recordOutcome(ACTION_ID, true));
+        assertEquals(circuitBreaker.recordOutcome(ACTION_ID, true), ActionCircuitBreaker.State.OPEN);
+
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+
+        List<ActionCircuitBreaker.CircuitMetrics> metrics = circuitBreaker.getCircuitMetrics();
+        assertEquals(metrics.size(), 1);
+        assertEquals(metrics.get(0).getActionId(), ACTION_ID);
+        assertEquals(metrics.get(0).getState(), ActionCircuitBreaker.State.OPEN);
+        assertEquals(metrics.get(0).getShortCircuitedCount(), 2);
+        assertEquals(metrics.get(0).getOpenedCount(), 1);
+    }
+
+    @Test
+    public void testFailuresLeaveSlidingWindow() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(4, 4, 75, 60000);
+
+        circuitBreaker.recordOutcome(ACTION_ID, true);
+        circuitBreaker.recordOutcome(ACTION_ID, true);
+        circuitBreaker.recordOutcome(ACTION_ID, false);
+        circuitBreaker.recordOutcome(ACTION_ID, false);
+        // The first failure leaves the window, which keeps the failure rate at 50%.
+        assertNull(circuitBreaker.recordOutcome(ACTION_ID, false));
+        assertNull(circuitBreaker.recordOutcome(ACTION_ID, true));
+
+        assertEquals(circuitBreaker.getState(ACTION_ID), ActionCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testHalfOpenTrialSuccessClosesCircuit() throws Exception {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(2, 2, 50, 100);
+        circuitBreaker.recordOutcome(ACTION_ID, true);
+        circuitBreaker.recordOutcome(ACTION_ID, true);
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+
+        Thread.sleep(150);
+
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+        assertEquals(circuitBreaker.getState(ACTION_ID), ActionCircuitBreaker.State.HALF_OPEN);
+        // Only a single trial invocation is allowed while half open.
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+        assertEquals(circuitBreaker.recordOutcome(ACTION_ID, false), ActionCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+    }
+
+    @Test
+    public void testHalfOpenTrialFailureReopensCircuit() throws Exception {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(2, 2, 50, 100);
+        circuitBreaker.recordOutcome(ACTION_ID, true);
+        circuitBreaker.recordOutcome(ACTION_ID, true);
+
+        Thread.sleep(150);
+
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+        assertEquals(circuitBreaker.recordOutcome(ACTION_ID, true), ActionCircuitBreaker.State.OPEN);
+        assertFalse(circuitBreaker.allowRequest(ACTION_ID));
+        assertEquals(circuitBreaker.getCircuitMetrics().get(0).getOpenedCount(), 2);
+    }
+
+    @Test
+    public void testResetClosesCircuit() {
+
+        ActionCircuitBreaker circuitBreaker = new ActionCircuitBreaker(2, 2, 50, 60000);
+        circuitBreaker.recordOutcome(ACTION_ID, true);
+        circuitBreaker.recordOutcome(ACTION_ID, true);
+        assertEquals(circuitBreaker.getState(ACTION_ID), ActionCircuitBreaker.State.OPEN);
+
+        circuitBreaker.reset(ACTION_ID);
+
+        assertEquals(circuitBreaker.getState(ACTION_ID), ActionCircuitBreaker.State.CLOSED);
+        assertTrue(circuitBreaker.allowRequest(ACTION_ID));
+    }
+}
@@ -471,4 +471,76 @@ public class ActionExecutorConfigTest {
         when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
         Assert.assertEquals(2, actionExecutorConfig.getHttpRequestRetryCount());
     }
+
+    @Test
+    public void testGetHttpRequestRetryBackoffInMillis() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPRequestRetryBackoff", "250");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(250, actionExecutorConfig.getHttpRequestRetryBackoffInMillis());
+    }
+
+    @Test
+    public void testGetExecutionTimeoutInMillisForActionType() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPExecutionTimeout", "8000");
+        configMap.put("Actions.Types.PreIssueAccessToken.ExecutionTimeout", "3000");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(3000, actionExecutorConfig.getExecutionTimeoutInMillis(ActionType.PRE_ISSUE_ACCESS_TOKEN));
+        Assert.assertEquals(8000, actionExecutorConfig.getExecutionTimeoutInMillis(ActionType.AUTHENTICATION));
+    }
+
+    @Test
+    public void testGetExecutionTimeoutInMillisForInvalidConfig() {
+
+        //If the server configuration value is not a number, the default execution timeout value of 10000 is parsed
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.HTTPClient.HTTPExecutionTimeout", "value");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        Assert.assertEquals(10000, actionExecutorConfig.getExecutionTimeoutInMillis(ActionType.PRE_UPDATE_PROFILE));
+    }
+
+    @Test
+    public void testGetCircuitBreakerConfigs() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.CircuitBreaker.Enable", "false");
+        configMap.put("Actions.CircuitBreaker.SlidingWindowSize", "40");
+        configMap.put("Actions.CircuitBreaker.MinimumRequests", "5");
+        configMap.put("Actions.CircuitBreaker.FailureRateThreshold", "75");
+        configMap.put("Actions.CircuitBreaker.OpenStateDuration", "10000");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        assertFalse(actionExecutorConfig.isCircuitBreakerEnabled());
+        Assert.assertEquals(40, actionExecutorConfig.getCircuitBreakerSlidingWindowSize());
+        Assert.assertEquals(5, actionExecutorConfig.getCircuitBreakerMinimumRequests());
+        Assert.assertEquals(75, actionExecutorConfig.getCircuitBreakerFailureRateThreshold());
+        Assert.assertEquals(10000, actionExecutorConfig.getCircuitBreakerOpenStateDurationInMillis());
+    }
+
+    @Test
+    public void testGetCircuitBreakerConfigsForEmptyConfig() {
+
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(new HashMap<>());
+        assertTrue(actionExecutorConfig.isCircuitBreakerEnabled());
+        Assert.assertEquals(20, actionExecutorConfig.getCircuitBreakerSlidingWindowSize());
+        Assert.assertEquals(10, actionExecutorConfig.getCircuitBreakerMinimumRequests());
+        Assert.assertEquals(50, actionExecutorConfig.getCircuitBreakerFailureRateThreshold());
+        Assert.assertEquals(30000, actionExecutorConfig.getCircuitBreakerOpenStateDurationInMillis());
+    }
+
+    @Test
+    public void testGetResponseCacheConfigs() {
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put("Actions.Types.PreIssueAccessToken.ResponseCache.Enable", "true");
+        configMap.put("Actions.ResponseCache.TimeToLive", "5000");
+        configMap.put("Actions.ResponseCache.MaxEntries", "100");
+        when(mockIdentityConfigParser.getConfiguration()).thenReturn(configMap);
+        assertTrue(actionExecutorConfig.isResponseCacheEnabled(ActionType.PRE_ISSUE_ACCESS_TOKEN));
+        assertFalse(actionExecutorConfig.isResponseCacheEnabled(ActionType.PRE_UPDATE_PASSWORD));
+        Assert.assertEquals(5000, actionExecutorConfig.getResponseCacheTimeToLiveInMillis());
+        Assert.assertEquals(100, actionExecutorConfig.getResponseCacheMaxEntries());
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationSuccessResponse;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionResponseCache;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests the {@link ActionResponseCache}.
+ */
+public class ActionResponseCacheTest {
+
+    private static final String ENDPOINT = "http://example.com";
+
+    @Test
+    public void testBuildKey() {
+
+        String key = ActionResponseCache.buildKey("actionId", ENDPOINT, "{\"event\":{}}");
+
+        assertEquals(key, ActionResponseCache.buildKey("actionId", ENDPOINT, "{\"event\":{}}"));
+        assertNotEquals(key, ActionResponseCache.buildKey("actionId", ENDPOINT, "{\"event\":{\"a\":1}}"));
+        assertNotEquals(key, ActionResponseCache.buildKey("otherActionId", ENDPOINT, "{\"event\":{}}"));
+    }
+
+    @Test
+    public void testGetCachedSuccessResponse() {
+
+        ActionResponseCache cache = new ActionResponseCache(60000, 10);
+        ActionInvocationResponse response = createSuccessResponse();
+        String key = ActionResponseCache.buildKey("actionId", ENDPOINT, "content");
+
+        assertNull(cache.get(key));
+        cache.put(key, response);
+
+        assertSame(cache.get(key), response);
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testErrorResponseIsNotCached() {
+
+        ActionResponseCache cache = new ActionResponseCache(60000, 10);
+        String key = ActionResponseCache.buildKey("actionId", ENDPOINT, "content");
+
+        cache.put(key, new ActionInvocationResponse.Builder().errorLog("Endpoint is not reachable.").build());
+
+        assertNull(cache.get(key));
+        assertEquals(cache.getSize(), 0);
+    }
+
+    @Test
+    public void testCachedResponseExpires() throws Exception {
+
+        ActionResponseCache cache = new ActionResponseCache(100, 10);
+        String key = ActionResponseCache.buildKey("actionId", ENDPOINT, "content");
+        cache.put(key, createSuccessResponse());
+
+        Thread.sleep(150);
+
+        assertNull(cache.get(key));
+        assertEquals(cache.getSize(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResponseIsEvicted() {
+
+        ActionResponseCache cache = new ActionResponseCache(60000, 2);
+        ActionInvocationResponse response = createSuccessResponse();
+        cache.put("actionId:1", response);
+        cache.put("actionId:2", response);
+        cache.get("actionId:1");
+        cache.put("actionId:3", response);
+
+        assertEquals(cache.getSize(), 2);
+        assertSame(cache.get("actionId:1"), response);
+        assertNull(cache.get("actionId:2"));
+        assertSame(cache.get("actionId:3"), response);
+    }
+
+    @Test
+    public void testClearResponsesOfAction() {
+
+        ActionResponseCache cache = new ActionResponseCache(60000, 10);
+        ActionInvocationResponse response = createSuccessResponse();
+        cache.put(ActionResponseCache.buildKey("actionId", ENDPOINT, "content"), response);
+        cache.put(ActionResponseCache.buildKey("otherActionId", ENDPOINT, "content"), response);
+
+        cache.clear("actionId");
+
+        assertEquals(cache.getSize(), 1);
+        assertNull(cache.get(ActionResponseCache.buildKey("actionId", ENDPOINT, "content")));
+    }
+
+    private ActionInvocationResponse createSuccessResponse() {
+
+        ActionInvocationSuccessResponse successResponse = mock(ActionInvocationSuccessResponse.class);
+        when(successResponse.getActionStatus()).thenReturn(ActionInvocationResponse.Status.SUCCESS);
+        return new ActionInvocationResponse.Builder().response(successResponse).build();
+    }
+}
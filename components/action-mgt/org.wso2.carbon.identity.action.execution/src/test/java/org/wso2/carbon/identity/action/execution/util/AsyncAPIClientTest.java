@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.action.execution.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.mockito.MockedStatic;
+import org.slf4j.MDC;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.action.execution.api.model.ActionInvocationResponse;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionEndpointMetrics;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutionDiagnosticLogger;
+import org.wso2.carbon.identity.action.execution.internal.util.ActionExecutorConfig;
+import org.wso2.carbon.identity.action.execution.internal.util.AsyncAPIClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the {@link AsyncAPIClient} against a local stub action endpoint.
+ */
+public class AsyncAPIClientTest {
+
+    private static final String SUCCESS_RESPONSE = "{\"actionStatus\":\"SUCCESS\",\"operations\":[" +
+            "{\"op\":\"add\",\"path\":\"/accessToken/claims/-\"," +
+            "\"value\":{\"name\":\"customSID\",\"value\":\"12345\"}}]}";
+    private static final String SERVER_ERROR_RESPONSE = "{\"actionStatus\":\"ERROR\"," +
+            "\"errorMessage\":\"server_error\",\"errorDescription\":\"service unavailable\"}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String endpoint;
+    private volatile StubBehavior stubBehavior;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private MockedStatic<ActionExecutorConfig> actionExecutorConfigStatic;
+    private ActionExecutorConfig actionExecutorConfig;
+    private AsyncAPIClient asyncAPIClient;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, this.getClass().getResource("/").getFile());
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/action", new StubHandler());
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        endpoint = "http://localhost:" + server.getAddress().getPort() + "/action";
+    }
+
+    @AfterClass
+    public void stopServer() {
+
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        requestCount.set(0);
+        actionExecutorConfigStatic = mockStatic(ActionExecutorConfig.class);
+        actionExecutorConfig = mock(ActionExecutorConfig.class);
+        actionExecutorConfigStatic.when(ActionExecutorConfig::getInstance).thenReturn(actionExecutorConfig);
+        when(actionExecutorConfig.getHttpConnectionPoolSize()).thenReturn(5);
+        when(actionExecutorConfig.getHttpConnectionTimeoutInMillis()).thenReturn(1000);
+        when(actionExecutorConfig.getHttpConnectionRequestTimeoutInMillis()).thenReturn(1000);
+        when(actionExecutorConfig.getHttpReadTimeoutInMillis()).thenReturn(1000);
+        when(actionExecutorConfig.getHttpRequestRetryCount()).thenReturn(2);
+        when(actionExecutorConfig.getHttpRequestRetryBackoffInMillis()).thenReturn(50);
+        asyncAPIClient = createClient();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        asyncAPIClient.close();
+        actionExecutorConfigStatic.close();
+    }
+
+    @Test
+    public void testCallAPIReceiveSuccessResponse() throws Exception {
+
+        stubBehavior = attempt -> new StubResponse(200, SUCCESS_RESPONSE, 0);
+
+        ActionInvocationResponse response = asyncAPIClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint,
+                null, "{}", 5000).get(5, TimeUnit.SECONDS);
+
+        assertTrue(response.isSuccess());
+        assertEquals(requestCount.get(), 1);
+        ActionEndpointMetrics metrics = asyncAPIClient.getEndpointMetrics(endpoint);
+        assertNotNull(metrics);
+        assertEquals(metrics.getRequestCount(), 1);
+        assertEquals(metrics.getResponseCount(), 1);
+        assertEquals(metrics.getRetryCount(), 0);
+        assertEquals(metrics.getInFlightCount(), 0);
+    }
+
+    @Test
+    public void testCallAPIRetryWithBackoffOnServiceUnavailable() throws Exception {
+
+        stubBehavior = attempt -> attempt == 1 ? new StubResponse(503, SERVER_ERROR_RESPONSE, 0) :
+                new StubResponse(200, SUCCESS_RESPONSE, 0);
+
+        long startTime = System.nanoTime();
+        ActionInvocationResponse response = asyncAPIClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint,
+                null, "{}", 5000).get(5, TimeUnit.SECONDS);
+
+        assertTrue(response.isSuccess());
+        assertEquals(requestCount.get(), 2);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) >= 50);
+        ActionEndpointMetrics metrics = asyncAPIClient.getEndpointMetrics(endpoint);
+        assertEquals(metrics.getRequestCount(), 2);
+        assertEquals(metrics.getRetryCount(), 1);
+    }
+
+    @Test
+    public void testDiagnosticLogsOfRetryHaveRequestContext() throws Exception {
+
+        stubBehavior = attempt -> new StubResponse(503, SERVER_ERROR_RESPONSE, 0);
+        ActionExecutionDiagnosticLogger diagnosticLogger = mock(ActionExecutionDiagnosticLogger.class);
+        setField(asyncAPIClient, "diagnosticLogger", diagnosticLogger);
+        AtomicReference<String> loggedTenantDomain = new AtomicReference<>();
+        AtomicReference<String> loggedCorrelationId = new AtomicReference<>();
+        doAnswer(invocation -> {
+            loggedTenantDomain.set(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            loggedCorrelationId.set(MDC.get("Correlation-ID"));
+            return null;
+        }).when(diagnosticLogger).logAPICallRetry(anyString(), anyInt(), anyInt());
+
+        PrivilegedCarbonContext.startTenantFlow();
+        MDC.put("Correlation-ID", "correlationId");
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain("foo.com");
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(1);
+            asyncAPIClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint, null, "{}", 5000)
+                    .get(5, TimeUnit.SECONDS);
+        } finally {
+            MDC.remove("Correlation-ID");
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        // The retry is logged on an I/O thread of the HTTP client, with the context of the request.
+        assertEquals(loggedTenantDomain.get(), "foo.com");
+        assertEquals(loggedCorrelationId.get(), "correlationId");
+    }
+
+    @Test
+    public void testCallAPIReachMaxRetryAttempts() throws Exception {
+
+        stubBehavior = attempt -> new StubResponse(503, SERVER_ERROR_RESPONSE, 0);
+
+        ActionInvocationResponse response = asyncAPIClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint,
+                null, "{}", 5000).get(5, TimeUnit.SECONDS);
+
+        assertTrue(response.isError());
+        assertTrue(response.isRetry());
+        assertEquals(requestCount.get(), 2);
+    }
+
+    @Test
+    public void testCallAPIRetryOnReadTimeoutAndReceiveSuccessResponse() throws Exception {
+
+        asyncAPIClient.close();
+        when(actionExecutorConfig.getHttpReadTimeoutInMillis()).thenReturn(200);
+        asyncAPIClient = createClient();
+        stubBehavior = attempt -> attempt == 1 ? new StubResponse(200, SUCCESS_RESPONSE, 1000) :
+                new StubResponse(200, SUCCESS_RESPONSE, 0);
+
+        ActionInvocationResponse response = asyncAPIClient.callAPI(ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint,
+                null, "{}", 5000).get(5, TimeUnit.SECONDS);
+
+        assertTrue(response.isSuccess());
+        ActionEndpointMetrics metrics = asyncAPIClient.getEndpointMetrics(endpoint);
+        assertEquals(metrics.getTimeoutCount(), 1);
+        assertEquals(metrics.getRetryCount(), 1);
+    }
+
+    @Test
+    public void testCallAPICompleteOnExecutionTimeout() throws Exception {
+
+        stubBehavior = attempt -> new StubResponse(200, SUCCESS_RESPONSE, 800);
+
+        long startTime = System.nanoTime();
+        CompletableFuture<ActionInvocationResponse> future = asyncAPIClient.callAPI(
+                ActionType.PRE_ISSUE_ACCESS_TOKEN, endpoint, null, "{}", 200);
+        assertFalse(future.isDone());
+        ActionInvocationResponse response = future.get(5, TimeUnit.SECONDS);
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < 800);
+        assertTrue(response.isError());
+        assertEquals(response.getErrorLog(),
+                "Failed to execute the action request within the execution timeout.");
+    }
+
+    private AsyncAPIClient createClient() throws Exception {
+
+        AsyncAPIClient client = new AsyncAPIClient();
+        // Static mocks are bound to the test thread, hence the diagnostic logger used by the I/O threads is mocked.
+        setField(client, "diagnosticLogger", mock(ActionExecutionDiagnosticLogger.class));
+        return client;
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private interface StubBehavior {
+
+        StubResponse respond(int attempt);
+    }
+
+    private static class StubResponse {
+
+        private final int statusCode;
+        private final String body;
+        private final long delayInMillis;
+
+        StubResponse(int statusCode, String body, long delayInMillis) {
+
+            this.statusCode = statusCode;
+            this.body = body;
+            this.delayInMillis = delayInMillis;
+        }
+    }
+
+    private class StubHandler implements HttpHandler {
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+
+            StubResponse response = stubBehavior.respond(requestCount.incrementAndGet());
+            try {
+                if (response.delayInMillis > 0) {
+                    Thread.sleep(response.delayInMillis);
+                }
+                byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(response.statusCode, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // The client has given up on the request.
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtSystemConfig;
+import org.wso2.carbon.identity.application.mgt.dao.ApplicationDAO;
+import org.wso2.carbon.identity.application.mgt.dao.PaginatableFilterableApplicationDAO;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.cache.CacheWarmUpHandler;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms up the service provider caches of a tenant by loading the most recently created applications of the tenant,
+ * up to the limit configured with the {@code CacheConfig.WarmUp.ApplicationLimit} property of identity.xml.
+ */
+public class ApplicationCacheWarmUpHandler implements CacheWarmUpHandler {
+
+    private static final Log log = LogFactory.getLog(ApplicationCacheWarmUpHandler.class);
+    private static final String APPLICATION_LIMIT = "CacheConfig.WarmUp.ApplicationLimit";
+    private static final int DEFAULT_APPLICATION_LIMIT = 100;
+
+    @Override
+    public String getName() {
+
+        return "ApplicationCacheWarmUpHandler";
+    }
+
+    @Override
+    public void warmUp(String tenantDomain) throws IdentityException {
+
+        ApplicationDAO applicationDAO = ApplicationMgtSystemConfig.getInstance().getApplicationDAO();
+        if (!(applicationDAO instanceof PaginatableFilterableApplicationDAO)) {
+            return;
+        }
+        try {
+            ApplicationBasicInfo[] applicationBasicInfos = ((PaginatableFilterableApplicationDAO) applicationDAO)
+                    .getApplicationBasicInfo(0, getApplicationLimit());
+            List<Integer> applicationIds = new ArrayList<>();
+            for (ApplicationBasicInfo applicationBasicInfo : applicationBasicInfos) {
+                applicationIds.add(applicationBasicInfo.getApplicationId());
+            }
+            // Loading the applications through the cache backed DAO adds them to the service provider caches.
+            List<ServiceProvider> serviceProviders = applicationDAO.getApplications(applicationIds);
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + serviceProviders.size() + " application(s) of tenant: " + tenantDomain +
+                        " into the cache.");
+            }
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityException("Error while loading the applications of tenant: " + tenantDomain, e);
+        }
+    }
+
+    private int getApplicationLimit() {
+
+        String limit = IdentityUtil.getProperty(APPLICATION_LIMIT);
+        if (StringUtils.isNotBlank(limit) && StringUtils.isNumeric(limit) && Integer.parseInt(limit) > 0) {
+            return Integer.parseInt(limit);
+        }
+        return DEFAULT_APPLICATION_LIMIT;
+    }
+}
@@ -302,6 +302,44 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return idpProperties;
     }
 
+    /**
+     * Get the service provider properties of the given service providers with a single query.
+     *
+     * @param dbConnection Database connection.
+     * @param spIds        SP IDs.
+     * @return Service provider properties by the SP ID.
+     */
+    private Map<Integer, List<ServiceProviderProperty>> getServicePropertiesBySpIds(Connection dbConnection,
+                                                                                   Collection<Integer> spIds)
+            throws SQLException {
+
+        Map<Integer, List<ServiceProviderProperty>> spProperties = new HashMap<>();
+        if (spIds.isEmpty()) {
+            return spProperties;
+        }
+        String inClause = String.join(", ", Collections.nCopies(spIds.size(), "?")) + ")";
+        try (PreparedStatement prepStmt = dbConnection.prepareStatement(isH2DB() ?
+                ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS_H2 + inClause :
+                ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS + inClause)) {
+            int index = 1;
+            for (Integer spId : spIds) {
+                prepStmt.setInt(index++, spId);
+            }
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    ServiceProviderProperty property = new ServiceProviderProperty();
+                    property.setName(rs.getString("NAME"));
+                    property.setValue(rs.getString("VALUE"));
+                    property.setDisplayName(rs.getString("DISPLAY_NAME"));
+                    spProperties.computeIfAbsent(rs.getInt("SP_ID"), key -> new ArrayList<>()).add(property);
+                }
+            }
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving SP metadata for SP IDs: " + spIds, e);
+        }
+        return spProperties;
+    }
+
     /**
      * Add Service provider properties
      *
@@ -2238,14 +2276,74 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     public ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException {
 
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            return getApplication(applicationId, connection);
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
+                    e);
+        }
+    }
+
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        if (CollectionUtils.isEmpty(applicationIds)) {
+            return serviceProviders;
+        }
+        /* Load the basic data and the properties of all the applications with a query each, and the rest of the
+           sections of each application over the same connection. */
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            Map<Integer, ServiceProvider> basicApplicationData = getBasicApplicationData(applicationIds, connection);
+            Map<Integer, List<ServiceProviderProperty>> propertyLists =
+                    getServicePropertiesBySpIds(connection, basicApplicationData.keySet());
+            for (Integer applicationId : applicationIds) {
+                ServiceProvider serviceProvider = basicApplicationData.remove(applicationId);
+                if (serviceProvider != null) {
+                    serviceProviders.add(loadApplicationSections(serviceProvider,
+                            propertyLists.getOrDefault(applicationId, new ArrayList<>()), connection));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Failed to get service providers with ids: " +
+                    applicationIds, e);
+        }
+        return serviceProviders;
+    }
+
+    private ServiceProvider getApplication(int applicationId, Connection connection)
+            throws IdentityApplicationManagementException {
 
+        try {
             // Load basic application data
             ServiceProvider serviceProvider = getBasicApplicationData(applicationId, connection);
             if (serviceProvider == null) {
                 return null;
             }
-            int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
             List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
+            return loadApplicationSections(serviceProvider, propertyList, connection);
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
+                    e);
+        }
+    }
+
+    /**
+     * Load the sections of an application other than its basic data and properties.
+     *
+     * @param serviceProvider Service provider with the basic application data.
+     * @param propertyList    Service provider properties of the application.
+     * @param connection      Database connection.
+     * @return Service provider with all the sections loaded.
+     * @throws IdentityApplicationManagementException If an error occurs while loading a section.
+     */
+    private ServiceProvider loadApplicationSections(ServiceProvider serviceProvider,
+                                                    List<ServiceProviderProperty> propertyList, Connection connection)
+            throws IdentityApplicationManagementException {
+
+        int applicationId = serviceProvider.getApplicationID();
+        try {
+            int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
 
             serviceProvider.setJwksUri(getJwksUri(propertyList));
             serviceProvider.setTemplateId(getTemplateId(propertyList));
@@ -2298,7 +2396,8 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
 
             // Set role associations.
             serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
+                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), getAllowedRoleAudience(propertyList),
+                            connection, tenantID));
             // Will be supported with 'Advance Consent Management Feature'.
             /*
             ConsentConfig consentConfig = serviceProvider.getConsentConfig();
@@ -2321,11 +2420,18 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
+        String allowedAudience = getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME,
+                IdentityTenantUtil.getTenantDomain(tenantID));
+        return getAssociatedRoles(applicationId, allowedAudience, connection, tenantID);
+    }
+
+    private AssociatedRolesConfig getAssociatedRoles(String applicationId, String allowedAudience,
+                                                     Connection connection, int tenantID)
+            throws IdentityApplicationManagementException {
+
         String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantID);
         AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
         List<String> associatedRoleIds = new ArrayList<>();
-        String allowedAudience =
-                getSPPropertyValueByPropertyKey(applicationId, ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME, tenantDomain);
         if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
             try (NamedPreparedStatement preparedStatement = new NamedPreparedStatement(connection,
                     ApplicationMgtDBQueries.LOAD_ASSOCIATED_ROLES)) {
@@ -2363,9 +2469,10 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                         }
                     } while (chunkOfRoles.size() == maximumPage);
 
-                    List<String> roleIds = allRoles.stream().map(RoleBasicInfo::getId).collect(Collectors.
-                            toList());
-                    associatedRolesConfig.setRoles(buildAssociatedRolesWithRoleName(roleIds, tenantDomain));
+                    // The role listing already carries the role names, hence no per role name lookup is needed.
+                    associatedRolesConfig.setRoles(allRoles.stream()
+                            .map(role -> new RoleV2(role.getId(), role.getName()))
+                            .toArray(RoleV2[]::new));
                 }
             } catch (IdentityRoleManagementException e) {
                 throw new IdentityApplicationManagementException("Error while retrieving associated roles for " +
@@ -2588,6 +2695,21 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return StringUtils.EMPTY;
     }
 
+    /**
+     * Retrieve the allowed role audience from the provided service provider property list.
+     *
+     * @param propertyList Service provider property list.
+     * @return Allowed role audience or an empty string.
+     */
+    private String getAllowedRoleAudience(List<ServiceProviderProperty> propertyList) {
+
+        return propertyList.stream()
+                .filter(property -> ALLOWED_ROLE_AUDIENCE_PROPERTY_NAME.equals(property.getName()))
+                .findFirst()
+                .map(ServiceProviderProperty::getValue)
+                .orElse(StringUtils.EMPTY);
+    }
+
     private String getTemplateId(List<ServiceProviderProperty> propertyList) {
 
         return propertyList.stream()
@@ -2657,80 +2779,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                serviceProvider = new ServiceProvider();
-                serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
-                serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
-                serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
-                serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
-                serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
-                serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
-
-                serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
-                if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
-                    serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
-                            rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
-                }
-                String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
-                if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
-                    String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(consoleAccessUrl)) {
-                        serviceProvider.setAccessUrl(consoleAccessUrl);
-                    }
-                }
-                if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
-                    String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(myAccountAccessUrl)) {
-                        serviceProvider.setAccessUrl(myAccountAccessUrl);
-                    }
-                }
-
-                serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
-                serviceProvider.setDiscoverableGroups(getDiscoverableGroups(appId, connection, tenantDomain));
-
-                User owner = new User();
-                owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
-                owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
-                owner.setTenantDomain(getUserTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
-                        rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
-                                rs.getString(ApplicationTableColumns.USERNAME)));
-                serviceProvider.setOwner(owner);
-                serviceProvider.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
-
-                ClaimConfig claimConfig = new ClaimConfig();
-                claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
-                claimConfig.setLocalClaimDialect(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
-                claimConfig.setAlwaysSendMappedLocalSubjectId(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
-                serviceProvider.setClaimConfig(claimConfig);
-
-                LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
-                        new LocalAndOutboundAuthenticationConfig();
-                localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
-                localAndOutboundAuthenticationConfig.setEnableAuthorization(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
-                localAndOutboundAuthenticationConfig.setSubjectClaimUri(
-                        rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
-                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
-
-                serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
-
-                // Will be supported with 'Advance Consent Management Feature'.
-                /*
-                ConsentConfig consentConfig = new ConsentConfig();
-                consentConfig.setEnabled("1".equals(rs.getString(18)));
-                serviceProvider.setConsentConfig(consentConfig);
-                */
-
-                if (log.isDebugEnabled()) {
-                    log.debug("ApplicationID: " + serviceProvider.getApplicationID()
-                            + " ApplicationName: " + serviceProvider.getApplicationName()
-                            + " UserName: " + serviceProvider.getOwner().getUserName()
-                            + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
-                }
+                serviceProvider = buildBasicApplicationData(rs, connection);
             }
 
             return serviceProvider;
@@ -2743,6 +2792,124 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
+    /**
+     * Load the basic application data of the given applications with a single query.
+     *
+     * @param appIds     Application IDs.
+     * @param connection Database connection.
+     * @return Service providers with the basic application data, by the application ID. Applications which do not
+     * exist are not included.
+     * @throws SQLException If an error occurs while reading the applications.
+     */
+    private Map<Integer, ServiceProvider> getBasicApplicationData(List<Integer> appIds, Connection connection)
+            throws SQLException, IdentityApplicationManagementException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Loading Basic Application Data of application IDs: " + appIds);
+        }
+
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        String sqlStmt = ApplicationMgtDBQueries.LOAD_BASIC_APP_INFO_BY_APP_IDS +
+                String.join(", ", Collections.nCopies(appIds.size(), "?")) + ")";
+        try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
+            for (int i = 0; i < appIds.size(); i++) {
+                prepStmt.setInt(i + 1, appIds.get(i));
+            }
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    ServiceProvider serviceProvider = buildBasicApplicationData(rs, connection);
+                    serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+                }
+            }
+        } catch (URLBuilderException e) {
+            throw new IdentityApplicationManagementException(
+                    "Error occurred when resolving origin of the access URL with placeholders", e);
+        }
+        return serviceProviders;
+    }
+
+    private ServiceProvider buildBasicApplicationData(ResultSet rs, Connection connection)
+            throws SQLException, URLBuilderException, IdentityApplicationManagementException {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
+        serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
+        serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
+        serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
+        serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
+        serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
+
+        serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
+        if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
+            serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
+                    rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
+        }
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
+        if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
+            String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
+            if (StringUtils.isNotBlank(consoleAccessUrl)) {
+                serviceProvider.setAccessUrl(consoleAccessUrl);
+            }
+        }
+        if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
+            String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
+            if (StringUtils.isNotBlank(myAccountAccessUrl)) {
+                serviceProvider.setAccessUrl(myAccountAccessUrl);
+            }
+        }
+
+        serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
+        serviceProvider.setDiscoverableGroups(getDiscoverableGroups(serviceProvider.getApplicationID(), connection,
+                tenantDomain));
+
+        User owner = new User();
+        owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
+        owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
+        owner.setTenantDomain(getUserTenantDomain(
+                IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
+                rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
+                        rs.getString(ApplicationTableColumns.USERNAME)));
+        serviceProvider.setOwner(owner);
+        serviceProvider.setTenantDomain(
+                IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
+        claimConfig.setLocalClaimDialect(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+        claimConfig.setAlwaysSendMappedLocalSubjectId(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
+        serviceProvider.setClaimConfig(claimConfig);
+
+        LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                new LocalAndOutboundAuthenticationConfig();
+        localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+        localAndOutboundAuthenticationConfig.setEnableAuthorization(
+                getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+        localAndOutboundAuthenticationConfig.setSubjectClaimUri(
+                rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+
+        serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+
+        // Will be supported with 'Advance Consent Management Feature'.
+        /*
+        ConsentConfig consentConfig = new ConsentConfig();
+        consentConfig.setEnabled("1".equals(rs.getString(18)));
+        serviceProvider.setConsentConfig(consentConfig);
+        */
+
+        if (log.isDebugEnabled()) {
+            log.debug("ApplicationID: " + serviceProvider.getApplicationID()
+                    + " ApplicationName: " + serviceProvider.getApplicationName()
+                    + " UserName: " + serviceProvider.getOwner().getUserName()
+                    + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+        }
+
+        return serviceProvider;
+    }
+
     private boolean getBooleanValue(String booleanValueAsString) throws SQLException {
 
         return "1".equals(booleanValueAsString);
@@ -3105,15 +3272,21 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
 
         try {
+            // The authenticator and identity provider of each step are joined in, instead of reading them with a
+            // separate query per authenticator.
             getStepInfoPrepStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_STEPS_INFO_BY_APP_ID);
-            // STEP_ORDER, AUTHENTICATOR_ID, IS_SUBJECT_STEP, IS_ATTRIBUTE_STEP
-            getStepInfoPrepStmt.setInt(1, applicationId);
+                    .prepareStatement(ApplicationMgtDBQueries.LOAD_STEPS_AND_AUTHENTICATORS_BY_APP_ID);
+            getStepInfoPrepStmt.setInt(1, tenantId);
+            getStepInfoPrepStmt.setInt(2, tenantId);
+            getStepInfoPrepStmt.setInt(3, MultitenantConstants.SUPER_TENANT_ID);
+            getStepInfoPrepStmt.setInt(4, MultitenantConstants.SUPER_TENANT_ID);
+            getStepInfoPrepStmt.setInt(5, applicationId);
             stepInfoResultSet = getStepInfoPrepStmt.executeQuery();
 
             Map<String, AuthenticationStep> authSteps = new HashMap<>();
             Map<String, Map<String, List<FederatedAuthenticatorConfig>>> stepFedIdPAuthenticators = new HashMap<>();
             Map<String, List<LocalAuthenticatorConfig>> stepLocalAuth = new HashMap<>();
+            Map<String, Boolean> federationHubIdPs = new HashMap<>();
 
             while (stepInfoResultSet.next()) {
 
@@ -3130,9 +3303,16 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                             new HashMap<String, List<FederatedAuthenticatorConfig>>());
                 }
 
-                int authenticatorId = stepInfoResultSet.getInt(2);
-                Map<String, String> authenticatorInfo = getAuthenticatorInfo(connection, tenantId,
-                        authenticatorId);
+                Map<String, String> authenticatorInfo = new HashMap<>();
+                authenticatorInfo.put(ApplicationConstants.IDP_NAME, stepInfoResultSet.getString(4));
+                authenticatorInfo.put(ApplicationConstants.IDP_AUTHENTICATOR_NAME, stepInfoResultSet.getString(5));
+                authenticatorInfo.put(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME,
+                        stepInfoResultSet.getString(6));
+                authenticatorInfo.put(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE,
+                        stepInfoResultSet.getString(7));
+                // Only the identity providers of the tenant can be federation hubs.
+                federationHubIdPs.put(stepInfoResultSet.getString(4), stepInfoResultSet.getInt(8) == tenantId
+                        && "1".equals(stepInfoResultSet.getString(9)));
 
                 if (authenticatorInfo != null
                         && authenticatorInfo.get(ApplicationConstants.IDP_NAME) != null
@@ -3168,8 +3348,8 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                     idpAuths.add(fedAuthenticator);
                 }
 
-                authStep.setSubjectStep("1".equals(stepInfoResultSet.getString(3)));
-                authStep.setAttributeStep("1".equals(stepInfoResultSet.getString(4)));
+                authStep.setSubjectStep("1".equals(stepInfoResultSet.getString(2)));
+                authStep.setAttributeStep("1".equals(stepInfoResultSet.getString(3)));
 
                 authSteps.put(step, authStep);
             }
@@ -3207,7 +3387,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                         List<FederatedAuthenticatorConfig> fedAuthenticators = idpEntry.getValue();
                         IdentityProvider idp = new IdentityProvider();
                         idp.setIdentityProviderName(idpName);
-                        idp.setFederationHub(isFederationHubIdP(idpName, connection, tenantId));
+                        idp.setFederationHub(Boolean.TRUE.equals(federationHubIdPs.get(idpName)));
                         idp.setFederatedAuthenticatorConfigs(
                                 fedAuthenticators.toArray(new FederatedAuthenticatorConfig[fedAuthenticators.size()]));
                         idp.setDefaultAuthenticatorConfig(idp.getFederatedAuthenticatorConfigs()[0]);
@@ -3353,31 +3533,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return null;
     }
 
-    private boolean isFederationHubIdP(String idPName, Connection connection, int tenantId)
-            throws SQLException {
-
-        PreparedStatement get = null;
-        ResultSet resultSet = null;
-
-        try {
-            get = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_HUB_IDP_BY_NAME);
-
-            get.setString(1, idPName);
-            get.setInt(2, tenantId);
-            resultSet = get.executeQuery();
-
-            if (resultSet.next()) {
-                return "1".equals(resultSet.getString(1));
-            }
-
-            return false;
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(get);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
-        }
-
-    }
-
     /**
      * @param applicationId
      * @param connection
@@ -5056,41 +5211,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return authId;
     }
 
-    /**
-     * @param conn
-     * @param tenantId
-     * @param authenticatorId
-     * @return
-     * @throws SQLException
-     */
-    private Map<String, String> getAuthenticatorInfo(Connection conn, int tenantId,
-                                                     int authenticatorId) throws SQLException {
-
-        PreparedStatement prepStmt = null;
-        ResultSet rs = null;
-        String sqlStmt = ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES;
-        Map<String, String> returnData = new HashMap<String, String>();
-        try {
-            prepStmt = conn.prepareStatement(sqlStmt);
-            prepStmt.setInt(1, authenticatorId);
-            prepStmt.setInt(2, tenantId);
-            prepStmt.setInt(3, tenantId);
-            prepStmt.setInt(4, MultitenantConstants.SUPER_TENANT_ID);
-            prepStmt.setInt(5, MultitenantConstants.SUPER_TENANT_ID);
-            rs = prepStmt.executeQuery();
-            while (rs.next()) {
-                returnData.put(ApplicationConstants.IDP_NAME, rs.getString(1));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_NAME, rs.getString(2));
-                returnData
-                        .put(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME, rs.getString(3));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_DEFINED_BY_TYPE, rs.getString(4));
-            }
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
-        }
-        return returnData;
-    }
-
     /**
      * @param conn
      * @param tenantId
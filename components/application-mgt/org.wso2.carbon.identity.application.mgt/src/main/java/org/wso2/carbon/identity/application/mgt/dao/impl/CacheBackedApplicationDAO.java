@@ -57,6 +57,7 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderRe
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppByPlatformTypeCache;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheEntry;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheKey;
+import org.wso2.carbon.identity.core.cache.SingleFlightLoader;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -84,6 +85,12 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
     private static ApplicationBasicInfoByResourceIdCache appBasicInfoCacheByResourceId = null;
     private static ApplicationBasicInfoByNameCache appBasicInfoCacheByName = null;
     private static TrustedAppByPlatformTypeCache trustedAppByPlatformTypeCache = null;
+    private static final SingleFlightLoader<IdentityServiceProviderCacheKey, ServiceProvider> APP_BY_NAME_LOADER =
+            new SingleFlightLoader<>(IdentityServiceProviderCache.SP_CACHE_NAME,
+                    IdentityServiceProviderCache::getInstance);
+    private static final SingleFlightLoader<ServiceProviderResourceIdCacheKey, ServiceProvider>
+            APP_BY_RESOURCE_ID_LOADER = new SingleFlightLoader<>("ServiceProviderCache.ResourceId",
+                    ServiceProviderByResourceIdCache::getInstance);
 
     public CacheBackedApplicationDAO(ApplicationDAO appDAO) {
 
@@ -103,20 +110,28 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
         ServiceProvider serviceProvider = getApplicationFromCache(applicationName, tenantDomain);
         if (serviceProvider == null) {
-            try {
-                serviceProvider = appDAO.getApplication(applicationName, tenantDomain);
-                if (serviceProvider != null) {
-                    addToCache(serviceProvider, tenantDomain);
-                }
-            } catch (Exception e) {
-                String error = "Error occurred while retrieving the application, " + applicationName;
-                log.error(error, e);
-                throw new IdentityApplicationManagementException(error, e);
-            }
+            serviceProvider = APP_BY_NAME_LOADER.load(new IdentityServiceProviderCacheKey(applicationName),
+                    tenantDomain, () -> loadApplication(applicationName, tenantDomain));
         }
         return serviceProvider;
     }
 
+    private ServiceProvider loadApplication(String applicationName, String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        try {
+            ServiceProvider serviceProvider = appDAO.getApplication(applicationName, tenantDomain);
+            if (serviceProvider != null) {
+                addToCache(serviceProvider, tenantDomain);
+            }
+            return serviceProvider;
+        } catch (Exception e) {
+            String error = "Error occurred while retrieving the application, " + applicationName;
+            log.error(error, e);
+            throw new IdentityApplicationManagementException(error, e);
+        }
+    }
+
     public ServiceProvider getApplication(int appId) throws IdentityApplicationManagementException {
 
         ServiceProvider serviceProvider = getApplicationFromCache(appId,
@@ -132,6 +147,37 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         return serviceProvider;
     }
 
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        List<Integer> missedApplicationIds = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplicationFromCache(applicationId, tenantDomain);
+            if (serviceProvider != null) {
+                serviceProviders.put(applicationId, serviceProvider);
+            } else {
+                missedApplicationIds.add(applicationId);
+            }
+        }
+        if (!missedApplicationIds.isEmpty()) {
+            for (ServiceProvider serviceProvider : appDAO.getApplications(missedApplicationIds)) {
+                addToCache(serviceProvider, serviceProvider.getTenantDomain());
+                serviceProviders.put(serviceProvider.getApplicationID(), serviceProvider);
+            }
+        }
+        List<ServiceProvider> result = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = serviceProviders.get(applicationId);
+            if (serviceProvider != null) {
+                result.add(serviceProvider);
+            }
+        }
+        return result;
+    }
+
     public String getApplicationName(int applicationID) throws IdentityApplicationManagementException {
 
         ServiceProvider applicationFromCache = getApplicationFromCache(applicationID,
@@ -476,10 +522,15 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         ServiceProvider application = getApplicationFromCacheByResourceId(resourceId, tenantDomain);
         if (application == null) {
             // Cache miss, fetch from DB.
-            application = appDAO.getApplicationByResourceId(resourceId, tenantDomain);
-            if (application != null) {
-                addToCache(application, tenantDomain);
-            }
+            application = APP_BY_RESOURCE_ID_LOADER.load(new ServiceProviderResourceIdCacheKey(resourceId),
+                    tenantDomain, () -> {
+                        ServiceProvider loadedApplication = appDAO.getApplicationByResourceId(resourceId,
+                                tenantDomain);
+                        if (loadedApplication != null) {
+                            addToCache(loadedApplication, tenantDomain);
+                        }
+                        return loadedApplication;
+                    });
         }
         return application;
     }
@@ -792,6 +843,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         IdentityServiceProviderCacheKey cacheKey = new IdentityServiceProviderCacheKey(
                 serviceProvider.getApplicationName());
         appCacheByName.clearCacheEntry(cacheKey, tenantDomain);
+        APP_BY_NAME_LOADER.invalidate(cacheKey, tenantDomain);
 
         ServiceProviderIDCacheKey idKey = new ServiceProviderIDCacheKey(serviceProvider.getApplicationID());
         appCacheByID.clearCacheEntry(idKey, tenantDomain);
@@ -799,6 +851,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         ServiceProviderResourceIdCacheKey resourceIdKey =
                 new ServiceProviderResourceIdCacheKey(serviceProvider.getApplicationResourceId());
         appCacheByResourceId.clearCacheEntry(resourceIdKey, tenantDomain);
+        APP_BY_RESOURCE_ID_LOADER.invalidate(resourceIdKey, tenantDomain);
 
         ApplicationBasicInfoResourceIdCacheKey basicInfoKey =
                 new ApplicationBasicInfoResourceIdCacheKey(serviceProvider.getApplicationResourceId());
@@ -816,6 +869,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
         IdentityServiceProviderCacheKey cacheKey = new IdentityServiceProviderCacheKey(updatedName);
         appCacheByName.clearCacheEntry(cacheKey, tenantDomain);
+        APP_BY_NAME_LOADER.invalidate(cacheKey, tenantDomain);
 
         clearAllAppCache(serviceProvider, tenantDomain);
 
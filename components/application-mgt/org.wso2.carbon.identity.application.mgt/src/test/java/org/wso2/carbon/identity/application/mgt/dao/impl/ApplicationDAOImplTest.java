@@ -419,6 +419,30 @@ public class ApplicationDAOImplTest {
         assertEquals(serviceProvider2.getAssociatedRolesConfig().getRoles().length, 0);
     }
 
+    @Test(description = "Test retrieving multiple applications by their IDs.",
+            dependsOnMethods = { "testUpdateApplicationForFragmentApp" })
+    public void testGetApplications() throws IdentityApplicationManagementException {
+
+        ApplicationDAO applicationDAO = new ApplicationDAOImpl();
+        int appId = applicationDAO.getApplication("test-update-app", SUPER_TENANT_DOMAIN_NAME).getApplicationID();
+        int fragmentAppId = applicationDAO.getApplication("test-update-fragment-app", SUPER_TENANT_DOMAIN_NAME)
+                .getApplicationID();
+
+        List<ServiceProvider> serviceProviders = applicationDAO.getApplications(
+                Arrays.asList(fragmentAppId, Integer.MAX_VALUE, appId));
+        assertEquals(serviceProviders.size(), 2);
+        assertEquals(serviceProviders.get(0).getApplicationName(), "test-update-fragment-app");
+        assertEquals(serviceProviders.get(1).getApplicationName(), "test-update-app");
+        assertEquals(serviceProviders.get(1).getAssociatedRolesConfig().getAllowedAudience(),
+                RoleConstants.APPLICATION);
+        assertEquals(serviceProviders.get(1).getAssociatedRolesConfig().getRoles()[0].getName(), "test-role");
+        assertEquals(serviceProviders.get(1).getSpProperties().length,
+                applicationDAO.getApplication(appId).getSpProperties().length);
+        assertEquals(serviceProviders.get(0).getOwner().getUserName(),
+                applicationDAO.getApplication(fragmentAppId).getOwner().getUserName());
+        assertTrue(applicationDAO.getApplications(Collections.emptyList()).isEmpty());
+    }
+
     /**
      * Get a new DiscoverableGroup object.
      *
@@ -43,7 +43,7 @@ import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENA
  */
 public class SessionContextCache extends BaseCache<SessionContextCacheKey, SessionContextCacheEntry> {
 
-    private static final String SESSION_CONTEXT_CACHE_NAME = "AppAuthFrameworkSessionContextCache";
+    public static final String SESSION_CONTEXT_CACHE_NAME = "AppAuthFrameworkSessionContextCache";
     private static final Log log = LogFactory.getLog(SessionContextCache.class);
 
     private static volatile SessionContextCache instance;
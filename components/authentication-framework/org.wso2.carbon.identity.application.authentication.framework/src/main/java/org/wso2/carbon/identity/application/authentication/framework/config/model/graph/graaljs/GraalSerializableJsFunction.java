@@ -35,6 +35,7 @@ public class GraalSerializableJsFunction implements GenericSerializableJsFunctio
 
     private static final Log log = LogFactory.getLog(GraalSerializableJsFunction.class);
     private static final long serialVersionUID = -7001351065432647040L;
+    private static final String FUNCTION_SCRIPT_OWNER = "function";
     private String source;
     private boolean isPolyglotFunction = false;
     private String name;
@@ -75,7 +76,8 @@ public class GraalSerializableJsFunction implements GenericSerializableJsFunctio
     public Object apply(Context polyglotContext, Object... params) {
 
         if (isPolyglotFunction) {
-            Value jsFunction = polyglotContext.eval("js", "(" + getSource() + ")");
+            Value jsFunction = polyglotContext.eval(
+                    JsGraalEngineCache.getInstance().getSource(FUNCTION_SCRIPT_OWNER, "(" + getSource() + ")"));
             return jsFunction.execute(params);
         }
 
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * Holds the polyglot {@link Engine} shared by all the GraalJS contexts of the node, together with a bounded cache of
+ * the {@link Source} objects evaluated in them.
+ * <p>
+ * Polyglot contexts bound to the same engine share parsed and compiled code of equal sources. Keeping the sources
+ * of the adaptive authentication scripts in this cache lets each login reuse the code of the previous logins to the
+ * same application instead of parsing the script again. Sources are keyed by an owner, such as the application, and
+ * the SHA-256 hash of the script, so an updated script gets a new entry and the old one ages out.
+ * <p>
+ * When the shared engine is disabled, sources are built on every call and no engine is created.
+ */
+public class JsGraalEngineCache {
+
+    private static final Log LOG = LogFactory.getLog(JsGraalEngineCache.class);
+    private static final JsGraalEngineCache INSTANCE = new JsGraalEngineCache();
+
+    private volatile Engine engine;
+    private volatile Map<String, Source> sourceCache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder contextCreationCount = new LongAdder();
+    private final LongAdder totalContextCreationNanos = new LongAdder();
+    private final AtomicLong maxContextCreationNanos = new AtomicLong();
+
+    private JsGraalEngineCache() {
+
+    }
+
+    public static JsGraalEngineCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Create the shared engine and the source cache.
+     *
+     * @param maxCachedSources Maximum number of sources kept in the cache.
+     */
+    synchronized void enable(int maxCachedSources) {
+
+        if (engine != null) {
+            return;
+        }
+        sourceCache = new BoundedSourceMap(maxCachedSources);
+        engine = Engine.newBuilder()
+                .option("engine.WarnInterpreterOnly", "false")
+                .build();
+        LOG.info("Shared GraalJS engine is enabled with a source cache of size: " + maxCachedSources);
+    }
+
+    /**
+     * Close the shared engine and drop the cached sources.
+     */
+    public synchronized void disable() {
+
+        Engine sharedEngine = engine;
+        engine = null;
+        sourceCache = null;
+        if (sharedEngine != null) {
+            try {
+                sharedEngine.close();
+            } catch (IllegalStateException e) {
+                LOG.warn("Shared GraalJS engine is still in use and could not be closed.", e);
+            }
+        }
+    }
+
+    /**
+     * @return Shared engine, or null if the shared engine is disabled.
+     */
+    public Engine getEngine() {
+
+        return engine;
+    }
+
+    public boolean isEnabled() {
+
+        return engine != null;
+    }
+
+    /**
+     * Get the source of the given script, from the cache when the shared engine is enabled.
+     *
+     * @param owner  Owner of the script, for example the application the script belongs to.
+     * @param script Script content.
+     * @return Source of the script.
+     */
+    public Source getSource(String owner, String script) {
+
+        Map<String, Source> cache = sourceCache;
+        if (cache == null) {
+            return buildSource(script);
+        }
+        String key = owner + ":" + DigestUtils.sha256Hex(script);
+        Source source;
+        synchronized (cache) {
+            source = cache.get(key);
+        }
+        if (source != null) {
+            hitCount.increment();
+            return source;
+        }
+        missCount.increment();
+        source = buildSource(script);
+        synchronized (cache) {
+            Source existing = cache.putIfAbsent(key, source);
+            return existing != null ? existing : source;
+        }
+    }
+
+    /**
+     * Record the time taken to create a polyglot context.
+     *
+     * @param elapsedNanos Context creation time in nanoseconds.
+     */
+    void recordContextCreation(long elapsedNanos) {
+
+        contextCreationCount.increment();
+        totalContextCreationNanos.add(elapsedNanos);
+        maxContextCreationNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public double getHitRatio() {
+
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int getCachedSourceCount() {
+
+        Map<String, Source> cache = sourceCache;
+        if (cache == null) {
+            return 0;
+        }
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getContextCreationCount() {
+
+        return contextCreationCount.sum();
+    }
+
+    public long getAverageContextCreationMicros() {
+
+        long count = contextCreationCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalContextCreationNanos.sum() / count);
+    }
+
+    public long getMaxContextCreationMicros() {
+
+        return TimeUnit.NANOSECONDS.toMicros(maxContextCreationNanos.get());
+    }
+
+    private Source buildSource(String script) {
+
+        // Cached sources are shared between contexts of the engine, hence the content is not re-read.
+        return Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).cached(true).buildLiteral();
+    }
+
+    /**
+     * Access ordered map which evicts the least recently used source once the size limit is reached.
+     */
+    private static class BoundedSourceMap extends LinkedHashMap<String, Source> {
+
+        private static final long serialVersionUID = -3561837417365412370L;
+        private final int maxSize;
+
+        BoundedSourceMap(int maxSize) {
+
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Source> eldest) {
+
+            return size() > maxSize;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.ResourceLimits;
 import org.graalvm.polyglot.Value;
@@ -46,7 +47,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SOURCE_CACHE_SIZE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
@@ -62,10 +66,21 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
     private int javascriptResourceLimit = 0;
+    private ResourceLimits resourceLimits;
+    private HostAccess hostAccess;
 
     public void init() {
 
         setJavascriptResourceLimit();
+        /*
+         * Contexts bound to a shared engine must use the same resource limits instance, hence the limits and the host
+         * access configuration are built once and reused for every context.
+         */
+        resourceLimits = buildResourceLimits();
+        hostAccess = buildHostAccess();
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE))) {
+            JsGraalEngineCache.getInstance().enable(getSourceCacheSize());
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -106,11 +121,20 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
+        long startTime = System.nanoTime();
+        JsGraalEngineCache engineCache = JsGraalEngineCache.getInstance();
+        Engine sharedEngine = engineCache.getEngine();
+        Context.Builder contextBuilder = Context.newBuilder(POLYGLOT_LANGUAGE)
                 .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+                .resourceLimits(getResourceLimits());
+        if (sharedEngine != null) {
+            // Engine options are set on the shared engine itself.
+            contextBuilder.engine(sharedEngine);
+        } else {
+            contextBuilder.option("engine.WarnInterpreterOnly", "false");
+        }
+        Context context = contextBuilder.build();
+        engineCache.recordContextCreation(System.nanoTime() - startTime);
 
         Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
@@ -120,6 +144,14 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public ResourceLimits getResourceLimits() {
 
+        if (resourceLimits != null) {
+            return resourceLimits;
+        }
+        return buildResourceLimits();
+    }
+
+    private ResourceLimits buildResourceLimits() {
+
         ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
         resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
         return resourceLimitsBuilder.build();
@@ -127,6 +159,14 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public HostAccess getHostAccess() {
 
+        if (hostAccess != null) {
+            return hostAccess;
+        }
+        return buildHostAccess();
+    }
+
+    private HostAccess buildHostAccess() {
+
         /*
          * We need to map the graaljs proxy objects be exposed as their abstract classes to be able to use the current
          * functional interfaces we have for existing conditional authentication functions.
@@ -176,6 +216,20 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
                 currentNode);
     }
 
+    private int getSourceCacheSize() {
+
+        String sourceCacheSize = IdentityUtil.getProperty(GRAALJS_SOURCE_CACHE_SIZE);
+        if (sourceCacheSize != null) {
+            try {
+                return Integer.parseInt(sourceCacheSize);
+            } catch (NumberFormatException e) {
+                LOG.warn("Error while parsing the GraalJS source cache size. Defaulting to " +
+                        DEFAULT_GRAALJS_SOURCE_CACHE_SIZE, e);
+            }
+        }
+        return DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
+    }
+
     private void setJavascriptResourceLimit() {
 
         /*
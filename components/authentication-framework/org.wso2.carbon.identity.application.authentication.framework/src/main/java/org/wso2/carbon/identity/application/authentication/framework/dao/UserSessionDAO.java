@@ -30,6 +30,8 @@ import org.wso2.carbon.identity.application.authentication.framework.util.Sessio
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -51,6 +53,26 @@ public interface UserSessionDAO {
         return null;
     }
 
+    /**
+     * Method to retrieve session information for the given session ids. Sessions without any application are not
+     * returned.
+     *
+     * @param sessionIds Ids of the sessions.
+     * @return User sessions, in the order of the given session ids.
+     * @throws SessionManagementServerException
+     */
+    default List<UserSession> getSessions(Collection<String> sessionIds) throws SessionManagementServerException {
+
+        List<UserSession> userSessions = new ArrayList<>();
+        for (String sessionId : sessionIds) {
+            UserSession userSession = getSession(sessionId);
+            if (userSession != null) {
+                userSessions.add(userSession);
+            }
+        }
+        return userSessions;
+    }
+
     /**
      * Method to retrieve session information for a given user and session id.
      *
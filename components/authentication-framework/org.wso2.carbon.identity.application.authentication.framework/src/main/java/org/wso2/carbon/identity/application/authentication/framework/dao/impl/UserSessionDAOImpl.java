@@ -42,9 +42,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,6 +59,7 @@ import java.util.stream.Collectors;
 public class UserSessionDAOImpl implements UserSessionDAO {
 
     public static final String SCOPE_LIST_PLACEHOLDER = "_SCOPE_LIST_";
+    private static final int SESSION_ID_QUERY_CHUNK_SIZE = 500;
 
     public UserSessionDAOImpl() {
     }
@@ -109,6 +112,82 @@ public class UserSessionDAOImpl implements UserSessionDAO {
         return null;
     }
 
+    @Override
+    public List<UserSession> getSessions(Collection<String> sessionIds) throws SessionManagementServerException {
+
+        List<String> sessionIdList = new ArrayList<>(new LinkedHashSet<>(sessionIds));
+        Map<String, List<Application>> sessionApplications = new HashMap<>();
+        Map<String, Map<String, String>> sessionProperties = new HashMap<>();
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate(JdbcUtils.Database.SESSION);
+
+        try {
+            String propertiesSqlStmt = JdbcUtils.isH2DB(JdbcUtils.Database.SESSION)
+                    ? SQLQueries.SQL_GET_PROPERTIES_FROM_SESSION_META_DATA_FOR_SESSION_IDS_H2
+                    : SQLQueries.SQL_GET_PROPERTIES_FROM_SESSION_META_DATA_FOR_SESSION_IDS;
+            for (int from = 0; from < sessionIdList.size(); from += SESSION_ID_QUERY_CHUNK_SIZE) {
+                List<String> chunk = sessionIdList.subList(from,
+                        Math.min(from + SESSION_ID_QUERY_CHUNK_SIZE, sessionIdList.size()));
+                String placeholder = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                jdbcTemplate.executeQuery(SQLQueries.SQL_GET_APPS_FOR_SESSION_IDS.replace(SCOPE_LIST_PLACEHOLDER,
+                        placeholder), ((resultSet, rowNumber) -> sessionApplications.computeIfAbsent(
+                                resultSet.getString("SESSION_ID"), sessionId -> new ArrayList<>())
+                        .add(new Application(resultSet.getString("SUBJECT"), null, resultSet.getString("APP_ID"),
+                                null))), preparedStatement -> setSessionIds(preparedStatement, chunk));
+                jdbcTemplate.executeQuery(propertiesSqlStmt.replace(SCOPE_LIST_PLACEHOLDER, placeholder),
+                        ((resultSet, rowNumber) -> sessionProperties.computeIfAbsent(resultSet.getString(1),
+                                sessionId -> new HashMap<>()).put(resultSet.getString(2), resultSet.getString(3))),
+                        preparedStatement -> setSessionIds(preparedStatement, chunk));
+            }
+        } catch (DataAccessException e) {
+            throw new SessionManagementServerException(
+                    SessionMgtConstants.ErrorMessages.ERROR_CODE_UNABLE_TO_GET_SESSION,
+                    SessionMgtConstants.ErrorMessages.ERROR_CODE_UNABLE_TO_GET_SESSION.getDescription(), e);
+        }
+
+        // Resolve the applications of all the sessions at once.
+        List<Application> applications = new ArrayList<>();
+        sessionApplications.values().forEach(applications::addAll);
+        generateApplicationFromAppID(applications);
+
+        List<UserSession> userSessions = new ArrayList<>();
+        for (String sessionId : sessionIdList) {
+            List<Application> applicationList = sessionApplications.getOrDefault(sessionId, new ArrayList<>());
+            applicationList.removeIf(application -> application.getAppName() == null);
+            if (applicationList.isEmpty()) {
+                continue;
+            }
+            UserSession userSession = new UserSession();
+            userSession.setSessionId(sessionId);
+            sessionProperties.getOrDefault(sessionId, Collections.emptyMap()).forEach((key, value) -> {
+                switch (key) {
+                    case SessionMgtConstants.USER_AGENT:
+                        userSession.setUserAgent(value);
+                        break;
+                    case SessionMgtConstants.IP_ADDRESS:
+                        userSession.setIp(value);
+                        break;
+                    case SessionMgtConstants.LAST_ACCESS_TIME:
+                        userSession.setLastAccessTime(value);
+                        break;
+                    case SessionMgtConstants.LOGIN_TIME:
+                        userSession.setLoginTime(value);
+                        break;
+                }
+            });
+            userSession.setApplications(applicationList);
+            userSessions.add(userSession);
+        }
+        return userSessions;
+    }
+
+    private void setSessionIds(PreparedStatement preparedStatement, List<String> sessionIds) throws SQLException {
+
+        int index = 1;
+        for (String sessionId : sessionIds) {
+            preparedStatement.setString(index++, sessionId);
+        }
+    }
+
     @Override
     public Optional<UserSession> getSession(String userId, String sessionId) throws SessionManagementServerException {
 
@@ -52,6 +52,8 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsFunctionRegistryImpl;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGenericGraphBuilderFactory;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalEngineCache;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.CacheBackedLongWaitStatusDAO;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.LongWaitStatusDAOImpl;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
@@ -89,6 +91,7 @@ import org.wso2.carbon.identity.application.authentication.framework.servlet.Lon
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompactSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.PushedAuthDataStore;
@@ -362,7 +365,7 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
         }
 
         // Set skip local user search for authentication flow handlers enabled.
@@ -375,6 +378,40 @@ public class FrameworkServiceComponent {
         // to make sure the server doesn't start up if any activation failures
     }
 
+    /**
+     * Build the session serializer configured in identity.xml. The compact serializer can read rows written by the
+     * Java serializer, but not the other way round.
+     *
+     * @return Configured session serializer, {@link JavaSessionSerializer} by default.
+     */
+    private static SessionSerializer getDefaultSessionSerializer() {
+
+        String serializerType = IdentityUtil.getProperty(FrameworkConstants.SESSION_SERIALIZER_TYPE);
+        if (!FrameworkConstants.COMPACT_SESSION_SERIALIZER.equalsIgnoreCase(StringUtils.trim(serializerType))) {
+            return new JavaSessionSerializer();
+        }
+
+        boolean compressionEnabled = true;
+        String compressionEnabledString =
+                IdentityUtil.getProperty(FrameworkConstants.SESSION_SERIALIZER_COMPRESSION_ENABLE);
+        if (StringUtils.isNotBlank(compressionEnabledString)) {
+            compressionEnabled = Boolean.parseBoolean(compressionEnabledString);
+        }
+        int compressionThreshold = FrameworkConstants.DEFAULT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD;
+        String compressionThresholdString =
+                IdentityUtil.getProperty(FrameworkConstants.SESSION_SERIALIZER_COMPRESSION_THRESHOLD);
+        if (StringUtils.isNotBlank(compressionThresholdString)) {
+            try {
+                compressionThreshold = Integer.parseInt(compressionThresholdString);
+            } catch (NumberFormatException e) {
+                log.error("Error while parsing session serializer compression threshold config: "
+                        + compressionThresholdString + ", setting threshold to default value: "
+                        + compressionThreshold, e);
+            }
+        }
+        return new CompactSessionSerializer(compressionEnabled, compressionThreshold);
+    }
+
     private void setAdaptiveAuthExecutionSupervisor() {
 
         String isEnabled = IdentityUtil.getProperty(
@@ -438,6 +475,10 @@ public class FrameworkServiceComponent {
         if (FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor() != null) {
             FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().shutdown();
         }
+        if (FrameworkServiceDataHolder.getInstance().getJsGenericGraphBuilderFactory()
+                instanceof JsGraalGraphBuilderFactory) {
+            JsGraalEngineCache.getInstance().disable();
+        }
     }
 
     @Reference(
@@ -580,7 +621,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
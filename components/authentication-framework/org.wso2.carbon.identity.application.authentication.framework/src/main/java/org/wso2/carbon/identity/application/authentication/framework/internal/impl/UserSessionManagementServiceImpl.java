@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.application.authentication.framework.UserSessionManagementService;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SessionContextCache;
 import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
 import org.wso2.carbon.identity.application.authentication.framework.dao.UserSessionDAO;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.UserSessionDAOImpl;
@@ -36,6 +37,7 @@ import org.wso2.carbon.identity.application.authentication.framework.internal.ut
 import org.wso2.carbon.identity.application.authentication.framework.model.Application;
 import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
 import org.wso2.carbon.identity.application.authentication.framework.services.SessionManagementService;
+import org.wso2.carbon.identity.application.authentication.framework.store.SessionDataStore;
 import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
@@ -65,8 +67,10 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -625,28 +629,44 @@ public class UserSessionManagementServiceImpl implements UserSessionManagementSe
             throws SessionManagementServerException {
 
         List<UserSession> sessionsList = new ArrayList<>();
-        for (String sessionId : sessionIdList) {
-            if (sessionId != null) {
+        List<String> sessionIds = sessionIdList.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (sessionIds.isEmpty()) {
+            return sessionsList;
+        }
+        /*
+        Sessions which are already terminated or expired in the session store are skipped before their session
+        contexts are loaded. The session context of the rest is still required to resolve the effective sessions.
+         */
+        Set<String> inactiveSessionIds = SessionDataStore.getInstance().getInactiveSessionDataKeys(sessionIds,
+                SessionContextCache.SESSION_CONTEXT_CACHE_NAME);
+        String loginTenantDomain = FrameworkUtils.getLoginTenantDomainFromContext();
+        Map<String, SessionContext> sessionContexts = new LinkedHashMap<>();
+        for (String sessionId : sessionIds) {
+            if (!inactiveSessionIds.contains(sessionId)) {
                 SessionContext sessionContext = FrameworkUtils.getSessionContextFromCache(sessionId,
-                        FrameworkUtils.getLoginTenantDomainFromContext());
+                        loginTenantDomain);
                 if (sessionContext != null) {
-                    UserSessionDAO userSessionDAO = new UserSessionDAOImpl();
-                    UserSession userSession = userSessionDAO.getSession(sessionId);
-                    if (userSession != null) {
-                        if (!isEffectiveSession(sessionContext, userSession)) {
-                            continue;
-                        }
-                        if (StringUtils.isNotBlank(idpId)) {
-                            userSession.setIdpId(idpId);
-                        }
-                        if (StringUtils.isNotBlank(idpName)) {
-                            userSession.setIdpName(idpName);
-                        }
-                        sessionsList.add(userSession);
-                    }
+                    sessionContexts.put(sessionId, sessionContext);
                 }
             }
         }
+        if (sessionContexts.isEmpty()) {
+            return sessionsList;
+        }
+
+        UserSessionDAO userSessionDAO = new UserSessionDAOImpl();
+        for (UserSession userSession : userSessionDAO.getSessions(sessionContexts.keySet())) {
+            if (!isEffectiveSession(sessionContexts.get(userSession.getSessionId()), userSession)) {
+                continue;
+            }
+            if (StringUtils.isNotBlank(idpId)) {
+                userSession.setIdpId(idpId);
+            }
+            if (StringUtils.isNotBlank(idpName)) {
+                userSession.setIdpName(idpName);
+            }
+            sessionsList.add(userSession);
+        }
         return sessionsList;
     }
 
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact implementation of the Session Serializer.
+ * <p>
+ * The standard Java serialization stream embeds the full field layout of every class it writes, which dominates the
+ * size of session context blobs since they are made of many small framework model objects. This serializer writes
+ * only the class name, the serial version UID and a fingerprint of the serializable fields of each class, and resolves
+ * the field layout from the local class when reading. A serial version UID or field layout mismatch is reported as an
+ * error instead of silently reading incompatible data, since the fields cannot be matched by name without the full
+ * descriptor.
+ * <p>
+ * Every blob starts with a header made of a two byte magic, a format version and a flags byte. The payload is
+ * compressed when it is larger than the configured threshold. Blobs without the header are treated as blobs written by
+ * {@link JavaSessionSerializer}, so existing rows stay readable after switching to this serializer.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    static final int MAGIC_0 = 0xC5;
+    static final int MAGIC_1 = 0x53;
+    static final int FORMAT_VERSION = 2;
+    static final int FLAG_COMPRESSED = 0x01;
+    private static final int HEADER_LENGTH = 4;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+    private final JavaSessionSerializer legacySerializer = new JavaSessionSerializer();
+
+    public CompactSessionSerializer() {
+
+        this(true, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * @param compressionEnabled   Whether large payloads should be compressed.
+     * @param compressionThreshold Minimum payload size in bytes to be compressed.
+     */
+    public CompactSessionSerializer(boolean compressionEnabled, int compressionThreshold) {
+
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        byte[] payload;
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new CompactObjectOutputStream(baos)) {
+                oos.writeObject(value);
+            }
+            payload = baos.toByteArray();
+
+            int flags = 0;
+            if (compressionEnabled && payload.length >= compressionThreshold) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 2);
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream dos = new DeflaterOutputStream(compressed, deflater)) {
+                    dos.write(payload);
+                } finally {
+                    deflater.end();
+                }
+                payload = compressed.toByteArray();
+                flags |= FLAG_COMPRESSED;
+            }
+
+            byte[] blob = new byte[HEADER_LENGTH + payload.length];
+            blob[0] = (byte) MAGIC_0;
+            blob[1] = (byte) MAGIC_1;
+            blob[2] = (byte) FORMAT_VERSION;
+            blob[3] = (byte) flags;
+            System.arraycopy(payload, 0, blob, HEADER_LENGTH, payload.length);
+            return new ByteArrayInputStream(blob);
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        }
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        try {
+            in.mark(HEADER_LENGTH);
+            int magic0 = in.read();
+            int magic1 = in.read();
+            if (magic0 != MAGIC_0 || magic1 != MAGIC_1) {
+                // Not written by this serializer. Fall back to standard Java serialization.
+                in.reset();
+                return legacySerializer.deSerializeSessionObject(in);
+            }
+            int version = in.read();
+            int flags = in.read();
+            if (version != FORMAT_VERSION || flags < 0) {
+                throw new SessionSerializerException("Unsupported session object format version: " + version);
+            }
+            InputStream payload = (flags & FLAG_COMPRESSED) != 0 ? new InflaterInputStream(in) : in;
+            try (ObjectInputStream ois = new CompactObjectInputStream(payload)) {
+                return ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    /**
+     * Compute a fingerprint of the serializable fields of a class, made of the name and the type of each field in the
+     * order they are written to the stream.
+     *
+     * @param desc Class descriptor.
+     * @return Field layout fingerprint.
+     */
+    static long getFieldLayoutFingerprint(ObjectStreamClass desc) {
+
+        // 64 bit FNV-1a hash of the field signatures.
+        long fingerprint = 0xcbf29ce484222325L;
+        for (ObjectStreamField field : desc.getFields()) {
+            String signature = field.getName() + ":" + (field.isPrimitive() ? String.valueOf(field.getTypeCode()) :
+                    field.getTypeString()) + ";";
+            for (byte b : signature.getBytes(StandardCharsets.UTF_8)) {
+                fingerprint ^= b & 0xFF;
+                fingerprint *= 0x100000001b3L;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Object output stream which writes class descriptors as the class name, the serial version UID and the field
+     * layout fingerprint only.
+     */
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(OutputStream out) throws IOException {
+
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+            writeLong(getFieldLayoutFingerprint(desc));
+        }
+    }
+
+    /**
+     * Object input stream which resolves the class descriptors written by {@link CompactObjectOutputStream} from the
+     * local classes.
+     */
+    private static class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(InputStream in) throws IOException {
+
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+
+            String className = readUTF();
+            long serialVersionUID = readLong();
+            long fieldLayoutFingerprint = readLong();
+            ObjectStreamClass localDescriptor = ObjectStreamClass.lookup(loadClass(className));
+            if (localDescriptor == null) {
+                throw new InvalidClassException(className, "Class is not serializable");
+            }
+            if (localDescriptor.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(className, "Incompatible serial version UID. Stream: "
+                        + serialVersionUID + ", local: " + localDescriptor.getSerialVersionUID());
+            }
+            if (getFieldLayoutFingerprint(localDescriptor) != fieldLayoutFingerprint) {
+                throw new InvalidClassException(className, "Serializable fields of the class are changed since the "
+                        + "object was serialized");
+            }
+            return localDescriptor;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            try {
+                return loadClass(desc.getName());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+
+        private Class<?> loadClass(String className) throws ClassNotFoundException {
+
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            if (contextClassLoader != null) {
+                try {
+                    return Class.forName(className, false, contextClassLoader);
+                } catch (ClassNotFoundException e) {
+                    // Try with the class loader of the framework bundle.
+                }
+            }
+            return Class.forName(className, false, CompactSessionSerializer.class.getClassLoader());
+        }
+    }
+}
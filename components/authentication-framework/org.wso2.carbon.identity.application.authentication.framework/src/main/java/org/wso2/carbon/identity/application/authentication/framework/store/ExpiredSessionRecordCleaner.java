@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Removes the user session mapping, session app info and session meta data records of the expired sessions.
+ * <p>
+ * The expired sessions are read from the session store in chunks, in the order of their expiry time, using keyset
+ * pagination over the expiry time index. The records of each chunk are removed and committed before the next chunk
+ * is read, hence neither the expired session IDs are held in memory nor the locks are held until all of them are
+ * removed. A run stops once its time or row budget is spent, and the next run resumes after the last removed
+ * session. As a session is always stored with a future expiry time, no session expires behind the position of a
+ * previous run.
+ */
+public class ExpiredSessionRecordCleaner {
+
+    private static final Log log = LogFactory.getLog(ExpiredSessionRecordCleaner.class);
+
+    private final UserSessionStore userSessionStore;
+    private final int chunkSize;
+    private final long timeBudgetInMillis;
+    private final int rowBudget;
+
+    // Expiry time and ID of the last session of which the records are removed.
+    private long lastExpiryTime = Long.MIN_VALUE;
+    private String lastSessionId = "";
+
+    private volatile boolean backlogged;
+    private volatile long lagInMillis;
+    private volatile long lastRunRemovedSessionCount;
+    private volatile long lastRunDurationInMillis;
+    private final LongAdder removedSessionCount = new LongAdder();
+
+    /**
+     * @param userSessionStore   Store which removes the records of a chunk of sessions.
+     * @param chunkSize          Maximum number of sessions read and removed in a transaction.
+     * @param timeBudgetInMillis Time after which a run stops removing records, or a non-positive value to run until
+     *                           the records of all the expired sessions are removed.
+     * @param rowBudget          Number of sessions after which a run stops removing records, or a non-positive value
+     *                           for no limit.
+     */
+    ExpiredSessionRecordCleaner(UserSessionStore userSessionStore, int chunkSize, long timeBudgetInMillis,
+                                int rowBudget) {
+
+        this.userSessionStore = userSessionStore;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.timeBudgetInMillis = timeBudgetInMillis;
+        this.rowBudget = rowBudget;
+    }
+
+    /**
+     * Remove the records of the expired sessions, chunk by chunk, until the records of all the expired sessions are
+     * removed or the budget of the run is spent.
+     *
+     * @return True if the records of all the expired sessions are removed.
+     */
+    synchronized boolean removeExpiredSessionRecords() {
+
+        long startTime = System.currentTimeMillis();
+        long deadline = timeBudgetInMillis > 0 ? startTime + timeBudgetInMillis : Long.MAX_VALUE;
+        long currentTime = FrameworkUtils.getCurrentStandardNano();
+        long removedInRun = 0;
+        boolean completed = false;
+        boolean budgetSpent = false;
+
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            try {
+                while (true) {
+                    Set<String> sessionIds = new LinkedHashSet<>();
+                    long chunkLastExpiryTime = lastExpiryTime;
+                    String chunkLastSessionId = lastSessionId;
+                    int rowCount = 0;
+                    try (PreparedStatement preparedStatement = connection.prepareStatement(
+                            SQLQueries.SQL_SELECT_TERMINATED_SESSION_IDS_AFTER)) {
+                        preparedStatement.setMaxRows(chunkSize);
+                        preparedStatement.setLong(1, currentTime);
+                        preparedStatement.setLong(2, lastExpiryTime);
+                        preparedStatement.setLong(3, lastExpiryTime);
+                        preparedStatement.setString(4, lastSessionId);
+                        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                            while (resultSet.next()) {
+                                chunkLastSessionId = resultSet.getString(1);
+                                chunkLastExpiryTime = resultSet.getLong(2);
+                                // A session stored more than once is read once per stored entry.
+                                sessionIds.add(chunkLastSessionId);
+                                rowCount++;
+                            }
+                        }
+                    }
+                    if (!sessionIds.isEmpty()) {
+                        userSessionStore.deleteSessionRecords(sessionIds.toArray(new String[0]), connection);
+                    }
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                    lastExpiryTime = chunkLastExpiryTime;
+                    lastSessionId = chunkLastSessionId;
+                    removedInRun += sessionIds.size();
+
+                    if (rowCount < chunkSize) {
+                        completed = true;
+                        break;
+                    }
+                    if ((rowBudget > 0 && removedInRun >= rowBudget) || System.currentTimeMillis() >= deadline) {
+                        budgetSpent = true;
+                        break;
+                    }
+                }
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                log.error("Error while removing expired session information from the database.", e);
+            }
+        } catch (SQLException e) {
+            log.error("Error while obtaining the db connection to remove expired session information.", e);
+        }
+
+        updateStatistics(startTime, currentTime, removedInRun, budgetSpent);
+        return completed;
+    }
+
+    private void updateStatistics(long startTime, long currentTime, long removedInRun, boolean budgetSpent) {
+
+        long duration = System.currentTimeMillis() - startTime;
+        lastRunRemovedSessionCount = removedInRun;
+        lastRunDurationInMillis = duration;
+        removedSessionCount.add(removedInRun);
+        backlogged = budgetSpent;
+        lagInMillis = budgetSpent ? Math.max(0, TimeUnit.NANOSECONDS.toMillis(currentTime - lastExpiryTime)) : 0;
+
+        if (removedInRun > 0) {
+            String message = String.format("Removed the records of %d expired sessions in %d ms (%d sessions/s).",
+                    removedInRun, duration, getLastRunRemovalRate());
+            log.info(budgetSpent ? message + " Cleanup budget is spent. Lag: " + lagInMillis + " ms." : message);
+        } else if (log.isDebugEnabled()) {
+            log.debug("No expired sessions found to remove.");
+        }
+    }
+
+    /**
+     * @return Whether the last run spent its budget before the records of all the expired sessions were removed.
+     */
+    public boolean isBacklogged() {
+
+        return backlogged;
+    }
+
+    /**
+     * @return Expiry time of the last session of which the records are removed. The records of every session which
+     * expired before this time are removed.
+     */
+    public synchronized long getLastExpiryTime() {
+
+        return lastExpiryTime;
+    }
+
+    /**
+     * @return Time between the expiry of the last session removed and the start of the last run, if the last run
+     * spent its budget before the records of all the expired sessions were removed. Otherwise zero.
+     */
+    public long getLagInMillis() {
+
+        return lagInMillis;
+    }
+
+    public long getLastRunRemovedSessionCount() {
+
+        return lastRunRemovedSessionCount;
+    }
+
+    public long getLastRunDurationInMillis() {
+
+        return lastRunDurationInMillis;
+    }
+
+    /**
+     * @return Number of sessions removed per second in the last run.
+     */
+    public long getLastRunRemovalRate() {
+
+        return lastRunRemovedSessionCount * 1000 / Math.max(1, lastRunDurationInMillis);
+    }
+
+    public long getRemovedSessionCount() {
+
+        return removedSessionCount.sum();
+    }
+}
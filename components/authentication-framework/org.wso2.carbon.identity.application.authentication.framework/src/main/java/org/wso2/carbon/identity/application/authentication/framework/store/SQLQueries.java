@@ -63,6 +63,15 @@ public class SQLQueries {
             "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" + SESSION_CONTEXT_CACHE_NAME
                     + "' AND EXPIRY_TIME < ?";
 
+    /**
+     * Keyset paginated query to retrieve terminated sessions in the order of the expiry time, after the session of
+     * the given expiry time and session ID.
+     */
+    public static final String SQL_SELECT_TERMINATED_SESSION_IDS_AFTER =
+            "SELECT SESSION_ID, EXPIRY_TIME FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '"
+                    + SESSION_CONTEXT_CACHE_NAME + "' AND EXPIRY_TIME < ? AND (EXPIRY_TIME > ? OR (EXPIRY_TIME = ? "
+                    + "AND SESSION_ID > ?)) ORDER BY EXPIRY_TIME, SESSION_ID";
+
     /**
      * Query to retrieve user session mapping.
      */
@@ -155,6 +164,13 @@ public class SQLQueries {
     public static final String SQL_GET_PROPERTIES_FROM_SESSION_META_DATA_H2 = "SELECT PROPERTY_TYPE, `VALUE` FROM " +
             "IDN_AUTH_SESSION_META_DATA WHERE SESSION_ID = ?";
 
+    public static final String SQL_GET_PROPERTIES_FROM_SESSION_META_DATA_FOR_SESSION_IDS = "SELECT SESSION_ID, " +
+            "PROPERTY_TYPE, VALUE FROM IDN_AUTH_SESSION_META_DATA WHERE SESSION_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+
+    public static final String SQL_GET_PROPERTIES_FROM_SESSION_META_DATA_FOR_SESSION_IDS_H2 = "SELECT SESSION_ID, " +
+            "PROPERTY_TYPE, `VALUE` FROM IDN_AUTH_SESSION_META_DATA WHERE SESSION_ID IN (" + SCOPE_LIST_PLACEHOLDER +
+            ")";
+
     public static final String SQL_GET_SESSION_META_DATA_FOR_USER_ID_AND_SESSION_ID =
             "SELECT PROPERTY_TYPE, VALUE FROM IDN_AUTH_SESSION_META_DATA sm JOIN IDN_AUTH_USER_SESSION_MAPPING su " +
                     "ON sm.SESSION_ID = su.SESSION_ID WHERE sm.SESSION_ID = ? AND USER_ID = ?";
@@ -170,6 +186,9 @@ public class SQLQueries {
     public static final String SQL_GET_APPS_FOR_SESSION_ID = "SELECT SUBJECT, APP_ID FROM IDN_AUTH_SESSION_APP_INFO " +
             "WHERE SESSION_ID = ?";
 
+    public static final String SQL_GET_APPS_FOR_SESSION_IDS = "SELECT SESSION_ID, SUBJECT, APP_ID FROM " +
+            "IDN_AUTH_SESSION_APP_INFO WHERE SESSION_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+
     public static final String SQL_GET_APPLICATION = "SELECT ID, APP_NAME, UUID FROM SP_APP WHERE ID IN (" +
             SCOPE_LIST_PLACEHOLDER + ")";
 
@@ -21,10 +21,12 @@ package org.wso2.carbon.identity.application.authentication.framework.store;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Database cleanup. Timer task is running for pre-defined period to clear the
@@ -34,9 +36,14 @@ public final class SessionCleanUpService {
 
     private static final int NUM_THREADS = 1;
     private static final Log log = LogFactory.getLog(SessionCleanUpService.class);
+    private static final String CATCH_UP_DELAY_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
+            ".UserSessionMapping.CleanUpCatchUpDelay";
+    private static final long DEFAULT_CATCH_UP_DELAY_IN_MILLIS = 60000L;
     private final ScheduledExecutorService scheduler;
     private final long initialDelay;
     private final long delayBetweenRuns;
+    private final long catchUpDelayInMillis;
+    private final AtomicBoolean catchUpScheduled = new AtomicBoolean();
 
     /**
      * @param initialDelay
@@ -45,6 +52,8 @@ public final class SessionCleanUpService {
     public SessionCleanUpService(long initialDelay, long delayBetweenRuns) {
         this.initialDelay = initialDelay;
         this.delayBetweenRuns = delayBetweenRuns;
+        this.catchUpDelayInMillis = IdentityUtil.getPropertyAsMillis(CATCH_UP_DELAY_PROPERTY, TimeUnit.MILLISECONDS,
+                DEFAULT_CATCH_UP_DELAY_IN_MILLIS);
         this.scheduler = Executors.newScheduledThreadPool(NUM_THREADS);
     }
 
@@ -59,20 +68,37 @@ public final class SessionCleanUpService {
     }
 
     /**
-     *
-     *
+     * Cleanup task. If the expired user session records are not all removed within the budget of a run, another run
+     * is scheduled after the catch up delay, instead of waiting for the next periodic run.
      */
-    private static final class DatabaseCleanUpTask implements Runnable {
+    private final class DatabaseCleanUpTask implements Runnable {
 
         @Override
         public void run() {
 
             log.debug("Start running the Session Data cleanup task.");
+            long expiryTimeLimit = Long.MAX_VALUE;
             if (FrameworkServiceDataHolder.getInstance().isUserSessionMappingEnabled()) {
-                UserSessionStore.getInstance().removeExpiredSessionRecords();
+                UserSessionStore userSessionStore = UserSessionStore.getInstance();
+                userSessionStore.removeExpiredSessionRecords();
+                ExpiredSessionRecordCleaner cleaner = userSessionStore.getExpiredSessionRecordCleaner();
+                if (cleaner.isBacklogged()) {
+                    if (catchUpScheduled.compareAndSet(false, true)) {
+                        scheduler.schedule(() -> {
+                            catchUpScheduled.set(false);
+                            run();
+                        }, catchUpDelayInMillis, TimeUnit.MILLISECONDS);
+                    }
+                    /* The remaining user session records are found through the expired session data. Hence, only the
+                       session data which expired before the last session of which the user session records are
+                       removed, is removed until the user session records of all the expired sessions are removed. */
+                    expiryTimeLimit = cleaner.getLastExpiryTime();
+                    log.debug("Expired session data removal is limited to the sessions of which the user session " +
+                            "records are removed.");
+                }
             }
 
-            SessionDataStore.getInstance().removeExpiredSessionData();
+            SessionDataStore.getInstance().removeExpiredSessionData(expiryTimeLimit);
             log.debug("Stop running the Session Data cleanup task.");
             log.info("Session Data cleanup task is running successfully for removing expired Data");
         }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task to persist and remove session data in batches.
+ * Each run drains up to the configured batch size of pending operations from the queue, coalesces operations on the
+ * same session key and type down to the latest one and writes the result using JDBC batch inserts.
+ */
+public class SessionDataBatchPersistTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersistTask.class);
+    private final BlockingDeque<SessionContextDO> sessionContextQueue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final SessionDataPersistMetrics metrics;
+    // Not reset when a consumer starts, so that a consumer started after the shutdown only flushes the queue.
+    private static volatile boolean running = true;
+
+    public SessionDataBatchPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize,
+                                       long flushIntervalMillis, SessionDataPersistMetrics metrics) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+
+        log.debug("Session Context batch persist consumer is started");
+
+        while (running) {
+            try {
+                SessionContextDO first = sessionContextQueue.pollFirst(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    List<SessionContextDO> drained = new ArrayList<>(batchSize);
+                    drained.add(first);
+                    sessionContextQueue.drainTo(drained, batchSize - 1);
+                    flush(drained);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Session Context batch persist consumer is interrupted.", e);
+                break;
+            } catch (RuntimeException e) {
+                // Keep the consumer alive, a lost batch must not stop persistence of subsequent batches.
+                log.error("Error while persisting a batch of session data.", e);
+            }
+        }
+
+        // Flush whatever is left in the queue so that accepted operations are not lost on shutdown.
+        List<SessionContextDO> remaining = new ArrayList<>();
+        while (sessionContextQueue.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining = new ArrayList<>();
+        }
+        log.debug("Session Context batch persist consumer is stopped");
+    }
+
+    private void flush(List<SessionContextDO> drained) {
+
+        List<SessionContextDO> coalesced = coalesce(drained);
+        long startTime = System.nanoTime();
+        SessionDataStore.getInstance().persistSessionDataBatch(coalesced);
+        long flushLatency = System.nanoTime() - startTime;
+        metrics.recordFlush(drained.size(), coalesced.size(), flushLatency);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Flushed session data batch. Drained: %d, persisted: %d, time taken: %d ms.",
+                    drained.size(), coalesced.size(), TimeUnit.NANOSECONDS.toMillis(flushLatency)));
+        }
+    }
+
+    /**
+     * Reduce the given operations to the latest operation of each session key and type. The relative order of the
+     * retained operations is preserved.
+     *
+     * @param sessionContextDOs Drained session data operations.
+     * @return Latest operation per session key and type.
+     */
+    static List<SessionContextDO> coalesce(List<SessionContextDO> sessionContextDOs) {
+
+        Map<String, SessionContextDO> latestOperations = new LinkedHashMap<>(sessionContextDOs.size());
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            String operationKey = sessionContextDO.getKey() + ":" + sessionContextDO.getType();
+            SessionContextDO existing = latestOperations.get(operationKey);
+            if (existing == null || existing.getNanoTime() <= sessionContextDO.getNanoTime()) {
+                latestOperations.put(operationKey, sessionContextDO);
+            }
+        }
+        return new ArrayList<>(latestOperations.values());
+    }
+
+    public static void shutdown() {
+
+        running = false;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of the batched session data persistence pipeline.
+ */
+public class SessionDataPersistMetrics {
+
+    private final LongAdder enqueuedOperations = new LongAdder();
+    private final LongAdder rejectedOperations = new LongAdder();
+    private final LongAdder flushedBatches = new LongAdder();
+    private final LongAdder drainedOperations = new LongAdder();
+    private final LongAdder persistedOperations = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder totalFlushLatencyNanos = new LongAdder();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    void recordEnqueued() {
+
+        enqueuedOperations.increment();
+    }
+
+    void recordRejected() {
+
+        rejectedOperations.increment();
+    }
+
+    void recordFailedBatch() {
+
+        failedBatches.increment();
+    }
+
+    void recordFlush(int drainedCount, int persistedCount, long flushLatencyNanos) {
+
+        flushedBatches.increment();
+        drainedOperations.add(drainedCount);
+        persistedOperations.add(persistedCount);
+        totalFlushLatencyNanos.add(flushLatencyNanos);
+        maxFlushLatencyNanos.accumulateAndGet(flushLatencyNanos, Math::max);
+        maxBatchSize.accumulateAndGet(persistedCount, Math::max);
+    }
+
+    /**
+     * Number of operations accepted into the persistence queue.
+     *
+     * @return Enqueued operation count.
+     */
+    public long getEnqueuedOperations() {
+
+        return enqueuedOperations.sum();
+    }
+
+    /**
+     * Number of operations that could not be queued because the queue was full, and were therefore persisted on the
+     * calling thread.
+     *
+     * @return Rejected operation count.
+     */
+    public long getRejectedOperations() {
+
+        return rejectedOperations.sum();
+    }
+
+    public long getFlushedBatches() {
+
+        return flushedBatches.sum();
+    }
+
+    public long getFailedBatches() {
+
+        return failedBatches.sum();
+    }
+
+    public long getDrainedOperations() {
+
+        return drainedOperations.sum();
+    }
+
+    public long getPersistedOperations() {
+
+        return persistedOperations.sum();
+    }
+
+    /**
+     * Number of queued operations that were superseded by a later operation on the same session key and type and
+     * therefore never written to the database.
+     *
+     * @return Coalesced operation count.
+     */
+    public long getCoalescedOperations() {
+
+        return drainedOperations.sum() - persistedOperations.sum();
+    }
+
+    public long getMaxBatchSize() {
+
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+
+        long batches = flushedBatches.sum();
+        return batches == 0 ? 0 : (double) persistedOperations.sum() / batches;
+    }
+
+    public long getAverageFlushLatencyMillis() {
+
+        long batches = flushedBatches.sum();
+        return batches == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalFlushLatencyNanos.sum() / batches);
+    }
+
+    public long getMaxFlushLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxFlushLatencyNanos.get());
+    }
+
+    @Override
+    public String toString() {
+
+        return "SessionDataPersistMetrics{" +
+                "enqueued=" + getEnqueuedOperations() +
+                ", rejected=" + getRejectedOperations() +
+                ", batches=" + getFlushedBatches() +
+                ", failedBatches=" + getFailedBatches() +
+                ", persisted=" + getPersistedOperations() +
+                ", coalesced=" + getCoalescedOperations() +
+                ", maxBatchSize=" + getMaxBatchSize() +
+                ", avgFlushLatencyMs=" + getAverageFlushLatencyMillis() +
+                ", maxFlushLatencyMs=" + getMaxFlushLatencyMillis() +
+                '}';
+    }
+}
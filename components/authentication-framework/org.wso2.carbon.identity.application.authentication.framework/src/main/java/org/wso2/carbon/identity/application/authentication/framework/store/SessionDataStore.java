@@ -42,6 +42,16 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -60,6 +70,8 @@ public class SessionDataStore {
 
     private static final String OPERATION_DELETE = "DELETE";
     private static final String OPERATION_STORE = "STORE";
+    private static final String SESSION_ID_LIST_PLACEHOLDER = "_SESSION_ID_LIST_";
+    private static final int SESSION_DATA_STATE_QUERY_CHUNK_SIZE = 500;
     private static final String SQL_INSERT_STORE_OPERATION =
             "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE, OPERATION, SESSION_OBJECT, TIME_CREATED, " +
                     "EXPIRY_TIME, TENANT_ID) VALUES (?,?,?,?,?,?,?)";
@@ -133,6 +145,10 @@ public class SessionDataStore {
                     "FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND " +
                     "SESSION_TYPE=? ORDER BY TIME_CREATED DESC) WHERE ROWNUM < 2";
 
+    private static final String SQL_RETRIEVE_SESSION_DATA_STATES =
+            "SELECT SESSION_ID, OPERATION, EXPIRY_TIME FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = ? AND " +
+                    "SESSION_ID IN (" + SESSION_ID_LIST_PLACEHOLDER + ") ORDER BY TIME_CREATED";
+
     private static final String SQL_DELETE_EXPIRED_DATA_TASK_MYSQL =
             "DELETE FROM IDN_AUTH_SESSION_STORE WHERE EXPIRY_TIME < ? LIMIT %d";
     private static final String SQL_DELETE_EXPIRED_DATA_TASK_MSSQL =
@@ -162,7 +178,18 @@ public class SessionDataStore {
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
     private static int maxSessionDataPoolSize = 100;
     private static int maxTempDataPoolSize = 50;
+    private static final int DEFAULT_BATCH_PERSIST_SIZE = 100;
+    private static final int DEFAULT_BATCH_PERSIST_QUEUE_CAPACITY = 10000;
+    private static final long DEFAULT_BATCH_PERSIST_FLUSH_INTERVAL_MILLIS = 100;
+    private static final long DEFAULT_BATCH_PERSIST_OFFER_TIMEOUT_MILLIS = 50;
+    private static boolean batchPersistEnabled = false;
+    private static int batchPersistSize = DEFAULT_BATCH_PERSIST_SIZE;
+    private static int batchPersistQueueCapacity = DEFAULT_BATCH_PERSIST_QUEUE_CAPACITY;
+    private static long batchPersistFlushIntervalMillis = DEFAULT_BATCH_PERSIST_FLUSH_INTERVAL_MILLIS;
+    private static long batchPersistOfferTimeoutMillis = DEFAULT_BATCH_PERSIST_OFFER_TIMEOUT_MILLIS;
+    private static final SessionDataPersistMetrics sessionDataPersistMetrics = new SessionDataPersistMetrics();
     private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
+    private static ExecutorService sessionDataBatchPersistPool;
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
     private static volatile SessionDataStore instance;
     private boolean enablePersist;
@@ -216,13 +243,53 @@ public class SessionDataStore {
                 maxTempDataPoolSize = Integer.parseInt(maxTempDataPoolSizeValue);
             }
 
+            batchPersistEnabled = Boolean.parseBoolean(
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.BatchPersist.Enable"));
+            if (batchPersistEnabled) {
+                String batchSizeValue =
+                        IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.BatchPersist.BatchSize");
+                if (StringUtils.isNotBlank(batchSizeValue)) {
+                    batchPersistSize = Integer.parseInt(batchSizeValue);
+                }
+                String queueCapacityValue = IdentityUtil.getProperty(
+                        "JDBCPersistenceManager.SessionDataPersist.BatchPersist.QueueCapacity");
+                if (StringUtils.isNotBlank(queueCapacityValue)) {
+                    batchPersistQueueCapacity = Integer.parseInt(queueCapacityValue);
+                }
+                String flushIntervalValue = IdentityUtil.getProperty(
+                        "JDBCPersistenceManager.SessionDataPersist.BatchPersist.FlushInterval");
+                if (StringUtils.isNotBlank(flushIntervalValue)) {
+                    batchPersistFlushIntervalMillis = Long.parseLong(flushIntervalValue);
+                }
+                String offerTimeoutValue = IdentityUtil.getProperty(
+                        "JDBCPersistenceManager.SessionDataPersist.BatchPersist.EnqueueTimeout");
+                if (StringUtils.isNotBlank(offerTimeoutValue)) {
+                    batchPersistOfferTimeoutMillis = Long.parseLong(offerTimeoutValue);
+                }
+            }
         } catch (NumberFormatException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Exception ignored : ", e);
             }
             log.warn("One or more pool size configurations cause NumberFormatException. Default values would be used");
         }
-        if (maxSessionDataPoolSize > 0) {
+        if (batchPersistEnabled && maxSessionDataPoolSize <= 0) {
+            // Without consumers the session data is persisted on the calling thread and nothing would be batched.
+            log.warn("Batched session data persistence is enabled, but the session data persist pool size is " +
+                    maxSessionDataPoolSize + ". Batched persistence is disabled. Configure a positive " +
+                    "JDBCPersistenceManager.SessionDataPersist.PoolSize to enable it.");
+            batchPersistEnabled = false;
+        }
+        if (maxSessionDataPoolSize > 0 && batchPersistEnabled) {
+            log.info(String.format("Thread pool size for batched session persistent consumer : %d, batch size : %d, " +
+                    "queue capacity : %d", maxSessionDataPoolSize, batchPersistSize, batchPersistQueueCapacity));
+            sessionContextQueue = new LinkedBlockingDeque<>(batchPersistQueueCapacity);
+            sessionDataBatchPersistPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
+            for (int i = 0; i < maxSessionDataPoolSize; i++) {
+                sessionDataBatchPersistPool.execute(new SessionDataBatchPersistTask(sessionContextQueue,
+                        batchPersistSize, batchPersistFlushIntervalMillis, sessionDataPersistMetrics));
+            }
+        } else if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
@@ -454,6 +521,57 @@ public class SessionDataStore {
         return false;
     }
 
+    /**
+     * Get the keys of the session data which are removed or expired, out of the given keys. Only the operation and
+     * the expiry time of the session data entries are read, hence the session data objects are not deserialized.
+     * A key not found in the store is not returned, as its session data may not be persisted yet.
+     *
+     * @param keys Session data keys.
+     * @param type Session data type.
+     * @return Keys of which the last operation is a DELETE operation or the last stored entry is expired.
+     */
+    public Set<String> getInactiveSessionDataKeys(Collection<String> keys, String type) {
+
+        Set<String> inactiveKeys = new HashSet<>();
+        if (!enablePersist || keys == null || keys.isEmpty()) {
+            return inactiveKeys;
+        }
+        List<String> keyList = new ArrayList<>(new LinkedHashSet<>(keys));
+        long currentTime = FrameworkUtils.getCurrentStandardNano();
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false)) {
+            for (int from = 0; from < keyList.size(); from += SESSION_DATA_STATE_QUERY_CHUNK_SIZE) {
+                List<String> chunk = keyList.subList(from,
+                        Math.min(from + SESSION_DATA_STATE_QUERY_CHUNK_SIZE, keyList.size()));
+                String sql = getSessionStoreDBQuery(SQL_RETRIEVE_SESSION_DATA_STATES, type).replace(
+                        SESSION_ID_LIST_PLACEHOLDER, String.join(", ", Collections.nCopies(chunk.size(), "?")));
+                // Entries are read in the order of their creation, hence the last entry of a key decides its state.
+                Map<String, Boolean> inactiveStates = new HashMap<>();
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                    preparedStatement.setString(1, type);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        preparedStatement.setString(i + 2, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            inactiveStates.put(resultSet.getString(1),
+                                    StringUtils.equalsIgnoreCase(OPERATION_DELETE, resultSet.getString(2))
+                                            || resultSet.getLong(3) < currentTime);
+                        }
+                    }
+                }
+                inactiveStates.forEach((key, inactive) -> {
+                    if (inactive) {
+                        inactiveKeys.add(key);
+                    }
+                });
+            }
+        } catch (IdentityRuntimeException | SQLException e) {
+            // Inactive keys found so far are still returned, as the callers validate the rest of the keys.
+            log.error("Error while checking the state of the session data of type: " + type, e);
+        }
+        return inactiveKeys;
+    }
+
     private String getSqlGetLastOperation(Connection connection) throws SQLException {
 
         String sqlGetLastOperationQuery;
@@ -488,7 +606,7 @@ public class SessionDataStore {
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, entry, nanoTime, tenantId));
+            enqueueSessionContext(new SessionContextDO(key, type, entry, nanoTime, tenantId));
         } else {
             persistSessionData(key, type, entry, nanoTime, tenantId);
         }
@@ -500,12 +618,69 @@ public class SessionDataStore {
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, null, nanoTime));
+            enqueueSessionContext(new SessionContextDO(key, type, null, nanoTime));
         } else {
             removeSessionData(key, type, nanoTime);
         }
     }
 
+    /**
+     * Hand over a session data operation to the persistence consumers. When batched persistence is enabled the queue
+     * is bounded, and an operation that cannot be queued within the configured timeout is persisted on the calling
+     * thread instead. This throttles the producers while the consumers are behind.
+     *
+     * @param sessionContextDO Session data operation.
+     */
+    private void enqueueSessionContext(SessionContextDO sessionContextDO) {
+
+        if (!batchPersistEnabled) {
+            sessionContextQueue.push(sessionContextDO);
+            return;
+        }
+        boolean queued = false;
+        try {
+            queued = sessionContextQueue.offerLast(sessionContextDO, batchPersistOfferTimeoutMillis,
+                    TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (queued) {
+            sessionDataPersistMetrics.recordEnqueued();
+            return;
+        }
+        sessionDataPersistMetrics.recordRejected();
+        if (log.isDebugEnabled()) {
+            log.debug("Session data persistence queue is full. Persisting on the calling thread. key : " +
+                    sessionContextDO.getKey() + " type : " + sessionContextDO.getType());
+        }
+        if (sessionContextDO.getEntry() == null) {
+            removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getNanoTime());
+        } else {
+            persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getEntry(),
+                    sessionContextDO.getNanoTime(), sessionContextDO.getTenantId());
+        }
+    }
+
+    /**
+     * Get the statistics of the batched session data persistence.
+     *
+     * @return Session data persistence metrics.
+     */
+    public SessionDataPersistMetrics getSessionDataPersistMetrics() {
+
+        return sessionDataPersistMetrics;
+    }
+
+    /**
+     * Get the number of session data operations waiting to be persisted.
+     *
+     * @return Session data persistence queue depth.
+     */
+    public int getSessionDataPersistQueueDepth() {
+
+        return sessionContextQueue.size();
+    }
+
     /**
      * Method to stop running tasks, when the component is deactivated.
      */
@@ -513,6 +688,11 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        SessionDataBatchPersistTask.shutdown();
+        if (sessionDataBatchPersistPool != null) {
+            // The consumers flush the queued operations before they stop.
+            sessionDataBatchPersistPool.shutdown();
+        }
     }
 
     /**
@@ -556,13 +736,17 @@ public class SessionDataStore {
 
     /**
      * Removes the records related to expired sessions from DB.
+     *
+     * @param sqlQuery        Query which removes a chunk of the records expired before a given time.
+     * @param expiryTimeLimit Time before which a record should have expired to be removed, if it is before the
+     *                        current time.
      */
-    private void removeExpiredSessionData(String sqlQuery) {
+    private void removeExpiredSessionData(String sqlQuery, long expiryTimeLimit) {
 
         if (log.isDebugEnabled()) {
             log.debug("DB query for removing expired data: " + sqlQuery);
         }
-        long currentTime = FrameworkUtils.getCurrentStandardNano();
+        long currentTime = Math.min(FrameworkUtils.getCurrentStandardNano(), expiryTimeLimit);
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
             boolean deleteCompleted = false;
             int totalDeletedEntries = 0;
@@ -592,6 +776,18 @@ public class SessionDataStore {
      */
     public void removeExpiredSessionData() {
 
+        removeExpiredSessionData(Long.MAX_VALUE);
+    }
+
+    /**
+     * Cleans the session data and operation data (if enabled) from the DB. Only the session data which expired before
+     * the given time is removed, while the temporary data is removed up to the current time.
+     *
+     * @param expiryTimeLimit Time (in the standard nano time) before which the session data should have expired to
+     *                        be removed.
+     */
+    public void removeExpiredSessionData(long expiryTimeLimit) {
+
         if (StringUtils.isBlank(sqlDeleteExpiredDataTask)) {
             try {
                 sqlDeleteExpiredDataTask = getDBSpecificSessionDataRemovalQuery();
@@ -600,10 +796,10 @@ public class SessionDataStore {
             }
         }
         if (sessionDataCleanupEnabled) {
-            removeExpiredSessionData(sqlDeleteExpiredDataTask);
+            removeExpiredSessionData(sqlDeleteExpiredDataTask, expiryTimeLimit);
         }
         if (tempDataCleanupEnabled && periodicTempDataCleanupEnabled) {
-            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask));
+            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask), Long.MAX_VALUE);
         }
         if (operationDataCleanupEnabled) {
             removeInvalidatedSTOREOperations();
@@ -631,15 +827,7 @@ public class SessionDataStore {
             return;
         }
 
-        long validityPeriodNano = 0L;
-
-        if (entry instanceof CacheEntry) {
-            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
-        }
-
-        if (validityPeriodNano == 0L) {
-            validityPeriodNano = getCleanupTimeout(type, tenantId);
-        }
+        long validityPeriodNano = getValidityPeriod(type, entry, tenantId);
 
         PreparedStatement preparedStatement = null;
         try {
@@ -666,6 +854,110 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persist the given STORE and DELETE operations using JDBC batch inserts in a single transaction. If the batch
+     * fails, the operations are retried one by one so that a single bad entry does not discard the whole batch.
+     *
+     * @param sessionContextDOs Session data operations. Operations with a null entry are considered DELETE operations.
+     */
+    public void persistSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs == null || sessionContextDOs.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<SessionContextDO>> storeOperations = new LinkedHashMap<>();
+        Map<String, List<SessionContextDO>> deleteOperations = new LinkedHashMap<>();
+        List<SessionContextDO> batchedOperations = new ArrayList<>(sessionContextDOs.size());
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            String type = sessionContextDO.getType();
+            if (sessionContextDO.getEntry() != null) {
+                storeOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertSTORE, type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+                batchedOperations.add(sessionContextDO);
+            } else if (checkExistingEntryForDeleteOperationInsert ||
+                    (tempDataCleanupEnabled && maxTempDataPoolSize > 0 && isTempCache(type))) {
+                // These DELETE operations need per entry handling.
+                removeSessionData(sessionContextDO.getKey(), type, sessionContextDO.getNanoTime());
+            } else {
+                deleteOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertDELETE, type),
+                        k -> new ArrayList<>()).add(sessionContextDO);
+                batchedOperations.add(sessionContextDO);
+            }
+        }
+        if (batchedOperations.isEmpty()) {
+            return;
+        }
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+
+        boolean batchFailed = false;
+        try {
+            for (Map.Entry<String, List<SessionContextDO>> storeOperation : storeOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(storeOperation.getKey())) {
+                    for (SessionContextDO sessionContextDO : storeOperation.getValue()) {
+                        long nanoTime = sessionContextDO.getNanoTime();
+                        preparedStatement.setString(1, sessionContextDO.getKey());
+                        preparedStatement.setString(2, sessionContextDO.getType());
+                        preparedStatement.setString(3, OPERATION_STORE);
+                        setBlobObject(preparedStatement, sessionContextDO.getEntry(), 4);
+                        preparedStatement.setLong(5, nanoTime);
+                        preparedStatement.setLong(6, nanoTime + getValidityPeriod(sessionContextDO.getType(),
+                                sessionContextDO.getEntry(), sessionContextDO.getTenantId()));
+                        preparedStatement.setInt(7, sessionContextDO.getTenantId());
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            for (Map.Entry<String, List<SessionContextDO>> deleteOperation : deleteOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(deleteOperation.getKey())) {
+                    for (SessionContextDO sessionContextDO : deleteOperation.getValue()) {
+                        long nanoTime = sessionContextDO.getNanoTime();
+                        preparedStatement.setString(1, sessionContextDO.getKey());
+                        preparedStatement.setString(2, sessionContextDO.getType());
+                        preparedStatement.setString(3, OPERATION_DELETE);
+                        preparedStatement.setLong(4, nanoTime);
+                        preparedStatement.setLong(5, nanoTime + getCleanupTimeout(sessionContextDO.getType(),
+                                MultitenantConstants.INVALID_TENANT_ID));
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while persisting a batch of " + batchedOperations.size() + " session data " +
+                    "operations. Retrying the operations individually.", e);
+            batchFailed = true;
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+
+        if (batchFailed) {
+            sessionDataPersistMetrics.recordFailedBatch();
+            for (SessionContextDO sessionContextDO : batchedOperations) {
+                if (sessionContextDO.getEntry() == null) {
+                    removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(),
+                            sessionContextDO.getNanoTime());
+                } else {
+                    persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(),
+                            sessionContextDO.getEntry(), sessionContextDO.getNanoTime(),
+                            sessionContextDO.getTenantId());
+                }
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug("Persisted a batch of " + batchedOperations.size() + " session data operations to DB.");
+        }
+    }
+
     public void removeSessionData(String key, String type, long nanoTime) {
         if (!enablePersist) {
             return;
@@ -840,6 +1132,18 @@ public class SessionDataStore {
         return query;
     }
 
+    private long getValidityPeriod(String type, Object entry, int tenantId) {
+
+        long validityPeriodNano = 0L;
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(type, tenantId);
+        }
+        return validityPeriodNano;
+    }
+
     private long getCleanupTimeout(String type, int tenantId) {
         if (isTempCache(type)) {
             return TimeUnit.MINUTES.toNanos(IdentityUtil.getTempDataCleanUpTimeout());
@@ -26,7 +26,6 @@ import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
 import org.wso2.carbon.identity.application.authentication.framework.exception.DuplicatedAuthUserException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.UserSessionException;
-import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
 import org.wso2.carbon.identity.application.authentication.framework.util.SessionMgtConstants;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
@@ -60,11 +59,17 @@ public class UserSessionStore {
     private static final String FEDERATED_USER_DOMAIN = "FEDERATED";
     private static final String DELETE_CHUNK_SIZE_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
             ".UserSessionMapping.DeleteChunkSize";
+    private static final String CLEANUP_TIME_BUDGET_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
+            ".UserSessionMapping.CleanUpTimeBudget";
+    private static final String CLEANUP_ROW_BUDGET_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
+            ".UserSessionMapping.CleanUpRowBudget";
+    private static final long DEFAULT_CLEANUP_TIME_BUDGET_IN_MILLIS = 60000L;
     private static final String IDN_AUTH_USER_SESSION_MAPPING_TABLE = "IDN_AUTH_USER_SESSION_MAPPING";
     private static final String IDN_AUTH_SESSION_APP_INFO_TABLE = "IDN_AUTH_SESSION_APP_INFO_TABLE";
     private static final String IDN_AUTH_SESSION_META_DATA_TABLE = "IDN_AUTH_SESSION_META_DATA";
 
     private int deleteChunkSize = 10000;
+    private final ExpiredSessionRecordCleaner expiredSessionRecordCleaner;
 
     private UserSessionStore() {
 
@@ -72,6 +77,10 @@ public class UserSessionStore {
         if (StringUtils.isNotBlank(deleteChunkSizeString)) {
             deleteChunkSize = Integer.parseInt(deleteChunkSizeString);
         }
+        expiredSessionRecordCleaner = new ExpiredSessionRecordCleaner(this, deleteChunkSize,
+                IdentityUtil.getPropertyAsMillis(CLEANUP_TIME_BUDGET_PROPERTY, TimeUnit.MILLISECONDS,
+                        DEFAULT_CLEANUP_TIME_BUDGET_IN_MILLIS),
+                IdentityUtil.getPropertyAsInt(CLEANUP_ROW_BUDGET_PROPERTY, 0));
     }
 
     public static UserSessionStore getInstance() {
@@ -426,42 +435,23 @@ public class UserSessionStore {
     }
 
     /**
-     * Removes all the expired session records from relevant tables.
+     * Removes the expired session records from relevant tables, in committed chunks, until all of them are removed
+     * or the time or row budget of the cleanup run is spent. The next run resumes after the last removed session.
      */
     public void removeExpiredSessionRecords() {
 
         if (log.isDebugEnabled()) {
             log.debug("Removing information of expired and deleted sessions.");
         }
+        expiredSessionRecordCleaner.removeExpiredSessionRecords();
+    }
 
-        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
-            Set<String> terminatedAuthSessionIds = getSessionsTerminated(connection);
-            String[] sessionsToRemove = new String[terminatedAuthSessionIds.size()];
-            terminatedAuthSessionIds.toArray(sessionsToRemove);
-
-            if (!terminatedAuthSessionIds.isEmpty()) {
-
-                if (log.isDebugEnabled()) {
-                    log.debug(terminatedAuthSessionIds.size() + " number of sessions should be removed from the " +
-                            "database. Removing in " + deleteChunkSize + " size batches.");
-                }
-
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
-                        SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
+    /**
+     * @return Cleaner of the expired session records, which reports the progress of the cleanup runs.
+     */
+    public ExpiredSessionRecordCleaner getExpiredSessionRecordCleaner() {
 
-                IdentityDatabaseUtil.commitTransaction(connection);
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("No expired sessions found to remove.");
-                }
-            }
-        } catch (SQLException e) {
-            log.error("Error while removing expired session information from the database.", e);
-        }
+        return expiredSessionRecordCleaner;
     }
 
     /**
@@ -479,12 +469,7 @@ public class UserSessionStore {
 
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
             try {
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
-                        SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
+                deleteSessionRecords(sessionsToRemove, connection);
                 IdentityDatabaseUtil.commitTransaction(connection);
             } catch (SQLException e1) {
                 IdentityDatabaseUtil.rollbackTransaction(connection);
@@ -495,29 +480,22 @@ public class UserSessionStore {
         }
     }
 
-    private Set<String> getSessionsTerminated(Connection connection) throws SQLException {
-
-        Set<String> terminatedSessionIds = new HashSet<>();
-
-        /**
-         * Retrieve only sessions which have an expiry time less than the current time.
-         * As the session cleanup task deletes only entries matching the same condition, in case sessions that are
-         * being marked as deleted are also retrieved that might load a huge amount of entries to the memory all the
-         * time. Yet those entries will be removed from the IDN_AUTH_USER_SESSION_MAPPING_TABLE table on the first
-         * execution, and there after every time the loop will be executed and the table will be scanned for a non
-         * existing entry.
-         */
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQLQueries
-                .SQL_SELECT_TERMINATED_SESSION_IDS)) {
-            preparedStatement.setLong(1, FrameworkUtils.getCurrentStandardNano());
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                while (resultSet.next()) {
-                    terminatedSessionIds.add(resultSet.getString(1));
-                }
-            }
-        }
-
-        return terminatedSessionIds;
+    /**
+     * Remove the session information records of the given sessions from the relevant tables, without committing the
+     * transaction.
+     *
+     * @param sessionsToRemove array of session ids which should be removed
+     * @param connection       db connection
+     * @throws SQLException if the DB execution fails
+     */
+    void deleteSessionRecords(String[] sessionsToRemove, Connection connection) throws SQLException {
+
+        deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
+                SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
+        deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
+                SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
+        deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
+                SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
     }
 
     /**
@@ -93,6 +93,15 @@ public abstract class FrameworkConstants {
     public static final String CLAIM_FOR_PENDING_OTP_VERIFICATION = "claimForPendingOtpVerification";
     public static final String IS_PROGRESSIVE_PROFILE_VERIFICATION = "isProgressiveProfileVerification";
 
+    // Session serializer configurations.
+    public static final String SESSION_SERIALIZER_TYPE = "JDBCPersistenceManager.SessionDataPersist.Serializer.Type";
+    public static final String SESSION_SERIALIZER_COMPRESSION_ENABLE =
+            "JDBCPersistenceManager.SessionDataPersist.Serializer.Compression.Enable";
+    public static final String SESSION_SERIALIZER_COMPRESSION_THRESHOLD =
+            "JDBCPersistenceManager.SessionDataPersist.Serializer.Compression.Threshold";
+    public static final String COMPACT_SESSION_SERIALIZER = "compact";
+    public static final int DEFAULT_SESSION_SERIALIZER_COMPRESSION_THRESHOLD = 1024;
+
     // This is to support sign-up form to be displayed in the provisioning flow, as when trying to displaying the
     // sign-up form, we validate whether self-sign up is enabled.
     public static final String SKIP_SIGN_UP_ENABLE_CHECK = "skipsignupenablecheck";
@@ -706,6 +715,9 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE_ENABLE = "AdaptiveAuth.GraalJS.SharedEngine.Enable";
+        public static final String GRAALJS_SOURCE_CACHE_SIZE = "AdaptiveAuth.GraalJS.SharedEngine.SourceCacheSize";
+        public static final int DEFAULT_GRAALJS_SOURCE_CACHE_SIZE = 500;
     }
 
     /**
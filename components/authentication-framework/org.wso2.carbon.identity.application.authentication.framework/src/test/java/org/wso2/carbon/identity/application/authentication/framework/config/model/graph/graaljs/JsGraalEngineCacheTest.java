@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+
+/**
+ * Unit tests for {@link JsGraalEngineCache}.
+ */
+@WithCarbonHome
+public class JsGraalEngineCacheTest {
+
+    private static final String SCRIPT = "var onLoginRequest = function(context) { executeStep(1); };";
+    private final JsGraalEngineCache engineCache = JsGraalEngineCache.getInstance();
+
+    @BeforeClass
+    public void setUp() {
+
+        engineCache.enable(2);
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        engineCache.disable();
+    }
+
+    @Test
+    public void testSourceIsReusedForSameOwnerAndScript() {
+
+        long hits = engineCache.getHitCount();
+        Source first = engineCache.getSource("carbon.super:app1", SCRIPT);
+        Source second = engineCache.getSource("carbon.super:app1", SCRIPT);
+        Source otherOwner = engineCache.getSource("carbon.super:app2", SCRIPT);
+
+        assertSame(second, first);
+        assertNotSame(otherOwner, first);
+        assertEquals(engineCache.getHitCount(), hits + 1);
+    }
+
+    @Test(dependsOnMethods = "testSourceIsReusedForSameOwnerAndScript")
+    public void testCacheIsBounded() {
+
+        engineCache.getSource("carbon.super:app3", SCRIPT);
+        engineCache.getSource("carbon.super:app4", SCRIPT);
+
+        assertEquals(engineCache.getCachedSourceCount(), 2);
+    }
+
+    @Test
+    public void testContextsShareEngine() {
+
+        JsGraalGraphBuilderFactory factory = new JsGraalGraphBuilderFactory();
+        factory.init();
+        Source source = engineCache.getSource("carbon.super:app5", "1 + 1");
+        for (int i = 0; i < 2; i++) {
+            try (Context context = factory.createEngine(null)) {
+                assertSame(context.getEngine(), engineCache.getEngine());
+                assertEquals(context.eval(source).asInt(), 2);
+                assertTrue(context.getBindings(POLYGLOT_LANGUAGE).hasMember("Log"));
+            }
+        }
+        assertTrue(engineCache.getContextCreationCount() >= 2);
+    }
+}
@@ -29,6 +29,7 @@ import org.wso2.carbon.identity.application.authentication.framework.dao.impl.Us
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.application.authentication.framework.model.Application;
 import org.wso2.carbon.identity.application.authentication.framework.model.UserSession;
+import org.wso2.carbon.identity.application.authentication.framework.store.SessionDataStore;
 import org.wso2.carbon.identity.application.authentication.framework.store.UserSessionStore;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
@@ -41,10 +42,13 @@ import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
@@ -242,11 +246,18 @@ public class UserSessionManagementServiceImplTest {
         SessionContext mockedSessionContext = mock(SessionContext.class);
         when(mockedSessionContext.getProperties()).thenReturn(new HashMap<>());
 
+        SessionDataStore sessionDataStore = mock(SessionDataStore.class);
+        when(sessionDataStore.getInactiveSessionDataKeys(anyCollection(), anyString()))
+                .thenReturn(Collections.emptySet());
+
         try (MockedStatic<FrameworkUtils> frameworkUtilsMockedStatic = mockStatic(FrameworkUtils.class);
+             MockedStatic<SessionDataStore> sessionDataStoreMockedStatic = mockStatic(SessionDataStore.class);
              MockedConstruction<UserSessionDAOImpl> userSessionDAOConstruction =
-                     mockConstruction(UserSessionDAOImpl.class,
-                             (mock, context) -> when(mock.getSession(sessionId)).thenReturn(fedUserSession))) {
+                     mockConstruction(UserSessionDAOImpl.class, (mock, context) ->
+                             when(mock.getSessions(anyCollection()))
+                                     .thenReturn(Collections.singletonList(fedUserSession)))) {
 
+            sessionDataStoreMockedStatic.when(SessionDataStore::getInstance).thenReturn(sessionDataStore);
             frameworkUtilsMockedStatic.when(() -> FrameworkUtils.getSessionContextFromCache(sessionId,
                     "carbon.super")).thenReturn(mockedSessionContext);
             frameworkUtilsMockedStatic.when(FrameworkUtils::getLoginTenantDomainFromContext).thenReturn("carbon.super");
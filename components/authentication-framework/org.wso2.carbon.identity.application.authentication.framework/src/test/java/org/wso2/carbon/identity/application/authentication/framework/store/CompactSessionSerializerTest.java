@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+
+import java.io.ByteArrayInputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectStreamClass;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link CompactSessionSerializer}.
+ */
+public class CompactSessionSerializerTest {
+
+    @DataProvider
+    public Object[][] compressionConfigs() {
+
+        return new Object[][]{
+                {true, 0},
+                {true, Integer.MAX_VALUE},
+                {false, 0},
+        };
+    }
+
+    @Test(dataProvider = "compressionConfigs")
+    public void testRoundTrip(boolean compressionEnabled, int compressionThreshold) throws Exception {
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer(compressionEnabled, compressionThreshold);
+        AuthenticationContext context = buildContext();
+
+        byte[] blob = IOUtils.toByteArray(serializer.serializeSessionObject(context));
+        assertEquals(blob[0] & 0xFF, CompactSessionSerializer.MAGIC_0);
+        assertEquals(blob[1] & 0xFF, CompactSessionSerializer.MAGIC_1);
+        assertEquals(blob[2], CompactSessionSerializer.FORMAT_VERSION);
+        assertEquals((blob[3] & CompactSessionSerializer.FLAG_COMPRESSED) != 0,
+                compressionEnabled && compressionThreshold == 0);
+
+        AuthenticationContext restored = (AuthenticationContext) serializer.deSerializeSessionObject(
+                new ByteArrayInputStream(blob));
+        assertContextEquals(restored, context);
+    }
+
+    @Test
+    public void testReadsJavaSerializedObjects() throws Exception {
+
+        AuthenticationContext context = buildContext();
+        byte[] legacyBlob = IOUtils.toByteArray(new JavaSessionSerializer().serializeSessionObject(context));
+
+        AuthenticationContext restored = (AuthenticationContext) new CompactSessionSerializer()
+                .deSerializeSessionObject(new ByteArrayInputStream(legacyBlob));
+        assertContextEquals(restored, context);
+    }
+
+    @Test
+    public void testBlobIsSmallerThanJavaSerialization() throws Exception {
+
+        AuthenticationContext context = buildContext();
+        int javaSize = IOUtils.toByteArray(new JavaSessionSerializer().serializeSessionObject(context)).length;
+        int compactSize = IOUtils.toByteArray(new CompactSessionSerializer(false, 0)
+                .serializeSessionObject(context)).length;
+        int compressedSize = IOUtils.toByteArray(new CompactSessionSerializer(true, 0)
+                .serializeSessionObject(context)).length;
+
+        assertTrue(compactSize < javaSize, "Compact: " + compactSize + ", Java: " + javaSize);
+        assertTrue(compressedSize < compactSize, "Compressed: " + compressedSize + ", compact: " + compactSize);
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testUnsupportedFormatVersion() throws Exception {
+
+        byte[] blob = IOUtils.toByteArray(new CompactSessionSerializer().serializeSessionObject(buildContext()));
+        blob[2] = (byte) (CompactSessionSerializer.FORMAT_VERSION + 1);
+        new CompactSessionSerializer().deSerializeSessionObject(new ByteArrayInputStream(blob));
+    }
+
+    @Test
+    public void testChangedFieldLayoutIsRejected() throws Exception {
+
+        byte[] blob = IOUtils.toByteArray(new CompactSessionSerializer(false, 0)
+                .serializeSessionObject(buildContext()));
+
+        // Alter the field layout fingerprint written after the class name and serial version UID of the context.
+        byte[] className = AuthenticationContext.class.getName().getBytes(StandardCharsets.UTF_8);
+        int fingerprintIndex = indexOf(blob, className) + className.length + 8;
+        long fingerprint = CompactSessionSerializer.getFieldLayoutFingerprint(
+                ObjectStreamClass.lookup(AuthenticationContext.class));
+        assertEquals(blob[fingerprintIndex], (byte) (fingerprint >>> 56));
+        blob[fingerprintIndex] ^= 0x01;
+
+        try {
+            new CompactSessionSerializer().deSerializeSessionObject(new ByteArrayInputStream(blob));
+            fail("Object with a changed field layout is read.");
+        } catch (SessionSerializerException e) {
+            assertTrue(e.getCause() instanceof InvalidClassException);
+        }
+    }
+
+    private int indexOf(byte[] array, byte[] target) {
+
+        for (int i = 0; i <= array.length - target.length; i++) {
+            int j = 0;
+            while (j < target.length && array[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes are not found.");
+    }
+
+    private AuthenticationContext buildContext() {
+
+        AuthenticationContext context = new AuthenticationContext();
+        context.setContextIdentifier("e6bd2b0c-7c0a-4f7b-9d5c-3b4f2b1d6a11");
+        context.setTenantDomain("carbon.super");
+        context.setServiceProviderName("travelocity");
+        context.setRequestType("oidc");
+        context.setCallerSessionKey("7d4c2f3a-6a1e-4c7b-8f0e-1a2b3c4d5e6f");
+        context.setCurrentStep(2);
+
+        List<AuthenticatedUser> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            AuthenticatedUser user = new AuthenticatedUser();
+            user.setUserName("user" + i);
+            user.setTenantDomain("carbon.super");
+            user.setUserStoreDomain("PRIMARY");
+            users.add(user);
+            context.setProperty("step." + i + ".authenticator", "BasicAuthenticator");
+        }
+        context.setSubject(users.get(0));
+        context.setProperty("authenticatedUsers", users);
+        return context;
+    }
+
+    private void assertContextEquals(AuthenticationContext actual, AuthenticationContext expected) {
+
+        assertEquals(actual.getContextIdentifier(), expected.getContextIdentifier());
+        assertEquals(actual.getTenantDomain(), expected.getTenantDomain());
+        assertEquals(actual.getServiceProviderName(), expected.getServiceProviderName());
+        assertEquals(actual.getCurrentStep(), expected.getCurrentStep());
+        assertEquals(actual.getSubject().getUserName(), expected.getSubject().getUserName());
+        assertEquals(((List<?>) actual.getProperty("authenticatedUsers")).size(), 5);
+        assertEquals(actual.getProperty("step.4.authenticator"), "BasicAuthenticator");
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Unit tests of ExpiredSessionRecordCleaner.
+ */
+public class ExpiredSessionRecordCleanerTest extends DataStoreBaseTest {
+
+    private static final String DB_NAME = "EXPIRED_SESSION_RECORD_CLEANER";
+
+    private MockedStatic<IdentityDatabaseUtil> mockedIdentityDatabaseUtil;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        initH2DB(DB_NAME, getDatabaseScriptFilePath("user_session_store_h2.sql"));
+        Connection connection = spy(getConnection(DB_NAME));
+        doNothing().when(connection).close();
+        mockedIdentityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(true))
+                .thenReturn(connection);
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        mockedIdentityDatabaseUtil.close();
+        closeH2DB(DB_NAME);
+    }
+
+    @Test
+    public void testRemoveExpiredSessionRecordsWithinBudget() throws Exception {
+
+        for (int i = 1; i <= 5; i++) {
+            createSession("expired" + i, i);
+        }
+        // A session stored again is read from the session store once per stored entry.
+        createSession("expired1", 2);
+        createSession("active", Long.MAX_VALUE);
+
+        ExpiredSessionRecordCleaner cleaner = new ExpiredSessionRecordCleaner(UserSessionStore.getInstance(), 2, 0,
+                2);
+
+        // The first chunk holds a single session, hence a second chunk is removed before the row budget is spent.
+        Assert.assertFalse(cleaner.removeExpiredSessionRecords());
+        Assert.assertTrue(cleaner.isBacklogged());
+        Assert.assertTrue(cleaner.getLagInMillis() >= 0);
+        Assert.assertEquals(cleaner.getLastRunRemovedSessionCount(), 3);
+        Assert.assertEquals(getUserSessionMappingCount(), 3);
+
+        // The next run resumes after the last removed session.
+        Assert.assertFalse(cleaner.removeExpiredSessionRecords());
+        Assert.assertTrue(cleaner.isBacklogged());
+        Assert.assertEquals(cleaner.getLastRunRemovedSessionCount(), 2);
+        Assert.assertEquals(getUserSessionMappingCount(), 1);
+        Assert.assertTrue(isUserSessionMappingExisting("active"));
+
+        Assert.assertTrue(cleaner.removeExpiredSessionRecords());
+        Assert.assertFalse(cleaner.isBacklogged());
+        Assert.assertEquals(cleaner.getLagInMillis(), 0);
+        Assert.assertEquals(cleaner.getLastRunRemovedSessionCount(), 0);
+        Assert.assertEquals(cleaner.getRemovedSessionCount(), 5);
+        Assert.assertEquals(getUserSessionMappingCount(), 1);
+    }
+
+    private void createSession(String sessionId, long expiryTime) throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            try (PreparedStatement stmt = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_STORE " +
+                    "(SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, TENANT_ID, EXPIRY_TIME) VALUES " +
+                    "(?, ?, ?, ?, ?, ?)")) {
+                stmt.setString(1, sessionId);
+                stmt.setString(2, "AppAuthFrameworkSessionContextCache");
+                stmt.setString(3, "STORE");
+                stmt.setLong(4, System.nanoTime());
+                stmt.setInt(5, -1234);
+                stmt.setLong(6, expiryTime);
+                stmt.executeUpdate();
+            }
+            if (!isUserSessionMappingExisting(sessionId)) {
+                try (PreparedStatement stmt = connection.prepareStatement("INSERT INTO " +
+                        "IDN_AUTH_USER_SESSION_MAPPING (USER_ID, SESSION_ID) VALUES (?, ?)")) {
+                    stmt.setString(1, "user-" + sessionId);
+                    stmt.setString(2, sessionId);
+                    stmt.executeUpdate();
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    private boolean isUserSessionMappingExisting(String sessionId) throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME);
+             PreparedStatement stmt = connection.prepareStatement(
+                     "SELECT 1 FROM IDN_AUTH_USER_SESSION_MAPPING WHERE SESSION_ID = ?")) {
+            stmt.setString(1, sessionId);
+            try (ResultSet resultSet = stmt.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private int getUserSessionMappingCount() throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME);
+             PreparedStatement stmt = connection.prepareStatement(
+                     "SELECT COUNT(*) FROM IDN_AUTH_USER_SESSION_MAPPING");
+             ResultSet resultSet = stmt.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
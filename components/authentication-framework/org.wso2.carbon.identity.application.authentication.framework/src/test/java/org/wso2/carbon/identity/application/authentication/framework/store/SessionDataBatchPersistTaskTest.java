@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link SessionDataBatchPersistTask}.
+ */
+public class SessionDataBatchPersistTaskTest {
+
+    @Test
+    public void testCoalesceKeepsLatestOperationPerKeyAndType() {
+
+        SessionContextDO store1 = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", "v1", 10);
+        SessionContextDO store2 = new SessionContextDO("key2", "AppAuthFrameworkSessionContextCache", "v1", 11);
+        SessionContextDO store3 = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", "v2", 12);
+        SessionContextDO delete1 = new SessionContextDO("key2", "AppAuthFrameworkSessionContextCache", null, 13);
+        SessionContextDO otherType = new SessionContextDO("key1", "AuthenticationContextCache", "v1", 9);
+
+        List<SessionContextDO> coalesced = SessionDataBatchPersistTask.coalesce(
+                Arrays.asList(store1, store2, store3, delete1, otherType));
+
+        assertEquals(coalesced.size(), 3);
+        assertSame(coalesced.get(0), store3);
+        assertSame(coalesced.get(1), delete1);
+        assertNull(coalesced.get(1).getEntry());
+        assertSame(coalesced.get(2), otherType);
+    }
+
+    @Test
+    public void testCoalesceIgnoresOlderOperationDrainedLater() {
+
+        SessionContextDO newer = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", "v2", 20);
+        SessionContextDO older = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", "v1", 10);
+
+        List<SessionContextDO> coalesced = SessionDataBatchPersistTask.coalesce(Arrays.asList(newer, older));
+
+        assertEquals(coalesced.size(), 1);
+        assertSame(coalesced.get(0), newer);
+    }
+}
@@ -33,7 +33,12 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -181,6 +186,122 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test(dependsOnMethods = "testRemoveExpiredSessionData")
+    public void testPersistSessionDataBatch() throws Exception {
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+
+            Object entry = mock(Object.class, withSettings().serializable());
+            SessionDataStore.getInstance().persistSessionDataBatch(Arrays.asList(
+                    new SessionContextDO("00000003", "sessionType", entry, 40000, 1),
+                    new SessionContextDO("00000004", "sessionType", entry, 40001, 1),
+                    new SessionContextDO("00000001", "sessionType", null, 40002)));
+
+            SessionDataStore sessionDataStore = SessionDataStore.getInstance();
+            assertEquals(sessionDataStore.validateLastOperationOnSessionData("00000003", "sessionType",
+                    OPERATION_STORE), true);
+            assertEquals(sessionDataStore.validateLastOperationOnSessionData("00000004", "sessionType",
+                    OPERATION_STORE), true);
+            assertEquals(sessionDataStore.validateLastOperationOnSessionData("00000001", "sessionType",
+                    OPERATION_DELETE), true);
+        }
+    }
+
+    @Test(dependsOnMethods = "testPersistSessionDataBatch")
+    public void testGetInactiveSessionDataKeys() throws Exception {
+
+        String type = "sessionStateType";
+        insertSessionData("active", type, OPERATION_STORE, 1, Long.MAX_VALUE);
+        insertSessionData("removed", type, OPERATION_STORE, 1, Long.MAX_VALUE);
+        insertSessionData("removed", type, OPERATION_DELETE, 2, Long.MAX_VALUE);
+        insertSessionData("expired", type, OPERATION_STORE, 1, 1);
+        insertSessionData("stored-again", type, OPERATION_DELETE, 1, Long.MAX_VALUE);
+        insertSessionData("stored-again", type, OPERATION_STORE, 2, Long.MAX_VALUE);
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+
+            Set<String> inactiveKeys = SessionDataStore.getInstance().getInactiveSessionDataKeys(Arrays.asList(
+                    "active", "removed", "expired", "stored-again", "not-persisted"), type);
+            assertEquals(inactiveKeys, new HashSet<>(Arrays.asList("removed", "expired")));
+        }
+    }
+
+    @Test(dependsOnMethods = "testGetInactiveSessionDataKeys")
+    public void testRemoveExpiredSessionDataBeforeLimit() throws Exception {
+
+        String type = "limitedCleanupType";
+        insertSessionData("before-limit", type, OPERATION_STORE, 1, 10);
+        insertSessionData("at-limit", type, OPERATION_STORE, 1, 20);
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+
+            SessionDataStore.getInstance().removeExpiredSessionData(20);
+            assertEquals(countSessionData("before-limit", type), 0);
+            assertEquals(countSessionData("at-limit", type), 1);
+
+            SessionDataStore.getInstance().removeExpiredSessionData();
+            assertEquals(countSessionData("at-limit", type), 0);
+        }
+    }
+
+    private int countSessionData(String key, String type) throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME);
+             PreparedStatement preparedStatement = connection.prepareStatement("SELECT COUNT(*) FROM " +
+                     "IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND SESSION_TYPE = ?")) {
+            preparedStatement.setString(1, key);
+            preparedStatement.setString(2, type);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    private void insertSessionData(String key, String type, String operation, long timeCreated, long expiryTime)
+            throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME);
+             PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_STORE " +
+                     "(SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?)")) {
+            preparedStatement.setString(1, key);
+            preparedStatement.setString(2, type);
+            preparedStatement.setString(3, operation);
+            preparedStatement.setLong(4, timeCreated);
+            preparedStatement.setLong(5, expiryTime);
+            preparedStatement.executeUpdate();
+            connection.commit();
+        }
+    }
+
     private void mockCarbonContext(MockedStatic<CarbonContext> carbonContext) {
 
         CarbonContext mockCarbonContext = mock(CarbonContext.class);
@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimView;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.internal.IdentityClaimManagementServiceDataHolder;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
@@ -39,10 +40,13 @@ import org.wso2.carbon.user.api.UserStoreException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadataManager {
 
     private static final Log log = LogFactory.getLog(CacheBackedUnifiedClaimMetadataManager.class);
+    private static final ConcurrentMap<Integer, Object> localClaimViewLocks = new ConcurrentHashMap<>();
 
     ClaimDialectCache claimDialectCache = ClaimDialectCache.getInstance();
     LocalClaimCache localClaimCache = LocalClaimCache.getInstance();
@@ -120,39 +124,23 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     @Override
     public List<LocalClaim> getLocalClaims(int tenantId) throws ClaimMetadataException {
 
-        List<LocalClaim> localClaimList = localClaimCache.getValueFromCache(tenantId, tenantId);
-
-        if (localClaimList == null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache miss for local claim list for tenant: " + tenantId);
-            }
-            localClaimList = super.getLocalClaims(tenantId);
-            localClaimCache.addToCache(tenantId, new ArrayList<>(localClaimList), tenantId);
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Cache hit for local claim list for tenant: " + tenantId);
-            }
-        }
-
-        return localClaimList;
+        return new ArrayList<>(getLocalClaimView(tenantId).getLocalClaims());
     }
 
     @Override
     public Optional<LocalClaim> getLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
-        return getLocalClaims(tenantId).stream()
-                .filter(localClaim -> localClaimURI.equals(localClaim.getClaimURI()))
-                .findFirst();
+        return Optional.ofNullable(getLocalClaimView(tenantId).getLocalClaim(localClaimURI));
     }
 
     @Override
     public void addLocalClaim(LocalClaim localClaim, int tenantId) throws ClaimMetadataException {
 
         super.addLocalClaim(localClaim, tenantId);
-        removeLocalClaimCache(tenantId);
+        refreshLocalClaimView(localClaim.getClaimURI(), tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is added for tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Updated LocalClaimCache.");
         }
     }
 
@@ -162,12 +150,12 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.updateLocalClaim(localClaim, tenantId);
         List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
         for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            localClaimCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
             associatedClaimCache.clearCacheEntry(localClaim.getClaimURI(), tenantIdToBeInvalidated);
         }
+        refreshLocalClaimView(localClaim.getClaimURI(), tenantIdsToBeInvalidated, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is updated in tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Updated LocalClaimCache.");
         }
     }
 
@@ -189,12 +177,12 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         super.removeLocalClaim(localClaimURI, tenantId);
         List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
         for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            localClaimCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
             associatedClaimCache.clearCacheEntry(localClaimURI, tenantIdToBeInvalidated);
         }
+        refreshLocalClaimView(localClaimURI, tenantIdsToBeInvalidated, tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaimURI + " is deleted in tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Updated LocalClaimCache.");
         }
     }
 
@@ -374,6 +362,79 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         }
     }
 
+    /**
+     * Gets the merged local claim view of the given tenant from the cache, or builds and caches it on a cache miss.
+     *
+     * @param tenantId The id of the tenant.
+     * @return The local claim view of the tenant.
+     * @throws ClaimMetadataException If an error occurs while retrieving the local claims.
+     */
+    private LocalClaimView getLocalClaimView(int tenantId) throws ClaimMetadataException {
+
+        LocalClaimView localClaimView = localClaimCache.getValueFromCache(tenantId, tenantId);
+        if (localClaimView == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache miss for local claim list for tenant: " + tenantId);
+            }
+            localClaimView = new LocalClaimView(super.getLocalClaims(tenantId));
+            localClaimCache.addToCache(tenantId, localClaimView, tenantId);
+        } else {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for local claim list for tenant: " + tenantId);
+            }
+        }
+        return localClaimView;
+    }
+
+    private void refreshLocalClaimView(String localClaimURI, int tenantId) throws ClaimMetadataException {
+
+        refreshLocalClaimView(localClaimURI, getOrganizationsToBeInvalidated(tenantId), tenantId);
+    }
+
+    /**
+     * Updates the cached local claim view of the given tenant with the changed claim, instead of resolving all the
+     * local claims of the tenant again on the next lookup. The views of the child organizations inherit the claim,
+     * hence they are invalidated.
+     *
+     * @param localClaimURI            The URI of the changed local claim.
+     * @param tenantIdsToBeInvalidated The ids of the tenant and its child organizations.
+     * @param tenantId                 The id of the tenant in which the claim is changed.
+     * @throws ClaimMetadataException If an error occurs while checking whether the tenant is an organization.
+     */
+    private void refreshLocalClaimView(String localClaimURI, List<Integer> tenantIdsToBeInvalidated, int tenantId)
+            throws ClaimMetadataException {
+
+        for (Integer tenantIdToBeInvalidated : tenantIdsToBeInvalidated) {
+            if (tenantIdToBeInvalidated != tenantId) {
+                localClaimCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
+            }
+        }
+        // The refresh is a read-modify-write of the cached view, hence the refreshes of a tenant are serialized, so
+        // that concurrent changes to different claims do not overwrite each other.
+        synchronized (localClaimViewLocks.computeIfAbsent(tenantId, key -> new Object())) {
+            LocalClaimView localClaimView = localClaimCache.getValueFromCache(tenantId, tenantId);
+            if (localClaimView == null) {
+                return;
+            }
+            // The claims of an organization are resolved through its parent organizations, hence the view is rebuilt.
+            if (isOrganization(tenantId)) {
+                localClaimCache.clearCacheEntry(tenantId, tenantId);
+                return;
+            }
+            try {
+                Optional<LocalClaim> localClaim = resolveLocalClaim(localClaimURI, tenantId);
+                LocalClaimView updatedLocalClaimView = localClaim.isPresent() ?
+                        localClaimView.withLocalClaim(localClaim.get()) :
+                        localClaimView.withoutLocalClaim(localClaimURI);
+                localClaimCache.addToCache(tenantId, updatedLocalClaimView, tenantId);
+            } catch (ClaimMetadataException e) {
+                log.warn("Error while resolving the local claim: " + localClaimURI + " of tenant: " + tenantId +
+                        ". Invalidating LocalClaimCache.", e);
+                localClaimCache.clearCacheEntry(tenantId, tenantId);
+            }
+        }
+    }
+
     /**
      * Removes the claim dialect cache of the given tenant and its child organizations.
      *
@@ -38,6 +38,7 @@ import org.wso2.carbon.user.core.listener.ClaimManagerListener;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.wso2.carbon.identity.base.IdentityConstants.ServerConfig.SKIP_CLAIM_METADATA_PERSISTENCE;
 
@@ -126,6 +127,11 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
         try {
             // Add listener
 
+            Optional<LocalClaim> matchingLocalClaim = this.unifiedClaimMetadataManager.getLocalClaim(claimURI,
+                    tenantId);
+            if (matchingLocalClaim.isPresent()) {
+                return getMappedAttribute(domainName, matchingLocalClaim.get(), tenantId);
+            }
             List<LocalClaim> localClaimList = this.unifiedClaimMetadataManager.getLocalClaims(tenantId);
 
             // Add listener
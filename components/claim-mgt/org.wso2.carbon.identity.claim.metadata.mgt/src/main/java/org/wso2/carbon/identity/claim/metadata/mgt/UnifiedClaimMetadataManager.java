@@ -295,31 +295,75 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         List<LocalClaim> localClaimsInDB = getLocalClaimsInDB(tenantId);
         Map<String, LocalClaim> localClaimMap = localClaimsInDB.stream()
                 .collect(Collectors.toMap(LocalClaim::getClaimURI, claim -> claim));
+        // System claims are looked up from a map, instead of searching the system claims for each claim.
+        Map<String, LocalClaim> systemClaimMap = new HashMap<>(localClaimsInSystem.size());
+        localClaimsInSystem.forEach(systemClaim -> systemClaimMap.put(systemClaim.getClaimURI(), systemClaim));
 
         localClaimsInSystem.forEach(systemClaim -> {
             markAsSystemClaim(systemClaim);
             localClaimMap.merge(systemClaim.getClaimURI(), systemClaim, (existingClaim, newClaim) -> {
-                markAsSystemClaim(existingClaim);
-                for (Map.Entry<String, String> entry : newClaim.getClaimProperties().entrySet()) {
-                    if (!existingClaim.getClaimProperties().containsKey(entry.getKey())) {
-                        existingClaim.setClaimProperty(entry.getKey(), entry.getValue());
-                    }
-                }
-                resolvePrimaryUserStoreMappingFromSystemClaim(existingClaim, newClaim);
+                mergeSystemClaim(existingClaim, newClaim);
                 return existingClaim;
             });
         });
 
         for (LocalClaim localClaim : localClaimMap.values()) {
+            LocalClaim systemClaim = systemClaimMap.get(localClaim.getClaimURI());
             // If FlowInitiator claim property is present in localClaimsInDB, set it to system value.
-            setFlowInitiatorClaimProperty(localClaim.getClaimURI(), tenantId, localClaim);
+            setFlowInitiatorClaimProperty(localClaim, systemClaim);
             // If SharedProfileValueResolvingMethod is missing in localClaimsInDB, set it to default value.
-            setDefaultSharedProfileValueResolvingMethod(localClaim.getClaimURI(), tenantId, localClaim);
+            setDefaultSharedProfileValueResolvingMethod(localClaim, systemClaim);
         }
 
         return new ArrayList<>(localClaimMap.values());
     }
 
+    /**
+     * Resolve a single local claim the same way it is resolved by {@link #getLocalClaims(int)}. This allows a
+     * precomputed list of the local claims of a tenant to be updated when a claim changes, without resolving all the
+     * claims of the tenant again.
+     *
+     * @param localClaimURI Local claim URI.
+     * @param tenantId      Tenant ID.
+     * @return Resolved local claim, or an empty optional if the claim does not exist.
+     * @throws ClaimMetadataException If an error occurs while retrieving the local claim.
+     */
+    protected Optional<LocalClaim> resolveLocalClaim(String localClaimURI, int tenantId)
+            throws ClaimMetadataException {
+
+        LocalClaim dbLocalClaim = retrieveLocalClaimInDBFromHierarchy(localClaimURI, tenantId).orElse(null);
+        LocalClaim systemClaim = this.systemDefaultClaimMetadataManager.getLocalClaim(localClaimURI, tenantId)
+                .orElse(null);
+        if (systemClaim != null) {
+            markAsSystemClaim(systemClaim);
+        }
+        LocalClaim localClaim;
+        if (dbLocalClaim != null) {
+            if (systemClaim != null) {
+                mergeSystemClaim(dbLocalClaim, systemClaim);
+            }
+            localClaim = dbLocalClaim;
+        } else if (systemClaim != null) {
+            localClaim = systemClaim;
+        } else {
+            return Optional.empty();
+        }
+        setFlowInitiatorClaimProperty(localClaim, systemClaim);
+        setDefaultSharedProfileValueResolvingMethod(localClaim, systemClaim);
+        return Optional.of(localClaim);
+    }
+
+    private void mergeSystemClaim(LocalClaim existingClaim, LocalClaim systemClaim) {
+
+        markAsSystemClaim(existingClaim);
+        for (Map.Entry<String, String> entry : systemClaim.getClaimProperties().entrySet()) {
+            if (!existingClaim.getClaimProperties().containsKey(entry.getKey())) {
+                existingClaim.setClaimProperty(entry.getKey(), entry.getValue());
+            }
+        }
+        resolvePrimaryUserStoreMappingFromSystemClaim(existingClaim, systemClaim);
+    }
+
     /**
      * Resolves the primary user store mapping; this checks if the existing claim has the primary user store mapping,
      * and if it is not found, the value is taken from the system claim instead.
@@ -636,26 +680,35 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
     private void setDefaultSharedProfileValueResolvingMethod(String localClaimURI, int tenantId,
                                                              LocalClaim localClaimInDB) throws ClaimMetadataException {
 
+        setDefaultSharedProfileValueResolvingMethod(localClaimInDB,
+                this.systemDefaultClaimMetadataManager.getLocalClaim(localClaimURI, tenantId).orElse(null));
+    }
+
+    /**
+     * Set the default SharedProfileValueResolvingMethod of a local claim, if it is not set.
+     *
+     * @param localClaimInDB     Local claim.
+     * @param localClaimInSystem System default claim of the same URI, or null if it is not a system claim.
+     */
+    private void setDefaultSharedProfileValueResolvingMethod(LocalClaim localClaimInDB,
+                                                             LocalClaim localClaimInSystem) {
+
         String sharedProfileValueResolvingMethod =
                 localClaimInDB.getClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD);
         if (StringUtils.isNotBlank(sharedProfileValueResolvingMethod)) {
             return;
         }
         // If the claim is a system claim, get the default value set in the system default claim metadata.
-        if (isSystemDefaultLocalClaim(localClaimURI, tenantId)) {
-            Optional<LocalClaim> localClaimInSystem = this.systemDefaultClaimMetadataManager.getLocalClaim(
-                    localClaimURI, tenantId);
-            if (localClaimInSystem.isPresent()) {
-                String systemDefaultSharedProfileValueResolvingMethod = localClaimInSystem.get()
-                        .getClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD);
-                if (StringUtils.isNotBlank(systemDefaultSharedProfileValueResolvingMethod)) {
-                    localClaimInDB.setClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD,
-                            systemDefaultSharedProfileValueResolvingMethod);
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug(String.format("SharedProfileValueResolvingMethod is not defined for the system " +
-                                "claim: %s", localClaimURI));
-                    }
+        if (localClaimInSystem != null) {
+            String systemDefaultSharedProfileValueResolvingMethod =
+                    localClaimInSystem.getClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD);
+            if (StringUtils.isNotBlank(systemDefaultSharedProfileValueResolvingMethod)) {
+                localClaimInDB.setClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD,
+                        systemDefaultSharedProfileValueResolvingMethod);
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(String.format("SharedProfileValueResolvingMethod is not defined for the system " +
+                            "claim: %s", localClaimInDB.getClaimURI()));
                 }
             }
         } else {
@@ -665,21 +718,20 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         }
     }
 
-    private void setFlowInitiatorClaimProperty(String localClaimURI, int tenantId,
-                                               LocalClaim localClaimInDB) throws ClaimMetadataException {
+    /**
+     * Set the FlowInitiator property of a system claim to the value of the system default claim.
+     *
+     * @param localClaimInDB     Local claim.
+     * @param localClaimInSystem System default claim of the same URI, or null if it is not a system claim.
+     */
+    private void setFlowInitiatorClaimProperty(LocalClaim localClaimInDB, LocalClaim localClaimInSystem) {
 
-        if (!isSystemDefaultLocalClaim(localClaimURI, tenantId)) {
+        if (localClaimInSystem == null) {
             return;
         }
-
-        // If the claim is a system claim, get the default value set in the system default claim metadata.
-        Optional<LocalClaim> localClaimInSystem = this.systemDefaultClaimMetadataManager.getLocalClaim(
-                localClaimURI, tenantId);
-        if (localClaimInSystem.isPresent()) {
-            String flowInitiatorProperty = localClaimInSystem.get().getClaimProperty(ClaimConstants.FLOW_INITIATOR);
-            if (StringUtils.isNotBlank(flowInitiatorProperty)) {
-                localClaimInDB.setClaimProperty(ClaimConstants.FLOW_INITIATOR, flowInitiatorProperty);
-            }
+        String flowInitiatorProperty = localClaimInSystem.getClaimProperty(ClaimConstants.FLOW_INITIATOR);
+        if (StringUtils.isNotBlank(flowInitiatorProperty)) {
+            localClaimInDB.setClaimProperty(ClaimConstants.FLOW_INITIATOR, flowInitiatorProperty);
         }
     }
 
@@ -1295,7 +1347,7 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
      * @return true if the tenant is an organization, false otherwise.
      * @throws ClaimMetadataException If an error occurs when checking whether the tenant is an organization.
      */
-    private boolean isOrganization(int tenantId) throws ClaimMetadataException {
+    protected boolean isOrganization(int tenantId) throws ClaimMetadataException {
 
         try {
             return OrganizationManagementUtil.isOrganization(tenantId);
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.internal.IdentityClaimManagementServiceDataHolder;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
+import org.wso2.carbon.identity.core.cache.CacheWarmUpHandler;
+
+import java.util.List;
+
+/**
+ * Warms up the claim dialect, local claim and external claim caches of a tenant by loading all the claim dialects of
+ * the tenant together with their claims.
+ */
+public class ClaimCacheWarmUpHandler implements CacheWarmUpHandler {
+
+    private static final Log log = LogFactory.getLog(ClaimCacheWarmUpHandler.class);
+
+    @Override
+    public String getName() {
+
+        return "ClaimCacheWarmUpHandler";
+    }
+
+    @Override
+    public void warmUp(String tenantDomain) throws ClaimMetadataException {
+
+        ClaimMetadataManagementService claimMetadataManagementService =
+                IdentityClaimManagementServiceDataHolder.getInstance().getClaimManagementService();
+        if (claimMetadataManagementService == null) {
+            return;
+        }
+        List<ClaimDialect> claimDialects = claimMetadataManagementService.getClaimDialects(tenantDomain);
+        claimMetadataManagementService.getLocalClaims(tenantDomain);
+        for (ClaimDialect claimDialect : claimDialects) {
+            if (!ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equals(claimDialect.getClaimDialectURI())) {
+                claimMetadataManagementService.getExternalClaims(claimDialect.getClaimDialectURI(), tenantDomain);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded the claims of " + claimDialects.size() + " claim dialect(s) of tenant: " +
+                    tenantDomain + " into the cache.");
+        }
+    }
+}
@@ -18,15 +18,12 @@
 
 package org.wso2.carbon.identity.claim.metadata.mgt.cache;
 
-import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.core.cache.BaseCache;
 
-import java.util.ArrayList;
-
 /**
- * Cache implementation for LocalClaims.
+ * Cache implementation for LocalClaims. The merged local claims of a tenant are cached as a {@link LocalClaimView}.
  */
-public class LocalClaimCache extends BaseCache<Integer, ArrayList<LocalClaim>> {
+public class LocalClaimCache extends BaseCache<Integer, LocalClaimView> {
 
     private static final LocalClaimCache instance = new LocalClaimCache();
     private static final String CACHE_NAME = "LocalClaimCache";
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merged view of the local claims of a tenant, with the claims indexed by the claim URI. A view is never modified once it is created; a changed claim results in a new view, which shares the
+ * unchanged claims with the previous view. Hence, a view can be read concurrently without locking.
+ */
+public class LocalClaimView implements Serializable {
+
+    private static final long serialVersionUID = 3297385120981467203L;
+
+    private final List<LocalClaim> localClaims;
+    private final Map<String, LocalClaim> localClaimsByURI;
+
+    public LocalClaimView(List<LocalClaim> localClaims) {
+
+        Map<String, LocalClaim> claimsByURI = new HashMap<>(localClaims.size());
+        for (LocalClaim localClaim : localClaims) {
+            claimsByURI.put(localClaim.getClaimURI(), localClaim);
+        }
+        this.localClaims = Collections.unmodifiableList(new ArrayList<>(localClaims));
+        this.localClaimsByURI = Collections.unmodifiableMap(claimsByURI);
+    }
+
+    /**
+     * @return Unmodifiable list of the local claims of the view.
+     */
+    public List<LocalClaim> getLocalClaims() {
+
+        return localClaims;
+    }
+
+    /**
+     * @param localClaimURI Local claim URI.
+     * @return Local claim of the given URI, or null if the claim is not in the view.
+     */
+    public LocalClaim getLocalClaim(String localClaimURI) {
+
+        return localClaimsByURI.get(localClaimURI);
+    }
+
+    /**
+     * Create a new view with the given claim added, or replacing the claim of the same URI.
+     *
+     * @param localClaim Local claim.
+     * @return New view.
+     */
+    public LocalClaimView withLocalClaim(LocalClaim localClaim) {
+
+        List<LocalClaim> claims = new ArrayList<>(localClaims.size() + 1);
+        boolean replaced = false;
+        for (LocalClaim existingClaim : localClaims) {
+            if (existingClaim.getClaimURI().equals(localClaim.getClaimURI())) {
+                claims.add(localClaim);
+                replaced = true;
+            } else {
+                claims.add(existingClaim);
+            }
+        }
+        if (!replaced) {
+            claims.add(localClaim);
+        }
+        return new LocalClaimView(claims);
+    }
+
+    /**
+     * Create a new view without the claim of the given URI.
+     *
+     * @param localClaimURI Local claim URI.
+     * @return New view.
+     */
+    public LocalClaimView withoutLocalClaim(String localClaimURI) {
+
+        List<LocalClaim> claims = new ArrayList<>(localClaims.size());
+        for (LocalClaim existingClaim : localClaims) {
+            if (!existingClaim.getClaimURI().equals(localClaimURI)) {
+                claims.add(existingClaim);
+            }
+        }
+        return new LocalClaimView(claims);
+    }
+}
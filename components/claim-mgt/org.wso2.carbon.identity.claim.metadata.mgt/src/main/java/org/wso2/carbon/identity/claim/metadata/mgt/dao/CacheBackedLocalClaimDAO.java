@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataExcept
 import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
+import org.wso2.carbon.identity.core.cache.SingleFlightLoader;
 import org.wso2.carbon.user.api.UserStoreException;
 
 import java.util.ArrayList;
@@ -36,6 +37,9 @@ import java.util.List;
 public class CacheBackedLocalClaimDAO {
 
     private static final Log log = LogFactory.getLog(CacheBackedLocalClaimDAO.class);
+    // The local claims are cached per tenant id, hence the tenant id is used as the key of the loader as well.
+    private static final SingleFlightLoader<Integer, List<LocalClaim>> LOCAL_CLAIMS_LOADER =
+            new SingleFlightLoader<>("LocalClaimDAOCache", LocalClaimDAOCache::getInstance);
 
     LocalClaimDAO localClaimDAO;
 
@@ -56,8 +60,12 @@ public class CacheBackedLocalClaimDAO {
             if (log.isDebugEnabled()) {
                 log.debug("Cache miss for local claim list for tenant: " + tenantId);
             }
-            localClaimList = localClaimDAO.getLocalClaims(tenantId);
-            localClaimInvalidationCache.addToCacheIfNoDuplicate(tenantId, new ArrayList<>(localClaimList), tenantId);
+            localClaimList = LOCAL_CLAIMS_LOADER.load(tenantId, String.valueOf(tenantId), () -> {
+                List<LocalClaim> loadedLocalClaims = localClaimDAO.getLocalClaims(tenantId);
+                localClaimInvalidationCache.addToCacheIfNoDuplicate(tenantId, new ArrayList<>(loadedLocalClaims),
+                        tenantId);
+                return loadedLocalClaims;
+            });
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("Cache hit for local claim list for tenant: " + tenantId);
@@ -71,12 +79,14 @@ public class CacheBackedLocalClaimDAO {
 
         localClaimDAO.addLocalClaim(localClaim, tenantId);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        LOCAL_CLAIMS_LOADER.invalidate(tenantId, String.valueOf(tenantId));
     }
 
     public void updateLocalClaim(LocalClaim localClaim, int tenantId) throws ClaimMetadataException {
 
         localClaimDAO.updateLocalClaim(localClaim, tenantId);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        LOCAL_CLAIMS_LOADER.invalidate(tenantId, String.valueOf(tenantId));
         associatedClaimDAOCache.clearCacheEntry(localClaim.getClaimURI(), tenantId);
     }
 
@@ -93,12 +103,14 @@ public class CacheBackedLocalClaimDAO {
 
         localClaimDAO.updateLocalClaimMappings(localClaimList, tenantId, userStoreDomain);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        LOCAL_CLAIMS_LOADER.invalidate(tenantId, String.valueOf(tenantId));
     }
 
     public void removeLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
         localClaimDAO.removeLocalClaim(localClaimURI, tenantId);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        LOCAL_CLAIMS_LOADER.invalidate(tenantId, String.valueOf(tenantId));
         associatedClaimDAOCache.clearCacheEntry(localClaimURI, tenantId);
     }
 
@@ -120,6 +132,7 @@ public class CacheBackedLocalClaimDAO {
         }
         localClaimDAO.deleteClaimMappingAttributes(tenantId, userstoreDomain);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        LOCAL_CLAIMS_LOADER.invalidate(tenantId, String.valueOf(tenantId));
     }
 
     /**
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test class for LocalClaimView.
+ */
+public class LocalClaimViewTest {
+
+    private static final String EMAIL_CLAIM_URI = "http://wso2.org/claims/emailaddress";
+    private static final String USERNAME_CLAIM_URI = "http://wso2.org/claims/username";
+    private static final String COUNTRY_CLAIM_URI = "http://wso2.org/claims/country";
+
+    @Test
+    public void testLookupByURI() {
+
+        LocalClaim email = createLocalClaim(EMAIL_CLAIM_URI, "PRIMARY", "mail");
+        LocalClaim username = createLocalClaim(USERNAME_CLAIM_URI, "PRIMARY", "uid");
+        LocalClaimView view = new LocalClaimView(Arrays.asList(email, username));
+
+        assertEquals(view.getLocalClaims(), Arrays.asList(email, username));
+        assertSame(view.getLocalClaim(EMAIL_CLAIM_URI), email);
+        assertNull(view.getLocalClaim(COUNTRY_CLAIM_URI));
+        assertSame(view.getLocalClaim(USERNAME_CLAIM_URI), username);
+    }
+
+    @Test
+    public void testWithLocalClaim() {
+
+        LocalClaim email = createLocalClaim(EMAIL_CLAIM_URI, "PRIMARY", "mail");
+        LocalClaim username = createLocalClaim(USERNAME_CLAIM_URI, "PRIMARY", "uid");
+        LocalClaimView view = new LocalClaimView(Arrays.asList(email, username));
+
+        LocalClaim updatedEmail = createLocalClaim(EMAIL_CLAIM_URI, "PRIMARY", "email");
+        LocalClaimView updatedView = view.withLocalClaim(updatedEmail);
+        assertEquals(updatedView.getLocalClaims(), Arrays.asList(updatedEmail, username));
+        assertSame(updatedView.getLocalClaim(EMAIL_CLAIM_URI), updatedEmail);
+
+        LocalClaim country = createLocalClaim(COUNTRY_CLAIM_URI, "PRIMARY", "country");
+        LocalClaimView extendedView = updatedView.withLocalClaim(country);
+        assertEquals(extendedView.getLocalClaims(), Arrays.asList(updatedEmail, username, country));
+
+        // The original view is not modified.
+        assertSame(view.getLocalClaim(EMAIL_CLAIM_URI), email);
+        assertNull(view.getLocalClaim(COUNTRY_CLAIM_URI));
+    }
+
+    @Test
+    public void testWithoutLocalClaim() {
+
+        LocalClaim email = createLocalClaim(EMAIL_CLAIM_URI, "PRIMARY", "mail");
+        LocalClaim username = createLocalClaim(USERNAME_CLAIM_URI, "PRIMARY", "uid");
+        LocalClaimView view = new LocalClaimView(Arrays.asList(email, username));
+
+        LocalClaimView updatedView = view.withoutLocalClaim(EMAIL_CLAIM_URI);
+        assertEquals(updatedView.getLocalClaims(), Collections.singletonList(username));
+        assertNull(updatedView.getLocalClaim(EMAIL_CLAIM_URI));
+        assertEquals(view.getLocalClaims().size(), 2);
+    }
+
+    private LocalClaim createLocalClaim(String claimURI, String userStoreDomain, String attributeName) {
+
+        return new LocalClaim(claimURI, Collections.singletonList(new AttributeMapping(userStoreDomain,
+                attributeName)), new HashMap<>());
+    }
+}
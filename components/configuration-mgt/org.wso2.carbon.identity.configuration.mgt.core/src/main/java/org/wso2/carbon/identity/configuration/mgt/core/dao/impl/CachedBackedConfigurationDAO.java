@@ -34,6 +34,8 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
+import org.wso2.carbon.identity.core.cache.SingleFlightLoader;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
@@ -48,6 +50,11 @@ import static org.wso2.carbon.identity.configuration.mgt.core.util.Configuration
 public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
     private static final Log log = LogFactory.getLog(CachedBackedConfigurationDAO.class);
+    // Resources are loaded by the resource type id and the name, while the cache is keyed by the name only.
+    private static final SingleFlightLoader<String, Resource> RESOURCE_BY_NAME_LOADER =
+            new SingleFlightLoader<>("ResourceByNameCache", ResourceByNameCache::getInstance);
+    private static final SingleFlightLoader<String, Resource> RESOURCE_BY_ID_LOADER =
+            new SingleFlightLoader<>("ResourceByIdCache", ResourceByIdCache::getInstance);
     private final ConfigurationDAO configurationDAO;
     private final ResourceByIdCache resourceByIdCache;
     private final ResourceByNameCache resourceByNameCache;
@@ -89,8 +96,11 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
                         "%d, Resource type id: %s", name, tenantId, resourceTypeId);
                 log.debug(message);
             }
-            resource = configurationDAO.getResourceByName(tenantId, resourceTypeId, name);
-            addResourceToCache(resource);
+            resource = RESOURCE_BY_NAME_LOADER.load(resourceTypeId + ":" + name, String.valueOf(tenantId), () -> {
+                Resource loadedResource = configurationDAO.getResourceByName(tenantId, resourceTypeId, name);
+                addResourceToCache(loadedResource);
+                return loadedResource;
+            });
         }
         return resource;
     }
@@ -110,8 +120,11 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
                 String message = String.format("Cache miss for resource by it's id. Resource id: %s", resourceId);
                 log.debug(message);
             }
-            resource = configurationDAO.getResourceById(resourceId);
-            addResourceToCache(resource);
+            resource = RESOURCE_BY_ID_LOADER.load(resourceId, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, () -> {
+                Resource loadedResource = configurationDAO.getResourceById(resourceId);
+                addResourceToCache(loadedResource);
+                return loadedResource;
+            });
         }
         return resource;
     }
@@ -127,6 +140,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.deleteResourceById(tenantId, resourceId);
         deleteCacheByResourceId(resourceId, tenantId);
+        RESOURCE_BY_ID_LOADER.invalidate(resourceId, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
     }
 
     @Override
@@ -142,6 +156,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.deleteResourceByName(tenantId, resourceTypeId, name);
         deleteCacheByResourceByName(name, tenantId);
+        RESOURCE_BY_NAME_LOADER.invalidate(resourceTypeId + ":" + name, String.valueOf(tenantId));
     }
 
     @Override
@@ -388,6 +403,12 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         resourceByIdCache.clearCacheEntry(resourceByIdCacheKey);
         resourceByNameCache.clearCacheEntry(resourceByNameCacheKey);
+        RESOURCE_BY_ID_LOADER.invalidate(resource.getResourceId(), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        // The resource type id of the resource is not known here, hence the loads of the tenant are invalidated.
+        if (resource.getTenantDomain() != null) {
+            RESOURCE_BY_NAME_LOADER.invalidateAll(
+                    String.valueOf(IdentityTenantUtil.getTenantId(resource.getTenantDomain())));
+        }
     }
 
     private void deleteCacheByResourceId(String resourceId, int tenantId) throws ConfigurationManagementException {
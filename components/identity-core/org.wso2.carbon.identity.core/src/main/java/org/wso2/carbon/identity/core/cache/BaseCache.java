@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.core.cache;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.caching.impl.CacheImpl;
 import org.wso2.carbon.caching.impl.CachingConstants;
 import org.wso2.carbon.context.CarbonContext;
@@ -31,16 +32,26 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
 import javax.cache.CacheBuilder;
 import javax.cache.CacheConfiguration;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
 
 /**
  * A base class for all cache implementations in Identity modules. This maintains  caches in the tenanted space.
  * A copy of this class is maintained at org.wso2.carbon.identity.organization.management.service.cache component.
+ * <p>
+ * The tenant scoped cache handle is resolved once per tenant and reused. When the calling thread already runs in
+ * the flow of the requested tenant, cache operations are performed without starting a new tenant flow.
+ * <p>
+ * Unless disabled, hits, misses, puts, removals and evictions of the cache are recorded per tenant in the
+ * {@link CacheStatistics} of the cache, which are exposed through JMX by the {@link CacheStatisticsRegistry}.
  *
  * @param <K> cache key type.
  * @param <V> cache value type.
@@ -53,6 +64,9 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
     private final List<AbstractCacheListener<K, V>> cacheListeners;
     private String cacheName;
     private final IdentityCacheConfig identityCacheConfig;
+    private final Object cacheBuilderLock = new Object();
+    private final ConcurrentMap<Integer, Cache<K, V>> tenantCaches = new ConcurrentHashMap<>();
+    private final CacheStatistics statistics;
 
     public BaseCache(String cacheName) {
 
@@ -85,6 +99,8 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         } else {
             this.cacheListeners = Collections.emptyList();
         }
+        CacheStatisticsRegistry statisticsRegistry = CacheStatisticsRegistry.getInstance();
+        statistics = statisticsRegistry.isEnabled() ? statisticsRegistry.getCacheStatistics(cacheName) : null;
         if (log.isDebugEnabled()) {
             String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             log.debug("Cache : " + cacheName + "  is initialized for tenant domain : " + tenantDomain);
@@ -98,9 +114,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
                 .getCacheManager(CACHE_MANAGER_NAME);
 
         if (getCacheTimeout() > 0 && cacheBuilder == null) {
-            synchronized (cacheName.intern()) {
+            synchronized (cacheBuilderLock) {
                 if (cacheBuilder == null) {
                     cacheManager.removeCache(cacheName);
+                    tenantCaches.clear();
                     cacheBuilder = cacheManager.<K, V>createCacheBuilder(cacheName).
                             setExpiry(CacheConfiguration.ExpiryType.ACCESSED,
                                     new CacheConfiguration.Duration(TimeUnit.SECONDS, getCacheTimeout())).
@@ -147,15 +164,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.put(key, entry);
+        executeInTenant(tenantDomain, (cache, cacheTenantId) -> {
+            cache.put(key, entry);
+            if (statistics != null) {
+                statistics.recordPut(cacheTenantId);
             }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+            return null;
+        });
     }
 
     /**
@@ -171,15 +186,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.put(key, entry);
+        executeInTenant(tenantId, (cache, cacheTenantId) -> {
+            cache.put(key, entry);
+            if (statistics != null) {
+                statistics.recordPut(cacheTenantId);
             }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+            return null;
+        });
     }
 
     /**
@@ -194,15 +207,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.putIfNoDuplicate(key, entry);
+        executeInTenant(tenantDomain, (cache, cacheTenantId) -> {
+            cache.putIfNoDuplicate(key, entry);
+            if (statistics != null) {
+                statistics.recordPut(cacheTenantId);
             }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+            return null;
+        });
     }
 
     /**
@@ -217,15 +228,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.putIfNoDuplicate(key, entry);
+        executeInTenant(tenantId, (cache, cacheTenantId) -> {
+            cache.putIfNoDuplicate(key, entry);
+            if (statistics != null) {
+                statistics.recordPut(cacheTenantId);
             }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+            return null;
+        });
     }
 
     /**
@@ -245,16 +254,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
-            }
-            return null;
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        return executeInTenant(tenantDomain, (cache, cacheTenantId) -> getValue(cache, cacheTenantId, key));
     }
 
     /**
@@ -274,16 +274,7 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return null;
         }
 
-        try {
-            startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null && cache.get(key) != null) {
-                return cache.get(key);
-            }
-            return null;
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        return executeInTenant(tenantId, (cache, cacheTenantId) -> getValue(cache, cacheTenantId, key));
     }
 
     /**
@@ -298,15 +289,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.remove(key);
+        executeInTenant(tenantDomain, (cache, cacheTenantId) -> {
+            boolean removed = cache.remove(key);
+            if (removed && statistics != null) {
+                statistics.recordRemoval(cacheTenantId);
             }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+            return removed;
+        });
     }
 
     /**
@@ -321,15 +310,13 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.remove(key);
+        executeInTenant(tenantId, (cache, cacheTenantId) -> {
+            boolean removed = cache.remove(key);
+            if (removed && statistics != null) {
+                statistics.recordRemoval(cacheTenantId);
             }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+            return removed;
+        });
     }
 
     /**
@@ -343,15 +330,10 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
-        try {
-            startTenantFlow(tenantDomain);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.removeAll();
-            }
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
-        }
+        executeInTenant(tenantDomain, (cache, cacheTenantId) -> {
+            cache.removeAll();
+            return null;
+        });
     }
 
     /**
@@ -365,17 +347,174 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
             return;
         }
 
+        executeInTenant(tenantId, (cache, cacheTenantId) -> {
+            cache.removeAll();
+            return null;
+        });
+    }
+
+    /**
+     * Run the given operation on the cache of the given tenant. A tenant flow is started only if the calling thread
+     * does not already run in the flow of the given tenant.
+     */
+    private <R> R executeInTenant(String tenantDomain, CacheOperation<K, V, R> operation) {
+
+        CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+        int currentTenantId = carbonContext.getTenantId();
+        if (tenantDomain != null && currentTenantId != MultitenantConstants.INVALID_TENANT_ID &&
+                tenantDomain.equals(carbonContext.getTenantDomain())) {
+            return executeOnTenantCache(currentTenantId, operation);
+        }
+
+        try {
+            startTenantFlow(tenantDomain);
+            return executeOnTenantCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(),
+                    operation);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Run the given operation on the cache of the given tenant. A tenant flow is started only if the calling thread
+     * does not already run in the flow of the given tenant.
+     */
+    private <R> R executeInTenant(int tenantId, CacheOperation<K, V, R> operation) {
+
+        CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+        if (tenantId != MultitenantConstants.INVALID_TENANT_ID && tenantId == carbonContext.getTenantId() &&
+                carbonContext.getTenantDomain() != null) {
+            return executeOnTenantCache(tenantId, operation);
+        }
+
         try {
             startTenantFlow(tenantId);
-            Cache<K, V> cache = getBaseCache();
-            if (cache != null) {
-                cache.removeAll();
-            }
+            return executeOnTenantCache(tenantId, operation);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
     }
 
+    private <R> R executeOnTenantCache(int tenantId, CacheOperation<K, V, R> operation) {
+
+        Cache<K, V> cache = getTenantCache(tenantId);
+        if (cache == null) {
+            return null;
+        }
+        try {
+            return operation.execute(cache, tenantId);
+        } catch (IllegalStateException e) {
+            // The resolved cache has been stopped, e.g. when the tenant is unloaded. Resolve it again and retry once.
+            if (log.isDebugEnabled()) {
+                log.debug("Cache : " + cacheName + " of tenant : " + tenantId + " is no longer usable. " +
+                        "Resolving the cache again.", e);
+            }
+            tenantCaches.remove(tenantId, cache);
+            cache = getTenantCache(tenantId);
+            if (cache == null) {
+                return null;
+            }
+            return operation.execute(cache, tenantId);
+        }
+    }
+
+    private V getValue(Cache<K, V> cache, int tenantId, K key) {
+
+        V value = cache.get(key);
+        if (statistics != null) {
+            if (value != null) {
+                statistics.recordHit(tenantId);
+            } else {
+                statistics.recordMiss(tenantId);
+            }
+        }
+        return value;
+    }
+
+    private Cache<K, V> getTenantCache(int tenantId) {
+
+        Cache<K, V> cache = tenantCaches.get(tenantId);
+        if (cache != null) {
+            return cache;
+        }
+        cache = getBaseCache();
+        if (cache != null) {
+            Cache<K, V> existing = tenantCaches.putIfAbsent(tenantId, cache);
+            if (existing != null) {
+                return existing;
+            }
+            if (statistics != null) {
+                cache.registerCacheEntryListener(new StatisticsExpiryListener<>(statistics, tenantId));
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Get the statistics of the cache.
+     *
+     * @return Statistics of the cache, or null if cache statistics are disabled.
+     */
+    public CacheStatistics getCacheStatistics() {
+
+        return statistics;
+    }
+
+    /**
+     * Record the time taken to load a value which was not found in the cache, from the underlying source.
+     *
+     * @param tenantId     The tenant Id where the cache is maintained.
+     * @param elapsedNanos Time taken to load the value in nanoseconds.
+     */
+    protected void recordCacheLoad(int tenantId, long elapsedNanos) {
+
+        if (statistics != null) {
+            statistics.recordLoad(tenantId, elapsedNanos);
+        }
+    }
+
+    /**
+     * Record the time taken to load a value which was not found in the cache, in the tenant of the current thread.
+     *
+     * @param elapsedNanos Time taken to load the value in nanoseconds.
+     */
+    void recordCacheLoad(long elapsedNanos) {
+
+        if (statistics != null) {
+            recordCacheLoad(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId(), elapsedNanos);
+        }
+    }
+
+    /**
+     * Operation performed on a tenant scoped cache.
+     */
+    @FunctionalInterface
+    private interface CacheOperation<K, V, R> {
+
+        R execute(Cache<K, V> cache, int tenantId);
+    }
+
+    /**
+     * Records the entries expired or evicted from the cache of a tenant as evictions.
+     */
+    private static class StatisticsExpiryListener<K, V> implements CacheEntryExpiredListener<K, V> {
+
+        private final CacheStatistics statistics;
+        private final int tenantId;
+
+        StatisticsExpiryListener(CacheStatistics statistics, int tenantId) {
+
+            this.statistics = statistics;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public void entryExpired(CacheEntryEvent<? extends K, ? extends V> event) {
+
+            statistics.recordEviction(tenantId);
+        }
+    }
+
     public boolean isEnabled() {
 
         if (identityCacheConfig != null) {
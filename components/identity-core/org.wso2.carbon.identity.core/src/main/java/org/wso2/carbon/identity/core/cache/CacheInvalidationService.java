@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs deferred cache invalidations in the background, so that cache-backed DAOs do not need their own executors.
+ * <p>
+ * Invalidations are not run immediately, but after a short coalescing window. The same invalidation requested again
+ * within the window is run only once: cache entries are identified by the cache, the tenant domain and the key, and
+ * invalidation tasks are identified by a task key given by the caller. The pending entries of a cache are cleared
+ * together when the window ends.
+ * <p>
+ * The invalidations run on a bounded number of daemon threads. When the number of pending invalidations reaches the
+ * configured limit, further invalidations are run in the calling thread, as dropping an invalidation would leave
+ * stale entries in the cache. Hence, this should only be used for invalidations which are allowed to be delayed by
+ * the coalescing window, such as the invalidation of the entries of other organizations.
+ */
+public class CacheInvalidationService implements CacheInvalidationStatisticsMXBean {
+
+    private static final Log log = LogFactory.getLog(CacheInvalidationService.class);
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final long DEFAULT_COALESCING_WINDOW_MILLIS = 100L;
+    private static final CacheInvalidationService instance = new CacheInvalidationService();
+
+    private final ConcurrentMap<String, Runnable> pendingTasks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<BaseCache<?, ?>, Set<CacheEntry>> pendingEntries = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean entryFlushScheduled = new AtomicBoolean();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final int poolSize;
+    private final int queueSize;
+    private final long coalescingWindowMillis;
+    private volatile ScheduledThreadPoolExecutor executor;
+
+    private CacheInvalidationService() {
+
+        // The sizes and the window are read from the configuration, once the configuration is loaded.
+        this(0, 0, -1L);
+    }
+
+    CacheInvalidationService(int poolSize, int queueSize, long coalescingWindowMillis) {
+
+        this.poolSize = poolSize;
+        this.queueSize = queueSize;
+        this.coalescingWindowMillis = coalescingWindowMillis;
+    }
+
+    public static CacheInvalidationService getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Schedule the invalidation of the given cache entry.
+     *
+     * @param cache        Cache of the entry.
+     * @param key          Cache key.
+     * @param tenantDomain Tenant domain of the cache entry.
+     * @param <K>          Cache key type.
+     * @param <V>          Cache value type.
+     */
+    public <K extends Serializable, V extends Serializable> void invalidate(BaseCache<K, V> cache, K key,
+                                                                             String tenantDomain) {
+
+        if (!reservePendingSlot()) {
+            callerRunsCount.incrementAndGet();
+            cache.clearCacheEntry(key, tenantDomain);
+            return;
+        }
+        Set<CacheEntry> entries = pendingEntries.computeIfAbsent(cache, pendingCache -> ConcurrentHashMap.newKeySet());
+        if (!entries.add(new CacheEntry(tenantDomain, key))) {
+            pendingCount.decrementAndGet();
+            coalescedCount.incrementAndGet();
+            return;
+        }
+        if (entryFlushScheduled.compareAndSet(false, true)) {
+            try {
+                getExecutor().schedule(this::flushPendingEntries, getCoalescingWindowMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                entryFlushScheduled.set(false);
+                flushPendingEntries();
+            }
+        }
+    }
+
+    /**
+     * Schedule the given invalidation task. If a task with the same key is already pending, the given task is not
+     * scheduled, as the pending task is expected to perform the same invalidation.
+     *
+     * @param taskKey Key which identifies the invalidation performed by the task.
+     * @param task    Invalidation task.
+     */
+    public void execute(String taskKey, Runnable task) {
+
+        if (!reservePendingSlot()) {
+            callerRunsCount.incrementAndGet();
+            runTask(taskKey, task);
+            return;
+        }
+        if (pendingTasks.putIfAbsent(taskKey, task) != null) {
+            pendingCount.decrementAndGet();
+            coalescedCount.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Cache invalidation task: " + taskKey + " is already pending.");
+            }
+            return;
+        }
+        Runnable pendingTask = () -> {
+            // Removed before running, so that the same invalidation requested while running is not skipped.
+            pendingTasks.remove(taskKey, task);
+            pendingCount.decrementAndGet();
+            runTask(taskKey, task);
+        };
+        try {
+            getExecutor().schedule(pendingTask, getCoalescingWindowMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingTask.run();
+        }
+    }
+
+    /**
+     * @return Number of cache entries and tasks waiting to be invalidated.
+     */
+    @Override
+    public int getPendingInvalidationCount() {
+
+        return pendingCount.get();
+    }
+
+    /**
+     * @return Number of invalidations which were skipped as the same invalidation was already pending.
+     */
+    @Override
+    public long getCoalescedInvalidationCount() {
+
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return Number of invalidations which were completed.
+     */
+    @Override
+    public long getCompletedInvalidationCount() {
+
+        return completedCount.get();
+    }
+
+    /**
+     * @return Number of invalidations which failed.
+     */
+    @Override
+    public long getFailedInvalidationCount() {
+
+        return failedCount.get();
+    }
+
+    /**
+     * @return Number of invalidations which were run in the calling thread as too many invalidations were pending.
+     */
+    @Override
+    public long getCallerRunsInvalidationCount() {
+
+        return callerRunsCount.get();
+    }
+
+    public void shutdown() {
+
+        ScheduledThreadPoolExecutor invalidationExecutor = executor;
+        if (invalidationExecutor != null) {
+            invalidationExecutor.shutdown();
+        }
+    }
+
+    private boolean reservePendingSlot() {
+
+        int maxPending = queueSize > 0 ? queueSize : IdentityUtil.getPropertyAsInt(
+                IdentityCoreConstants.CACHE_INVALIDATION_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+        while (true) {
+            int pending = pendingCount.get();
+            if (pending >= maxPending) {
+                return false;
+            }
+            if (pendingCount.compareAndSet(pending, pending + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flushPendingEntries() {
+
+        entryFlushScheduled.set(false);
+        for (Map.Entry<BaseCache<?, ?>, Set<CacheEntry>> cacheEntries : pendingEntries.entrySet()) {
+            BaseCache<Serializable, Serializable> cache =
+                    (BaseCache<Serializable, Serializable>) cacheEntries.getKey();
+            Iterator<CacheEntry> iterator = cacheEntries.getValue().iterator();
+            while (iterator.hasNext()) {
+                CacheEntry entry = iterator.next();
+                iterator.remove();
+                pendingCount.decrementAndGet();
+                try {
+                    cache.clearCacheEntry(entry.key, entry.tenantDomain);
+                    completedCount.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failedCount.incrementAndGet();
+                    log.error("Error while invalidating the cache entry: " + entry.key + " of tenant: " +
+                            entry.tenantDomain, e);
+                }
+            }
+        }
+    }
+
+    private void runTask(String taskKey, Runnable task) {
+
+        try {
+            task.run();
+            completedCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.error("Error while running the cache invalidation task: " + taskKey, e);
+        }
+    }
+
+    private long getCoalescingWindowMillis() {
+
+        if (coalescingWindowMillis >= 0) {
+            return coalescingWindowMillis;
+        }
+        return IdentityUtil.getPropertyAsMillis(IdentityCoreConstants.CACHE_INVALIDATION_COALESCING_WINDOW,
+                TimeUnit.MILLISECONDS, DEFAULT_COALESCING_WINDOW_MILLIS);
+    }
+
+    private ScheduledThreadPoolExecutor getExecutor() {
+
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    int threads = poolSize > 0 ? poolSize : IdentityUtil.getPropertyAsInt(
+                            IdentityCoreConstants.CACHE_INVALIDATION_POOL_SIZE, DEFAULT_POOL_SIZE);
+                    AtomicInteger threadCount = new AtomicInteger();
+                    ScheduledThreadPoolExecutor invalidationExecutor = new ScheduledThreadPoolExecutor(
+                            Math.max(threads, 1), runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "IdentityCacheInvalidation-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    invalidationExecutor.setRemoveOnCancelPolicy(true);
+                    executor = invalidationExecutor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static class CacheEntry {
+
+        private final String tenantDomain;
+        private final Serializable key;
+
+        CacheEntry(String tenantDomain, Serializable key) {
+
+            this.tenantDomain = tenantDomain;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheEntry)) {
+                return false;
+            }
+            CacheEntry that = (CacheEntry) o;
+            return Objects.equals(tenantDomain, that.tenantDomain) && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, key);
+        }
+    }
+}
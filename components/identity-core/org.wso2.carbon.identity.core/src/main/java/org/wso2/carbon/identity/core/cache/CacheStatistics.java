@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Hit, miss, put, removal, eviction and load statistics of an identity cache, kept per tenant.
+ * <p>
+ * Counters are striped {@link LongAdder}s, so recording a statistic does not contend between threads and the
+ * statistics can be kept enabled in production. Aggregated values are computed when they are read.
+ */
+public class CacheStatistics implements CacheStatisticsMXBean {
+
+    public static final String HITS = "hits";
+    public static final String MISSES = "misses";
+    public static final String PUTS = "puts";
+    public static final String REMOVALS = "removals";
+    public static final String EVICTIONS = "evictions";
+    public static final String LOADS = "loads";
+    public static final String AVERAGE_LOAD_TIME_MICROS = "averageLoadTimeMicros";
+
+    private final String cacheName;
+    private final ConcurrentMap<Integer, Counters> tenantCounters = new ConcurrentHashMap<>();
+
+    CacheStatistics(String cacheName) {
+
+        this.cacheName = cacheName;
+    }
+
+    void recordHit(int tenantId) {
+
+        getCounters(tenantId).hits.increment();
+    }
+
+    void recordMiss(int tenantId) {
+
+        getCounters(tenantId).misses.increment();
+    }
+
+    void recordPut(int tenantId) {
+
+        getCounters(tenantId).puts.increment();
+    }
+
+    void recordRemoval(int tenantId) {
+
+        getCounters(tenantId).removals.increment();
+    }
+
+    void recordEviction(int tenantId) {
+
+        getCounters(tenantId).evictions.increment();
+    }
+
+    void recordLoad(int tenantId, long elapsedNanos) {
+
+        Counters counters = getCounters(tenantId);
+        counters.loads.increment();
+        counters.loadNanos.add(elapsedNanos);
+    }
+
+    @Override
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return sum(counters -> counters.hits);
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return sum(counters -> counters.misses);
+    }
+
+    @Override
+    public double getHitRatio() {
+
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public long getPutCount() {
+
+        return sum(counters -> counters.puts);
+    }
+
+    @Override
+    public long getRemovalCount() {
+
+        return sum(counters -> counters.removals);
+    }
+
+    @Override
+    public long getEvictionCount() {
+
+        return sum(counters -> counters.evictions);
+    }
+
+    @Override
+    public long getLoadCount() {
+
+        return sum(counters -> counters.loads);
+    }
+
+    @Override
+    public long getAverageLoadTimeMicros() {
+
+        return averageMicros(sum(counters -> counters.loadNanos), getLoadCount());
+    }
+
+    @Override
+    public int[] getTenantIds() {
+
+        return tenantCounters.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    @Override
+    public Map<String, Long> getTenantStatistics(int tenantId) {
+
+        Counters counters = tenantCounters.get(tenantId);
+        if (counters == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put(HITS, counters.hits.sum());
+        statistics.put(MISSES, counters.misses.sum());
+        statistics.put(PUTS, counters.puts.sum());
+        statistics.put(REMOVALS, counters.removals.sum());
+        statistics.put(EVICTIONS, counters.evictions.sum());
+        statistics.put(LOADS, counters.loads.sum());
+        statistics.put(AVERAGE_LOAD_TIME_MICROS, averageMicros(counters.loadNanos.sum(), counters.loads.sum()));
+        return statistics;
+    }
+
+    @Override
+    public void reset() {
+
+        tenantCounters.clear();
+    }
+
+    @Override
+    public String toString() {
+
+        return "CacheStatistics{cacheName=" + cacheName + ", hits=" + getHitCount() + ", misses=" + getMissCount() +
+                ", puts=" + getPutCount() + ", removals=" + getRemovalCount() + ", evictions=" +
+                getEvictionCount() + ", loads=" + getLoadCount() + "}";
+    }
+
+    private Counters getCounters(int tenantId) {
+
+        Counters counters = tenantCounters.get(tenantId);
+        if (counters == null) {
+            counters = tenantCounters.computeIfAbsent(tenantId, id -> new Counters());
+        }
+        return counters;
+    }
+
+    private long sum(Function<Counters, LongAdder> counter) {
+
+        long total = 0;
+        for (Counters counters : tenantCounters.values()) {
+            total += counter.apply(counters).sum();
+        }
+        return total;
+    }
+
+    private static long averageMicros(long totalNanos, long count) {
+
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos / count);
+    }
+
+    /**
+     * Counters of the cache in a single tenant.
+     */
+    private static final class Counters {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder puts = new LongAdder();
+        private final LongAdder removals = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+    }
+}
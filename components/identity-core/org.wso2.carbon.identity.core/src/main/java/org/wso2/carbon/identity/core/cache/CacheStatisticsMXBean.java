@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.Map;
+
+/**
+ * Management interface of the statistics of an identity cache, exposed through JMX.
+ */
+public interface CacheStatisticsMXBean {
+
+    String getCacheName();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRatio();
+
+    long getPutCount();
+
+    long getRemovalCount();
+
+    long getEvictionCount();
+
+    long getLoadCount();
+
+    long getAverageLoadTimeMicros();
+
+    int[] getTenantIds();
+
+    /**
+     * Get the statistics of the cache in the given tenant.
+     *
+     * @param tenantId Tenant id.
+     * @return Statistic name to value map. Empty if the cache has not been used in the tenant.
+     */
+    Map<String, Long> getTenantStatistics(int tenantId);
+
+    /**
+     * Reset all the statistics of the cache.
+     */
+    void reset();
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the statistics of the identity caches. The statistics of each cache are registered as a JMX MBean
+ * named {@code org.wso2.carbon.identity:type=CacheStatistics,name=<cache name>}, and the statistics of the
+ * {@link CacheInvalidationService} as {@code org.wso2.carbon.identity:type=CacheInvalidationStatistics}.
+ * <p>
+ * Statistics are enabled by default and can be disabled with the {@code CacheConfig.Statistics.Enable} property of
+ * identity.xml.
+ */
+public class CacheStatisticsRegistry {
+
+    private static final Log log = LogFactory.getLog(CacheStatisticsRegistry.class);
+    private static final String MBEAN_DOMAIN = "org.wso2.carbon.identity";
+    private static final String MBEAN_TYPE = "CacheStatistics";
+    private static final String INVALIDATION_MBEAN_TYPE = "CacheInvalidationStatistics";
+    private static final CacheStatisticsRegistry instance = new CacheStatisticsRegistry();
+
+    private final ConcurrentMap<String, CacheStatistics> cacheStatistics = new ConcurrentHashMap<>();
+    private volatile Boolean enabled;
+
+    private CacheStatisticsRegistry() {
+
+    }
+
+    public static CacheStatisticsRegistry getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * @return Whether cache statistics are recorded.
+     */
+    public boolean isEnabled() {
+
+        Boolean statisticsEnabled = enabled;
+        if (statisticsEnabled == null) {
+            String enableProperty = IdentityUtil.getProperty(IdentityCoreConstants.CACHE_STATISTICS_ENABLE);
+            statisticsEnabled = StringUtils.isBlank(enableProperty) || Boolean.parseBoolean(enableProperty);
+            enabled = statisticsEnabled;
+        }
+        return statisticsEnabled;
+    }
+
+    /**
+     * Get the statistics of the given cache, creating and registering them as an MBean if they do not exist.
+     *
+     * @param cacheName Name of the cache.
+     * @return Statistics of the cache.
+     */
+    public CacheStatistics getCacheStatistics(String cacheName) {
+
+        CacheStatistics statistics = cacheStatistics.get(cacheName);
+        if (statistics != null) {
+            return statistics;
+        }
+        return cacheStatistics.computeIfAbsent(cacheName, name -> {
+            CacheStatistics newStatistics = new CacheStatistics(name);
+            registerMBean(newStatistics);
+            return newStatistics;
+        });
+    }
+
+    /**
+     * @return Statistics of all the caches which have been used.
+     */
+    public Collection<CacheStatistics> getAllCacheStatistics() {
+
+        return new ArrayList<>(cacheStatistics.values());
+    }
+
+    /**
+     * Reset the statistics of all the caches.
+     */
+    public void resetAll() {
+
+        for (CacheStatistics statistics : cacheStatistics.values()) {
+            statistics.reset();
+        }
+    }
+
+    /**
+     * Register the statistics of the cache invalidation service as an MBean, if statistics are enabled.
+     */
+    public void registerCacheInvalidationStatistics() {
+
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(CacheInvalidationService.getInstance(),
+                    getInvalidationObjectName());
+        } catch (InstanceAlreadyExistsException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Statistics MBean of the cache invalidation service is already registered.");
+            }
+        } catch (JMException e) {
+            log.warn("Error while registering the statistics MBean of the cache invalidation service.", e);
+        }
+    }
+
+    /**
+     * Unregister the statistics MBean of the cache invalidation service.
+     */
+    public void unregisterCacheInvalidationStatistics() {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName invalidationObjectName = getInvalidationObjectName();
+            if (mBeanServer.isRegistered(invalidationObjectName)) {
+                mBeanServer.unregisterMBean(invalidationObjectName);
+            }
+        } catch (JMException e) {
+            log.warn("Error while unregistering the statistics MBean of the cache invalidation service.", e);
+        }
+    }
+
+    /**
+     * Unregister the MBeans of all the cache statistics and of the cache invalidation statistics.
+     */
+    public void unregisterAll() {
+
+        unregisterCacheInvalidationStatistics();
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        for (String cacheName : cacheStatistics.keySet()) {
+            try {
+                ObjectName objectName = getObjectName(cacheName);
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (JMException e) {
+                log.warn("Error while unregistering the statistics MBean of cache: " + cacheName, e);
+            }
+        }
+        cacheStatistics.clear();
+    }
+
+    private void registerMBean(CacheStatistics statistics) {
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics,
+                    getObjectName(statistics.getCacheName()));
+        } catch (InstanceAlreadyExistsException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Statistics MBean of cache: " + statistics.getCacheName() + " is already registered.");
+            }
+        } catch (JMException e) {
+            log.warn("Error while registering the statistics MBean of cache: " + statistics.getCacheName(), e);
+        }
+    }
+
+    private static ObjectName getObjectName(String cacheName) throws JMException {
+
+        return new ObjectName(MBEAN_DOMAIN + ":type=" + MBEAN_TYPE + ",name=" + ObjectName.quote(cacheName));
+    }
+
+    private static ObjectName getInvalidationObjectName() throws JMException {
+
+        return new ObjectName(MBEAN_DOMAIN + ":type=" + INVALIDATION_MBEAN_TYPE);
+    }
+}
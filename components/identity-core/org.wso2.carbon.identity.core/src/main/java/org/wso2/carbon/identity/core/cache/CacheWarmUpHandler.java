@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.wso2.carbon.identity.base.IdentityException;
+
+/**
+ * Preloads the hot entries of one or more identity caches of a tenant. Handlers are registered as OSGi services and
+ * invoked by the {@link CacheWarmUpService} on server startup and when a tenant is loaded.
+ */
+public interface CacheWarmUpHandler {
+
+    /**
+     * @return Name of the handler, used when reporting the warm-up progress.
+     */
+    String getName();
+
+    /**
+     * Load the hot entries of the tenant into the caches. This is invoked within a tenant flow of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @throws IdentityException If an error occurs while loading the entries.
+     */
+    void warmUp(String tenantDomain) throws IdentityException;
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms up the identity caches of a tenant after a server restart or a tenant load, so that the first requests of
+ * the tenant do not all miss the caches at the same time.
+ * <p>
+ * The registered {@link CacheWarmUpHandler}s of a tenant are run one after the other in a background executor with a
+ * bounded number of threads and a bounded queue. Warm-ups which do not fit into the queue are skipped. The
+ * warm-up is disabled by default and can be enabled with the {@code CacheConfig.WarmUp.Enable} property of
+ * identity.xml.
+ */
+public class CacheWarmUpService {
+
+    private static final Log log = LogFactory.getLog(CacheWarmUpService.class);
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final int DEFAULT_QUEUE_SIZE = 100;
+    private static final long KEEP_ALIVE_TIME_SECONDS = 60L;
+    private static final CacheWarmUpService instance = new CacheWarmUpService();
+
+    private final List<CacheWarmUpHandler> handlers = new CopyOnWriteArrayList<>();
+    private final Set<String> pendingTenants = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> lastWarmUpDurations = new ConcurrentHashMap<>();
+    private volatile Boolean enabled;
+    private volatile ThreadPoolExecutor executor;
+    private final int poolSize;
+    private final int queueSize;
+
+    private CacheWarmUpService() {
+
+        // The pool and queue sizes are read from the configuration, once the configuration is loaded.
+        this(null, 0, 0);
+    }
+
+    CacheWarmUpService(Boolean enabled, int poolSize, int queueSize) {
+
+        this.enabled = enabled;
+        this.poolSize = poolSize;
+        this.queueSize = queueSize;
+    }
+
+    public static CacheWarmUpService getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * @return Whether the cache warm-up is enabled.
+     */
+    public boolean isEnabled() {
+
+        Boolean warmUpEnabled = enabled;
+        if (warmUpEnabled == null) {
+            warmUpEnabled = Boolean.parseBoolean(IdentityUtil.getProperty(IdentityCoreConstants.CACHE_WARM_UP_ENABLE));
+            enabled = warmUpEnabled;
+        }
+        return warmUpEnabled;
+    }
+
+    public void registerHandler(CacheWarmUpHandler handler) {
+
+        handlers.add(handler);
+    }
+
+    public void unregisterHandler(CacheWarmUpHandler handler) {
+
+        handlers.remove(handler);
+    }
+
+    /**
+     * Schedule the warm-up of the caches of the given tenant. A warm-up is not scheduled if the warm-up is disabled,
+     * if a warm-up of the tenant is already pending, or if the warm-up queue is full.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Whether the warm-up was scheduled.
+     */
+    public boolean warmUp(String tenantDomain) {
+
+        if (!isEnabled() || handlers.isEmpty() || StringUtils.isBlank(tenantDomain)) {
+            return false;
+        }
+        if (!pendingTenants.add(tenantDomain)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache warm-up of tenant: " + tenantDomain + " is already in progress.");
+            }
+            return false;
+        }
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        try {
+            getExecutor().execute(() -> runWarmUp(tenantDomain, tenantId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingTenants.remove(tenantDomain);
+            log.warn("Skipping the cache warm-up of tenant: " + tenantDomain + " as the warm-up queue is full.");
+            return false;
+        }
+    }
+
+    /**
+     * @param tenantDomain Tenant domain.
+     * @return Time taken by the last completed warm-up of the tenant in milliseconds, or -1 if the caches of the
+     * tenant have not been warmed up.
+     */
+    public long getLastWarmUpDuration(String tenantDomain) {
+
+        Long duration = lastWarmUpDurations.get(tenantDomain);
+        return duration == null ? -1 : duration;
+    }
+
+    /**
+     * @return Number of tenants whose warm-up is queued or running.
+     */
+    public int getPendingWarmUpCount() {
+
+        return pendingTenants.size();
+    }
+
+    public void shutdown() {
+
+        ThreadPoolExecutor warmUpExecutor = executor;
+        if (warmUpExecutor != null) {
+            warmUpExecutor.shutdownNow();
+        }
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    int threads = poolSize > 0 ? poolSize :
+                            readPositiveInt(IdentityCoreConstants.CACHE_WARM_UP_POOL_SIZE, DEFAULT_POOL_SIZE);
+                    int capacity = queueSize > 0 ? queueSize :
+                            readPositiveInt(IdentityCoreConstants.CACHE_WARM_UP_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+                    AtomicInteger threadCount = new AtomicInteger();
+                    ThreadPoolExecutor warmUpExecutor = new ThreadPoolExecutor(threads, threads,
+                            KEEP_ALIVE_TIME_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity),
+                            runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "IdentityCacheWarmUp-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    warmUpExecutor.allowCoreThreadTimeOut(true);
+                    executor = warmUpExecutor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private void runWarmUp(String tenantDomain, int tenantId) {
+
+        long startTime = System.currentTimeMillis();
+        List<CacheWarmUpHandler> tenantHandlers = new ArrayList<>(handlers);
+        int failedHandlers = 0;
+        log.info("Starting the cache warm-up of tenant: " + tenantDomain + " with " + tenantHandlers.size() +
+                " handler(s).");
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(tenantDomain);
+            carbonContext.setTenantId(tenantId);
+            int completedHandlers = 0;
+            for (CacheWarmUpHandler handler : tenantHandlers) {
+                long handlerStartTime = System.currentTimeMillis();
+                try {
+                    handler.warmUp(tenantDomain);
+                } catch (Exception e) {
+                    failedHandlers++;
+                    log.warn("Error while warming up the caches of tenant: " + tenantDomain + " using handler: " +
+                            handler.getName(), e);
+                }
+                completedHandlers++;
+                if (log.isDebugEnabled()) {
+                    log.debug("Cache warm-up handler: " + handler.getName() + " of tenant: " + tenantDomain +
+                            " completed in " + (System.currentTimeMillis() - handlerStartTime) + " ms (" +
+                            completedHandlers + "/" + tenantHandlers.size() + ").");
+                }
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+            long duration = System.currentTimeMillis() - startTime;
+            lastWarmUpDurations.put(tenantDomain, duration);
+            pendingTenants.remove(tenantDomain);
+            log.info("Completed the cache warm-up of tenant: " + tenantDomain + " in " + duration + " ms with " +
+                    failedHandlers + " failed handler(s).");
+        }
+    }
+
+    private static int readPositiveInt(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue > 0) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for property: " + property + ". Using the " +
+                        "default value: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Loads the values of a cache on a cache miss, making sure that only one thread per tenant and key runs the load at
+ * a time. Threads which miss the same key while a load is in progress wait for the result of that load, instead of
+ * loading the value again. This prevents a burst of identical database loads when a hot cache entry expires or is
+ * invalidated.
+ * <p>
+ * Optionally, the last loaded value of a key is retained for a bounded time after it is loaded, and is served to the
+ * threads which miss the key while it is being reloaded, instead of making them wait (stale-while-revalidate). The
+ * retained values are dropped when the key is invalidated through this loader. As values invalidated on other nodes
+ * of a cluster can still be served until they get older than the maximum stale age, this is disabled by default
+ * and can be enabled with the {@code CacheConfig.StaleWhileRevalidate.MaxStaleAge} property of identity.xml, in
+ * seconds. The age is counted from the time the value was loaded, hence it should be longer than the timeout of the
+ * cache.
+ * <p>
+ * When the loader is created for a {@link BaseCache}, the time taken by each load is recorded in the statistics of
+ * the cache.
+ *
+ * @param <K> Cache key type.
+ * @param <V> Cache value type.
+ */
+public class SingleFlightLoader<K, V> {
+
+    private static final Log log = LogFactory.getLog(SingleFlightLoader.class);
+    private static final int DEFAULT_MAX_STALE_ENTRIES = 1000;
+
+    private final String name;
+    private final Supplier<? extends BaseCache<?, ?>> cacheSupplier;
+    private final ConcurrentMap<FlightKey, Flight<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<FlightKey, StaleValue<V>> staleValues = new ConcurrentHashMap<>();
+    private volatile Long maxStaleAgeMillis;
+    private volatile Integer maxStaleEntries;
+
+    /**
+     * @param name Name of the loader, which is usually the name of the cache it loads values for.
+     */
+    public SingleFlightLoader(String name) {
+
+        this(name, null);
+    }
+
+    /**
+     * @param name          Name of the loader, which is usually the name of the cache it loads values for.
+     * @param cacheSupplier Supplier of the cache the values are loaded for, which records the load latency.
+     */
+    public SingleFlightLoader(String name, Supplier<? extends BaseCache<?, ?>> cacheSupplier) {
+
+        this.name = name;
+        this.cacheSupplier = cacheSupplier;
+    }
+
+    SingleFlightLoader(String name, Supplier<? extends BaseCache<?, ?>> cacheSupplier, long maxStaleAgeMillis,
+                       int maxStaleEntries) {
+
+        this(name, cacheSupplier);
+        this.maxStaleAgeMillis = maxStaleAgeMillis;
+        this.maxStaleEntries = maxStaleEntries;
+    }
+
+    /**
+     * Load the value of the given key. If a load of the key is already in progress in another thread, the result of
+     * that load is returned, or the retained stale value of the key if stale values are served. If the load of the
+     * other thread fails, the value is loaded by the calling thread.
+     *
+     * @param key          Cache key.
+     * @param tenantDomain Tenant domain of the cache entry.
+     * @param valueLoader  Loader which loads the value from the underlying store and adds it to the cache.
+     * @param <E>          Type of the exception thrown by the loader.
+     * @return Loaded value.
+     * @throws E If the loader fails.
+     */
+    public <E extends Exception> V load(K key, String tenantDomain, ValueLoader<V, E> valueLoader) throws E {
+
+        FlightKey flightKey = new FlightKey(tenantDomain, key);
+        Flight<V> flight = new Flight<>();
+        Flight<V> existingFlight = inFlightLoads.putIfAbsent(flightKey, flight);
+        if (existingFlight == null) {
+            return loadAsLeader(flightKey, flight, valueLoader);
+        }
+        if (existingFlight.leader == Thread.currentThread()) {
+            // A re-entrant load of the same key would otherwise wait for itself.
+            return valueLoader.load();
+        }
+        StaleValue<V> staleValue = getStaleValue(flightKey);
+        if (staleValue != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Serving the stale value of key: " + key + " of " + name + " while it is being reloaded.");
+            }
+            return staleValue.value;
+        }
+        try {
+            return existingFlight.future.get();
+        } catch (ExecutionException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Concurrent load of key: " + key + " of " + name + " failed. Loading the value again.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return valueLoader.load();
+    }
+
+    /**
+     * Invalidate the given key. The threads waiting for a load of the key which is already in progress are released
+     * and load the value again themselves, as the value being loaded may be older than the invalidation. The retained
+     * stale value of the key is dropped, and the value of the load in progress is not retained.
+     *
+     * @param key          Cache key.
+     * @param tenantDomain Tenant domain of the cache entry.
+     */
+    public void invalidate(K key, String tenantDomain) {
+
+        FlightKey flightKey = new FlightKey(tenantDomain, key);
+        Flight<V> flight = inFlightLoads.remove(flightKey);
+        if (flight != null) {
+            abandon(flightKey, flight);
+        }
+        staleValues.remove(flightKey);
+    }
+
+    /**
+     * Invalidate all the keys of the given tenant, in the same way as {@link #invalidate(Object, String)}.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidateAll(String tenantDomain) {
+
+        inFlightLoads.entrySet().removeIf(entry -> {
+            if (!Objects.equals(entry.getKey().tenantDomain, tenantDomain)) {
+                return false;
+            }
+            abandon(entry.getKey(), entry.getValue());
+            return true;
+        });
+        staleValues.keySet().removeIf(flightKey -> Objects.equals(flightKey.tenantDomain, tenantDomain));
+    }
+
+    /**
+     * @return Number of loads in progress.
+     */
+    public int getInFlightLoadCount() {
+
+        return inFlightLoads.size();
+    }
+
+    private <E extends Exception> V loadAsLeader(FlightKey flightKey, Flight<V> flight,
+                                                 ValueLoader<V, E> valueLoader) throws E {
+
+        boolean loaded = false;
+        try {
+            long startTime = System.nanoTime();
+            V value = valueLoader.load();
+            recordLoad(System.nanoTime() - startTime);
+            if (flight.future.complete(value)) {
+                retainStaleValue(flightKey, value);
+            }
+            loaded = true;
+            return value;
+        } finally {
+            if (!loaded) {
+                flight.future.completeExceptionally(new IllegalStateException("Failed to load the value of key: " +
+                        flightKey.key + " of " + name));
+            }
+            inFlightLoads.remove(flightKey, flight);
+        }
+    }
+
+    private void abandon(FlightKey flightKey, Flight<V> flight) {
+
+        flight.future.completeExceptionally(new IllegalStateException("Key: " + flightKey.key + " of " + name +
+                " is invalidated while it is being loaded."));
+    }
+
+    private void recordLoad(long elapsedNanos) {
+
+        if (cacheSupplier == null) {
+            return;
+        }
+        BaseCache<?, ?> cache = cacheSupplier.get();
+        if (cache != null) {
+            cache.recordCacheLoad(elapsedNanos);
+        }
+    }
+
+    private void retainStaleValue(FlightKey flightKey, V value) {
+
+        if (getMaxStaleAgeMillis() <= 0) {
+            return;
+        }
+        if (value == null) {
+            staleValues.remove(flightKey);
+            return;
+        }
+        int maxEntries = getMaxStaleEntries();
+        if (staleValues.size() >= maxEntries && !staleValues.containsKey(flightKey)) {
+            long now = System.currentTimeMillis();
+            staleValues.values().removeIf(staleValue -> staleValue.expiryTime < now);
+            if (staleValues.size() >= maxEntries) {
+                return;
+            }
+        }
+        staleValues.put(flightKey, new StaleValue<>(value, System.currentTimeMillis() + getMaxStaleAgeMillis()));
+    }
+
+    private StaleValue<V> getStaleValue(FlightKey flightKey) {
+
+        StaleValue<V> staleValue = staleValues.get(flightKey);
+        if (staleValue == null) {
+            return null;
+        }
+        if (staleValue.expiryTime < System.currentTimeMillis()) {
+            staleValues.remove(flightKey, staleValue);
+            return null;
+        }
+        return staleValue;
+    }
+
+    private long getMaxStaleAgeMillis() {
+
+        Long maxStaleAge = maxStaleAgeMillis;
+        if (maxStaleAge == null) {
+            maxStaleAge = 0L;
+            String value = IdentityUtil.getProperty(IdentityCoreConstants.CACHE_MAX_STALE_AGE);
+            if (StringUtils.isNotBlank(value)) {
+                try {
+                    maxStaleAge = TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid value: " + value + " configured for property: " +
+                            IdentityCoreConstants.CACHE_MAX_STALE_AGE + ". Stale values will not be served.");
+                }
+            }
+            maxStaleAgeMillis = maxStaleAge;
+        }
+        return maxStaleAge;
+    }
+
+    private int getMaxStaleEntries() {
+
+        Integer maxEntries = maxStaleEntries;
+        if (maxEntries == null) {
+            maxEntries = DEFAULT_MAX_STALE_ENTRIES;
+            String value = IdentityUtil.getProperty(IdentityCoreConstants.CACHE_MAX_STALE_ENTRIES);
+            if (StringUtils.isNotBlank(value) && StringUtils.isNumeric(value.trim())) {
+                maxEntries = Integer.parseInt(value.trim());
+            }
+            maxStaleEntries = maxEntries;
+        }
+        return maxEntries;
+    }
+
+    /**
+     * Loads the value of a cache key from the underlying store.
+     *
+     * @param <V> Cache value type.
+     * @param <E> Type of the exception thrown by the loader.
+     */
+    @FunctionalInterface
+    public interface ValueLoader<V, E extends Exception> {
+
+        V load() throws E;
+    }
+
+    private static class Flight<V> {
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final Thread leader = Thread.currentThread();
+    }
+
+    private static class StaleValue<V> {
+
+        private final V value;
+        private final long expiryTime;
+
+        StaleValue(V value, long expiryTime) {
+
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+    private static class FlightKey {
+
+        private final String tenantDomain;
+        private final Object key;
+
+        FlightKey(String tenantDomain, Object key) {
+
+            this.tenantDomain = tenantDomain;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FlightKey)) {
+                return false;
+            }
+            FlightKey flightKey = (FlightKey) o;
+            return Objects.equals(tenantDomain, flightKey.tenantDomain) && Objects.equals(key, flightKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, key);
+        }
+    }
+}
@@ -38,6 +38,12 @@ import org.wso2.carbon.identity.core.KeyProviderService;
 import org.wso2.carbon.identity.core.KeyStoreManagerExtension;
 import org.wso2.carbon.identity.core.SAMLSSOServiceProviderManager;
 import org.wso2.carbon.identity.core.ServiceURLBuilderFactory;
+import org.wso2.carbon.identity.core.cache.CacheInvalidationService;
+import org.wso2.carbon.identity.core.cache.CacheStatisticsRegistry;
+import org.wso2.carbon.identity.core.cache.CacheWarmUpHandler;
+import org.wso2.carbon.identity.core.cache.CacheWarmUpService;
+import org.wso2.carbon.identity.core.cache.CacheWarmUpStartupObserver;
+import org.wso2.carbon.identity.core.cache.CacheWarmUpTenantLoadObserver;
 import org.wso2.carbon.identity.core.migrate.MigrationClient;
 import org.wso2.carbon.identity.core.migrate.MigrationClientException;
 import org.wso2.carbon.identity.core.migrate.MigrationClientStartupObserver;
@@ -55,6 +61,7 @@ import org.wso2.carbon.identity.organization.management.service.OrganizationUser
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.service.TenantRegistryLoader;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.Axis2ConfigurationContextObserver;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
 @Component(
@@ -192,6 +199,15 @@ public class IdentityCoreServiceComponent {
                     .setTenantedSessionsEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
                             IdentityCoreConstants.ENABLE_TENANTED_SESSIONS)));
 
+            CacheStatisticsRegistry.getInstance().registerCacheInvalidationStatistics();
+
+            if (CacheWarmUpService.getInstance().isEnabled()) {
+                ctxt.getBundleContext().registerService(ServerStartupObserver.class.getName(),
+                        new CacheWarmUpStartupObserver(), null);
+                ctxt.getBundleContext().registerService(Axis2ConfigurationContextObserver.class.getName(),
+                        new CacheWarmUpTenantLoadObserver(), null);
+            }
+
             // Register initialize service To guarantee the activation order. Component which is referring this
             // service will wait until this component activated.
             ctxt.getBundleContext().registerService(IdentityCoreInitializedEvent.class.getName(),
@@ -213,6 +229,9 @@ public class IdentityCoreServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext ctxt) {
         defaultKeystoreManagerServiceRef.unregister();
+        CacheWarmUpService.getInstance().shutdown();
+        CacheInvalidationService.getInstance().shutdown();
+        CacheStatisticsRegistry.getInstance().unregisterAll();
         IdentityTenantUtil.setBundleContext(null);
         if (log.isDebugEnabled()) {
             log.debug("Identity Core bundle is deactivated");
@@ -412,4 +431,23 @@ public class IdentityCoreServiceComponent {
         IdentityCoreServiceDataHolder.getInstance().setOrganizationManager(null);
         log.debug("OrganizationManager unset in IdentityCoreServiceDataHolder bundle.");
     }
+
+    @Reference(
+            name = "identity.core.cache.warm.up.handler",
+            service = CacheWarmUpHandler.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetCacheWarmUpHandler"
+    )
+    protected void setCacheWarmUpHandler(CacheWarmUpHandler cacheWarmUpHandler) {
+
+        CacheWarmUpService.getInstance().registerHandler(cacheWarmUpHandler);
+        log.debug("Cache warm-up handler: " + cacheWarmUpHandler.getName() + " is registered.");
+    }
+
+    protected void unsetCacheWarmUpHandler(CacheWarmUpHandler cacheWarmUpHandler) {
+
+        CacheWarmUpService.getInstance().unregisterHandler(cacheWarmUpHandler);
+        log.debug("Cache warm-up handler: " + cacheWarmUpHandler.getName() + " is unregistered.");
+    }
 }
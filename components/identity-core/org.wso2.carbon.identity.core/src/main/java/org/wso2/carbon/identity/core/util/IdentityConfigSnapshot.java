@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable snapshot of the properties parsed from identity.xml, as read by {@link IdentityUtil#getProperty}.
+ * <p>
+ * The values are flattened to strings when the snapshot is created. Values without placeholders are returned as they
+ * are, while the values with placeholders are expanded on every read, since the placeholder values depend on system
+ * properties and server components which may change after the configuration is loaded. Typed values without
+ * placeholders are parsed once per key. A new snapshot is created whenever the configuration is reloaded, hence the
+ * memoized values never outlive the configuration they were derived from.
+ */
+final class IdentityConfigSnapshot {
+
+    private static final Log log = LogFactory.getLog(IdentityConfigSnapshot.class);
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private final Map<String, Object> source;
+    private final Map<String, String> values;
+    private final ConcurrentMap<String, Optional<Integer>> intValues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Optional<Long>> longValues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Optional<Boolean>> booleanValues = new ConcurrentHashMap<>();
+
+    IdentityConfigSnapshot(Map<String, Object> source) {
+
+        this.source = source;
+        Map<String, String> flattenedValues = new HashMap<>(source.size());
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof List) {
+                List<?> valueList = (List<?>) value;
+                value = valueList.isEmpty() ? null : valueList.get(0);
+            }
+            if (value != null) {
+                flattenedValues.put(entry.getKey(), value instanceof String ? (String) value : String.valueOf(value));
+            }
+        }
+        this.values = Collections.unmodifiableMap(flattenedValues);
+    }
+
+    /**
+     * @param configuration Parsed configuration.
+     * @return Whether this snapshot was created from the given configuration.
+     */
+    boolean isSnapshotOf(Map<String, Object> configuration) {
+
+        return source == configuration;
+    }
+
+    /**
+     * @param key Property key.
+     * @return Value of the property as defined in identity.xml, without replacing the placeholders.
+     */
+    String getRawValue(String key) {
+
+        return values.get(key);
+    }
+
+    /**
+     * @param key Property key.
+     * @return Value of the property with the placeholders replaced.
+     */
+    String getProperty(String key) {
+
+        String value = values.get(key);
+        if (!hasPlaceholders(value)) {
+            return value;
+        }
+        return IdentityUtil.fillURLPlaceholders(value);
+    }
+
+    /**
+     * @param key Property key.
+     * @return Value of the property with the placeholders replaced and the standard port dropped.
+     */
+    String getPropertyWithoutStandardPort(String key) {
+
+        String value = values.get(key);
+        if (!hasPlaceholders(value)) {
+            return value;
+        }
+        return IdentityUtil.fillURLPlaceholders(IdentityUtil.replacePortNumberPlaceholder(value, Boolean.TRUE));
+    }
+
+    /**
+     * @param key Property key.
+     * @return Value of the property as an integer, or empty if the property is not defined or is not an integer.
+     */
+    Optional<Integer> getIntValue(String key) {
+
+        Optional<Integer> value = intValues.get(key);
+        if (value == null) {
+            value = Optional.empty();
+            String stringValue = getProperty(key);
+            if (StringUtils.isNotBlank(stringValue)) {
+                try {
+                    value = Optional.of(Integer.parseInt(stringValue.trim()));
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid integer value: " + stringValue + " configured for property: " + key);
+                }
+            }
+            if (!hasPlaceholders(values.get(key))) {
+                intValues.putIfAbsent(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @param key Property key.
+     * @return Value of the property as a long, or empty if the property is not defined or is not a number.
+     */
+    Optional<Long> getLongValue(String key) {
+
+        Optional<Long> value = longValues.get(key);
+        if (value == null) {
+            value = Optional.empty();
+            String stringValue = getProperty(key);
+            if (StringUtils.isNotBlank(stringValue)) {
+                try {
+                    value = Optional.of(Long.parseLong(stringValue.trim()));
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid numeric value: " + stringValue + " configured for property: " + key);
+                }
+            }
+            if (!hasPlaceholders(values.get(key))) {
+                longValues.putIfAbsent(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @param key Property key.
+     * @return Value of the property as a boolean, or empty if the property is not defined.
+     */
+    Optional<Boolean> getBooleanValue(String key) {
+
+        Optional<Boolean> value = booleanValues.get(key);
+        if (value == null) {
+            String stringValue = getProperty(key);
+            value = StringUtils.isBlank(stringValue) ? Optional.empty() :
+                    Optional.of(Boolean.parseBoolean(stringValue.trim()));
+            if (!hasPlaceholders(values.get(key))) {
+                booleanValues.putIfAbsent(key, value);
+            }
+        }
+        return value;
+    }
+
+    private static boolean hasPlaceholders(String value) {
+
+        // Both the carbon placeholders and the system property placeholders start with the same prefix.
+        return value != null && value.contains(PLACEHOLDER_PREFIX);
+    }
+}
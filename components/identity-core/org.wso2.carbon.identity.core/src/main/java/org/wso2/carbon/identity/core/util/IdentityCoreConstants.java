@@ -52,6 +52,15 @@ public class IdentityCoreConstants {
 
     public static final String CASE_INSENSITIVE_USERNAME = "CaseInsensitiveUsername";
     public static final String USE_CASE_SENSITIVE_USERNAME_FOR_CACHE_KEYS = "UseCaseSensitiveUsernameForCacheKeys";
+    public static final String CACHE_STATISTICS_ENABLE = "CacheConfig.Statistics.Enable";
+    public static final String CACHE_WARM_UP_ENABLE = "CacheConfig.WarmUp.Enable";
+    public static final String CACHE_WARM_UP_POOL_SIZE = "CacheConfig.WarmUp.PoolSize";
+    public static final String CACHE_WARM_UP_QUEUE_SIZE = "CacheConfig.WarmUp.QueueSize";
+    public static final String CACHE_MAX_STALE_AGE = "CacheConfig.StaleWhileRevalidate.MaxStaleAge";
+    public static final String CACHE_MAX_STALE_ENTRIES = "CacheConfig.StaleWhileRevalidate.MaxEntries";
+    public static final String CACHE_INVALIDATION_POOL_SIZE = "CacheConfig.Invalidation.PoolSize";
+    public static final String CACHE_INVALIDATION_QUEUE_SIZE = "CacheConfig.Invalidation.QueueSize";
+    public static final String CACHE_INVALIDATION_COALESCING_WINDOW = "CacheConfig.Invalidation.CoalescingWindow";
     public static final String USER_NOT_FOUND = "UserNotFound";
     public static final String EXISTING_USER = "UserAlreadyExisting";
     public final static String MULTI_ATTRIBUTE_SEPARATOR = "MultiAttributeSeparator";
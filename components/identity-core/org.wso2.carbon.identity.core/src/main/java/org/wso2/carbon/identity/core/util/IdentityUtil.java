@@ -98,6 +98,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -147,6 +148,7 @@ public class IdentityUtil {
     private static final String DISABLE_EMAIL_USERNAME_VALIDATION = "DisableEmailUserNameValidation";
     private static Log log = LogFactory.getLog(IdentityUtil.class);
     private static Map<String, Object> configuration = new HashMap<>();
+    private static volatile IdentityConfigSnapshot configSnapshot;
     private static Map<IdentityEventListenerConfigKey, IdentityEventListenerConfig> eventListenerConfiguration = new
             HashMap<>();
     private static Map<IdentityCacheConfigKey, IdentityCacheConfig> identityCacheConfigurationHolder = new HashMap<>();
@@ -207,9 +209,7 @@ public class IdentityUtil {
      */
     public static String getProperty(String key) {
 
-        String strValue = getPropertyValue(key);
-        strValue = fillURLPlaceholders(strValue);
-        return strValue;
+        return getConfigSnapshot().getProperty(key);
     }
 
     /**
@@ -224,37 +224,65 @@ public class IdentityUtil {
      */
     public static String getPropertyWithoutStandardPort(String key) {
 
-        String strValue = getPropertyValue(key);
-        strValue = replacePortNumberPlaceholder(strValue, Boolean.TRUE);
-        strValue = fillURLPlaceholders(strValue);
-        return strValue;
+        return getConfigSnapshot().getPropertyWithoutStandardPort(key);
     }
 
     /**
-     * Gets the property value corresponding to the given key from the identity.xml file.
+     * Read an integer configuration element from the identity.xml. The parsed value is cached until the
+     * configuration is reloaded.
      *
-     * @param key Element name as specified from the parent elements in the XML structure.
-     *            To read the element value of b in {@code <a><b>text</b></a>}, the property
-     *            name should be passed as "a.b".
-     * @return The value of the element, which is "text" in the above element.
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not defined or is not an integer.
+     * @return The integer value of the element.
      */
-    private static String getPropertyValue(String key) {
+    public static int getPropertyAsInt(String key, int defaultValue) {
 
-        Object value = configuration.get(key);
-        String strValue;
+        return getConfigSnapshot().getIntValue(key).orElse(defaultValue);
+    }
 
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof List) {
-            value = ((List) value).get(0);
-        }
-        if (value instanceof String) {
-            strValue = (String) value;
-        } else {
-            strValue = String.valueOf(value);
+    /**
+     * Read a boolean configuration element from the identity.xml. The parsed value is cached until the
+     * configuration is reloaded.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not defined.
+     * @return The boolean value of the element.
+     */
+    public static boolean getPropertyAsBoolean(String key, boolean defaultValue) {
+
+        return getConfigSnapshot().getBooleanValue(key).orElse(defaultValue);
+    }
+
+    /**
+     * Read a duration configuration element from the identity.xml. The parsed value is cached until the
+     * configuration is reloaded.
+     *
+     * @param key           Element name as specified from the parent elements in the XML structure.
+     * @param unit          Time unit in which the duration is defined in the identity.xml.
+     * @param defaultMillis Duration in milliseconds to return if the element is not defined or is not a number.
+     * @return The duration defined by the element in milliseconds.
+     */
+    public static long getPropertyAsMillis(String key, TimeUnit unit, long defaultMillis) {
+
+        Optional<Long> value = getConfigSnapshot().getLongValue(key);
+        return value.isPresent() ? unit.toMillis(value.get()) : defaultMillis;
+    }
+
+    /**
+     * Get the snapshot of the current configuration. The snapshot is replaced when the configuration is
+     * reloaded through {@link #populateProperties()}, or when the configuration is replaced otherwise.
+     *
+     * @return Configuration snapshot.
+     */
+    private static IdentityConfigSnapshot getConfigSnapshot() {
+
+        Map<String, Object> currentConfiguration = configuration;
+        IdentityConfigSnapshot snapshot = configSnapshot;
+        if (snapshot == null || !snapshot.isSnapshotOf(currentConfiguration)) {
+            snapshot = new IdentityConfigSnapshot(currentConfiguration);
+            configSnapshot = snapshot;
         }
-        return strValue;
+        return snapshot;
     }
 
     public static IdentityEventListenerConfig readEventListenerProperty(String type, String name) {
@@ -367,6 +395,7 @@ public class IdentityUtil {
 
     public static void populateProperties() {
         configuration = IdentityConfigParser.getInstance().getConfiguration();
+        configSnapshot = new IdentityConfigSnapshot(configuration);
         eventListenerConfiguration = IdentityConfigParser.getInstance().getEventListenerConfiguration();
         identityCacheConfigurationHolder = IdentityConfigParser.getInstance().getIdentityCacheConfigurationHolder();
         identityCookiesConfigurationHolder = IdentityConfigParser.getIdentityCookieConfigurationHolder();
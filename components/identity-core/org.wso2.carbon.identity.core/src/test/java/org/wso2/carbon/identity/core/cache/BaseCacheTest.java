@@ -22,6 +22,7 @@ import org.mockito.MockedStatic;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.caching.impl.CachingConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.context.internal.OSGiDataHolder;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
@@ -29,13 +30,19 @@ import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.net.URL;
+import java.util.Map;
+import javax.cache.Caching;
+import javax.management.ObjectName;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test for the Base cache.
@@ -155,4 +162,66 @@ public class BaseCacheTest {
         entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test2"), "bar.com");
         assertEquals("value2", entry.getValue());
     }
+
+    @Test
+    public void testOperationsInCurrentTenantFlow() {
+
+        // The thread already runs in the flow of foo.com, hence no new tenant flow is required.
+        TestCache.getInstance().addToCache(new TestCacheKey("test"), new TestCacheEntry("value"), "foo.com");
+
+        assertEquals(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain(), "foo.com");
+        TestCacheEntry entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), 1);
+        assertEquals(entry.getValue(), "value");
+        entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), "bar.com");
+        assertNull(entry);
+        assertEquals(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain(), "foo.com");
+    }
+
+    @Test
+    public void testCacheResolvedAgainAfterRemoval() {
+
+        TestCache.getInstance().addToCache(new TestCacheKey("test"), new TestCacheEntry("value"), 1);
+        TestCacheEntry entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), 1);
+        assertEquals(entry.getValue(), "value");
+
+        Caching.getCacheManagerFactory().getCacheManager("IdentityApplicationManagementCacheManager")
+                .removeCache(CachingConstants.LOCAL_CACHE_PREFIX + "TestCache");
+
+        TestCache.getInstance().addToCache(new TestCacheKey("test"), new TestCacheEntry("newValue"), 1);
+        entry = TestCache.getInstance().getValueFromCache(new TestCacheKey("test"), "foo.com");
+        assertEquals(entry.getValue(), "newValue");
+    }
+
+    @Test
+    public void testCacheStatistics() throws Exception {
+
+        CacheStatistics statistics = TestCache.getInstance().getCacheStatistics();
+        assertNotNull(statistics);
+        statistics.reset();
+
+        TestCache.getInstance().addToCache(new TestCacheKey("stats"), new TestCacheEntry("value"), 1);
+        TestCache.getInstance().getValueFromCache(new TestCacheKey("stats"), 1);
+        TestCache.getInstance().getValueFromCache(new TestCacheKey("missing"), "foo.com");
+        TestCache.getInstance().getValueFromCache(new TestCacheKey("stats"), "bar.com");
+        TestCache.getInstance().clearCacheEntry(new TestCacheKey("stats"), 1);
+
+        assertEquals(statistics.getPutCount(), 1);
+        assertEquals(statistics.getHitCount(), 1);
+        assertEquals(statistics.getMissCount(), 2);
+        assertEquals(statistics.getRemovalCount(), 1);
+        assertEquals(statistics.getHitRatio(), 1.0 / 3);
+
+        Map<String, Long> fooStatistics = statistics.getTenantStatistics(1);
+        assertEquals(fooStatistics.get(CacheStatistics.HITS).longValue(), 1);
+        assertEquals(fooStatistics.get(CacheStatistics.MISSES).longValue(), 1);
+        Map<String, Long> barStatistics = statistics.getTenantStatistics(2);
+        assertEquals(barStatistics.get(CacheStatistics.HITS).longValue(), 0);
+        assertEquals(barStatistics.get(CacheStatistics.MISSES).longValue(), 1);
+        assertTrue(statistics.getTenantStatistics(3).isEmpty());
+
+        assertEquals(CacheStatisticsRegistry.getInstance().getCacheStatistics("TestCache"), statistics);
+        ObjectName objectName = new ObjectName("org.wso2.carbon.identity:type=CacheStatistics,name=" +
+                ObjectName.quote("TestCache"));
+        assertEquals(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "HitCount"), 1L);
+    }
 }
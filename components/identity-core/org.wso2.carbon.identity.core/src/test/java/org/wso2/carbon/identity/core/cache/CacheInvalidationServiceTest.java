@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for CacheInvalidationService.
+ */
+public class CacheInvalidationServiceTest {
+
+    private static final String TENANT_DOMAIN = "foo.com";
+
+    private CacheInvalidationService cacheInvalidationService;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (cacheInvalidationService != null) {
+            cacheInvalidationService.shutdown();
+        }
+    }
+
+    @Test
+    public void testDuplicateTasksAreCoalesced() throws Exception {
+
+        cacheInvalidationService = new CacheInvalidationService(1, 10, 200L);
+        AtomicInteger runCount = new AtomicInteger();
+
+        cacheInvalidationService.execute("task", runCount::incrementAndGet);
+        cacheInvalidationService.execute("task", runCount::incrementAndGet);
+        cacheInvalidationService.execute("other", runCount::incrementAndGet);
+        assertEquals(cacheInvalidationService.getPendingInvalidationCount(), 2);
+
+        waitFor(() -> cacheInvalidationService.getCompletedInvalidationCount() == 2);
+        assertEquals(runCount.get(), 2);
+        assertEquals(cacheInvalidationService.getCoalescedInvalidationCount(), 1);
+        assertEquals(cacheInvalidationService.getPendingInvalidationCount(), 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDuplicateCacheEntriesAreCoalesced() throws Exception {
+
+        cacheInvalidationService = new CacheInvalidationService(1, 10, 200L);
+        BaseCache<String, String> cache = mock(BaseCache.class);
+
+        cacheInvalidationService.invalidate(cache, "key1", TENANT_DOMAIN);
+        cacheInvalidationService.invalidate(cache, "key1", TENANT_DOMAIN);
+        cacheInvalidationService.invalidate(cache, "key2", TENANT_DOMAIN);
+
+        waitFor(() -> cacheInvalidationService.getCompletedInvalidationCount() == 2);
+        verify(cache, times(1)).clearCacheEntry("key1", TENANT_DOMAIN);
+        verify(cache, times(1)).clearCacheEntry("key2", TENANT_DOMAIN);
+        assertEquals(cacheInvalidationService.getCoalescedInvalidationCount(), 1);
+    }
+
+    @Test
+    public void testTaskRunsInCallerWhenQueueIsFull() {
+
+        cacheInvalidationService = new CacheInvalidationService(1, 1, 60000L);
+        AtomicInteger runCount = new AtomicInteger();
+
+        cacheInvalidationService.execute("pending", runCount::incrementAndGet);
+        cacheInvalidationService.execute("overflow", runCount::incrementAndGet);
+
+        // The invalidation which does not fit into the queue is not dropped.
+        assertEquals(runCount.get(), 1);
+        assertEquals(cacheInvalidationService.getCallerRunsInvalidationCount(), 1);
+        assertEquals(cacheInvalidationService.getPendingInvalidationCount(), 1);
+    }
+
+    @Test
+    public void testInvalidationStatisticsAreRegisteredAsMBean() throws Exception {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName("org.wso2.carbon.identity:type=CacheInvalidationStatistics");
+
+        CacheStatisticsRegistry.getInstance().registerCacheInvalidationStatistics();
+        try {
+            assertTrue(mBeanServer.isRegistered(objectName));
+            assertEquals(mBeanServer.getAttribute(objectName, "PendingInvalidationCount"),
+                    CacheInvalidationService.getInstance().getPendingInvalidationCount());
+        } finally {
+            CacheStatisticsRegistry.getInstance().unregisterCacheInvalidationStatistics();
+        }
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition is not met within the timeout.");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for CacheWarmUpService.
+ */
+public class CacheWarmUpServiceTest {
+
+    private static final String TENANT_DOMAIN = "foo.com";
+    private static final int TENANT_ID = 1;
+
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private CacheWarmUpService cacheWarmUpService;
+
+    @BeforeMethod
+    public void setUp() {
+
+        URL root = this.getClass().getClassLoader().getResource(".");
+        System.setProperty("carbon.home", new File(root.getPath()).getAbsolutePath());
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityTenantUtil.close();
+        if (cacheWarmUpService != null) {
+            cacheWarmUpService.shutdown();
+        }
+    }
+
+    @Test
+    public void testWarmUpRunsHandlersInTenantFlow() throws Exception {
+
+        cacheWarmUpService = new CacheWarmUpService(true, 1, 10);
+        List<String> invocations = new CopyOnWriteArrayList<>();
+        cacheWarmUpService.registerHandler(new TestHandler("failing", () -> {
+            throw new IdentityException("Error while loading the entries.");
+        }));
+        cacheWarmUpService.registerHandler(new TestHandler("recording", () -> invocations.add(
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain() + ":" +
+                        PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId())));
+
+        assertTrue(cacheWarmUpService.warmUp(TENANT_DOMAIN));
+        waitFor(() -> cacheWarmUpService.getLastWarmUpDuration(TENANT_DOMAIN) >= 0);
+
+        // The failure of a handler does not prevent the other handlers from running.
+        assertEquals(invocations.size(), 1);
+        assertEquals(invocations.get(0), TENANT_DOMAIN + ":" + TENANT_ID);
+        assertEquals(cacheWarmUpService.getPendingWarmUpCount(), 0);
+    }
+
+    @Test
+    public void testWarmUpIsNotScheduledWhenDisabled() {
+
+        cacheWarmUpService = new CacheWarmUpService(false, 1, 10);
+        cacheWarmUpService.registerHandler(new TestHandler("handler", () -> {
+        }));
+
+        assertFalse(cacheWarmUpService.warmUp(TENANT_DOMAIN));
+        assertEquals(cacheWarmUpService.getLastWarmUpDuration(TENANT_DOMAIN), -1);
+    }
+
+    @Test
+    public void testPendingWarmUpOfTenantIsNotDuplicated() throws Exception {
+
+        cacheWarmUpService = new CacheWarmUpService(true, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        cacheWarmUpService.registerHandler(new TestHandler("blocking", () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        assertTrue(cacheWarmUpService.warmUp(TENANT_DOMAIN));
+        assertFalse(cacheWarmUpService.warmUp(TENANT_DOMAIN));
+        assertEquals(cacheWarmUpService.getPendingWarmUpCount(), 1);
+
+        release.countDown();
+        waitFor(() -> cacheWarmUpService.getPendingWarmUpCount() == 0);
+        assertTrue(cacheWarmUpService.warmUp(TENANT_DOMAIN));
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition is not met within the timeout.");
+            Thread.sleep(10);
+        }
+    }
+
+    private interface WarmUpAction {
+
+        void run() throws IdentityException;
+    }
+
+    private static class TestHandler implements CacheWarmUpHandler {
+
+        private final String name;
+        private final WarmUpAction action;
+
+        TestHandler(String name, WarmUpAction action) {
+
+            this.name = name;
+            this.action = action;
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void warmUp(String tenantDomain) throws IdentityException {
+
+            action.run();
+        }
+    }
+}
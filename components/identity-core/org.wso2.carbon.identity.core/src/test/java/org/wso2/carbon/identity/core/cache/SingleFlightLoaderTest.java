@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.base.IdentityException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test class for SingleFlightLoader.
+ */
+public class SingleFlightLoaderTest {
+
+    private static final String TENANT_DOMAIN = "foo.com";
+    private static final String KEY = "key";
+
+    private ExecutorService executor;
+    private CountDownLatch release;
+    private AtomicInteger loadCount;
+
+    @BeforeMethod
+    public void setUp() {
+
+        executor = Executors.newFixedThreadPool(2);
+        release = new CountDownLatch(1);
+        loadCount = new AtomicInteger();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentMissesAreLoadedOnce() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("TestCache", null, 0, 10);
+        Future<String> leader = executor.submit(() -> loader.load(KEY, TENANT_DOMAIN, () -> blockingLoad("value")));
+        waitFor(() -> loader.getInFlightLoadCount() == 1);
+        Thread[] waiterThread = new Thread[1];
+        Future<String> waiter = executor.submit(() -> {
+            waiterThread[0] = Thread.currentThread();
+            return loader.load(KEY, TENANT_DOMAIN, () -> blockingLoad("other"));
+        });
+        waitFor(() -> waiterThread[0] != null && waiterThread[0].getState() == Thread.State.WAITING);
+
+        release.countDown();
+        assertEquals(leader.get(5, TimeUnit.SECONDS), "value");
+        assertEquals(waiter.get(5, TimeUnit.SECONDS), "value");
+        assertEquals(loadCount.get(), 1);
+        assertEquals(loader.getInFlightLoadCount(), 0);
+    }
+
+    @Test
+    public void testWaiterLoadsWhenLeaderFails() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("TestCache", null, 0, 10);
+        Future<String> leader = executor.submit(() -> loader.load(KEY, TENANT_DOMAIN, () -> {
+            blockingLoad(null);
+            throw new IdentityException("Error while loading the value.");
+        }));
+        waitFor(() -> loader.getInFlightLoadCount() == 1);
+        Thread[] waiterThread = new Thread[1];
+        Future<String> waiter = executor.submit(() -> {
+            waiterThread[0] = Thread.currentThread();
+            return loader.load(KEY, TENANT_DOMAIN, () -> "value");
+        });
+        waitFor(() -> waiterThread[0] != null && waiterThread[0].getState() == Thread.State.WAITING);
+
+        release.countDown();
+        assertEquals(waiter.get(5, TimeUnit.SECONDS), "value");
+        try {
+            leader.get(5, TimeUnit.SECONDS);
+            fail("The failure of the leader load is not propagated.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IdentityException);
+        }
+    }
+
+    @Test
+    public void testStaleValueIsServedWhileReloading() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("TestCache", null,
+                TimeUnit.MINUTES.toMillis(1), 10);
+        assertEquals(loader.load(KEY, TENANT_DOMAIN, () -> "stale"), "stale");
+
+        Future<String> leader = executor.submit(() -> loader.load(KEY, TENANT_DOMAIN, () -> blockingLoad("fresh")));
+        waitFor(() -> loader.getInFlightLoadCount() == 1);
+
+        // The value retained from the previous load is returned without waiting for the reload.
+        assertEquals(loader.load(KEY, TENANT_DOMAIN, () -> "other"), "stale");
+        release.countDown();
+        assertEquals(leader.get(5, TimeUnit.SECONDS), "fresh");
+    }
+
+    @Test
+    public void testInvalidatedStaleValueIsNotServed() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("TestCache", null,
+                TimeUnit.MINUTES.toMillis(1), 10);
+        loader.load(KEY, TENANT_DOMAIN, () -> "stale");
+        loader.invalidate(KEY, TENANT_DOMAIN);
+
+        Future<String> leader = executor.submit(() -> loader.load(KEY, TENANT_DOMAIN, () -> blockingLoad("fresh")));
+        waitFor(() -> loader.getInFlightLoadCount() == 1);
+        Thread[] waiterThread = new Thread[1];
+        Future<String> waiter = executor.submit(() -> {
+            waiterThread[0] = Thread.currentThread();
+            return loader.load(KEY, TENANT_DOMAIN, () -> "other");
+        });
+        waitFor(() -> waiterThread[0] != null && waiterThread[0].getState() == Thread.State.WAITING);
+
+        release.countDown();
+        assertEquals(leader.get(5, TimeUnit.SECONDS), "fresh");
+        assertEquals(waiter.get(5, TimeUnit.SECONDS), "fresh");
+    }
+
+    @Test
+    public void testInvalidateReleasesWaiters() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("TestCache", null,
+                TimeUnit.MINUTES.toMillis(1), 10);
+        Future<String> leader = executor.submit(() -> loader.load(KEY, TENANT_DOMAIN, () -> blockingLoad("old")));
+        waitFor(() -> loader.getInFlightLoadCount() == 1);
+        Thread[] waiterThread = new Thread[1];
+        Future<String> waiter = executor.submit(() -> {
+            waiterThread[0] = Thread.currentThread();
+            return loader.load(KEY, TENANT_DOMAIN, () -> "fresh");
+        });
+        waitFor(() -> waiterThread[0] != null && waiterThread[0].getState() == Thread.State.WAITING);
+
+        // The waiter loads the value again instead of waiting for the value loaded before the invalidation.
+        loader.invalidate(KEY, TENANT_DOMAIN);
+        assertEquals(waiter.get(5, TimeUnit.SECONDS), "fresh");
+        assertEquals(loader.getInFlightLoadCount(), 0);
+
+        release.countDown();
+        assertEquals(leader.get(5, TimeUnit.SECONDS), "old");
+        // The value loaded before the invalidation is not retained to be served as a stale value.
+        CountDownLatch reloadRelease = new CountDownLatch(1);
+        Future<String> reloader = executor.submit(() -> loader.load(KEY, TENANT_DOMAIN, () -> {
+            reloadRelease.await(5, TimeUnit.SECONDS);
+            return "new";
+        }));
+        waitFor(() -> loader.getInFlightLoadCount() == 1);
+        waiterThread[0] = null;
+        Future<String> reloadWaiter = executor.submit(() -> {
+            waiterThread[0] = Thread.currentThread();
+            return loader.load(KEY, TENANT_DOMAIN, () -> "other");
+        });
+        waitFor(() -> reloadWaiter.isDone() ||
+                (waiterThread[0] != null && waiterThread[0].getState() == Thread.State.WAITING));
+        reloadRelease.countDown();
+        assertEquals(reloader.get(5, TimeUnit.SECONDS), "new");
+        assertEquals(reloadWaiter.get(5, TimeUnit.SECONDS), "new");
+    }
+
+    @Test
+    public void testReentrantLoadOfSameKey() throws Exception {
+
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("TestCache", null, 0, 10);
+
+        String value = loader.load(KEY, TENANT_DOMAIN,
+                () -> "outer-" + loader.load(KEY, TENANT_DOMAIN, () -> "inner"));
+
+        assertEquals(value, "outer-inner");
+        assertEquals(loader.getInFlightLoadCount(), 0);
+    }
+
+    @Test
+    public void testLoadIsRecordedInCacheStatistics() throws Exception {
+
+        BaseCache<?, ?> cache = mock(BaseCache.class);
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("TestCache", () -> cache, 0, 10);
+
+        assertEquals(loader.load(KEY, TENANT_DOMAIN, () -> "value"), "value");
+        verify(cache, times(1)).recordCacheLoad(anyLong());
+
+        try {
+            loader.load(KEY, TENANT_DOMAIN, () -> {
+                throw new IdentityException("Error while loading the value.");
+            });
+            fail("The failure of the load is not propagated.");
+        } catch (IdentityException e) {
+            // A failed load is not recorded as a load of the cache.
+            verify(cache, times(1)).recordCacheLoad(anyLong());
+        }
+    }
+
+    private String blockingLoad(String value) throws InterruptedException {
+
+        loadCount.incrementAndGet();
+        release.await(5, TimeUnit.SECONDS);
+        return value;
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition is not met within the timeout.");
+            Thread.sleep(10);
+        }
+    }
+}
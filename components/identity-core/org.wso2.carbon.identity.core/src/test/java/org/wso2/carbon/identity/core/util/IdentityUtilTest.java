@@ -82,6 +82,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.xml.namespace.QName;
@@ -281,6 +282,64 @@ public class IdentityUtilTest {
                 "= %s, value = %s", key, String.valueOf(value)));
     }
 
+    @Test
+    public void testGetTypedProperties() throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("testInt", " 42 ");
+        mockConfig.put("testInvalidInt", "NotANumber");
+        mockConfig.put("testBoolean", "true");
+        mockConfig.put("testDuration", "30");
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+
+        assertEquals(IdentityUtil.getPropertyAsInt("testInt", 1), 42);
+        assertEquals(IdentityUtil.getPropertyAsInt("testInvalidInt", 1), 1);
+        assertEquals(IdentityUtil.getPropertyAsInt("testMissing", 1), 1);
+        assertTrue(IdentityUtil.getPropertyAsBoolean("testBoolean", false));
+        assertTrue(IdentityUtil.getPropertyAsBoolean("testMissing", true));
+        assertEquals(IdentityUtil.getPropertyAsMillis("testDuration", TimeUnit.SECONDS, 5L), 30000L);
+        assertEquals(IdentityUtil.getPropertyAsMillis("testMissing", TimeUnit.SECONDS, 5L), 5L);
+    }
+
+    @Test
+    public void testPropertiesAreReadFromReplacedConfiguration() throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("testKey", "oldValue");
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+        assertEquals(IdentityUtil.getProperty("testKey"), "oldValue");
+        assertEquals(IdentityUtil.getPropertyAsInt("testKey", 1), 1);
+
+        Map<String, Object> newConfig = new HashMap<>();
+        newConfig.put("testKey", "2");
+        setPrivateStaticField(IdentityUtil.class, "configuration", newConfig);
+        assertEquals(IdentityUtil.getProperty("testKey"), "2");
+        assertEquals(IdentityUtil.getPropertyAsInt("testKey", 1), 2);
+    }
+
+    @Test
+    public void testPlaceholdersAreExpandedOnEveryRead() throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("testUrl", "https://${test.snapshot.host}/path");
+        mockConfig.put("testLimit", "${test.snapshot.limit}");
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+        try {
+            System.setProperty("test.snapshot.host", "foo.com");
+            System.setProperty("test.snapshot.limit", "10");
+            assertEquals(IdentityUtil.getProperty("testUrl"), "https://foo.com/path");
+            assertEquals(IdentityUtil.getPropertyAsInt("testLimit", 1), 10);
+
+            System.setProperty("test.snapshot.host", "bar.com");
+            System.setProperty("test.snapshot.limit", "20");
+            assertEquals(IdentityUtil.getProperty("testUrl"), "https://bar.com/path");
+            assertEquals(IdentityUtil.getPropertyAsInt("testLimit", 1), 20);
+        } finally {
+            System.clearProperty("test.snapshot.host");
+            System.clearProperty("test.snapshot.limit");
+        }
+    }
+
 
     @Test
     public void testReadEventListenerProperty() throws Exception {
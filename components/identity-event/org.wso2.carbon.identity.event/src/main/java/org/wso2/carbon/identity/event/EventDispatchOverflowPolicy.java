@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+/**
+ * Action taken by the {@link ShardedEventDispatcher} when the queue of an event handler is full.
+ */
+public enum EventDispatchOverflowPolicy {
+
+    /**
+     * Block the publishing thread until there is space in the queue.
+     */
+    BLOCK,
+
+    /**
+     * Drop the oldest queued event of the handler and queue the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Run the handler in the publishing thread.
+     */
+    CALLER_RUNS;
+
+    /**
+     * Resolve the policy from its configured name, such as {@code caller_runs} or {@code drop-oldest}.
+     *
+     * @param value         Configured value.
+     * @param defaultPolicy Policy returned if the value is blank or unknown.
+     * @return Overflow policy.
+     */
+    public static EventDispatchOverflowPolicy fromString(String value, EventDispatchOverflowPolicy defaultPolicy) {
+
+        if (value == null || value.trim().isEmpty()) {
+            return defaultPolicy;
+        }
+        String name = value.trim().replace('-', '_').toUpperCase();
+        for (EventDispatchOverflowPolicy policy : values()) {
+            if (policy.name().equals(name)) {
+                return policy;
+            }
+        }
+        return defaultPolicy;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.EventHandlerIndex;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceDataHolder;
 
 import java.util.List;
@@ -75,9 +76,12 @@ public class EventDistributionTask implements Runnable {
             try {
                 final Event event = eventQueue.take();
                 IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-                for (final AbstractEventHandler module : notificationSendingModules) {
+                List<EventHandlerIndex.IndexedEventHandler> indexedModules = IdentityEventServiceDataHolder
+                        .getInstance().getEventHandlerIndex().getAllHandlers(notificationSendingModules);
+                for (EventHandlerIndex.IndexedEventHandler indexedModule : indexedModules) {
+                    final AbstractEventHandler module = indexedModule.getHandler();
                     // If the module is subscribed to the event, module will be executed.
-                    if (module.isEnabled(eventContext)) {
+                    if (indexedModule.isEnabled(eventContext)) {
                         // Create a runnable and submit to the thread pool for sending message.
                         Runnable msgSender = new Runnable() {
                             @Override
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Queue depth and latency metrics of the asynchronous dispatch of events to an event handler.
+ */
+public class EventHandlerDispatchMetrics {
+
+    private final String handlerName;
+    private final IntSupplier queueDepth;
+    private final LongAdder queuedCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder callerRunsCount = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalHandlerNanos = new LongAdder();
+    private final AtomicLong maxHandlerNanos = new AtomicLong();
+
+    EventHandlerDispatchMetrics(String handlerName, IntSupplier queueDepth) {
+
+        this.handlerName = handlerName;
+        this.queueDepth = queueDepth;
+    }
+
+    void recordQueued() {
+
+        queuedCount.increment();
+    }
+
+    void recordDropped() {
+
+        droppedCount.increment();
+    }
+
+    void recordCallerRuns() {
+
+        callerRunsCount.increment();
+    }
+
+    void recordProcessed(long queueWaitNanos, long handlerNanos, boolean failed) {
+
+        processedCount.increment();
+        if (failed) {
+            failedCount.increment();
+        }
+        totalQueueWaitNanos.add(queueWaitNanos);
+        totalHandlerNanos.add(handlerNanos);
+        maxHandlerNanos.accumulateAndGet(handlerNanos, Math::max);
+    }
+
+    public String getHandlerName() {
+
+        return handlerName;
+    }
+
+    /**
+     * @return Number of events waiting in the queues of the handler.
+     */
+    public int getQueueDepth() {
+
+        return queueDepth.getAsInt();
+    }
+
+    public long getQueuedCount() {
+
+        return queuedCount.sum();
+    }
+
+    public long getProcessedCount() {
+
+        return processedCount.sum();
+    }
+
+    public long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    public long getDroppedCount() {
+
+        return droppedCount.sum();
+    }
+
+    public long getCallerRunsCount() {
+
+        return callerRunsCount.sum();
+    }
+
+    public long getAverageQueueWaitMicros() {
+
+        return averageMicros(totalQueueWaitNanos.sum());
+    }
+
+    public long getAverageHandlerLatencyMicros() {
+
+        return averageMicros(totalHandlerNanos.sum());
+    }
+
+    public long getMaxHandlerLatencyMicros() {
+
+        return TimeUnit.NANOSECONDS.toMicros(maxHandlerNanos.get());
+    }
+
+    private long averageMicros(long totalNanos) {
+
+        long count = processedCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos / count);
+    }
+
+    @Override
+    public String toString() {
+
+        return "EventHandlerDispatchMetrics{handler=" + handlerName + ", queueDepth=" + getQueueDepth() +
+                ", queued=" + getQueuedCount() + ", processed=" + getProcessedCount() + ", failed=" +
+                getFailedCount() + ", dropped=" + getDroppedCount() + ", callerRuns=" + getCallerRunsCount() +
+                ", avgQueueWaitMicros=" + getAverageQueueWaitMicros() + ", avgHandlerLatencyMicros=" +
+                getAverageHandlerLatencyMicros() + ", maxHandlerLatencyMicros=" + getMaxHandlerLatencyMicros() + "}";
+    }
+}
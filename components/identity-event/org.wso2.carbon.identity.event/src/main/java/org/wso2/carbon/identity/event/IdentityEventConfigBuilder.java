@@ -62,6 +62,13 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Event dispatcher configurations for asynchronous event handling
+     */
+    private String eventDispatcherType;
+    private String eventDispatcherConcurrency;
+    private String eventDispatcherQueueCapacity;
+    private String eventDispatcherOverflowPolicy;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -78,6 +85,7 @@ public class IdentityEventConfigBuilder {
         }
 
         setThreadPoolSize();
+        setEventDispatcherConfigs();
         resolveSecrets();
         moduleConfiguration = new HashMap<>();
         build();
@@ -98,6 +106,18 @@ public class IdentityEventConfigBuilder {
         threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
     }
 
+    /**
+     * Sets the asynchronous event dispatcher configurations read from configurations
+     */
+    private void setEventDispatcherConfigs() {
+        eventDispatcherType = (String) notificationMgtConfigProperties.remove("eventDispatcher.type");
+        eventDispatcherConcurrency = (String) notificationMgtConfigProperties.remove("eventDispatcher.concurrency");
+        eventDispatcherQueueCapacity = (String) notificationMgtConfigProperties.remove(
+                "eventDispatcher.queueCapacity");
+        eventDispatcherOverflowPolicy = (String) notificationMgtConfigProperties.remove(
+                "eventDispatcher.overflowPolicy");
+    }
+
     /**
      * Load properties which are defined in msg-mgt.properties file
      *
@@ -222,6 +242,22 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public String getEventDispatcherType() {
+        return eventDispatcherType;
+    }
+
+    public String getEventDispatcherConcurrency() {
+        return eventDispatcherConcurrency;
+    }
+
+    public String getEventDispatcherQueueCapacity() {
+        return eventDispatcherQueueCapacity;
+    }
+
+    public String getEventDispatcherOverflowPolicy() {
+        return eventDispatcherOverflowPolicy;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
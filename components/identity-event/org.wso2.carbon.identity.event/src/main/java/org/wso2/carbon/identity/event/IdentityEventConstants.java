@@ -41,6 +41,9 @@ public class IdentityEventConstants {
         public static final String NOTIFICATION_LINK_EXPIRE_TIME = "Notification.Expire.Time";
         public static final String ALREADY_WRITTEN_PROPERTY_KEY = "AlreadyWritten";
         public static final String ALREADY_WRITTEN_PROPERTY_VALUE = "true";
+        public static final String EVENT_DISPATCHER_TYPE_SHARDED = "sharded";
+        public static final int DEFAULT_EVENT_DISPATCHER_CONCURRENCY = 1;
+        public static final int DEFAULT_EVENT_DISPATCHER_QUEUE_CAPACITY = 10000;
 
     }
 
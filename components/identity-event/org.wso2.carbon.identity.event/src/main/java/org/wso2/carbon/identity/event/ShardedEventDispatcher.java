@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dispatches asynchronous events to event handlers through bounded queues owned by each handler, so that a slow
+ * handler only delays its own events.
+ * <p>
+ * Each handler gets a configurable number of shards. A shard is a single worker thread with a bounded queue. Events
+ * are assigned to a shard by the tenant domain and user name of the event, hence the events of a user are handled
+ * in the order they were published, except when the caller runs policy handles an event in the publishing thread.
+ * When the queue of a shard is full, the configured {@link EventDispatchOverflowPolicy} is applied.
+ * <p>
+ * Concurrency, queue capacity and overflow policy can be set per handler with the {@code dispatcher.concurrency},
+ * {@code dispatcher.queueCapacity} and {@code dispatcher.overflowPolicy} module properties of the handler.
+ */
+public class ShardedEventDispatcher {
+
+    private static final Log log = LogFactory.getLog(ShardedEventDispatcher.class);
+
+    public static final String CONCURRENCY = "concurrency";
+    public static final String QUEUE_CAPACITY = "queueCapacity";
+    public static final String OVERFLOW_POLICY = "overflowPolicy";
+
+    private final int defaultConcurrency;
+    private final int defaultQueueCapacity;
+    private final EventDispatchOverflowPolicy defaultOverflowPolicy;
+    private final Map<String, HandlerQueue> handlerQueues = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    /**
+     * @param defaultConcurrency    Number of shards of a handler which does not configure its concurrency.
+     * @param defaultQueueCapacity  Queue capacity of a handler which does not configure its queue capacity.
+     * @param defaultOverflowPolicy Overflow policy of a handler which does not configure its overflow policy.
+     */
+    public ShardedEventDispatcher(int defaultConcurrency, int defaultQueueCapacity,
+                                  EventDispatchOverflowPolicy defaultOverflowPolicy) {
+
+        this.defaultConcurrency = Math.max(1, defaultConcurrency);
+        this.defaultQueueCapacity = Math.max(1, defaultQueueCapacity);
+        this.defaultOverflowPolicy = defaultOverflowPolicy;
+    }
+
+    /**
+     * Queue the event to be handled by the given handler.
+     *
+     * @param handler Event handler.
+     * @param event   Event to be handled.
+     */
+    public void dispatch(AbstractEventHandler handler, Event event) {
+
+        if (!running) {
+            log.warn("Event dispatcher is shut down. Event: " + event.getEventName() + " is not dispatched to " +
+                    "handler: " + handler.getName());
+            return;
+        }
+        HandlerQueue handlerQueue = handlerQueues.computeIfAbsent(handler.getName(),
+                name -> createHandlerQueue(handler));
+        handlerQueue.dispatch(handler, event);
+    }
+
+    /**
+     * @return Dispatch metrics of the handlers which have received events.
+     */
+    public List<EventHandlerDispatchMetrics> getHandlerMetrics() {
+
+        List<EventHandlerDispatchMetrics> metrics = new ArrayList<>();
+        for (HandlerQueue handlerQueue : handlerQueues.values()) {
+            metrics.add(handlerQueue.metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * @param handlerName Name of the handler.
+     * @return Dispatch metrics of the handler, or null if the handler has not received events.
+     */
+    public EventHandlerDispatchMetrics getHandlerMetrics(String handlerName) {
+
+        HandlerQueue handlerQueue = handlerQueues.get(handlerName);
+        return handlerQueue != null ? handlerQueue.metrics : null;
+    }
+
+    /**
+     * Stop accepting events and let the workers finish the queued events.
+     */
+    public void shutdown() {
+
+        running = false;
+        for (HandlerQueue handlerQueue : handlerQueues.values()) {
+            handlerQueue.shutdown();
+        }
+    }
+
+    private HandlerQueue createHandlerQueue(AbstractEventHandler handler) {
+
+        int concurrency = parsePositiveInt(handler.getDispatcherProperty(CONCURRENCY), defaultConcurrency);
+        int queueCapacity = parsePositiveInt(handler.getDispatcherProperty(QUEUE_CAPACITY), defaultQueueCapacity);
+        EventDispatchOverflowPolicy overflowPolicy = EventDispatchOverflowPolicy.fromString(
+                handler.getDispatcherProperty(OVERFLOW_POLICY), defaultOverflowPolicy);
+        if (log.isDebugEnabled()) {
+            log.debug("Creating event dispatch queues for handler: " + handler.getName() + " with concurrency: " +
+                    concurrency + ", queue capacity: " + queueCapacity + " and overflow policy: " + overflowPolicy);
+        }
+        return new HandlerQueue(handler.getName(), concurrency, queueCapacity, overflowPolicy);
+    }
+
+    private static int parsePositiveInt(String value, int defaultValue) {
+
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsedValue = Integer.parseInt(value.trim());
+            return parsedValue > 0 ? parsedValue : defaultValue;
+        } catch (NumberFormatException e) {
+            log.warn("Invalid event dispatcher configuration value: " + value + ". Using the default value: " +
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Get the key which decides the shard of the event. Events with the same key are handled in order.
+     */
+    private static String getOrderingKey(Event event) {
+
+        Map<String, Object> properties = event.getEventProperties();
+        if (properties == null) {
+            return null;
+        }
+        Object tenantDomain = properties.get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+        Object userName = properties.get(IdentityEventConstants.EventProperty.USER_NAME);
+        if (tenantDomain == null && userName == null) {
+            return null;
+        }
+        return tenantDomain + "/" + userName;
+    }
+
+    /**
+     * Shards of a single handler.
+     */
+    private static class HandlerQueue {
+
+        private final String handlerName;
+        private final ThreadPoolExecutor[] shards;
+        private final EventHandlerDispatchMetrics metrics;
+        private final AtomicInteger nextShard = new AtomicInteger();
+
+        HandlerQueue(String handlerName, int concurrency, int queueCapacity,
+                     EventDispatchOverflowPolicy overflowPolicy) {
+
+            this.handlerName = handlerName;
+            this.shards = new ThreadPoolExecutor[concurrency];
+            this.metrics = new EventHandlerDispatchMetrics(handlerName, this::getQueueDepth);
+            int shardCapacity = Math.max(1, (queueCapacity + concurrency - 1) / concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(shardCapacity), new WorkerThreadFactory(handlerName, i),
+                        getRejectedExecutionHandler(overflowPolicy));
+            }
+        }
+
+        void dispatch(AbstractEventHandler handler, Event event) {
+
+            String orderingKey = getOrderingKey(event);
+            int shard = orderingKey != null ? Math.floorMod(orderingKey.hashCode(), shards.length) :
+                    Math.floorMod(nextShard.getAndIncrement(), shards.length);
+            metrics.recordQueued();
+            try {
+                shards[shard].execute(new EventTask(handler, event, metrics));
+            } catch (RejectedExecutionException e) {
+                log.error("Event: " + event.getEventName() + " could not be queued for handler: " + handlerName, e);
+            }
+        }
+
+        int getQueueDepth() {
+
+            int depth = 0;
+            for (ThreadPoolExecutor shard : shards) {
+                depth += shard.getQueue().size();
+            }
+            return depth;
+        }
+
+        void shutdown() {
+
+            for (ThreadPoolExecutor shard : shards) {
+                shard.shutdown();
+            }
+        }
+
+        private RejectedExecutionHandler getRejectedExecutionHandler(EventDispatchOverflowPolicy overflowPolicy) {
+
+            switch (overflowPolicy) {
+                case BLOCK:
+                    return (task, executor) -> {
+                        if (executor.isShutdown()) {
+                            throw new RejectedExecutionException("Event dispatcher of handler: " + handlerName +
+                                    " is shut down.");
+                        }
+                        try {
+                            executor.getQueue().put(task);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RejectedExecutionException("Interrupted while waiting to queue an event for " +
+                                    "handler: " + handlerName, e);
+                        }
+                    };
+                case DROP_OLDEST:
+                    return (task, executor) -> {
+                        if (executor.isShutdown()) {
+                            throw new RejectedExecutionException("Event dispatcher of handler: " + handlerName +
+                                    " is shut down.");
+                        }
+                        Runnable dropped = executor.getQueue().poll();
+                        if (dropped != null) {
+                            metrics.recordDropped();
+                            if (dropped instanceof EventTask) {
+                                log.warn("Event queue of handler: " + handlerName + " is full. Dropped event: " +
+                                        ((EventTask) dropped).event.getEventName());
+                            }
+                        }
+                        executor.execute(task);
+                    };
+                case CALLER_RUNS:
+                default:
+                    return (task, executor) -> {
+                        if (executor.isShutdown()) {
+                            throw new RejectedExecutionException("Event dispatcher of handler: " + handlerName +
+                                    " is shut down.");
+                        }
+                        metrics.recordCallerRuns();
+                        task.run();
+                    };
+            }
+        }
+    }
+
+    /**
+     * Handles an event by a handler and records the latency.
+     */
+    private static class EventTask implements Runnable {
+
+        private final AbstractEventHandler handler;
+        private final Event event;
+        private final EventHandlerDispatchMetrics metrics;
+        private final long queuedTime = System.nanoTime();
+
+        EventTask(AbstractEventHandler handler, Event event, EventHandlerDispatchMetrics metrics) {
+
+            this.handler = handler;
+            this.event = event;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void run() {
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing " + handler.getName() + " on event " + event.getEventName());
+            }
+            long startTime = System.nanoTime();
+            boolean failed = false;
+            try {
+                handler.handleEvent(event);
+            } catch (IdentityEventException | RuntimeException e) {
+                failed = true;
+                log.error("Error while invoking event handler " + handler.getName() + " for event " +
+                        event.getEventName(), e);
+            } finally {
+                long endTime = System.nanoTime();
+                metrics.recordProcessed(startTime - queuedTime, endTime - startTime, failed);
+            }
+        }
+    }
+
+    /**
+     * Creates the named worker thread of a shard.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final String threadName;
+
+        WorkerThreadFactory(String handlerName, int shard) {
+
+            this.threadName = "IdentityEventDispatcher-" + handlerName + "-" + shard;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
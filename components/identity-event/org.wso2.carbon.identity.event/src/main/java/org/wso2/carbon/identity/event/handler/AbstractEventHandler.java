@@ -31,6 +31,8 @@ import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.event.bean.Subscription;
 import org.wso2.carbon.identity.event.event.Event;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -64,6 +66,24 @@ public abstract class AbstractEventHandler extends AbstractIdentityMessageHandle
         return false;
     }
 
+    /**
+     * Returns the names of the events this module is subscribed to in identity-event.properties. The default
+     * {@link #canHandle(MessageContext)} implementation accepts exactly these events.
+     *
+     * @return Subscribed event names. Empty if the module is not configured.
+     */
+    public Set<String> getSubscribedEventNames() {
+
+        if (configs == null || configs.getSubscriptions() == null) {
+            return Collections.emptySet();
+        }
+        Set<String> eventNames = new HashSet<>();
+        for (Subscription subscription : configs.getSubscriptions()) {
+            eventNames.add(subscription.getSubscriptionName());
+        }
+        return eventNames;
+    }
+
     /**
      * Each event has its own subscriptions (configure in identity-event.properties) and it is possible to define
      * multiple properties for each subscription per event under the given module.
@@ -132,12 +152,29 @@ public abstract class AbstractEventHandler extends AbstractIdentityMessageHandle
         return Boolean.parseBoolean(getSubscriptionProperty("operationAsync", eventName));
     }
 
+    /**
+     * Returns the value of a property of the asynchronous event dispatcher configured for this module, such as
+     * 'concurrency', 'queueCapacity' or 'overflowPolicy'. These are configured in identity-event.properties as
+     * {@code <module name>.dispatcher.<property name>}.
+     *
+     * @param propertyName Dispatcher property name.
+     * @return Property value or null if not configured.
+     */
+    public String getDispatcherProperty(String propertyName) {
+
+        if (configs == null || configs.getModuleProperties() == null) {
+            return null;
+        }
+        return configs.getModuleProperties().getProperty(getName() + ".dispatcher." + propertyName);
+    }
+
     public abstract void handleEvent(Event event) throws IdentityEventException;
 
     @Override
     public void init(InitConfig configuration) throws IdentityRuntimeException {
         if (configuration instanceof ModuleConfiguration) {
             this.configs = (ModuleConfiguration) configuration;
+            EventHandlerIndex.configurationChanged();
         } else {
             throw new IdentityRuntimeException("Initial configuration error");
         }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.handler.AbstractIdentityMessageHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Index from event names to the event handlers which may handle them, kept in the priority order of the handlers.
+ * <p>
+ * Handlers which rely on the default {@link AbstractEventHandler#canHandle(MessageContext)} are indexed by their
+ * subscriptions, and need no further check. Handlers which override {@code canHandle} are listed for every event and
+ * flagged so that {@code canHandle} is still called for them. The list of an event is built on first use, and the
+ * index is rebuilt when a handler is registered or unregistered, when the handler list is replaced, or when the module
+ * configuration of a handler is changed.
+ * <p>
+ * The enablement of a handler which relies on the default
+ * {@link AbstractIdentityMessageHandler#isEnabled(MessageContext)} is read from the identity.xml once per build of
+ * the index. Handlers which override {@code isEnabled}, such as the ones enabled per tenant or by a feature
+ * configuration, are flagged so that {@code isEnabled} is still called for them with the context of the event.
+ */
+public class EventHandlerIndex {
+
+    private static final Log log = LogFactory.getLog(EventHandlerIndex.class);
+    private static final AtomicLong configurationVersion = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Get the handlers which may handle the given event.
+     *
+     * @param handlers  Registered handlers, in priority order.
+     * @param eventName Name of the event.
+     * @return Candidate handlers of the event, in priority order.
+     */
+    public List<IndexedEventHandler> getHandlers(List<AbstractEventHandler> handlers, String eventName) {
+
+        return getSnapshot(handlers).getHandlers(eventName);
+    }
+
+    /**
+     * Get all the given handlers, with their enablement resolved as in {@link #getHandlers(List, String)}.
+     *
+     * @param handlers Registered handlers, in priority order.
+     * @return Handlers, in priority order.
+     */
+    public List<IndexedEventHandler> getAllHandlers(List<AbstractEventHandler> handlers) {
+
+        return getSnapshot(handlers).allHandlers;
+    }
+
+    /**
+     * Drop the index, so that it is rebuilt from the handler list on next use.
+     */
+    public void invalidate() {
+
+        snapshot = null;
+    }
+
+    /**
+     * Mark the module configuration of a handler as changed, so that every index is rebuilt on next use.
+     */
+    static void configurationChanged() {
+
+        configurationVersion.incrementAndGet();
+    }
+
+    private Snapshot getSnapshot(List<AbstractEventHandler> handlers) {
+
+        Snapshot current = snapshot;
+        long version = configurationVersion.get();
+        if (current == null || current.source != handlers || current.sourceSize != handlers.size() ||
+                current.version != version) {
+            current = new Snapshot(handlers, version);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private static boolean overridesCanHandle(AbstractEventHandler handler) {
+
+        try {
+            return handler.getClass().getMethod("canHandle", MessageContext.class).getDeclaringClass() !=
+                    AbstractEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static boolean overridesIsEnabled(AbstractEventHandler handler) {
+
+        try {
+            return handler.getClass().getMethod("isEnabled", MessageContext.class).getDeclaringClass() !=
+                    AbstractIdentityMessageHandler.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Handler listed in the index for an event.
+     */
+    public static class IndexedEventHandler {
+
+        private final AbstractEventHandler handler;
+        private final boolean canHandleCheckRequired;
+        private final Boolean enabled;
+
+        IndexedEventHandler(AbstractEventHandler handler, boolean canHandleCheckRequired, Boolean enabled) {
+
+            this.handler = handler;
+            this.canHandleCheckRequired = canHandleCheckRequired;
+            this.enabled = enabled;
+        }
+
+        public AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+
+        /**
+         * @return True if the handler decides whether it handles the event in its own canHandle implementation.
+         */
+        public boolean isCanHandleCheckRequired() {
+
+            return canHandleCheckRequired;
+        }
+
+        /**
+         * @return True if the handler decides whether it is enabled in its own isEnabled implementation, hence the
+         * context of the event is required to check its enablement.
+         */
+        public boolean isEnabledCheckRequired() {
+
+            return enabled == null;
+        }
+
+        /**
+         * Check whether the handler is enabled.
+         *
+         * @param messageContext Context of the event. Only used if {@link #isEnabledCheckRequired()} is true.
+         * @return True if the handler is enabled.
+         */
+        public boolean isEnabled(MessageContext messageContext) {
+
+            return enabled != null ? enabled : handler.isEnabled(messageContext);
+        }
+    }
+
+    /**
+     * Index built from a given state of the handler list.
+     */
+    private static class Snapshot {
+
+        private final List<AbstractEventHandler> source;
+        private final int sourceSize;
+        private final long version;
+        private final List<IndexedEventHandler> allHandlers;
+        private final List<Set<String>> subscriptions;
+        private final Map<String, List<IndexedEventHandler>> handlersByEvent = new ConcurrentHashMap<>();
+
+        Snapshot(List<AbstractEventHandler> source, long version) {
+
+            this.source = source;
+            this.version = version;
+            List<AbstractEventHandler> handlers = new ArrayList<>(source);
+            this.sourceSize = handlers.size();
+            this.subscriptions = new ArrayList<>(handlers.size());
+            List<IndexedEventHandler> indexedHandlers = new ArrayList<>(handlers.size());
+            for (AbstractEventHandler handler : handlers) {
+                boolean canHandleOverridden = overridesCanHandle(handler);
+                Boolean enabled = overridesIsEnabled(handler) ? null : handler.isEnabled(null);
+                indexedHandlers.add(new IndexedEventHandler(handler, canHandleOverridden, enabled));
+                subscriptions.add(canHandleOverridden ? Collections.emptySet() : handler.getSubscribedEventNames());
+            }
+            this.allHandlers = Collections.unmodifiableList(indexedHandlers);
+            if (log.isDebugEnabled()) {
+                log.debug("Event handler index is built for " + sourceSize + " handlers.");
+            }
+        }
+
+        List<IndexedEventHandler> getHandlers(String eventName) {
+
+            List<IndexedEventHandler> eventHandlers = handlersByEvent.get(eventName);
+            if (eventHandlers == null) {
+                eventHandlers = handlersByEvent.computeIfAbsent(eventName, this::buildHandlers);
+            }
+            return eventHandlers;
+        }
+
+        private List<IndexedEventHandler> buildHandlers(String eventName) {
+
+            List<IndexedEventHandler> eventHandlers = new ArrayList<>();
+            for (int i = 0; i < allHandlers.size(); i++) {
+                IndexedEventHandler indexedHandler = allHandlers.get(i);
+                if (indexedHandler.isCanHandleCheckRequired() || subscriptions.get(i).contains(eventName)) {
+                    eventHandlers.add(indexedHandler);
+                }
+            }
+            return Collections.unmodifiableList(eventHandlers);
+        }
+    }
+}
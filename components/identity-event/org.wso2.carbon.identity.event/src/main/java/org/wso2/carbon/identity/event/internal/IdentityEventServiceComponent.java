@@ -24,8 +24,11 @@ import org.osgi.service.component.ComponentContext;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.handler.MessageHandlerComparator;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
+import org.wso2.carbon.identity.event.EventDispatchOverflowPolicy;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
+import org.wso2.carbon.identity.event.ShardedEventDispatcher;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.event.services.IdentityEventServiceImpl;
@@ -58,7 +61,15 @@ public class IdentityEventServiceComponent {
     @Activate
     protected void activate(ComponentContext context) {
         try {
-            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(eventHandlerList, Integer.parseInt(IdentityEventConfigBuilder.getInstance().getThreadPoolSize())));
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            if (IdentityEventConstants.PropertyConfig.EVENT_DISPATCHER_TYPE_SHARDED.equalsIgnoreCase(
+                    configBuilder.getEventDispatcherType())) {
+                IdentityEventServiceDataHolder.getInstance().setEventMgtService(
+                        new IdentityEventServiceImpl(buildShardedEventDispatcher(configBuilder)));
+            } else {
+                IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(
+                        eventHandlerList, Integer.parseInt(configBuilder.getThreadPoolSize())));
+            }
             context.getBundleContext().registerService(IdentityEventService.class.getName(), IdentityEventServiceDataHolder.getInstance().getEventMgtService(), null);
         } catch (IdentityEventException e) {
             log.error("Error while initiating IdentityMgtService.");
@@ -73,6 +84,37 @@ public class IdentityEventServiceComponent {
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
+        IdentityEventService eventService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventService).shutdown();
+        }
+    }
+
+    private ShardedEventDispatcher buildShardedEventDispatcher(IdentityEventConfigBuilder configBuilder) {
+
+        int concurrency = parseIntOrDefault(configBuilder.getEventDispatcherConcurrency(),
+                IdentityEventConstants.PropertyConfig.DEFAULT_EVENT_DISPATCHER_CONCURRENCY);
+        int queueCapacity = parseIntOrDefault(configBuilder.getEventDispatcherQueueCapacity(),
+                IdentityEventConstants.PropertyConfig.DEFAULT_EVENT_DISPATCHER_QUEUE_CAPACITY);
+        EventDispatchOverflowPolicy overflowPolicy = EventDispatchOverflowPolicy.fromString(
+                configBuilder.getEventDispatcherOverflowPolicy(), EventDispatchOverflowPolicy.CALLER_RUNS);
+        log.info("Sharded event dispatcher is enabled with default concurrency: " + concurrency +
+                ", queue capacity: " + queueCapacity + " and overflow policy: " + overflowPolicy);
+        return new ShardedEventDispatcher(concurrency, queueCapacity, overflowPolicy);
+    }
+
+    private int parseIntOrDefault(String value, int defaultValue) {
+
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid event dispatcher configuration value: " + value + ". Using the default value: " +
+                    defaultValue);
+            return defaultValue;
+        }
     }
 
     @Reference(
@@ -91,9 +133,11 @@ public class IdentityEventServiceComponent {
         eventHandlerList.add(eventHandler);
         MessageHandlerComparator messageHandlerComparator = new MessageHandlerComparator(null);
         Collections.sort(eventHandlerList, messageHandlerComparator);
+        IdentityEventServiceDataHolder.getInstance().getEventHandlerIndex().invalidate();
     }
 
     protected void unRegisterEventHandler(AbstractEventHandler eventHandler) {
+        IdentityEventServiceDataHolder.getInstance().getEventHandlerIndex().invalidate();
     }
 
     @Reference(
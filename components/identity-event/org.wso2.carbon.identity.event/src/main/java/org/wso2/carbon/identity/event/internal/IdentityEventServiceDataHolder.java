@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.event.internal;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.handler.EventHandlerIndex;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 
 import java.util.concurrent.ExecutorService;
@@ -30,6 +31,7 @@ public class IdentityEventServiceDataHolder {
     private static Log log = LogFactory.getLog(IdentityEventServiceDataHolder.class);
     private IdentityEventService eventMgtService;
     private ExecutorService threadPool;
+    private final EventHandlerIndex eventHandlerIndex = new EventHandlerIndex();
 
     public ExecutorService getThreadPool() {
         return threadPool;
@@ -55,4 +57,8 @@ public class IdentityEventServiceDataHolder {
     public void setEventMgtService(IdentityEventService eventMgtService) {
         this.eventMgtService = eventMgtService;
     }
+
+    public EventHandlerIndex getEventHandlerIndex() {
+        return eventHandlerIndex;
+    }
 }
@@ -23,10 +23,13 @@ import org.apache.commons.logging.LogFactory;
 
 import org.wso2.carbon.identity.event.EventDistributionTask;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.ShardedEventDispatcher;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.EventHandlerIndex;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
+import org.wso2.carbon.identity.event.internal.IdentityEventServiceDataHolder;
 
 import java.util.List;
 
@@ -34,6 +37,7 @@ public class IdentityEventServiceImpl implements IdentityEventService {
 
     private static final Log log = LogFactory.getLog(IdentityEventServiceImpl.class);
     private EventDistributionTask eventDistributionTask;
+    private ShardedEventDispatcher eventDispatcher;
 
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
         this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
@@ -42,20 +46,70 @@ public class IdentityEventServiceImpl implements IdentityEventService {
         }
         new Thread(eventDistributionTask).start();
     }
+
+    /**
+     * Creates the event service which dispatches asynchronous events to the bounded queues of each handler.
+     *
+     * @param eventDispatcher Dispatcher used for asynchronous events.
+     */
+    public IdentityEventServiceImpl(ShardedEventDispatcher eventDispatcher) {
+        this.eventDispatcher = eventDispatcher;
+        if (log.isDebugEnabled()) {
+            log.debug("Using sharded event dispatcher for asynchronous event handling");
+        }
+    }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
-        List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
-        IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-        for (final AbstractEventHandler handler : eventHandlerList) {
+        List<EventHandlerIndex.IndexedEventHandler> eventHandlers = IdentityEventServiceDataHolder.getInstance()
+                .getEventHandlerIndex().getHandlers(IdentityEventServiceComponent.eventHandlerList,
+                        event.getEventName());
+        IdentityEventMessageContext eventContext = null;
+        for (EventHandlerIndex.IndexedEventHandler indexedHandler : eventHandlers) {
 
-            if (handler.canHandle(eventContext)) {
-                if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
+            AbstractEventHandler handler = indexedHandler.getHandler();
+            if (indexedHandler.isCanHandleCheckRequired()) {
+                if (eventContext == null) {
+                    eventContext = new IdentityEventMessageContext(event);
+                }
+                if (!handler.canHandle(eventContext)) {
+                    continue;
+                }
+            }
+            if (handler.isAssociationAsync(event.getEventName())) {
+                if (eventDispatcher != null) {
+                    // Same as the event distribution task, disabled handlers are not given asynchronous events.
+                    if (eventContext == null && indexedHandler.isEnabledCheckRequired()) {
+                        eventContext = new IdentityEventMessageContext(event);
+                    }
+                    if (indexedHandler.isEnabled(eventContext)) {
+                        eventDispatcher.dispatch(handler, event);
+                    }
                 } else {
-                    handler.handleEvent(event);
+                    eventDistributionTask.addEventToQueue(event);
                 }
+            } else {
+                handler.handleEvent(event);
             }
         }
     }
+
+    /**
+     * @return Dispatcher used for asynchronous events, or null if the event distribution task is used.
+     */
+    public ShardedEventDispatcher getEventDispatcher() {
+        return eventDispatcher;
+    }
+
+    /**
+     * Stop the asynchronous event handling.
+     */
+    public void shutdown() {
+        if (eventDispatcher != null) {
+            eventDispatcher.shutdown();
+        } else {
+            eventDistributionTask.shutdown();
+        }
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ShardedEventDispatcherTest {
+
+    @Test
+    public void testEventsOfUserAreHandledInOrder() throws Exception {
+
+        int eventsPerUser = 50;
+        String[] users = {"alice", "bob", "carol", "dave"};
+        CountDownLatch latch = new CountDownLatch(eventsPerUser * users.length);
+        RecordingEventHandler handler = new RecordingEventHandler("orderedHandler", latch, 0);
+        handler.init(buildModuleConfiguration("orderedHandler", "4", "1000", null));
+
+        ShardedEventDispatcher dispatcher = new ShardedEventDispatcher(1, 100, EventDispatchOverflowPolicy.BLOCK);
+        for (int i = 0; i < eventsPerUser; i++) {
+            for (String user : users) {
+                dispatcher.dispatch(handler, buildEvent(user, i));
+            }
+        }
+
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (String user : users) {
+            List<Integer> sequence = handler.handledEvents.get(user);
+            Assert.assertEquals(sequence.size(), eventsPerUser);
+            for (int i = 0; i < eventsPerUser; i++) {
+                Assert.assertEquals(sequence.get(i).intValue(), i);
+            }
+        }
+        EventHandlerDispatchMetrics metrics = dispatcher.getHandlerMetrics("orderedHandler");
+        Assert.assertEquals(metrics.getQueuedCount(), eventsPerUser * users.length);
+        waitForProcessed(metrics, eventsPerUser * users.length);
+        Assert.assertEquals(metrics.getQueueDepth(), 0);
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void testCallerRunsWhenQueueIsFull() throws Exception {
+
+        CountDownLatch latch = new CountDownLatch(5);
+        RecordingEventHandler handler = new RecordingEventHandler("callerRunsHandler", latch, 200);
+        handler.init(buildModuleConfiguration("callerRunsHandler", "1", "1", "caller_runs"));
+
+        ShardedEventDispatcher dispatcher = new ShardedEventDispatcher(4, 100, EventDispatchOverflowPolicy.BLOCK);
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch(handler, buildEvent("alice", i));
+        }
+
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        EventHandlerDispatchMetrics metrics = dispatcher.getHandlerMetrics("callerRunsHandler");
+        Assert.assertTrue(metrics.getCallerRunsCount() > 0);
+        Assert.assertTrue(handler.callerThreadHandled);
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void testDropOldestWhenQueueIsFull() throws Exception {
+
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingEventHandler handler = new RecordingEventHandler("dropOldestHandler", latch, 500);
+        handler.init(buildModuleConfiguration("dropOldestHandler", "1", "1", "drop-oldest"));
+
+        ShardedEventDispatcher dispatcher = new ShardedEventDispatcher(1, 100, EventDispatchOverflowPolicy.BLOCK);
+        dispatcher.dispatch(handler, buildEvent("alice", 0));
+        // Wait until the worker picks the first event, so the next events go to the queue.
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getHandlerMetrics("dropOldestHandler").getQueueDepth() > 0 &&
+                System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        dispatcher.dispatch(handler, buildEvent("alice", 1));
+        dispatcher.dispatch(handler, buildEvent("alice", 2));
+
+        EventHandlerDispatchMetrics metrics = dispatcher.getHandlerMetrics("dropOldestHandler");
+        Assert.assertEquals(metrics.getDroppedCount(), 1);
+        waitForProcessed(metrics, 2);
+        Assert.assertEquals(handler.handledEvents.get("alice"), Arrays.asList(0, 2));
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void testOverflowPolicyFromString() {
+
+        Assert.assertEquals(EventDispatchOverflowPolicy.fromString("drop_oldest", null),
+                EventDispatchOverflowPolicy.DROP_OLDEST);
+        Assert.assertEquals(EventDispatchOverflowPolicy.fromString("Caller-Runs", null),
+                EventDispatchOverflowPolicy.CALLER_RUNS);
+        Assert.assertEquals(EventDispatchOverflowPolicy.fromString("unknown", EventDispatchOverflowPolicy.BLOCK),
+                EventDispatchOverflowPolicy.BLOCK);
+        Assert.assertEquals(EventDispatchOverflowPolicy.fromString(null, EventDispatchOverflowPolicy.BLOCK),
+                EventDispatchOverflowPolicy.BLOCK);
+    }
+
+    private void waitForProcessed(EventHandlerDispatchMetrics metrics, long count) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (metrics.getProcessedCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(metrics.getProcessedCount(), count);
+    }
+
+    private ModuleConfiguration buildModuleConfiguration(String moduleName, String concurrency, String queueCapacity,
+                                                         String overflowPolicy) {
+
+        Properties properties = new Properties();
+        properties.setProperty(moduleName + ".dispatcher.concurrency", concurrency);
+        properties.setProperty(moduleName + ".dispatcher.queueCapacity", queueCapacity);
+        if (overflowPolicy != null) {
+            properties.setProperty(moduleName + ".dispatcher.overflowPolicy", overflowPolicy);
+        }
+        return new ModuleConfiguration(properties, Collections.emptyList());
+    }
+
+    private Event buildEvent(String userName, int sequence) {
+
+        Event event = new Event("POST_ADD_USER");
+        event.addEventProperty(IdentityEventConstants.EventProperty.TENANT_DOMAIN, "carbon.super");
+        event.addEventProperty(IdentityEventConstants.EventProperty.USER_NAME, userName);
+        event.addEventProperty("sequence", sequence);
+        return event;
+    }
+
+    private static class RecordingEventHandler extends AbstractEventHandler {
+
+        private final String name;
+        private final CountDownLatch latch;
+        private final long handlingTimeMillis;
+        private final Thread creatorThread = Thread.currentThread();
+        private final Map<String, List<Integer>> handledEvents = new ConcurrentHashMap<>();
+        private volatile boolean callerThreadHandled;
+
+        RecordingEventHandler(String name, CountDownLatch latch, long handlingTimeMillis) {
+
+            this.name = name;
+            this.latch = latch;
+            this.handlingTimeMillis = handlingTimeMillis;
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            if (Thread.currentThread() == creatorThread) {
+                callerThreadHandled = true;
+            }
+            if (handlingTimeMillis > 0) {
+                try {
+                    Thread.sleep(handlingTimeMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String userName = (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.USER_NAME);
+            List<Integer> sequence = handledEvents.computeIfAbsent(userName,
+                    key -> Collections.synchronizedList(new ArrayList<>()));
+            sequence.add((Integer) event.getEventProperties().get("sequence"));
+            latch.countDown();
+        }
+    }
+}
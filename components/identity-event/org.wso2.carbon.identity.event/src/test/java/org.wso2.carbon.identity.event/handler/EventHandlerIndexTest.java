@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class EventHandlerIndexTest {
+
+    private static final String[] EVENTS = {"POST_ADD_USER", "PRE_SET_USER_CLAIMS", "POST_AUTHENTICATION"};
+
+    @Test
+    public void testIndexWithManyHandlers() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            AbstractEventHandler handler = i % 10 == 0 ? new CustomCanHandleEventHandler("custom" + i) :
+                    new SubscriptionEventHandler("handler" + i);
+            handler.init(buildModuleConfiguration(EVENTS[i % EVENTS.length]));
+            handlers.add(handler);
+        }
+
+        EventHandlerIndex index = new EventHandlerIndex();
+        for (String eventName : EVENTS) {
+            List<EventHandlerIndex.IndexedEventHandler> indexedHandlers = index.getHandlers(handlers, eventName);
+
+            List<AbstractEventHandler> expected = new ArrayList<>();
+            for (AbstractEventHandler handler : handlers) {
+                if (handler instanceof CustomCanHandleEventHandler ||
+                        handler.getSubscribedEventNames().contains(eventName)) {
+                    expected.add(handler);
+                }
+            }
+            Assert.assertEquals(indexedHandlers.size(), expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                EventHandlerIndex.IndexedEventHandler indexedHandler = indexedHandlers.get(i);
+                Assert.assertSame(indexedHandler.getHandler(), expected.get(i));
+                Assert.assertEquals(indexedHandler.isCanHandleCheckRequired(),
+                        indexedHandler.getHandler() instanceof CustomCanHandleEventHandler);
+            }
+            Assert.assertSame(index.getHandlers(handlers, eventName), indexedHandlers);
+        }
+        Assert.assertEquals(index.getHandlers(handlers, "UNKNOWN_EVENT").size(), 6);
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenHandlersChange() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        AbstractEventHandler firstHandler = new SubscriptionEventHandler("first");
+        firstHandler.init(buildModuleConfiguration("POST_ADD_USER"));
+        handlers.add(firstHandler);
+
+        EventHandlerIndex index = new EventHandlerIndex();
+        Assert.assertEquals(index.getHandlers(handlers, "POST_ADD_USER").size(), 1);
+
+        AbstractEventHandler secondHandler = new SubscriptionEventHandler("second");
+        secondHandler.init(buildModuleConfiguration("POST_ADD_USER"));
+        handlers.add(secondHandler);
+        Assert.assertEquals(index.getHandlers(handlers, "POST_ADD_USER").size(), 2);
+
+        // The index is rebuilt when the module configuration of a handler changes.
+        secondHandler.init(buildModuleConfiguration("POST_DELETE_USER"));
+        Assert.assertEquals(index.getHandlers(handlers, "POST_ADD_USER").size(), 1);
+        Assert.assertEquals(index.getHandlers(handlers, "POST_DELETE_USER").size(), 1);
+    }
+
+    @Test
+    public void testEnablementOfHandlers() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        AbstractEventHandler configuredHandler = new SubscriptionEventHandler("configured");
+        configuredHandler.init(buildModuleConfiguration("POST_ADD_USER"));
+        handlers.add(configuredHandler);
+        CustomIsEnabledEventHandler customHandler = new CustomIsEnabledEventHandler("custom");
+        customHandler.init(buildModuleConfiguration("POST_ADD_USER"));
+        handlers.add(customHandler);
+
+        EventHandlerIndex index = new EventHandlerIndex();
+        List<EventHandlerIndex.IndexedEventHandler> indexedHandlers = index.getAllHandlers(handlers);
+        Assert.assertEquals(indexedHandlers.size(), 2);
+
+        // Handlers without an event listener configuration are enabled without a context.
+        Assert.assertFalse(indexedHandlers.get(0).isEnabledCheckRequired());
+        Assert.assertTrue(indexedHandlers.get(0).isEnabled(null));
+
+        // Handlers with their own isEnabled are checked on every call.
+        EventHandlerIndex.IndexedEventHandler indexedCustomHandler = indexedHandlers.get(1);
+        Assert.assertTrue(indexedCustomHandler.isEnabledCheckRequired());
+        Assert.assertFalse(indexedCustomHandler.isEnabled(null));
+        customHandler.enabled = true;
+        Assert.assertTrue(indexedCustomHandler.isEnabled(null));
+        Assert.assertSame(index.getHandlers(handlers, "POST_ADD_USER").get(1), indexedCustomHandler);
+    }
+
+    private ModuleConfiguration buildModuleConfiguration(String eventName) {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(new Subscription(eventName, new Properties()));
+        return new ModuleConfiguration(new Properties(), subscriptions);
+    }
+
+    private static class SubscriptionEventHandler extends AbstractEventHandler {
+
+        private final String name;
+
+        SubscriptionEventHandler(String name) {
+
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public void handleEvent(Event event) {
+
+        }
+    }
+
+    private static class CustomIsEnabledEventHandler extends SubscriptionEventHandler {
+
+        private volatile boolean enabled;
+
+        CustomIsEnabledEventHandler(String name) {
+
+            super(name);
+        }
+
+        @Override
+        public boolean isEnabled(MessageContext messageContext) {
+
+            return enabled;
+        }
+    }
+
+    private static class CustomCanHandleEventHandler extends SubscriptionEventHandler {
+
+        CustomCanHandleEventHandler(String name) {
+
+            super(name);
+        }
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            return true;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.core.bean.context.MessageContext;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.ShardedEventDispatcher;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
@@ -34,6 +35,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class IdentityEventServiceImplTest extends IdentityBaseTest {
 
@@ -68,4 +71,34 @@ public class IdentityEventServiceImplTest extends IdentityBaseTest {
 
         Mockito.verify(abstractEventHandler).canHandle(any(MessageContext.class));
     }
+
+    @Test
+    public void testDisabledAsyncHandlerIsNotDispatched() throws IdentityEventException {
+
+        Event event = new Event("eventName");
+
+        AbstractEventHandler disabledHandler = mock(AbstractEventHandler.class);
+        doReturn("disabledHandler").when(disabledHandler).getName();
+        doReturn(true).when(disabledHandler).canHandle(any(MessageContext.class));
+        doReturn(true).when(disabledHandler).isAssociationAsync(anyString());
+        doReturn(false).when(disabledHandler).isEnabled(any(MessageContext.class));
+
+        AbstractEventHandler enabledHandler = mock(AbstractEventHandler.class);
+        doReturn("enabledHandler").when(enabledHandler).getName();
+        doReturn(true).when(enabledHandler).canHandle(any(MessageContext.class));
+        doReturn(true).when(enabledHandler).isAssociationAsync(anyString());
+        doReturn(true).when(enabledHandler).isEnabled(any(MessageContext.class));
+
+        List<AbstractEventHandler> list = new ArrayList<>();
+        list.add(disabledHandler);
+        list.add(enabledHandler);
+        IdentityEventServiceComponent.eventHandlerList = list;
+
+        ShardedEventDispatcher eventDispatcher = mock(ShardedEventDispatcher.class);
+        IdentityEventService identityEventService = new IdentityEventServiceImpl(eventDispatcher);
+        identityEventService.handleEvent(event);
+
+        verify(eventDispatcher, never()).dispatch(disabledHandler, event);
+        verify(eventDispatcher).dispatch(enabledHandler, event);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.core.cache.CacheWarmUpHandler;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+
+import java.util.List;
+
+/**
+ * Warms up the identity provider caches of a tenant by loading the identity providers of the tenant, up to the limit
+ * configured with the {@code CacheConfig.WarmUp.IdentityProviderLimit} property of identity.xml.
+ */
+public class IdPCacheWarmUpHandler implements CacheWarmUpHandler {
+
+    private static final Log log = LogFactory.getLog(IdPCacheWarmUpHandler.class);
+    private static final String IDENTITY_PROVIDER_LIMIT = "CacheConfig.WarmUp.IdentityProviderLimit";
+    private static final int DEFAULT_IDENTITY_PROVIDER_LIMIT = 100;
+
+    @Override
+    public String getName() {
+
+        return "IdPCacheWarmUpHandler";
+    }
+
+    @Override
+    public void warmUp(String tenantDomain) throws IdentityProviderManagementException {
+
+        IdentityProviderManager identityProviderManager = IdentityProviderManager.getInstance();
+        List<IdentityProvider> identityProviders = identityProviderManager.getIdPs(tenantDomain);
+        int limit = Math.min(identityProviders.size(), getIdentityProviderLimit());
+        for (int i = 0; i < limit; i++) {
+            // Loading the identity provider by name through the cache backed DAO adds it to the name, resource id
+            // and home realm id caches.
+            identityProviderManager.getIdPByName(identityProviders.get(i).getIdentityProviderName(), tenantDomain,
+                    true);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + limit + " identity provider(s) of tenant: " + tenantDomain + " into the cache.");
+        }
+    }
+
+    private int getIdentityProviderLimit() {
+
+        String limit = IdentityUtil.getProperty(IDENTITY_PROVIDER_LIMIT);
+        if (StringUtils.isNotBlank(limit) && StringUtils.isNumeric(limit) && Integer.parseInt(limit) > 0) {
+            return Integer.parseInt(limit);
+        }
+        return DEFAULT_IDENTITY_PROVIDER_LIMIT;
+    }
+}
@@ -28,6 +28,9 @@ import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.cache.CacheInvalidationService;
+import org.wso2.carbon.identity.core.cache.SingleFlightLoader;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -55,20 +58,19 @@ import org.wso2.carbon.idp.mgt.model.ConnectedAppsResult;
 import org.wso2.carbon.idp.mgt.util.IdPManagementConstants;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.io.Serializable;
 import java.sql.Connection;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class CacheBackedIdPMgtDAO {
 
     private static final Log log = LogFactory.getLog(CacheBackedIdPMgtDAO.class);
-    private static final ExecutorService CACHE_CLEARING_EXECUTOR = Executors.newFixedThreadPool(3);
+    private static final SingleFlightLoader<IdPNameCacheKey, IdentityProvider> IDP_BY_NAME_LOADER =
+            new SingleFlightLoader<>("IdPCacheByName", IdPCacheByName::getInstance);
 
     private IdPManagementFacade idPManagementFacade = null;
 
@@ -243,6 +245,18 @@ public class CacheBackedIdPMgtDAO {
                     + ". Fetching entry from DB");
         }
 
+        if (dbConnection != null) {
+            // The given connection may be part of an ongoing transaction, hence its result is not shared.
+            return loadIdPByName(dbConnection, cacheKey, idPName, tenantId, tenantDomain);
+        }
+        return IDP_BY_NAME_LOADER.load(cacheKey, tenantDomain,
+                () -> loadIdPByName(null, cacheKey, idPName, tenantId, tenantDomain));
+    }
+
+    private IdentityProvider loadIdPByName(Connection dbConnection, IdPNameCacheKey cacheKey, String idPName,
+                                           int tenantId, String tenantDomain)
+            throws IdentityProviderManagementException {
+
         IdentityProvider identityProvider = idPManagementFacade.getIdPByName(dbConnection, idPName,
                                                                    tenantId, tenantDomain);
 
@@ -856,15 +870,16 @@ public class CacheBackedIdPMgtDAO {
     }
 
     /**
-     * Clear IDP cache entries of all child organizations of the given organization asynchronously.
+     * Clear IDP cache entries of all child organizations of the given organization asynchronously. Repeated clears
+     * of the same identity provider within the coalescing window of the {@link CacheInvalidationService} are run
+     * once.
      *
      * @param idPName      Identity Provider name.
      * @param tenantDomain Tenant domain of the identity provider.
      */
     private void clearDescendantIdpCache(String idPName, String tenantDomain) {
 
-        // Run the entire cache clearing operation asynchronously in a single background thread.
-        CompletableFuture.runAsync(() -> {
+        CacheInvalidationService.getInstance().execute("IdPDescendantCache:" + tenantDomain + ":" + idPName, () -> {
             try {
                 OrganizationManager organizationManager =
                         IdpMgtServiceComponentHolder.getInstance().getOrganizationManager();
@@ -881,13 +896,13 @@ public class CacheBackedIdPMgtDAO {
                     int tenantId = IdentityTenantUtil.getTenantId(organizationManager.resolveTenantDomain(childOrgId));
                     Optional<IdentityProvider> identityProvider = this.getCachedIdpByName(idPName, childOrgId);
                     identityProvider.ifPresent(
-                            provider -> clearIdPCacheEntries(provider, idPName, null, childOrgId, tenantId));
+                            provider -> clearIdPCacheEntries(provider, idPName, null, childOrgId, tenantId, true));
                 }
             } catch (OrganizationManagementException e) {
                 log.error("Error while asynchronously clearing IDP cache for child organizations of " +
                         "tenant: " + tenantDomain, e);
             }
-        }, CACHE_CLEARING_EXECUTOR);
+        });
     }
 
     /**
@@ -902,31 +917,60 @@ public class CacheBackedIdPMgtDAO {
     private void clearIdPCacheEntries(IdentityProvider identityProvider, String idPName, String resourceId,
                                       String tenantDomain, int tenantId) {
 
+        clearIdPCacheEntries(identityProvider, idPName, resourceId, tenantDomain, tenantId, false);
+    }
+
+    /**
+     * Clear IDP cache entries of the given identity provider.
+     *
+     * @param identityProvider Identity Provider information.
+     * @param idPName          Identity Provider name.
+     * @param resourceId       Resource ID of the identity provider.
+     * @param tenantDomain     Tenant domain of the identity provider.
+     * @param tenantId         Tenant ID of the identity provider.
+     * @param deferred         Whether the entries are cleared in batches by the {@link CacheInvalidationService}
+     *                         instead of immediately.
+     */
+    private void clearIdPCacheEntries(IdentityProvider identityProvider, String idPName, String resourceId,
+                                      String tenantDomain, int tenantId, boolean deferred) {
+
         IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(idPName);
-        idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+        clearCacheEntry(idPCacheByName, idPNameCacheKey, tenantDomain, deferred);
+        IDP_BY_NAME_LOADER.invalidate(idPNameCacheKey, tenantDomain);
 
         if (identityProvider.getHomeRealmId() != null) {
             IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                     identityProvider.getHomeRealmId());
-            idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
+            clearCacheEntry(idPCacheByHRI, idPHomeRealmIdCacheKey, tenantDomain, deferred);
         }
 
         if (StringUtils.isNotBlank(resourceId)) {
             IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(resourceId);
-            idPCacheByResourceId.clearCacheEntry(idPResourceIdCacheKey, tenantDomain);
+            clearCacheEntry(idPCacheByResourceId, idPResourceIdCacheKey, tenantDomain, deferred);
         }
 
         String idPIssuerName = getIDPIssuerName(identityProvider);
         if (StringUtils.isNotBlank(idPIssuerName)) {
             IdPMetadataPropertyCacheKey cacheKey = new IdPMetadataPropertyCacheKey(
                     IdentityApplicationConstants.IDP_ISSUER_NAME, idPIssuerName);
-            idPCacheByMetadataProperty.clearCacheEntry(cacheKey, tenantDomain);
+            clearCacheEntry(idPCacheByMetadataProperty, cacheKey, tenantDomain, deferred);
         }
 
         userDefinedFederatedAuthenticatorsCache.clearCacheEntry(
                 new UserDefinedFederatedAuthenticatorsCacheKey(tenantId), tenantId);
     }
 
+    private <K extends Serializable, V extends Serializable> void clearCacheEntry(BaseCache<K, V> cache, K key,
+                                                                                   String tenantDomain,
+                                                                                   boolean deferred) {
+
+        if (deferred) {
+            CacheInvalidationService.getInstance().invalidate(cache, key, tenantDomain);
+        } else {
+            cache.clearCacheEntry(key, tenantDomain);
+        }
+    }
+
     /**
      * @param tenantId
      * @param role
@@ -963,6 +1007,7 @@ public class CacheBackedIdPMgtDAO {
             }
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
             idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+            IDP_BY_NAME_LOADER.invalidate(idPNameCacheKey, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
@@ -1001,6 +1046,7 @@ public class CacheBackedIdPMgtDAO {
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(
                     identityProvider.getIdentityProviderName());
             idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+            IDP_BY_NAME_LOADER.invalidate(idPNameCacheKey, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
@@ -1036,6 +1082,7 @@ public class CacheBackedIdPMgtDAO {
             }
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
             idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+            IDP_BY_NAME_LOADER.invalidate(idPNameCacheKey, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
@@ -1072,6 +1119,7 @@ public class CacheBackedIdPMgtDAO {
             }
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
             idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+            IDP_BY_NAME_LOADER.invalidate(idPNameCacheKey, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
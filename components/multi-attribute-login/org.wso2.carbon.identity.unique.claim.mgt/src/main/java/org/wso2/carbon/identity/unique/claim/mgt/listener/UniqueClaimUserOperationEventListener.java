@@ -41,9 +41,13 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.MULTI_ATTRIBUTE_SEPARATOR;
@@ -183,30 +187,66 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
                                List<String> duplicateClaims) throws UserStoreException {
 
         String tenantDomain = getTenantDomain(userStoreManager);
+        Map<String, ClaimConstants.ClaimUniquenessScope> uniquenessScopes;
+        try {
+            uniquenessScopes = getUniqueClaimScopes(tenantDomain);
+        } catch (ClaimMetadataException e) {
+            log.error("Error while getting claim metadata of tenant: " + tenantDomain + ".", e);
+            return;
+        }
 
+        Map<String, Claim> claimsToCheck = new LinkedHashMap<>();
         for (Map.Entry<String, String> claim : claims.entrySet()) {
-            try {
-                String claimKey = claim.getKey();
-                String claimValue = claim.getValue();
-                ClaimConstants.ClaimUniquenessScope uniquenessScope = getClaimUniquenessScope(claimKey, tenantDomain);
-
-                if (StringUtils.isNotEmpty(claimValue) && shouldValidateUniqueness(uniquenessScope)) {
-                    Claim claimObject = getClaimObject(userStoreManager, claimKey);
-                    if (claimObject == null) {
-                        continue;
-                    }
-
-                    // Checks whether allowed login identifiers are equal to the password
-                    validatePasswordNotEqualToClaim(credential, claimObject, claimValue);
-
-                    // Check for duplicate claims if required
-                    if (checkForDuplicates && isClaimDuplicated(username, claimKey, claimValue, profile,
-                            userStoreManager, uniquenessScope)) {
-                        duplicateClaims.add(getClaimDisplayTag(claimObject, claimKey));
-                    }
-                }
-            } catch (ClaimMetadataException e) {
-                log.error("Error while getting claim metadata for claimUri: " + claim.getKey() + ".", e);
+            String claimKey = claim.getKey();
+            String claimValue = claim.getValue();
+            if (StringUtils.isEmpty(claimValue) || !uniquenessScopes.containsKey(claimKey)) {
+                continue;
+            }
+            Claim claimObject = getClaimObject(userStoreManager, claimKey);
+            if (claimObject == null) {
+                continue;
+            }
+
+            // Checks whether allowed login identifiers are equal to the password
+            validatePasswordNotEqualToClaim(credential, claimObject, claimValue);
+
+            if (checkForDuplicates) {
+                claimsToCheck.put(claimKey, claimObject);
+            }
+        }
+        if (claimsToCheck.isEmpty()) {
+            return;
+        }
+
+        // The user store, the domain and the current values of the multi-valued claims of the user are resolved once
+        // for all the unique claims of the write, instead of once per claim.
+        String domainName = getDomainName(userStoreManager);
+        UserStoreManager userStoreMgrFromRealm = getUserstoreManager(userStoreManager.getTenantId());
+        String[] multiValuedClaimUris = claimsToCheck.entrySet().stream()
+                .filter(claimEntry -> claimEntry.getValue().isMultiValued())
+                .map(Map.Entry::getKey)
+                .toArray(String[]::new);
+        Map<String, String> existingClaimValues = Collections.emptyMap();
+        if (multiValuedClaimUris.length > 0) {
+            existingClaimValues = getExistingClaimValues(username, multiValuedClaimUris, userStoreMgrFromRealm,
+                    domainName);
+        }
+
+        for (Map.Entry<String, Claim> claimEntry : claimsToCheck.entrySet()) {
+            String claimUri = claimEntry.getKey();
+            String claimValue = claims.get(claimUri);
+            ClaimConstants.ClaimUniquenessScope uniquenessScope = uniquenessScopes.get(claimUri);
+            boolean duplicated;
+            if (claimEntry.getValue().isMultiValued()) {
+                duplicated = isMultiValuedClaimDuplicated(username, claimUri, claimValue,
+                        existingClaimValues.get(claimUri), profile, userStoreMgrFromRealm, domainName,
+                        uniquenessScope);
+            } else {
+                duplicated = isSingleValuedClaimDuplicated(username, claimUri, claimValue, profile,
+                        userStoreMgrFromRealm, domainName, uniquenessScope);
+            }
+            if (duplicated) {
+                duplicateClaims.add(getClaimDisplayTag(claimEntry.getValue(), claimUri));
             }
         }
     }
@@ -282,23 +322,33 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
                                       UserStoreManager userStoreManager,
                                       ClaimConstants.ClaimUniquenessScope uniquenessScope) throws UserStoreException {
 
-        String domainName = userStoreManager.getRealmConfiguration().getUserStoreProperty(
-                UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+        String domainName = getDomainName(userStoreManager);
         Claim claim = getClaimObject(userStoreManager, claimUri);
-        String[] userList;
         // Get UserStoreManager from realm since the received one might be for a secondary user store
         UserStoreManager userStoreMgrFromRealm = getUserstoreManager(userStoreManager.getTenantId());
 
         if (claim != null && claim.isMultiValued()) {
-            return isMultiValuedClaimDuplicated(username, claimUri, claimValue, profile, userStoreMgrFromRealm,
-                    domainName, uniquenessScope);
+            String existingUserClaimValue = getExistingClaimValues(username, new String[] {claimUri},
+                    userStoreMgrFromRealm, domainName).get(claimUri);
+            return isMultiValuedClaimDuplicated(username, claimUri, claimValue, existingUserClaimValue, profile,
+                    userStoreMgrFromRealm, domainName, uniquenessScope);
         }
+        return isSingleValuedClaimDuplicated(username, claimUri, claimValue, profile, userStoreMgrFromRealm,
+                domainName, uniquenessScope);
+    }
+
+    private boolean isSingleValuedClaimDuplicated(String username, String claimUri, String claimValue,
+                                                  String profile, UserStoreManager userStoreManager,
+                                                  String domainName,
+                                                  ClaimConstants.ClaimUniquenessScope uniquenessScope)
+            throws UserStoreException {
 
+        String[] userList;
         if (ClaimConstants.ClaimUniquenessScope.WITHIN_USERSTORE.equals(uniquenessScope)) {
             String claimValueWithDomain = domainName + UserCoreConstants.DOMAIN_SEPARATOR + claimValue;
-            userList = userStoreMgrFromRealm.getUserList(claimUri, claimValueWithDomain, profile);
+            userList = userStoreManager.getUserList(claimUri, claimValueWithDomain, profile);
         } else {
-            userList = userStoreMgrFromRealm.getUserList(claimUri, claimValue, profile);
+            userList = userStoreManager.getUserList(claimUri, claimValue, profile);
         }
 
         if (userList.length == 1) {
@@ -312,6 +362,55 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
         return true;
     }
 
+    private String getDomainName(UserStoreManager userStoreManager) {
+
+        return userStoreManager.getRealmConfiguration().getUserStoreProperty(
+                UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+    }
+
+    /**
+     * Retrieves the current values of the given claims of the user in a single user store call.
+     *
+     * @param username         The username of the user.
+     * @param claimUris        The claim URIs to retrieve.
+     * @param userStoreManager The user store manager of the realm.
+     * @param domainName       The user store domain of the user.
+     * @return Map of the claim URIs and the current values of the user.
+     * @throws UserStoreException If an error occurs while retrieving the claim values.
+     */
+    private Map<String, String> getExistingClaimValues(String username, String[] claimUris,
+                                                       UserStoreManager userStoreManager, String domainName)
+            throws UserStoreException {
+
+        String usernameWithUserStoreDomain = UserCoreUtil.addDomainToName(username, domainName);
+        Map<String, String> claimValues = userStoreManager.getUserClaimValues(usernameWithUserStoreDomain, claimUris,
+                UserCoreConstants.DEFAULT_PROFILE);
+        return claimValues == null ? Collections.emptyMap() : claimValues;
+    }
+
+    /**
+     * Determines the uniqueness validation scopes of all the local claims of a tenant which require uniqueness
+     * validation, so that the claims of a write can be checked without scanning the local claims per claim.
+     *
+     * @param tenantDomain The tenant domain.
+     * @return Map of the claim URIs and the uniqueness scopes of the unique claims of the tenant.
+     * @throws ClaimMetadataException If there is an error accessing claim metadata.
+     */
+    private Map<String, ClaimConstants.ClaimUniquenessScope> getUniqueClaimScopes(String tenantDomain)
+            throws ClaimMetadataException {
+
+        List<LocalClaim> localClaims = UniqueClaimUserOperationDataHolder.getInstance()
+                .getClaimMetadataManagementService().getLocalClaims(tenantDomain);
+        Map<String, ClaimConstants.ClaimUniquenessScope> uniquenessScopes = new HashMap<>();
+        for (LocalClaim localClaim : localClaims) {
+            ClaimConstants.ClaimUniquenessScope uniquenessScope = getClaimUniquenessScope(localClaim);
+            if (shouldValidateUniqueness(uniquenessScope)) {
+                uniquenessScopes.put(localClaim.getClaimURI(), uniquenessScope);
+            }
+        }
+        return uniquenessScopes;
+    }
+
     /**
      * Determines the uniqueness validation scope for a given claim URI.
      * This method checks the claim properties to determine how uniqueness should be enforced:
@@ -337,28 +436,33 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
                 .orElse(null);
 
         if (targetLocalClaim != null) {
-            String uniquenessScope = targetLocalClaim.getClaimProperty(ClaimConstants.CLAIM_UNIQUENESS_SCOPE_PROPERTY);
-            if (StringUtils.isNotBlank(uniquenessScope)) {
-                try {
-                    return ClaimConstants.ClaimUniquenessScope.valueOf(uniquenessScope);
-                } catch (IllegalArgumentException e) {
-                    if (log.isWarnEnabled()) {
-                        log.warn("Invalid uniqueness validation scope '" + uniquenessScope + "' provided for " +
-                                "claim URI: " + claimUri + ". Defaulting to NONE, where no uniqueness validation " +
-                                "will be performed.");
-                    }
-                    return ClaimConstants.ClaimUniquenessScope.NONE;
-                }
-            }
+            return getClaimUniquenessScope(targetLocalClaim);
+        }
+        return ClaimConstants.ClaimUniquenessScope.NONE;
+    }
+
+    private ClaimConstants.ClaimUniquenessScope getClaimUniquenessScope(LocalClaim localClaim) {
 
-            boolean isUniqueClaim = Boolean.parseBoolean(targetLocalClaim.getClaimProperty(IS_UNIQUE_CLAIM));
-            if (isUniqueClaim) {
-                return isScopeWithinUserstore()
-                        ? ClaimConstants.ClaimUniquenessScope.WITHIN_USERSTORE
-                        : ClaimConstants.ClaimUniquenessScope.ACROSS_USERSTORES;
+        String uniquenessScope = localClaim.getClaimProperty(ClaimConstants.CLAIM_UNIQUENESS_SCOPE_PROPERTY);
+        if (StringUtils.isNotBlank(uniquenessScope)) {
+            try {
+                return ClaimConstants.ClaimUniquenessScope.valueOf(uniquenessScope);
+            } catch (IllegalArgumentException e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Invalid uniqueness validation scope '" + uniquenessScope + "' provided for " +
+                            "claim URI: " + localClaim.getClaimURI() + ". Defaulting to NONE, where no uniqueness " +
+                            "validation will be performed.");
+                }
+                return ClaimConstants.ClaimUniquenessScope.NONE;
             }
         }
 
+        boolean isUniqueClaim = Boolean.parseBoolean(localClaim.getClaimProperty(IS_UNIQUE_CLAIM));
+        if (isUniqueClaim) {
+            return isScopeWithinUserstore()
+                    ? ClaimConstants.ClaimUniquenessScope.WITHIN_USERSTORE
+                    : ClaimConstants.ClaimUniquenessScope.ACROSS_USERSTORES;
+        }
         return ClaimConstants.ClaimUniquenessScope.NONE;
     }
 
@@ -446,7 +550,8 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
         return true;
     }
 
-    private boolean isMultiValuedClaimDuplicated(String username, String claimUri, String claimValue, String profile,
+    private boolean isMultiValuedClaimDuplicated(String username, String claimUri, String claimValue,
+                                                 String existingUserClaimValue, String profile,
                                                  UserStoreManager userStoreManager, String domainName,
                                                  ClaimConstants.ClaimUniquenessScope uniquenessScope)
             throws UserStoreException {
@@ -455,16 +560,14 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
                 .getRealmConfiguration().getUserStoreProperty(MULTI_ATTRIBUTE_SEPARATOR);
 
         String usernameWithUserStoreDomain = UserCoreUtil.addDomainToName(username, domainName);
-        String existingUserClaimValue = userStoreManager.getUserClaimValues(usernameWithUserStoreDomain,
-                new String[] {claimUri},
-                UserCoreConstants.DEFAULT_PROFILE).get(claimUri);
         List<String> existingClaimValues = new ArrayList<>();
         if (StringUtils.isNotEmpty(existingUserClaimValue)) {
             existingClaimValues = Arrays.stream(existingUserClaimValue.split(multiAttributeSeparator))
                     .collect(Collectors.toList());
         }
-        List<String> currentClaimValues = Arrays.stream(claimValue.split(multiAttributeSeparator))
-                .collect(Collectors.toList());
+        // A value repeated within the claim needs to be searched only once.
+        Set<String> currentClaimValues = Arrays.stream(claimValue.split(multiAttributeSeparator))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
         currentClaimValues.removeAll(existingClaimValues);
 
         for (String claimValuePart : currentClaimValues) {
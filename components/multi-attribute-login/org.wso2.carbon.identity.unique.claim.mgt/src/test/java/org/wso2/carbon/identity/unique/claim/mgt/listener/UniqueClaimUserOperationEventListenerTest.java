@@ -62,6 +62,8 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.MULTI_ATTRIBUTE_SEPARATOR;
 import static org.wso2.carbon.identity.mgt.constants.SelfRegistrationStatusCodes.ERROR_CODE_DUPLICATE_CLAIM_VALUE;
@@ -98,6 +100,7 @@ public class UniqueClaimUserOperationEventListenerTest {
     private IdentityEventListenerConfig mockIdentityEventListenerConfig;
 
     private MockedStatic<IdentityUtil> identityUtilMock;
+    private MockedStatic<UniqueClaimUserOperationDataHolder> dataHolderMock;
 
 
     @BeforeMethod
@@ -146,7 +149,7 @@ public class UniqueClaimUserOperationEventListenerTest {
         when(dataHolder.getClaimMetadataManagementService()).thenReturn(claimMetadataManagementService);
         when(dataHolder.getRealmService()).thenReturn(mock(RealmService.class));
 
-        mockStatic(UniqueClaimUserOperationDataHolder.class);
+        dataHolderMock = mockStatic(UniqueClaimUserOperationDataHolder.class);
         when(UniqueClaimUserOperationDataHolder.getInstance()).thenReturn(dataHolder);
 
         RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
@@ -283,6 +286,64 @@ public class UniqueClaimUserOperationEventListenerTest {
         }
     }
 
+    @Test
+    public void testUniqueClaimsOfWriteAreCheckedTogether() throws Exception {
+
+        String mobileNumbersClaimUri = "http://wso2.org/claims/mobileNumbers";
+        List<LocalClaim> localClaims = new ArrayList<>();
+        for (String claimUri : new String[]{EMAIL_CLAIM_URI, EMAIL_ADDRESSES_CLAIM_URI, mobileNumbersClaimUri}) {
+            LocalClaim localClaim = new LocalClaim(claimUri);
+            localClaim.setClaimProperty(ClaimConstants.CLAIM_UNIQUENESS_SCOPE_PROPERTY,
+                    ClaimConstants.ClaimUniquenessScope.ACROSS_USERSTORES.toString());
+            localClaims.add(localClaim);
+        }
+        when(claimMetadataManagementService.getLocalClaims(anyString())).thenReturn(localClaims);
+
+        when(userStoreManager.getTenantId()).thenReturn(-1234);
+        UserRealm userRealm = mock(UserRealm.class);
+        when(realmService.getTenantUserRealm(-1234)).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(userStoreManager);
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn("PRIMARY");
+        when(realmConfiguration.getUserStoreProperty(MULTI_ATTRIBUTE_SEPARATOR)).thenReturn(",");
+        when(userStoreManager.getSecondaryUserStoreManager(anyString())).thenReturn(userStoreManager);
+
+        when(userStoreManager.getClaimManager()).thenReturn(claimManager);
+        Claim emailClaim = new Claim();
+        emailClaim.setClaimUri(EMAIL_CLAIM_URI);
+        when(claimManager.getClaim(EMAIL_CLAIM_URI)).thenReturn(emailClaim);
+        Claim emailAddressesClaim = new Claim();
+        emailAddressesClaim.setClaimUri(EMAIL_ADDRESSES_CLAIM_URI);
+        emailAddressesClaim.setMultiValued(true);
+        when(claimManager.getClaim(EMAIL_ADDRESSES_CLAIM_URI)).thenReturn(emailAddressesClaim);
+        Claim mobileNumbersClaim = new Claim();
+        mobileNumbersClaim.setClaimUri(mobileNumbersClaimUri);
+        mobileNumbersClaim.setMultiValued(true);
+        when(claimManager.getClaim(mobileNumbersClaimUri)).thenReturn(mobileNumbersClaim);
+
+        Map<String, String> existingClaimValues = new HashMap<>();
+        existingClaimValues.put(EMAIL_ADDRESSES_CLAIM_URI, "a@wso2.com");
+        when(userStoreManager.getUserClaimValues(anyString(), any(String[].class), anyString()))
+                .thenReturn(existingClaimValues);
+        when(userStoreManager.getUserList(anyString(), anyString(), anyString())).thenReturn(new String[0]);
+        doReturn(true).when(uniqueClaimUserOperationEventListener).isEnable();
+
+        Map<String, String> claims = new HashMap<>();
+        claims.put(EMAIL_CLAIM_URI, "b@wso2.com");
+        claims.put(EMAIL_ADDRESSES_CLAIM_URI, "a@wso2.com,c@wso2.com,c@wso2.com");
+        claims.put(mobileNumbersClaimUri, "0711234567,0711234567");
+        Assert.assertTrue(uniqueClaimUserOperationEventListener.doPreSetUserClaimValues("testUser", claims,
+                "default", userStoreManager));
+
+        // The claim metadata and the current values of the multi-valued claims are retrieved once per write, and
+        // only the new, distinct values are searched in the user store.
+        verify(claimMetadataManagementService, times(1)).getLocalClaims(anyString());
+        verify(userStoreManager, times(1)).getUserClaimValues(anyString(), any(String[].class), anyString());
+        verify(userStoreManager, times(3)).getUserList(anyString(), anyString(), anyString());
+    }
+
     private void mockInitForCheckClaimUniqueness() throws ClaimMetadataException {
 
         List<LocalClaim> localClaims = new ArrayList<>();
@@ -304,5 +365,9 @@ public class UniqueClaimUserOperationEventListenerTest {
         if (identityUtilMock != null) {
             identityUtilMock.close();
         }
+        if (dataHolderMock != null) {
+            dataHolderMock.close();
+            dataHolderMock = null;
+        }
     }
 }
@@ -79,6 +79,69 @@ public class IdentityProvisioningConstants {
                                                                                     "AND APP.TENANT_ID = PC.TENANT_ID" +
                                                                                     " AND APP.TENANT_ID = ?";
 
+        public static final String ADD_PROVISIONING_JOB_SQL = "INSERT INTO IDN_PROVISIONING_JOB (JOB_ID, TENANT_ID, " +
+                "SP_TENANT_DOMAIN, ENTITY_TENANT_DOMAIN, SP_NAME, IDP_NAME, CONNECTOR_TYPE, ENTITY_NAME, OPERATION, " +
+                "ENTITY_OBJECT, ATTEMPT_COUNT, NEXT_ATTEMPT_TIME, LEASE_EXPIRY_TIME, TIME_CREATED) VALUES " +
+                "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, 0, ?)";
+
+        public static final String GET_LEASABLE_PROVISIONING_JOBS_SQL = "SELECT JOB_ID, LEASE_EXPIRY_TIME FROM " +
+                "IDN_PROVISIONING_JOB WHERE NEXT_ATTEMPT_TIME <= ? AND LEASE_EXPIRY_TIME < ? ORDER BY " +
+                "NEXT_ATTEMPT_TIME";
+
+        public static final String LEASE_PROVISIONING_JOB_SQL = "UPDATE IDN_PROVISIONING_JOB SET LEASE_OWNER = ?, " +
+                "LEASE_EXPIRY_TIME = ?, ATTEMPT_COUNT = ATTEMPT_COUNT + 1 WHERE JOB_ID = ? AND LEASE_EXPIRY_TIME = ? " +
+                "AND NEXT_ATTEMPT_TIME <= ?";
+
+        public static final String GET_LEASED_PROVISIONING_JOBS_SQL = "SELECT JOB_ID, TENANT_ID, SP_TENANT_DOMAIN, " +
+                "ENTITY_TENANT_DOMAIN, SP_NAME, IDP_NAME, CONNECTOR_TYPE, ENTITY_NAME, OPERATION, ENTITY_OBJECT, " +
+                "ATTEMPT_COUNT, NEXT_ATTEMPT_TIME, LAST_ERROR, TIME_CREATED FROM IDN_PROVISIONING_JOB WHERE " +
+                "LEASE_OWNER = ? AND LEASE_EXPIRY_TIME = ?";
+
+        public static final String DELETE_LEASED_PROVISIONING_JOB_SQL = "DELETE FROM IDN_PROVISIONING_JOB WHERE " +
+                "JOB_ID = ? AND LEASE_OWNER = ? AND LEASE_EXPIRY_TIME = ?";
+
+        public static final String RESCHEDULE_LEASED_PROVISIONING_JOB_SQL = "UPDATE IDN_PROVISIONING_JOB SET " +
+                "NEXT_ATTEMPT_TIME = ?, LEASE_OWNER = NULL, LEASE_EXPIRY_TIME = 0, LAST_ERROR = ? WHERE JOB_ID = ? " +
+                "AND LEASE_OWNER = ? AND LEASE_EXPIRY_TIME = ?";
+
+        public static final String UPDATE_LEASED_PROVISIONING_JOB_ERROR_SQL = "UPDATE IDN_PROVISIONING_JOB SET " +
+                "NEXT_ATTEMPT_TIME = ?, LAST_ERROR = ? WHERE JOB_ID = ? AND LEASE_OWNER = ? AND LEASE_EXPIRY_TIME = ?";
+
+        // The time the job is dead lettered is copied from the next attempt time set just before.
+        public static final String ADD_DEAD_LETTER_PROVISIONING_JOB_SQL = "INSERT INTO IDN_PROV_JOB_DEAD_LETTER " +
+                "(JOB_ID, TENANT_ID, SP_TENANT_DOMAIN, ENTITY_TENANT_DOMAIN, SP_NAME, IDP_NAME, CONNECTOR_TYPE, " +
+                "ENTITY_NAME, OPERATION, ENTITY_OBJECT, ATTEMPT_COUNT, LAST_ERROR, TIME_CREATED, DEAD_LETTERED_TIME) " +
+                "SELECT JOB_ID, TENANT_ID, SP_TENANT_DOMAIN, ENTITY_TENANT_DOMAIN, SP_NAME, IDP_NAME, " +
+                "CONNECTOR_TYPE, ENTITY_NAME, OPERATION, ENTITY_OBJECT, ATTEMPT_COUNT, LAST_ERROR, TIME_CREATED, " +
+                "NEXT_ATTEMPT_TIME FROM IDN_PROVISIONING_JOB WHERE JOB_ID = ?";
+
+        public static final String GET_DEAD_LETTER_PROVISIONING_JOBS_SQL = "SELECT JOB_ID, TENANT_ID, " +
+                "SP_TENANT_DOMAIN, ENTITY_TENANT_DOMAIN, SP_NAME, IDP_NAME, CONNECTOR_TYPE, ENTITY_NAME, OPERATION, " +
+                "ATTEMPT_COUNT, LAST_ERROR, TIME_CREATED, DEAD_LETTERED_TIME FROM IDN_PROV_JOB_DEAD_LETTER WHERE " +
+                "TENANT_ID = ? ORDER BY DEAD_LETTERED_TIME DESC";
+
+        // Requeued jobs start a new set of attempts, and are due from the time they were dead lettered.
+        private static final String REQUEUE_DEAD_LETTER_PROVISIONING_JOBS_SQL = "INSERT INTO IDN_PROVISIONING_JOB " +
+                "(JOB_ID, TENANT_ID, SP_TENANT_DOMAIN, ENTITY_TENANT_DOMAIN, SP_NAME, IDP_NAME, CONNECTOR_TYPE, " +
+                "ENTITY_NAME, OPERATION, ENTITY_OBJECT, ATTEMPT_COUNT, NEXT_ATTEMPT_TIME, LEASE_EXPIRY_TIME, " +
+                "LAST_ERROR, TIME_CREATED) SELECT JOB_ID, TENANT_ID, SP_TENANT_DOMAIN, ENTITY_TENANT_DOMAIN, " +
+                "SP_NAME, IDP_NAME, CONNECTOR_TYPE, ENTITY_NAME, OPERATION, ENTITY_OBJECT, 0, DEAD_LETTERED_TIME, 0, " +
+                "LAST_ERROR, TIME_CREATED FROM IDN_PROV_JOB_DEAD_LETTER WHERE TENANT_ID = ?";
+
+        public static final String REQUEUE_DEAD_LETTER_PROVISIONING_JOB_SQL =
+                REQUEUE_DEAD_LETTER_PROVISIONING_JOBS_SQL + " AND JOB_ID = ?";
+
+        public static final String REQUEUE_DEAD_LETTER_PROVISIONING_JOBS_OF_TENANT_SQL =
+                REQUEUE_DEAD_LETTER_PROVISIONING_JOBS_SQL;
+
+        public static final String DELETE_DEAD_LETTER_PROVISIONING_JOB_SQL = "DELETE FROM IDN_PROV_JOB_DEAD_LETTER " +
+                "WHERE TENANT_ID = ? AND JOB_ID = ?";
+
+        // Only the dead lettered jobs which were copied to the job queue are deleted.
+        public static final String DELETE_REQUEUED_DEAD_LETTER_PROVISIONING_JOBS_SQL = "DELETE FROM " +
+                "IDN_PROV_JOB_DEAD_LETTER WHERE TENANT_ID = ? AND JOB_ID IN (SELECT JOB_ID FROM " +
+                "IDN_PROVISIONING_JOB WHERE TENANT_ID = ?)";
+
         private SQLQueries(){}
     }
 
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Long lived executor of the non-blocking outbound provisioning jobs, shared by all provisioning requests.
+ * <p>
+ * Jobs are queued per tenant and the workers take jobs from the tenants in round robin order, so that a bulk
+ * provisioning of a tenant does not delay the jobs of other tenants. A provisioning connector of an identity provider
+ * runs at most the configured number of jobs at a time, so that a slow connector cannot hold all the workers.
+ * Failed jobs are queued again with exponential backoff until the retry count is reached. When the queue is full,
+ * the job runs in the submitting thread.
+ */
+public class OutboundProvisioningExecutor {
+
+    private static final Log log = LogFactory.getLog(OutboundProvisioningExecutor.class);
+
+    private static final String POOL_SIZE_PROPERTY = "OutboundProvisioning.Executor.PoolSize";
+    private static final String QUEUE_CAPACITY_PROPERTY = "OutboundProvisioning.Executor.QueueCapacity";
+    private static final String MAX_CONCURRENCY_PER_CONNECTOR_PROPERTY =
+            "OutboundProvisioning.Executor.MaxConcurrencyPerConnector";
+    private static final String RETRY_COUNT_PROPERTY = "OutboundProvisioning.Executor.RetryCount";
+    private static final String RETRY_BACKOFF_PROPERTY = "OutboundProvisioning.Executor.RetryBackoff";
+    private static final int DEFAULT_POOL_SIZE = 20;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final int DEFAULT_MAX_CONCURRENCY_PER_CONNECTOR = 5;
+    private static final int DEFAULT_RETRY_COUNT = 2;
+    private static final int DEFAULT_RETRY_BACKOFF_IN_MILLIS = 1000;
+
+    private static volatile OutboundProvisioningExecutor instance;
+
+    private final int maxRetryCount;
+    private final long retryBackoffInMillis;
+    private final FairJobQueue jobQueue;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final AtomicInteger inFlightJobCount = new AtomicInteger();
+    private final AtomicInteger retryPendingJobCount = new AtomicInteger();
+    private final LongAdder completedJobCount = new LongAdder();
+    private final LongAdder failedJobCount = new LongAdder();
+    private final LongAdder retriedJobCount = new LongAdder();
+    private final LongAdder callerRunJobCount = new LongAdder();
+    private volatile boolean running = true;
+
+    /**
+     * @param poolSize                   Number of worker threads.
+     * @param queueCapacity              Maximum number of queued jobs.
+     * @param maxConcurrencyPerConnector Maximum number of jobs run at a time by a provisioning connector.
+     * @param maxRetryCount              Number of times a failed job is queued again.
+     * @param retryBackoffInMillis       Delay before the first retry, doubled on each retry.
+     */
+    OutboundProvisioningExecutor(int poolSize, int queueCapacity, int maxConcurrencyPerConnector,
+                                 int maxRetryCount, long retryBackoffInMillis) {
+
+        int workerCount = Math.max(1, poolSize);
+        this.maxRetryCount = Math.max(0, maxRetryCount);
+        this.retryBackoffInMillis = Math.max(0, retryBackoffInMillis);
+        this.jobQueue = new FairJobQueue(Math.max(1, queueCapacity), Math.max(1, maxConcurrencyPerConnector));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "OutboundProvisioningWorker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OutboundProvisioningRetryScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+    }
+
+    /**
+     * @return The shared outbound provisioning executor, created with the server configuration on first use.
+     */
+    public static OutboundProvisioningExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (OutboundProvisioningExecutor.class) {
+                if (instance == null) {
+                    instance = new OutboundProvisioningExecutor(
+                            getIntProperty(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE),
+                            getIntProperty(QUEUE_CAPACITY_PROPERTY, DEFAULT_QUEUE_CAPACITY),
+                            getIntProperty(MAX_CONCURRENCY_PER_CONNECTOR_PROPERTY,
+                                    DEFAULT_MAX_CONCURRENCY_PER_CONNECTOR),
+                            getIntProperty(RETRY_COUNT_PROPERTY, DEFAULT_RETRY_COUNT),
+                            getIntProperty(RETRY_BACKOFF_PROPERTY, DEFAULT_RETRY_BACKOFF_IN_MILLIS));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the shared executor, if it has been created.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (OutboundProvisioningExecutor.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Queue an outbound provisioning job.
+     *
+     * @param tenantDomain     Tenant domain the job belongs to.
+     * @param idPName          Name of the provisioning identity provider.
+     * @param connectorType    Type of the provisioning connector.
+     * @param provisioningTask Provisioning task, which returns false or throws an exception on failure.
+     * @param jobDescription   Description of the job used in the logs.
+     */
+    public void submit(String tenantDomain, String idPName, String connectorType, Callable<Boolean> provisioningTask,
+                       String jobDescription) {
+
+        String connectorKey = tenantDomain + ":" + idPName + ":" + connectorType;
+        ProvisioningJob job = new ProvisioningJob(StringUtils.defaultString(tenantDomain), connectorKey,
+                provisioningTask, jobDescription);
+        if (!running || !jobQueue.offer(job)) {
+            // Run in the submitting thread to push back on the callers when the workers cannot keep up.
+            if (log.isDebugEnabled()) {
+                log.debug("Outbound provisioning queue is full. Running the job in the calling thread. " +
+                        jobDescription);
+            }
+            callerRunJobCount.increment();
+            inFlightJobCount.incrementAndGet();
+            try {
+                runJob(job, false);
+            } finally {
+                inFlightJobCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @return Number of jobs waiting for a worker.
+     */
+    public int getQueuedJobCount() {
+
+        return jobQueue.size();
+    }
+
+    /**
+     * @return Number of jobs currently running, including the jobs run in the submitting threads.
+     */
+    public int getInFlightJobCount() {
+
+        return inFlightJobCount.get();
+    }
+
+    /**
+     * @param tenantDomain  Tenant domain.
+     * @param idPName       Name of the provisioning identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @return Number of jobs currently run by the workers for the provisioning connector.
+     */
+    public int getInFlightJobCount(String tenantDomain, String idPName, String connectorType) {
+
+        return jobQueue.getRunningJobCount(tenantDomain + ":" + idPName + ":" + connectorType);
+    }
+
+    /**
+     * @return Number of failed jobs waiting for their retry.
+     */
+    public int getRetryPendingJobCount() {
+
+        return retryPendingJobCount.get();
+    }
+
+    public long getCompletedJobCount() {
+
+        return completedJobCount.sum();
+    }
+
+    /**
+     * @return Number of jobs which failed after all the retries.
+     */
+    public long getFailedJobCount() {
+
+        return failedJobCount.sum();
+    }
+
+    public long getRetriedJobCount() {
+
+        return retriedJobCount.sum();
+    }
+
+    /**
+     * @return Number of jobs run in the submitting thread as the queue was full.
+     */
+    public long getCallerRunJobCount() {
+
+        return callerRunJobCount.sum();
+    }
+
+    /**
+     * Stop the workers. Queued jobs and jobs waiting for their retry are discarded.
+     */
+    void shutdown() {
+
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.shutdownNow();
+        int discardedJobCount = jobQueue.size() + retryPendingJobCount.get();
+        if (discardedJobCount > 0) {
+            log.warn(discardedJobCount + " outbound provisioning jobs are discarded as the executor is shut down.");
+        }
+    }
+
+    private void runWorker() {
+
+        while (running) {
+            ProvisioningJob job;
+            try {
+                job = jobQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            inFlightJobCount.incrementAndGet();
+            try {
+                runJob(job, true);
+            } finally {
+                inFlightJobCount.decrementAndGet();
+                jobQueue.complete(job);
+            }
+        }
+    }
+
+    private void runJob(ProvisioningJob job, boolean retryOnFailure) {
+
+        job.attempt++;
+        Exception failure = null;
+        boolean success;
+        try {
+            success = Boolean.TRUE.equals(job.task.call());
+        } catch (Exception e) {
+            success = false;
+            failure = e;
+        }
+        if (success) {
+            completedJobCount.increment();
+            return;
+        }
+        if (retryOnFailure && running && job.attempt <= maxRetryCount) {
+            scheduleRetry(job);
+            return;
+        }
+        failedJobCount.increment();
+        log.error("Outbound provisioning job failed after " + job.attempt + " attempt(s). " + job.description,
+                failure);
+    }
+
+    private void scheduleRetry(ProvisioningJob job) {
+
+        long delay = retryBackoffInMillis << Math.min(job.attempt - 1, 10);
+        if (log.isDebugEnabled()) {
+            log.debug("Retrying outbound provisioning job in " + delay + " ms. Attempt: " + job.attempt + ". " +
+                    job.description);
+        }
+        retriedJobCount.increment();
+        retryPendingJobCount.incrementAndGet();
+        try {
+            retryScheduler.schedule(() -> requeue(job), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            retryPendingJobCount.decrementAndGet();
+            failedJobCount.increment();
+            log.error("Outbound provisioning job is not retried as the executor is shut down. " + job.description);
+        }
+    }
+
+    private void requeue(ProvisioningJob job) {
+
+        if (jobQueue.offer(job)) {
+            retryPendingJobCount.decrementAndGet();
+            return;
+        }
+        // Retry later rather than running the job in the scheduler thread, which would delay the other retries.
+        try {
+            retryScheduler.schedule(() -> requeue(job), Math.max(retryBackoffInMillis, 1), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            retryPendingJobCount.decrementAndGet();
+        }
+    }
+
+    private static int getIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for: " + propertyName + ". Using the default value: " +
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Outbound provisioning job with its attempt count.
+     */
+    private static class ProvisioningJob {
+
+        private final String tenantDomain;
+        private final String connectorKey;
+        private final Callable<Boolean> task;
+        private final String description;
+        private int attempt;
+
+        ProvisioningJob(String tenantDomain, String connectorKey, Callable<Boolean> task, String description) {
+
+            this.tenantDomain = tenantDomain;
+            this.connectorKey = connectorKey;
+            this.task = task;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Bounded job queue kept per tenant. Jobs are taken from the tenants in round robin order, skipping the jobs of
+     * the connectors which already run the maximum number of jobs.
+     */
+    private static class FairJobQueue {
+
+        private final int capacity;
+        private final int maxConcurrencyPerConnector;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition jobAvailable = lock.newCondition();
+        private final LinkedHashMap<String, Deque<ProvisioningJob>> tenantQueues = new LinkedHashMap<>();
+        private final Map<String, Integer> runningJobCounts = new HashMap<>();
+        private int size;
+
+        FairJobQueue(int capacity, int maxConcurrencyPerConnector) {
+
+            this.capacity = capacity;
+            this.maxConcurrencyPerConnector = maxConcurrencyPerConnector;
+        }
+
+        boolean offer(ProvisioningJob job) {
+
+            lock.lock();
+            try {
+                if (size >= capacity) {
+                    return false;
+                }
+                tenantQueues.computeIfAbsent(job.tenantDomain, tenant -> new ArrayDeque<>()).addLast(job);
+                size++;
+                jobAvailable.signal();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        ProvisioningJob take() throws InterruptedException {
+
+            lock.lockInterruptibly();
+            try {
+                ProvisioningJob job;
+                while ((job = pollRunnableJob()) == null) {
+                    jobAvailable.await();
+                }
+                return job;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void complete(ProvisioningJob job) {
+
+            lock.lock();
+            try {
+                runningJobCounts.computeIfPresent(job.connectorKey, (key, count) -> count > 1 ? count - 1 : null);
+                // A worker may be waiting for a job of this connector.
+                jobAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+
+            lock.lock();
+            try {
+                return size;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int getRunningJobCount(String connectorKey) {
+
+            lock.lock();
+            try {
+                return runningJobCounts.getOrDefault(connectorKey, 0);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private ProvisioningJob pollRunnableJob() {
+
+            for (Map.Entry<String, Deque<ProvisioningJob>> tenantQueue : tenantQueues.entrySet()) {
+                Iterator<ProvisioningJob> jobs = tenantQueue.getValue().iterator();
+                while (jobs.hasNext()) {
+                    ProvisioningJob job = jobs.next();
+                    if (runningJobCounts.getOrDefault(job.connectorKey, 0) < maxConcurrencyPerConnector) {
+                        jobs.remove();
+                        size--;
+                        runningJobCounts.merge(job.connectorKey, 1, Integer::sum);
+                        // Move the tenant to the end of the round robin order.
+                        String tenantDomain = tenantQueue.getKey();
+                        Deque<ProvisioningJob> remainingJobs = tenantQueues.remove(tenantDomain);
+                        if (!remainingJobs.isEmpty()) {
+                            tenantQueues.put(tenantDomain, remainingJobs);
+                        }
+                        return job;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.provisioning.dao.ProvisioningJobDAO;
+import org.wso2.carbon.identity.provisioning.job.OutboundProvisioningJob;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Persistent queue of the non-blocking outbound provisioning jobs, shared by the nodes of a cluster.
+ * <p>
+ * Jobs are stored in the database when they are submitted, rather than being held in memory until a worker is free.
+ * Each node polls the queue and leases at most the configured number of jobs at a time, and runs them on the
+ * {@link OutboundProvisioningExecutor}. Hence, the provisioning throughput grows with the number of nodes and workers,
+ * and the queued jobs survive a node restart. A failed job is released to be leased again after an exponential
+ * backoff, and is moved to the dead letter table once it has failed the configured number of attempts. Dead lettered
+ * jobs can be requeued through the {@link org.wso2.carbon.identity.provisioning.job.ProvisioningJobManagementService}.
+ * <p>
+ * A job is run at least once. It is run again if its lease expires before it completes, for example when the node
+ * running it stops. The lease times are compared across the nodes, hence the clocks of the nodes are expected to be
+ * synchronized to well within the lease duration.
+ */
+public class OutboundProvisioningJobQueue {
+
+    private static final Log log = LogFactory.getLog(OutboundProvisioningJobQueue.class);
+
+    private static final String ENABLE_PROPERTY = "OutboundProvisioning.JobQueue.Enable";
+    private static final String POLL_INTERVAL_PROPERTY = "OutboundProvisioning.JobQueue.PollInterval";
+    private static final String BATCH_SIZE_PROPERTY = "OutboundProvisioning.JobQueue.BatchSize";
+    private static final String LEASE_DURATION_PROPERTY = "OutboundProvisioning.JobQueue.LeaseDuration";
+    private static final String MAX_ATTEMPTS_PROPERTY = "OutboundProvisioning.JobQueue.MaxAttempts";
+    private static final String RETRY_BACKOFF_PROPERTY = "OutboundProvisioning.JobQueue.RetryBackoff";
+    private static final String MAX_RETRY_BACKOFF_PROPERTY = "OutboundProvisioning.JobQueue.MaxRetryBackoff";
+    private static final long DEFAULT_POLL_INTERVAL_IN_MILLIS = 1000L;
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final long DEFAULT_LEASE_DURATION_IN_MILLIS = 300000L;
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final long DEFAULT_RETRY_BACKOFF_IN_MILLIS = 1000L;
+    private static final long DEFAULT_MAX_RETRY_BACKOFF_IN_MILLIS = 600000L;
+
+    private static volatile OutboundProvisioningJobQueue instance;
+
+    private final ProvisioningJobDAO jobDAO;
+    private final OutboundProvisioningExecutor executor;
+    private final ProvisioningTaskFactory taskFactory;
+    private final String leaseOwner = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final long leaseDurationInMillis;
+    private final int maxAttempts;
+    private final long retryBackoffInMillis;
+    private final long maxRetryBackoffInMillis;
+    private final ScheduledExecutorService poller;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+    private final AtomicInteger inFlightJobCount = new AtomicInteger();
+    private final LongAdder completedJobCount = new LongAdder();
+    private final LongAdder retriedJobCount = new LongAdder();
+    private final LongAdder deadLetteredJobCount = new LongAdder();
+    // Accessed only by the poller thread.
+    private long lastLeaseExpiryTime;
+    private volatile boolean backlogged;
+
+    /**
+     * @param jobDAO                  DAO of the job queue.
+     * @param executor                Executor which runs the leased jobs.
+     * @param taskFactory             Factory of the provisioning tasks of the leased jobs.
+     * @param batchSize               Maximum number of jobs leased by this node at a time.
+     * @param leaseDurationInMillis   Time a job is leased for.
+     * @param maxAttempts             Number of attempts of a job before it is dead lettered.
+     * @param retryBackoffInMillis    Delay before the second attempt of a job, doubled on each attempt.
+     * @param maxRetryBackoffInMillis Maximum delay between two attempts of a job.
+     */
+    OutboundProvisioningJobQueue(ProvisioningJobDAO jobDAO, OutboundProvisioningExecutor executor,
+                                 ProvisioningTaskFactory taskFactory, int batchSize, long leaseDurationInMillis,
+                                 int maxAttempts, long retryBackoffInMillis, long maxRetryBackoffInMillis) {
+
+        this.jobDAO = jobDAO;
+        this.executor = executor;
+        this.taskFactory = taskFactory;
+        this.batchSize = Math.max(1, batchSize);
+        this.leaseDurationInMillis = Math.max(1, leaseDurationInMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffInMillis = Math.max(0, retryBackoffInMillis);
+        this.maxRetryBackoffInMillis = Math.max(this.retryBackoffInMillis, maxRetryBackoffInMillis);
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OutboundProvisioningJobPoller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return Whether the non-blocking outbound provisioning jobs are queued in the database.
+     */
+    public static boolean isEnabled() {
+
+        return IdentityUtil.getPropertyAsBoolean(ENABLE_PROPERTY, false);
+    }
+
+    /**
+     * @return The shared job queue, created with the server configuration on first use.
+     */
+    public static OutboundProvisioningJobQueue getInstance() {
+
+        if (instance == null) {
+            synchronized (OutboundProvisioningJobQueue.class) {
+                if (instance == null) {
+                    instance = new OutboundProvisioningJobQueue(new ProvisioningJobDAO(),
+                            OutboundProvisioningExecutor.getInstance(),
+                            OutboundProvisioningManager.getInstance()::createProvisioningTask,
+                            IdentityUtil.getPropertyAsInt(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE),
+                            IdentityUtil.getPropertyAsMillis(LEASE_DURATION_PROPERTY, TimeUnit.MILLISECONDS,
+                                    DEFAULT_LEASE_DURATION_IN_MILLIS),
+                            IdentityUtil.getPropertyAsInt(MAX_ATTEMPTS_PROPERTY, DEFAULT_MAX_ATTEMPTS),
+                            IdentityUtil.getPropertyAsMillis(RETRY_BACKOFF_PROPERTY, TimeUnit.MILLISECONDS,
+                                    DEFAULT_RETRY_BACKOFF_IN_MILLIS),
+                            IdentityUtil.getPropertyAsMillis(MAX_RETRY_BACKOFF_PROPERTY, TimeUnit.MILLISECONDS,
+                                    DEFAULT_MAX_RETRY_BACKOFF_IN_MILLIS));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Start polling the shared job queue, if the job queue is enabled. Every node polls the queue, including the nodes
+     * which do not submit jobs.
+     */
+    public static void startInstance() {
+
+        if (isEnabled()) {
+            getInstance().start(IdentityUtil.getPropertyAsMillis(POLL_INTERVAL_PROPERTY, TimeUnit.MILLISECONDS,
+                    DEFAULT_POLL_INTERVAL_IN_MILLIS));
+        }
+    }
+
+    /**
+     * Stop polling the shared job queue, if it has been created. Jobs leased by this node are leased again by the
+     * other nodes once their leases expire.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (OutboundProvisioningJobQueue.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Add a job to the queue, to be run as soon as a node leases it.
+     *
+     * @param job Job with the provisioning details and the provisioning entity.
+     * @throws IdentityProvisioningException If the job cannot be stored.
+     */
+    public void enqueue(OutboundProvisioningJob job) throws IdentityProvisioningException {
+
+        long currentTime = System.currentTimeMillis();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setCreatedTime(currentTime);
+        job.setNextAttemptTime(currentTime);
+        jobDAO.addJob(job);
+        requestPoll();
+    }
+
+    /**
+     * @return Number of jobs leased by this node which are not completed yet.
+     */
+    public int getInFlightJobCount() {
+
+        return inFlightJobCount.get();
+    }
+
+    public long getCompletedJobCount() {
+
+        return completedJobCount.sum();
+    }
+
+    /**
+     * @return Number of failed attempts which were rescheduled.
+     */
+    public long getRetriedJobCount() {
+
+        return retriedJobCount.sum();
+    }
+
+    public long getDeadLetteredJobCount() {
+
+        return deadLetteredJobCount.sum();
+    }
+
+    void start(long pollIntervalInMillis) {
+
+        if (started.compareAndSet(false, true)) {
+            long interval = Math.max(1, pollIntervalInMillis);
+            poller.scheduleWithFixedDelay(this::pollSafely, interval, interval, TimeUnit.MILLISECONDS);
+            if (log.isDebugEnabled()) {
+                log.debug("Started polling the outbound provisioning job queue as: " + leaseOwner);
+            }
+        }
+    }
+
+    void shutdown() {
+
+        poller.shutdownNow();
+    }
+
+    /**
+     * Lease the due jobs up to the free capacity of this node, and submit them to the executor.
+     */
+    void poll() {
+
+        pollRequested.set(false);
+        int capacity = batchSize - inFlightJobCount.get();
+        if (capacity <= 0) {
+            backlogged = true;
+            return;
+        }
+        long currentTime = System.currentTimeMillis();
+        // Each lease gets its own expiry time, as the leased jobs are read back by the owner and the expiry time.
+        long leaseExpiryTime = Math.max(currentTime + leaseDurationInMillis, lastLeaseExpiryTime + 1);
+        lastLeaseExpiryTime = leaseExpiryTime;
+        List<OutboundProvisioningJob> jobs;
+        try {
+            jobs = jobDAO.leaseJobs(leaseOwner, currentTime, leaseExpiryTime, capacity);
+        } catch (IdentityProvisioningException e) {
+            log.error("Error while leasing the outbound provisioning jobs.", e);
+            return;
+        }
+        backlogged = jobs.size() == capacity;
+        for (OutboundProvisioningJob job : jobs) {
+            inFlightJobCount.incrementAndGet();
+            // The executor runs the job in this thread when its queue is full, which holds back further leases.
+            executor.submit(job.getSpTenantDomain(), job.getIdPName(), job.getConnectorType(), () -> {
+                try {
+                    runJob(job);
+                } finally {
+                    inFlightJobCount.decrementAndGet();
+                    if (backlogged) {
+                        requestPoll();
+                    }
+                }
+                // Failed attempts are retried through the queue rather than by the executor.
+                return true;
+            }, job.getDescription());
+        }
+    }
+
+    void runJob(OutboundProvisioningJob job) {
+
+        if (job.getProvisioningEntity() == null) {
+            deadLetter(job, "The provisioning entity of the job cannot be read.");
+            return;
+        }
+        String error;
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(job.getSpTenantDomain(), true);
+            if (Boolean.TRUE.equals(taskFactory.createTask(job).call())) {
+                complete(job);
+                return;
+            }
+            error = "Outbound provisioning was not successful.";
+        } catch (Exception e) {
+            error = getErrorMessage(e);
+            if (log.isDebugEnabled()) {
+                log.debug("Attempt: " + job.getAttemptCount() + " of the outbound provisioning job failed. " +
+                        job.getDescription(), e);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        if (job.getAttemptCount() >= maxAttempts) {
+            deadLetter(job, error);
+        } else {
+            reschedule(job, error);
+        }
+    }
+
+    long getRetryDelay(int attemptCount) {
+
+        long delay = retryBackoffInMillis << Math.min(Math.max(attemptCount - 1, 0), 20);
+        return Math.min(delay, maxRetryBackoffInMillis);
+    }
+
+    private void complete(OutboundProvisioningJob job) {
+
+        completedJobCount.increment();
+        try {
+            if (!jobDAO.deleteJob(job)) {
+                log.warn("Lease of the completed outbound provisioning job had expired. The job may run again. " +
+                        job.getDescription());
+            }
+        } catch (IdentityProvisioningException e) {
+            log.error("Error while removing the completed outbound provisioning job. The job runs again once its " +
+                    "lease expires. " + job.getDescription(), e);
+        }
+    }
+
+    private void reschedule(OutboundProvisioningJob job, String error) {
+
+        long delay = getRetryDelay(job.getAttemptCount());
+        if (log.isDebugEnabled()) {
+            log.debug("Retrying the outbound provisioning job in " + delay + " ms. Attempt: " +
+                    job.getAttemptCount() + ". " + job.getDescription());
+        }
+        retriedJobCount.increment();
+        try {
+            jobDAO.rescheduleJob(job, System.currentTimeMillis() + delay, error);
+        } catch (IdentityProvisioningException e) {
+            log.error("Error while rescheduling the outbound provisioning job. The job runs again once its lease " +
+                    "expires. " + job.getDescription(), e);
+        }
+    }
+
+    private void deadLetter(OutboundProvisioningJob job, String error) {
+
+        log.error("Outbound provisioning job failed after " + job.getAttemptCount() + " attempt(s) and is moved to " +
+                "the dead letter table. " + job.getDescription() + ". Error: " + error);
+        deadLetteredJobCount.increment();
+        try {
+            jobDAO.moveToDeadLetter(job, System.currentTimeMillis(), error);
+        } catch (IdentityProvisioningException e) {
+            log.error("Error while moving the outbound provisioning job to the dead letter table. " +
+                    job.getDescription(), e);
+        }
+    }
+
+    private void requestPoll() {
+
+        if (started.get() && pollRequested.compareAndSet(false, true)) {
+            try {
+                poller.execute(this::pollSafely);
+            } catch (RejectedExecutionException e) {
+                // The queue is shut down.
+                pollRequested.set(false);
+            }
+        }
+    }
+
+    private void pollSafely() {
+
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // A failure must not cancel the scheduled polling.
+            log.error("Error while polling the outbound provisioning job queue.", e);
+        }
+    }
+
+    private static String getErrorMessage(Exception e) {
+
+        StringBuilder message = new StringBuilder(String.valueOf(e.getMessage()));
+        Throwable cause = e.getCause();
+        if (cause != null && cause != e) {
+            message.append(" Cause: ").append(cause.getMessage());
+        }
+        return message.toString();
+    }
+
+    /**
+     * Creates the provisioning task of a leased job, with the current provisioning connector of the job.
+     */
+    @FunctionalInterface
+    interface ProvisioningTaskFactory {
+
+        Callable<Boolean> createTask(OutboundProvisioningJob job) throws IdentityProvisioningException;
+    }
+}
@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.provisioning;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -36,6 +35,7 @@ import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.provisioning.cache.ServiceProviderProvisioningConnectorCache;
 import org.wso2.carbon.identity.provisioning.cache.ServiceProviderProvisioningConnectorCacheEntry;
@@ -44,6 +44,7 @@ import org.wso2.carbon.identity.provisioning.dao.CacheBackedProvisioningMgtDAO;
 import org.wso2.carbon.identity.provisioning.dao.ProvisioningManagementDAO;
 import org.wso2.carbon.identity.provisioning.internal.IdentityProvisionServiceComponent;
 import org.wso2.carbon.identity.provisioning.internal.ProvisioningServiceDataHolder;
+import org.wso2.carbon.identity.provisioning.job.OutboundProvisioningJob;
 import org.wso2.carbon.identity.provisioning.rules.ProvisioningHandler;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
@@ -70,7 +71,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CONSOLE_APPLICATION_NAME;
@@ -395,12 +395,6 @@ public class OutboundProvisioningManager {
 
             ProvisioningEntity outboundProEntity;
 
-            ExecutorService executors = null;
-
-            if (MapUtils.isNotEmpty(connectors)) {
-                executors = Executors.newFixedThreadPool(connectors.size());
-            }
-
             for (Iterator<Entry<String, RuntimeProvisioningConfig>> iterator = connectors
                     .entrySet().iterator(); iterator.hasNext(); ) {
 
@@ -534,12 +528,13 @@ public class OutboundProvisioningManager {
 
                         outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                    user, ProvisioningOperation.POST, mappedUserClaims);
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
                         boolean isBlocking = entry.getValue().isBlocking();
-                        executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                        executeOutboundProvisioning(provisioningEntity, spTenantDomainName,
+                                serviceProvider.getApplicationName(), connectorType, idPName, proThread, isBlocking);
 
                     }
 
@@ -559,12 +554,14 @@ public class OutboundProvisioningManager {
 
                             outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                        user, ProvisioningOperation.DELETE, mappedUserClaims);
-                            Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                            ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                     provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                             outboundProEntity.setIdentifier(provisionedUserIdentifier);
                             outboundProEntity.setJitProvisioning(jitProvisioning);
                             boolean isBlocking = entry.getValue().isBlocking();
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, spTenantDomainName,
+                                    serviceProvider.getApplicationName(), connectorType, idPName, proThread,
+                                    isBlocking);
                         }
                     }
 
@@ -585,7 +582,7 @@ public class OutboundProvisioningManager {
                         outboundProEntity = new ProvisioningEntity(provisioningEntity.getEntityType(),
                                 provisioningEntity.getEntityName(), provisioningOp, mapppedClaims);
 
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
@@ -606,16 +603,14 @@ public class OutboundProvisioningManager {
                         }
 
                         if (isAllowed) {
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, spTenantDomainName,
+                                    serviceProvider.getApplicationName(), connectorType, idPName, proThread,
+                                    isBlocking);
                         }
                     }
                 }
             }
 
-            if (executors != null) {
-                executors.shutdown();
-            }
-
         } catch (CarbonException | IdentityApplicationManagementException | IdentityProviderManagementException | UserStoreException e) {
             throw new IdentityProvisioningException("Error occurred while checking for user " +
                                                     "provisioning", e);
@@ -654,9 +649,9 @@ public class OutboundProvisioningManager {
         return true;
     }
 
-    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, ExecutorService executors,
-                                             String connectorType,
-                                             String idPName, Callable<Boolean> proThread, boolean isBlocking)
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, String spTenantDomainName,
+                                             String serviceProviderName, String connectorType,
+                                             String idPName, ProvisioningThread proThread, boolean isBlocking)
             throws IdentityProvisioningException {
 
         if (!isBlocking && needToWaitForUserProvisioning(provisioningEntity)) {
@@ -667,18 +662,22 @@ public class OutboundProvisioningManager {
                     //DO not roll back since non-blocking configuration was enabled.
                 }
             } catch (Exception e) {
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, null, e);
             }
         } else if (!isBlocking) {
-            executors.submit(proThread);
+            if (OutboundProvisioningJobQueue.isEnabled() &&
+                    enqueueOutboundProvisioningJob(spTenantDomainName, serviceProviderName, connectorType, idPName,
+                            proThread)) {
+                return;
+            }
+            OutboundProvisioningExecutor.getInstance().submit(spTenantDomainName, idPName, connectorType, proThread,
+                    "IdP: " + idPName + ", connector type: " + connectorType + ", entity: " +
+                            provisioningEntity.getEntityName() + ", operation: " + provisioningEntity.getOperation());
         } else {
             try {
 
                 boolean success = proThread.call();
                 if (!success) {
-                    if (executors != null) {
-                        executors.shutdown();
-                    }
                     throw new IdentityProvisioningException
                             (generateMessageOnFailureProvisioningOperation(idPName,
                                                                            connectorType, provisioningEntity));
@@ -688,11 +687,78 @@ public class OutboundProvisioningManager {
                 if (isFailOnBlockingOutBoundProvisionEnabled()) {
                     throw new IdentityProvisioningException(e.getMessage());
                 }
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, null, e);
             }
         }
     }
 
+    /**
+     * Store a non-blocking provisioning job in the persistent job queue.
+     *
+     * @return False if the job cannot be stored, in which case the job should be run in memory.
+     */
+    private boolean enqueueOutboundProvisioningJob(String spTenantDomainName, String serviceProviderName,
+                                                   String connectorType, String idPName,
+                                                   ProvisioningThread proThread) {
+
+        ProvisioningEntity outboundProEntity = proThread.getProvisioningEntity();
+        OutboundProvisioningJob job = new OutboundProvisioningJob();
+        job.setTenantId(IdentityTenantUtil.getTenantId(spTenantDomainName));
+        job.setSpTenantDomain(spTenantDomainName);
+        job.setEntityTenantDomain(proThread.getProvisioningEntityTenantDomainName());
+        job.setServiceProviderName(serviceProviderName);
+        job.setIdPName(idPName);
+        job.setConnectorType(connectorType);
+        job.setEntityName(outboundProEntity.getEntityName());
+        job.setOperation(String.valueOf(outboundProEntity.getOperation()));
+        job.setProvisioningEntity(outboundProEntity);
+        try {
+            OutboundProvisioningJobQueue.getInstance().enqueue(job);
+            return true;
+        } catch (IdentityProvisioningException e) {
+            log.warn("Error while adding the outbound provisioning job to the job queue. Running the job in " +
+                    "memory. IdP: " + idPName + ", connector type: " + connectorType + ", entity: " +
+                    outboundProEntity.getEntityName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Create the provisioning task of a job leased from the persistent job queue. The provisioning connector is
+     * resolved again, as the connector configuration may have changed after the job was queued.
+     *
+     * @param job Leased provisioning job.
+     * @return Provisioning task.
+     * @throws IdentityProvisioningException If the connector of the job is no longer configured for the service
+     *                                       provider.
+     */
+    Callable<Boolean> createProvisioningTask(OutboundProvisioningJob job) throws IdentityProvisioningException {
+
+        ServiceProvider serviceProvider;
+        try {
+            serviceProvider = ApplicationManagementService.getInstance()
+                    .getServiceProvider(job.getServiceProviderName(), job.getSpTenantDomain());
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityProvisioningException("Error while retrieving the service provider: " +
+                    job.getServiceProviderName() + " of tenant: " + job.getSpTenantDomain(), e);
+        }
+        if (serviceProvider == null) {
+            throw new IdentityProvisioningException("Invalid service provider name : " +
+                    job.getServiceProviderName());
+        }
+        RuntimeProvisioningConfig provisioningConfig =
+                getOutboundProvisioningConnectors(serviceProvider, job.getSpTenantDomain()).get(job.getIdPName());
+        Entry<String, AbstractOutboundProvisioningConnector> connectorEntry =
+                provisioningConfig == null ? null : provisioningConfig.getProvisioningConnectorEntry();
+        if (connectorEntry == null || !StringUtils.equals(job.getConnectorType(), connectorEntry.getKey())) {
+            throw new IdentityProvisioningException("Provisioning connector: " + job.getConnectorType() +
+                    " of identity provider: " + job.getIdPName() + " is not configured for the service provider: " +
+                    job.getServiceProviderName());
+        }
+        return new ProvisioningThread(job.getProvisioningEntity(), job.getSpTenantDomain(),
+                job.getEntityTenantDomain(), connectorEntry.getValue(), job.getConnectorType(), job.getIdPName(), dao);
+    }
+
     /**
      * When outbound provisioning with blocking mode is enabled for any specific provisioning connector, check whether
      * the flow should break if the outbound provisioning has failed.
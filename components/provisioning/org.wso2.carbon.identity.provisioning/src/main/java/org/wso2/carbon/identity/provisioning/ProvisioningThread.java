@@ -63,6 +63,16 @@ public class ProvisioningThread implements Callable<Boolean> {
         this.provisioningEntityTenantDomainName = provisioningEntityTenantDomainName;
     }
 
+    ProvisioningEntity getProvisioningEntity() {
+
+        return provisioningEntity;
+    }
+
+    String getProvisioningEntityTenantDomainName() {
+
+        return provisioningEntityTenantDomainName;
+    }
+
     @Override
     public Boolean call() throws IdentityProvisioningException {
 
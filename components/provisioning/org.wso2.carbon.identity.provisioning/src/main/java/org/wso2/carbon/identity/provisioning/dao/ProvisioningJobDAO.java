@@ -0,0 +1,578 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.core.util.CryptoException;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.SQLQueries;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.ProvisionedIdentifier;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntityType;
+import org.wso2.carbon.identity.provisioning.ProvisioningOperation;
+import org.wso2.carbon.identity.provisioning.job.OutboundProvisioningJob;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DAO of the persistent outbound provisioning job queue and its dead letter table.
+ * <p>
+ * A job is leased by a node before it is run, by setting the lease owner and the lease expiry time of the job. The
+ * lease is taken with a conditional update on the lease expiry time read before, so that only one node wins the lease
+ * of a job. Once the job is run, it is deleted, rescheduled or moved to the dead letter table by the lease owner. A
+ * job leased by a node which stopped before completing the job is leased again once the lease expires.
+ */
+public class ProvisioningJobDAO {
+
+    private static final Log log = LogFactory.getLog(ProvisioningJobDAO.class);
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    // Classes which may be read from a stored provisioning entity.
+    private static final Set<String> ENTITY_CLASSES = new HashSet<>(Arrays.asList(
+            ProvisioningEntity.class.getName(),
+            ProvisioningEntityType.class.getName(),
+            ProvisioningOperation.class.getName(),
+            ProvisionedIdentifier.class.getName(),
+            ClaimMapping.class.getName(),
+            Claim.class.getName(),
+            Enum.class.getName(),
+            String.class.getName(),
+            Boolean.class.getName(),
+            Number.class.getName(),
+            Integer.class.getName(),
+            Long.class.getName(),
+            HashMap.class.getName(),
+            LinkedHashMap.class.getName(),
+            ArrayList.class.getName(),
+            LinkedList.class.getName(),
+            HashSet.class.getName(),
+            Arrays.asList().getClass().getName(),
+            Collections.emptyList().getClass().getName(),
+            Collections.singletonList(null).getClass().getName(),
+            Collections.unmodifiableList(new ArrayList<>()).getClass().getName(),
+            // Serializable superclasses of the unmodifiable lists, which are resolved along with them.
+            "java.util.Collections$UnmodifiableList",
+            "java.util.Collections$UnmodifiableCollection",
+            Collections.unmodifiableMap(new HashMap<>()).getClass().getName(),
+            String[].class.getName()));
+
+    /**
+     * Add a job to the queue. The job is due at its next attempt time.
+     *
+     * @param job Provisioning job.
+     * @throws IdentityProvisioningException If an error occurred while adding the job.
+     */
+    public void addJob(OutboundProvisioningJob job) throws IdentityProvisioningException {
+
+        byte[] entity = serializeEntity(job.getProvisioningEntity());
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.ADD_PROVISIONING_JOB_SQL)) {
+            prepStmt.setString(1, job.getJobId());
+            prepStmt.setInt(2, job.getTenantId());
+            prepStmt.setString(3, job.getSpTenantDomain());
+            prepStmt.setString(4, job.getEntityTenantDomain());
+            prepStmt.setString(5, job.getServiceProviderName());
+            prepStmt.setString(6, job.getIdPName());
+            prepStmt.setString(7, job.getConnectorType());
+            prepStmt.setString(8, job.getEntityName());
+            prepStmt.setString(9, job.getOperation());
+            prepStmt.setBinaryStream(10, new ByteArrayInputStream(entity), entity.length);
+            prepStmt.setLong(11, job.getNextAttemptTime());
+            prepStmt.setLong(12, job.getCreatedTime());
+            prepStmt.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityProvisioningException("Error while adding the outbound provisioning job: " +
+                    job.getDescription(), e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Lease the due jobs which are not leased, or of which the lease has expired.
+     *
+     * @param leaseOwner      Identifier of the node leasing the jobs.
+     * @param currentTime     Current time in milliseconds.
+     * @param leaseExpiryTime Time the lease expires in milliseconds. It should not be shared with another lease of the
+     *                        same owner, as the leased jobs are read back by the owner and the expiry time.
+     * @param maxJobCount     Maximum number of jobs to lease.
+     * @return Leased jobs, with their attempt count incremented.
+     * @throws IdentityProvisioningException If an error occurred while leasing the jobs.
+     */
+    public List<OutboundProvisioningJob> leaseJobs(String leaseOwner, long currentTime, long leaseExpiryTime,
+                                                   int maxJobCount) throws IdentityProvisioningException {
+
+        List<OutboundProvisioningJob> leasedJobs = new ArrayList<>();
+        if (maxJobCount <= 0) {
+            return leasedJobs;
+        }
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try {
+            Map<String, Long> candidates = new LinkedHashMap<>();
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.GET_LEASABLE_PROVISIONING_JOBS_SQL)) {
+                prepStmt.setMaxRows(maxJobCount);
+                prepStmt.setLong(1, currentTime);
+                prepStmt.setLong(2, currentTime);
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        candidates.put(resultSet.getString(1), resultSet.getLong(2));
+                    }
+                }
+            }
+            if (candidates.isEmpty()) {
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return leasedJobs;
+            }
+
+            int leasedJobCount = 0;
+            try (PreparedStatement prepStmt = connection.prepareStatement(SQLQueries.LEASE_PROVISIONING_JOB_SQL)) {
+                for (Map.Entry<String, Long> candidate : candidates.entrySet()) {
+                    prepStmt.setString(1, leaseOwner);
+                    prepStmt.setLong(2, leaseExpiryTime);
+                    prepStmt.setString(3, candidate.getKey());
+                    prepStmt.setLong(4, candidate.getValue());
+                    prepStmt.setLong(5, currentTime);
+                    // The job is leased by another node if no row is updated.
+                    leasedJobCount += prepStmt.executeUpdate();
+                }
+            }
+            // Commit the leases before reading, so that the leases are not held by a long transaction.
+            IdentityDatabaseUtil.commitTransaction(connection);
+            if (leasedJobCount == 0) {
+                return leasedJobs;
+            }
+
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.GET_LEASED_PROVISIONING_JOBS_SQL)) {
+                prepStmt.setString(1, leaseOwner);
+                prepStmt.setLong(2, leaseExpiryTime);
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        // Columns are read in order, as some drivers do not allow going back after a binary stream.
+                        OutboundProvisioningJob job = new OutboundProvisioningJob();
+                        setJobDetails(job, resultSet);
+                        job.setProvisioningEntity(readEntity(job, resultSet.getBinaryStream(10)));
+                        job.setAttemptCount(resultSet.getInt(11));
+                        job.setNextAttemptTime(resultSet.getLong(12));
+                        job.setLastError(resultSet.getString(13));
+                        job.setCreatedTime(resultSet.getLong(14));
+                        job.setLeaseOwner(leaseOwner);
+                        job.setLeaseExpiryTime(leaseExpiryTime);
+                        leasedJobs.add(job);
+                    }
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return leasedJobs;
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityProvisioningException("Error while leasing the outbound provisioning jobs.", e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Delete a completed job.
+     *
+     * @param job Job leased by this node.
+     * @return False if the job is no longer leased by this node.
+     * @throws IdentityProvisioningException If an error occurred while deleting the job.
+     */
+    public boolean deleteJob(OutboundProvisioningJob job) throws IdentityProvisioningException {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                SQLQueries.DELETE_LEASED_PROVISIONING_JOB_SQL)) {
+            setLease(prepStmt, 1, job);
+            int deletedCount = prepStmt.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return deletedCount > 0;
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityProvisioningException("Error while deleting the outbound provisioning job: " +
+                    job.getDescription(), e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Release the lease of a failed job, to be leased again at the given time.
+     *
+     * @param job             Job leased by this node.
+     * @param nextAttemptTime Time of the next attempt in milliseconds.
+     * @param error           Error of the failed attempt.
+     * @return False if the job is no longer leased by this node.
+     * @throws IdentityProvisioningException If an error occurred while rescheduling the job.
+     */
+    public boolean rescheduleJob(OutboundProvisioningJob job, long nextAttemptTime, String error)
+            throws IdentityProvisioningException {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                SQLQueries.RESCHEDULE_LEASED_PROVISIONING_JOB_SQL)) {
+            prepStmt.setLong(1, nextAttemptTime);
+            prepStmt.setString(2, truncateError(error));
+            setLease(prepStmt, 3, job);
+            int updatedCount = prepStmt.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return updatedCount > 0;
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityProvisioningException("Error while rescheduling the outbound provisioning job: " +
+                    job.getDescription(), e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Move a failed job to the dead letter table.
+     *
+     * @param job         Job leased by this node.
+     * @param currentTime Current time in milliseconds.
+     * @param error       Error of the last attempt.
+     * @return False if the job is no longer leased by this node.
+     * @throws IdentityProvisioningException If an error occurred while moving the job.
+     */
+    public boolean moveToDeadLetter(OutboundProvisioningJob job, long currentTime, String error)
+            throws IdentityProvisioningException {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try {
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.UPDATE_LEASED_PROVISIONING_JOB_ERROR_SQL)) {
+                prepStmt.setLong(1, currentTime);
+                prepStmt.setString(2, truncateError(error));
+                setLease(prepStmt, 3, job);
+                if (prepStmt.executeUpdate() == 0) {
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    return false;
+                }
+            }
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.ADD_DEAD_LETTER_PROVISIONING_JOB_SQL)) {
+                prepStmt.setString(1, job.getJobId());
+                prepStmt.executeUpdate();
+            }
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.DELETE_LEASED_PROVISIONING_JOB_SQL)) {
+                setLease(prepStmt, 1, job);
+                prepStmt.executeUpdate();
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return true;
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityProvisioningException("Error while moving the outbound provisioning job: " +
+                    job.getDescription() + " to the dead letter table.", e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Get the dead lettered jobs of a tenant, the most recently dead lettered first. The provisioning entities of the
+     * jobs are not read.
+     *
+     * @param tenantId    Tenant id.
+     * @param maxJobCount Maximum number of jobs to return.
+     * @return Dead lettered jobs.
+     * @throws IdentityProvisioningException If an error occurred while reading the jobs.
+     */
+    public List<OutboundProvisioningJob> getDeadLetterJobs(int tenantId, int maxJobCount)
+            throws IdentityProvisioningException {
+
+        List<OutboundProvisioningJob> jobs = new ArrayList<>();
+        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                SQLQueries.GET_DEAD_LETTER_PROVISIONING_JOBS_SQL)) {
+            if (maxJobCount > 0) {
+                prepStmt.setMaxRows(maxJobCount);
+            }
+            prepStmt.setInt(1, tenantId);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    OutboundProvisioningJob job = new OutboundProvisioningJob();
+                    setJobDetails(job, resultSet);
+                    job.setAttemptCount(resultSet.getInt(10));
+                    job.setLastError(resultSet.getString(11));
+                    job.setCreatedTime(resultSet.getLong(12));
+                    job.setDeadLetteredTime(resultSet.getLong(13));
+                    jobs.add(job);
+                }
+            }
+            return jobs;
+        } catch (SQLException e) {
+            throw new IdentityProvisioningException("Error while reading the dead lettered outbound provisioning " +
+                    "jobs of tenant: " + tenantId, e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Move a dead lettered job back to the job queue, with a new set of attempts.
+     *
+     * @param tenantId Tenant id.
+     * @param jobId    Job id.
+     * @return False if there is no dead lettered job with the given id in the tenant.
+     * @throws IdentityProvisioningException If an error occurred while requeuing the job.
+     */
+    public boolean requeueDeadLetterJob(int tenantId, String jobId) throws IdentityProvisioningException {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try {
+            int requeuedCount;
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.REQUEUE_DEAD_LETTER_PROVISIONING_JOB_SQL)) {
+                prepStmt.setInt(1, tenantId);
+                prepStmt.setString(2, jobId);
+                requeuedCount = prepStmt.executeUpdate();
+            }
+            if (requeuedCount > 0) {
+                try (PreparedStatement prepStmt = connection.prepareStatement(
+                        SQLQueries.DELETE_DEAD_LETTER_PROVISIONING_JOB_SQL)) {
+                    prepStmt.setInt(1, tenantId);
+                    prepStmt.setString(2, jobId);
+                    prepStmt.executeUpdate();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return requeuedCount > 0;
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityProvisioningException("Error while requeuing the dead lettered outbound provisioning " +
+                    "job: " + jobId + " of tenant: " + tenantId, e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Move all the dead lettered jobs of a tenant back to the job queue.
+     *
+     * @param tenantId Tenant id.
+     * @return Number of requeued jobs.
+     * @throws IdentityProvisioningException If an error occurred while requeuing the jobs.
+     */
+    public int requeueDeadLetterJobs(int tenantId) throws IdentityProvisioningException {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try {
+            int requeuedCount;
+            try (PreparedStatement prepStmt = connection.prepareStatement(
+                    SQLQueries.REQUEUE_DEAD_LETTER_PROVISIONING_JOBS_OF_TENANT_SQL)) {
+                prepStmt.setInt(1, tenantId);
+                requeuedCount = prepStmt.executeUpdate();
+            }
+            if (requeuedCount > 0) {
+                try (PreparedStatement prepStmt = connection.prepareStatement(
+                        SQLQueries.DELETE_REQUEUED_DEAD_LETTER_PROVISIONING_JOBS_SQL)) {
+                    prepStmt.setInt(1, tenantId);
+                    prepStmt.setInt(2, tenantId);
+                    prepStmt.executeUpdate();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return requeuedCount;
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityProvisioningException("Error while requeuing the dead lettered outbound provisioning " +
+                    "jobs of tenant: " + tenantId, e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    private void setJobDetails(OutboundProvisioningJob job, ResultSet resultSet) throws SQLException {
+
+        job.setJobId(resultSet.getString(1));
+        job.setTenantId(resultSet.getInt(2));
+        job.setSpTenantDomain(resultSet.getString(3));
+        job.setEntityTenantDomain(resultSet.getString(4));
+        job.setServiceProviderName(resultSet.getString(5));
+        job.setIdPName(resultSet.getString(6));
+        job.setConnectorType(resultSet.getString(7));
+        job.setEntityName(resultSet.getString(8));
+        job.setOperation(resultSet.getString(9));
+    }
+
+    private void setLease(PreparedStatement prepStmt, int startIndex, OutboundProvisioningJob job)
+            throws SQLException {
+
+        prepStmt.setString(startIndex, job.getJobId());
+        prepStmt.setString(startIndex + 1, job.getLeaseOwner());
+        prepStmt.setLong(startIndex + 2, job.getLeaseExpiryTime());
+    }
+
+    private ProvisioningEntity readEntity(OutboundProvisioningJob job, InputStream inputStream) {
+
+        if (inputStream == null) {
+            return null;
+        }
+        try (ObjectInputStream objectInputStream = new EntityInputStream(inputStream)) {
+            ProvisioningEntity provisioningEntity = (ProvisioningEntity) objectInputStream.readObject();
+            decryptCredentials(provisioningEntity);
+            return provisioningEntity;
+        } catch (IOException | ClassNotFoundException | ClassCastException | CryptoException e) {
+            // The job is left without an entity, so that it is dead lettered rather than failing the whole lease.
+            log.error("Error while reading the provisioning entity of the outbound provisioning job: " +
+                    job.getJobId(), e);
+            return null;
+        }
+    }
+
+    private byte[] serializeEntity(ProvisioningEntity provisioningEntity) throws IdentityProvisioningException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(encryptCredentials(provisioningEntity));
+        } catch (IOException | CryptoException e) {
+            throw new IdentityProvisioningException("Error while serializing the provisioning entity: " +
+                    provisioningEntity.getEntityName(), e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Get a copy of the entity with the values of the password claim encrypted, so that the password of a user is not
+     * stored in plain text in the job table or the dead letter table. The given entity is not modified.
+     */
+    private ProvisioningEntity encryptCredentials(ProvisioningEntity provisioningEntity) throws CryptoException {
+
+        Map<ClaimMapping, List<String>> attributes = provisioningEntity.getAttributes();
+        if (attributes == null || attributes.keySet().stream().noneMatch(this::isCredential)) {
+            return provisioningEntity;
+        }
+        Map<ClaimMapping, List<String>> storedAttributes = new HashMap<>();
+        for (Map.Entry<ClaimMapping, List<String>> attribute : attributes.entrySet()) {
+            List<String> values = attribute.getValue();
+            if (isCredential(attribute.getKey()) && values != null) {
+                List<String> encryptedValues = new ArrayList<>(values.size());
+                for (String value : values) {
+                    encryptedValues.add(value == null ? null : CryptoUtil.getDefaultCryptoUtil()
+                            .encryptAndBase64Encode(value.getBytes(StandardCharsets.UTF_8)));
+                }
+                values = encryptedValues;
+            }
+            storedAttributes.put(attribute.getKey(), values);
+        }
+        ProvisioningEntity storedEntity = new ProvisioningEntity(provisioningEntity.getEntityType(),
+                provisioningEntity.getEntityName(), provisioningEntity.getOperation(), storedAttributes);
+        storedEntity.setIdentifier(provisioningEntity.getIdentifier());
+        storedEntity.setJitProvisioning(provisioningEntity.isJitProvisioning());
+        storedEntity.setInboundAttributes(provisioningEntity.getInboundAttributes());
+        return storedEntity;
+    }
+
+    private void decryptCredentials(ProvisioningEntity provisioningEntity) throws CryptoException {
+
+        Map<ClaimMapping, List<String>> attributes = provisioningEntity.getAttributes();
+        if (attributes == null) {
+            return;
+        }
+        for (Map.Entry<ClaimMapping, List<String>> attribute : attributes.entrySet()) {
+            if (isCredential(attribute.getKey()) && attribute.getValue() != null) {
+                List<String> values = new ArrayList<>(attribute.getValue().size());
+                for (String value : attribute.getValue()) {
+                    values.add(value == null ? null : new String(CryptoUtil.getDefaultCryptoUtil()
+                            .base64DecodeAndDecrypt(value), StandardCharsets.UTF_8));
+                }
+                attribute.setValue(values);
+            }
+        }
+    }
+
+    private boolean isCredential(ClaimMapping claimMapping) {
+
+        return claimMapping != null && (isPasswordClaim(claimMapping.getLocalClaim()) ||
+                isPasswordClaim(claimMapping.getRemoteClaim()));
+    }
+
+    private boolean isPasswordClaim(Claim claim) {
+
+        return claim != null && IdentityProvisioningConstants.PASSWORD_CLAIM_URI.equals(claim.getClaimUri());
+    }
+
+    private String truncateError(String error) {
+
+        return StringUtils.abbreviate(error, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * Object input stream which only reads the classes of a provisioning entity, so that a tampered job row cannot
+     * instantiate arbitrary serializable classes of the server.
+     */
+    private static class EntityInputStream extends ObjectInputStream {
+
+        EntityInputStream(InputStream in) throws IOException {
+
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            if (!ENTITY_CLASSES.contains(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "Class is not allowed in a provisioning entity");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+
+            throw new InvalidClassException("Proxy classes are not allowed in a provisioning entity");
+        }
+    }
+}
@@ -32,6 +32,10 @@ import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorCo
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.rules.ProvisioningHandler;
 import org.wso2.carbon.identity.provisioning.AbstractProvisioningConnectorFactory;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningExecutor;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningJobQueue;
+import org.wso2.carbon.identity.provisioning.job.ProvisioningJobManagementService;
+import org.wso2.carbon.identity.provisioning.job.ProvisioningJobManagementServiceImpl;
 import org.wso2.carbon.identity.provisioning.listener.DefaultInboundUserProvisioningListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningErrorListener;
@@ -115,6 +119,9 @@ public class IdentityProvisionServiceComponent {
             if (log.isDebugEnabled()) {
                 log.debug("Identity provisioning error event listener registered successfully");
             }
+            ProvisioningServiceDataHolder.getInstance().getBundleContext().registerService(
+                    ProvisioningJobManagementService.class, new ProvisioningJobManagementServiceImpl(), null);
+            OutboundProvisioningJobQueue.startInstance();
         } catch (Throwable e) {
             log.error("Error while initiating identity provisioning connector framework", e);
         }
@@ -125,6 +132,8 @@ public class IdentityProvisionServiceComponent {
      */
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        OutboundProvisioningJobQueue.shutdownInstance();
+        OutboundProvisioningExecutor.shutdownInstance();
         if (log.isDebugEnabled()) {
             log.debug("Identity Provision bundle is de-activated");
         }
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.job;
+
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+
+/**
+ * Non-blocking outbound provisioning job persisted in the provisioning job queue, or in the dead letter table once
+ * the job has failed all its attempts.
+ */
+public class OutboundProvisioningJob {
+
+    private String jobId;
+    private int tenantId;
+    private String spTenantDomain;
+    private String entityTenantDomain;
+    private String serviceProviderName;
+    private String idPName;
+    private String connectorType;
+    private String entityName;
+    private String operation;
+    private ProvisioningEntity provisioningEntity;
+    private int attemptCount;
+    private long nextAttemptTime;
+    private String leaseOwner;
+    private long leaseExpiryTime;
+    private String lastError;
+    private long createdTime;
+    private long deadLetteredTime;
+
+    public String getJobId() {
+
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+
+        this.jobId = jobId;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * @return Tenant domain of the service provider which triggered the provisioning.
+     */
+    public String getSpTenantDomain() {
+
+        return spTenantDomain;
+    }
+
+    public void setSpTenantDomain(String spTenantDomain) {
+
+        this.spTenantDomain = spTenantDomain;
+    }
+
+    /**
+     * @return Tenant domain of the provisioned entity, which differs from the service provider tenant domain for the
+     * users provisioned through SaaS applications.
+     */
+    public String getEntityTenantDomain() {
+
+        return entityTenantDomain;
+    }
+
+    public void setEntityTenantDomain(String entityTenantDomain) {
+
+        this.entityTenantDomain = entityTenantDomain;
+    }
+
+    public String getServiceProviderName() {
+
+        return serviceProviderName;
+    }
+
+    public void setServiceProviderName(String serviceProviderName) {
+
+        this.serviceProviderName = serviceProviderName;
+    }
+
+    public String getIdPName() {
+
+        return idPName;
+    }
+
+    public void setIdPName(String idPName) {
+
+        this.idPName = idPName;
+    }
+
+    public String getConnectorType() {
+
+        return connectorType;
+    }
+
+    public void setConnectorType(String connectorType) {
+
+        this.connectorType = connectorType;
+    }
+
+    public String getEntityName() {
+
+        return entityName;
+    }
+
+    public void setEntityName(String entityName) {
+
+        this.entityName = entityName;
+    }
+
+    public String getOperation() {
+
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+
+        this.operation = operation;
+    }
+
+    /**
+     * @return Outbound provisioning entity, or null if the job is read from the dead letter table or if the stored
+     * entity cannot be read.
+     */
+    public ProvisioningEntity getProvisioningEntity() {
+
+        return provisioningEntity;
+    }
+
+    public void setProvisioningEntity(ProvisioningEntity provisioningEntity) {
+
+        this.provisioningEntity = provisioningEntity;
+    }
+
+    /**
+     * @return Number of times the job has been leased, including the current lease.
+     */
+    public int getAttemptCount() {
+
+        return attemptCount;
+    }
+
+    public void setAttemptCount(int attemptCount) {
+
+        this.attemptCount = attemptCount;
+    }
+
+    public long getNextAttemptTime() {
+
+        return nextAttemptTime;
+    }
+
+    public void setNextAttemptTime(long nextAttemptTime) {
+
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    public String getLeaseOwner() {
+
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+
+        this.leaseOwner = leaseOwner;
+    }
+
+    public long getLeaseExpiryTime() {
+
+        return leaseExpiryTime;
+    }
+
+    public void setLeaseExpiryTime(long leaseExpiryTime) {
+
+        this.leaseExpiryTime = leaseExpiryTime;
+    }
+
+    public String getLastError() {
+
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+
+        this.lastError = lastError;
+    }
+
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public void setCreatedTime(long createdTime) {
+
+        this.createdTime = createdTime;
+    }
+
+    public long getDeadLetteredTime() {
+
+        return deadLetteredTime;
+    }
+
+    public void setDeadLetteredTime(long deadLetteredTime) {
+
+        this.deadLetteredTime = deadLetteredTime;
+    }
+
+    /**
+     * @return Description of the job used in the logs.
+     */
+    public String getDescription() {
+
+        return "Job: " + jobId + ", IdP: " + idPName + ", connector type: " + connectorType + ", entity: " +
+                entityName + ", operation: " + operation;
+    }
+}
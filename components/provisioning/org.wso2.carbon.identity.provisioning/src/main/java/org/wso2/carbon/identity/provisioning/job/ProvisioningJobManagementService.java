@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.job;
+
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+
+import java.util.List;
+
+/**
+ * Service to manage the outbound provisioning jobs which are moved to the dead letter table after failing all their
+ * attempts.
+ */
+public interface ProvisioningJobManagementService {
+
+    /**
+     * Get the dead lettered jobs of a tenant, the most recently dead lettered first.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param limit        Maximum number of jobs to return. All the jobs are returned if the limit is not positive.
+     * @return Dead lettered jobs, without their provisioning entities.
+     * @throws IdentityProvisioningException If an error occurred while reading the jobs.
+     */
+    List<OutboundProvisioningJob> getDeadLetterJobs(String tenantDomain, int limit)
+            throws IdentityProvisioningException;
+
+    /**
+     * Move a dead lettered job back to the provisioning job queue. The job is retried with a new set of attempts.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param jobId        Id of the job.
+     * @return False if there is no dead lettered job with the given id in the tenant.
+     * @throws IdentityProvisioningException If an error occurred while requeuing the job.
+     */
+    boolean requeueDeadLetterJob(String tenantDomain, String jobId) throws IdentityProvisioningException;
+
+    /**
+     * Move all the dead lettered jobs of a tenant back to the provisioning job queue.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of requeued jobs.
+     * @throws IdentityProvisioningException If an error occurred while requeuing the jobs.
+     */
+    int requeueDeadLetterJobs(String tenantDomain) throws IdentityProvisioningException;
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.job;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.dao.ProvisioningJobDAO;
+
+import java.util.List;
+
+/**
+ * Default implementation of the {@link ProvisioningJobManagementService}, backed by the provisioning job tables.
+ */
+public class ProvisioningJobManagementServiceImpl implements ProvisioningJobManagementService {
+
+    private static final Log log = LogFactory.getLog(ProvisioningJobManagementServiceImpl.class);
+
+    private final ProvisioningJobDAO jobDAO;
+
+    public ProvisioningJobManagementServiceImpl() {
+
+        this(new ProvisioningJobDAO());
+    }
+
+    ProvisioningJobManagementServiceImpl(ProvisioningJobDAO jobDAO) {
+
+        this.jobDAO = jobDAO;
+    }
+
+    @Override
+    public List<OutboundProvisioningJob> getDeadLetterJobs(String tenantDomain, int limit)
+            throws IdentityProvisioningException {
+
+        return jobDAO.getDeadLetterJobs(getTenantId(tenantDomain), limit);
+    }
+
+    @Override
+    public boolean requeueDeadLetterJob(String tenantDomain, String jobId) throws IdentityProvisioningException {
+
+        if (StringUtils.isBlank(jobId)) {
+            throw new IdentityProvisioningException("Job id of the dead lettered job cannot be empty.");
+        }
+        boolean requeued = jobDAO.requeueDeadLetterJob(getTenantId(tenantDomain), jobId);
+        if (requeued && log.isDebugEnabled()) {
+            log.debug("Requeued the dead lettered outbound provisioning job: " + jobId + " of tenant: " +
+                    tenantDomain);
+        }
+        return requeued;
+    }
+
+    @Override
+    public int requeueDeadLetterJobs(String tenantDomain) throws IdentityProvisioningException {
+
+        int requeuedCount = jobDAO.requeueDeadLetterJobs(getTenantId(tenantDomain));
+        if (log.isDebugEnabled()) {
+            log.debug("Requeued " + requeuedCount + " dead lettered outbound provisioning jobs of tenant: " +
+                    tenantDomain);
+        }
+        return requeuedCount;
+    }
+
+    private int getTenantId(String tenantDomain) throws IdentityProvisioningException {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            throw new IdentityProvisioningException("Tenant domain cannot be empty.");
+        }
+        return IdentityTenantUtil.getTenantId(tenantDomain);
+    }
+}
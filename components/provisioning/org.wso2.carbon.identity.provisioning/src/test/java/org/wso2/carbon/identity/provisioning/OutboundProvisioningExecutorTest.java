@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for OutboundProvisioningExecutor test cases.
+ */
+public class OutboundProvisioningExecutorTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String CONNECTOR_TYPE = "scim2";
+
+    private OutboundProvisioningExecutor executor;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedPerConnector() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(4, 100, 1, 0, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Callable<Boolean> slowTask = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            release.await(5, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return true;
+        };
+        for (int i = 0; i < 3; i++) {
+            executor.submit(TENANT_DOMAIN, "slowIdP", CONNECTOR_TYPE, slowTask, "slow job " + i);
+        }
+        CountDownLatch otherConnectorDone = new CountDownLatch(1);
+        executor.submit(TENANT_DOMAIN, "otherIdP", CONNECTOR_TYPE, () -> {
+            otherConnectorDone.countDown();
+            return true;
+        }, "other job");
+
+        // The job of the other connector is not blocked by the slow connector.
+        assertTrue(otherConnectorDone.await(5, TimeUnit.SECONDS));
+        assertEquals(executor.getInFlightJobCount(TENANT_DOMAIN, "slowIdP", CONNECTOR_TYPE), 1);
+        assertEquals(executor.getQueuedJobCount(), 2);
+
+        release.countDown();
+        waitFor(() -> executor.getCompletedJobCount() == 4);
+        assertEquals(maxRunning.get(), 1);
+        assertEquals(executor.getQueuedJobCount(), 0);
+    }
+
+    @Test
+    public void testJobsAreTakenFromTenantsInRoundRobinOrder() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(1, 100, 10, 0, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit("blocker.com", "idp", CONNECTOR_TYPE, () -> release.await(5, TimeUnit.SECONDS),
+                "blocking job");
+        waitFor(() -> executor.getInFlightJobCount() == 1);
+
+        List<String> executionOrder = new CopyOnWriteArrayList<>();
+        for (String job : Arrays.asList("a1", "a2", "a3")) {
+            executor.submit("a.com", "idp", CONNECTOR_TYPE, () -> executionOrder.add(job), job);
+        }
+        executor.submit("b.com", "idp", CONNECTOR_TYPE, () -> executionOrder.add("b1"), "b1");
+        release.countDown();
+
+        waitFor(() -> executor.getCompletedJobCount() == 5);
+        assertEquals(executionOrder, Arrays.asList("a1", "b1", "a2", "a3"));
+    }
+
+    @Test
+    public void testFailedJobIsRetried() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(2, 100, 5, 2, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        executor.submit(TENANT_DOMAIN, "idp", CONNECTOR_TYPE, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IdentityProvisioningException("Connector is not available.");
+            }
+            return attempts.get() == 3;
+        }, "retried job");
+
+        waitFor(() -> executor.getCompletedJobCount() == 1);
+        assertEquals(attempts.get(), 3);
+        assertEquals(executor.getRetriedJobCount(), 2);
+        assertEquals(executor.getFailedJobCount(), 0);
+        assertEquals(executor.getRetryPendingJobCount(), 0);
+    }
+
+    @Test
+    public void testJobFailsAfterRetryCount() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(2, 100, 5, 2, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        executor.submit(TENANT_DOMAIN, "idp", CONNECTOR_TYPE, () -> attempts.incrementAndGet() < 0,
+                "failing job");
+
+        waitFor(() -> executor.getFailedJobCount() == 1);
+        assertEquals(attempts.get(), 3);
+        assertEquals(executor.getCompletedJobCount(), 0);
+    }
+
+    @Test
+    public void testJobRunsInCallingThreadWhenQueueIsFull() throws Exception {
+
+        executor = new OutboundProvisioningExecutor(1, 1, 5, 0, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(TENANT_DOMAIN, "idp", CONNECTOR_TYPE, () -> release.await(5, TimeUnit.SECONDS),
+                "blocking job");
+        waitFor(() -> executor.getInFlightJobCount() == 1);
+        executor.submit(TENANT_DOMAIN, "idp", CONNECTOR_TYPE, () -> true, "queued job");
+
+        Thread callingThread = Thread.currentThread();
+        AtomicInteger runInCallingThread = new AtomicInteger();
+        executor.submit(TENANT_DOMAIN, "idp", CONNECTOR_TYPE, () -> {
+            if (Thread.currentThread() == callingThread) {
+                runInCallingThread.incrementAndGet();
+            }
+            return true;
+        }, "caller run job");
+
+        assertEquals(runInCallingThread.get(), 1);
+        assertEquals(executor.getCallerRunJobCount(), 1);
+        release.countDown();
+        waitFor(() -> executor.getCompletedJobCount() == 3);
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition is not met within the timeout.");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.dao;
+
+import org.apache.commons.dbcp.BasicDataSource;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntityType;
+import org.wso2.carbon.identity.provisioning.ProvisioningOperation;
+import org.wso2.carbon.identity.provisioning.job.OutboundProvisioningJob;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the leasing, retry and dead letter handling of the outbound provisioning job queue tables.
+ */
+public class ProvisioningJobDAOTest {
+
+    private static final int TENANT_ID = -1234;
+    private static final String NODE_1 = "node-1";
+    private static final String NODE_2 = "node-2";
+    private static final String PASSWORD = "Secret@123";
+
+    private BasicDataSource dataSource;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private MockedStatic<CryptoUtil> cryptoUtil;
+    private ProvisioningJobDAO jobDAO;
+
+    @BeforeClass
+    public void setUpClass() throws Exception {
+
+        dataSource = new BasicDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUsername("username");
+        dataSource.setPassword("password");
+        dataSource.setUrl("jdbc:h2:mem:provisioningJobDAOTest");
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().executeUpdate("RUNSCRIPT FROM '" + Paths.get(System.getProperty("user.dir"),
+                    "src", "test", "resources", "dbscripts", "h2.sql") + "'");
+        }
+    }
+
+    @AfterClass
+    public void tearDownClass() throws Exception {
+
+        dataSource.close();
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        identityDatabaseUtil = Mockito.mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenAnswer(invocation -> {
+            Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(!(boolean) invocation.getArguments()[0]);
+            return connection;
+        });
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any())).thenAnswer(invocation -> {
+            ((Connection) invocation.getArguments()[0]).commit();
+            return null;
+        });
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.rollbackTransaction(any())).thenAnswer(invocation -> {
+            ((Connection) invocation.getArguments()[0]).rollback();
+            return null;
+        });
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.closeConnection(any())).thenCallRealMethod();
+        CryptoUtil defaultCryptoUtil = mock(CryptoUtil.class);
+        when(defaultCryptoUtil.encryptAndBase64Encode(any(byte[].class))).thenAnswer(invocation ->
+                "encrypted:" + Base64.getEncoder().encodeToString((byte[]) invocation.getArguments()[0]));
+        when(defaultCryptoUtil.base64DecodeAndDecrypt(anyString())).thenAnswer(invocation ->
+                Base64.getDecoder().decode(((String) invocation.getArguments()[0]).substring("encrypted:".length())));
+        cryptoUtil = Mockito.mockStatic(CryptoUtil.class);
+        cryptoUtil.when(CryptoUtil::getDefaultCryptoUtil).thenReturn(defaultCryptoUtil);
+        jobDAO = new ProvisioningJobDAO();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().executeUpdate("DELETE FROM IDN_PROVISIONING_JOB");
+            connection.createStatement().executeUpdate("DELETE FROM IDN_PROV_JOB_DEAD_LETTER");
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityDatabaseUtil.close();
+        cryptoUtil.close();
+    }
+
+    @Test
+    public void testLeaseAndReschedule() throws Exception {
+
+        OutboundProvisioningJob job = createJob(1000L);
+        jobDAO.addJob(job);
+
+        assertTrue(jobDAO.leaseJobs(NODE_1, 999L, 5000L, 10).isEmpty(), "Job leased before its attempt time.");
+        List<OutboundProvisioningJob> leasedJobs = jobDAO.leaseJobs(NODE_1, 1000L, 5000L, 10);
+        assertEquals(leasedJobs.size(), 1);
+        OutboundProvisioningJob leasedJob = leasedJobs.get(0);
+        assertEquals(leasedJob.getJobId(), job.getJobId());
+        assertEquals(leasedJob.getAttemptCount(), 1);
+        assertNotNull(leasedJob.getProvisioningEntity());
+        assertEquals(leasedJob.getProvisioningEntity().getEntityName(), "john");
+
+        assertTrue(jobDAO.leaseJobs(NODE_2, 2000L, 6000L, 10).isEmpty(), "Leased job leased by another node.");
+
+        assertTrue(jobDAO.rescheduleJob(leasedJob, 3000L, "Connection refused"));
+        assertTrue(jobDAO.leaseJobs(NODE_2, 2000L, 6000L, 10).isEmpty(), "Job leased before its retry time.");
+        leasedJobs = jobDAO.leaseJobs(NODE_2, 3000L, 7000L, 10);
+        assertEquals(leasedJobs.size(), 1);
+        assertEquals(leasedJobs.get(0).getAttemptCount(), 2);
+        assertEquals(leasedJobs.get(0).getLastError(), "Connection refused");
+
+        assertFalse(jobDAO.deleteJob(leasedJob), "Job deleted with an expired lease.");
+        assertTrue(jobDAO.deleteJob(leasedJobs.get(0)));
+        assertTrue(jobDAO.leaseJobs(NODE_1, 10000L, 15000L, 10).isEmpty());
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() throws Exception {
+
+        jobDAO.addJob(createJob(1000L));
+        assertEquals(jobDAO.leaseJobs(NODE_1, 1000L, 5000L, 10).size(), 1);
+
+        List<OutboundProvisioningJob> leasedJobs = jobDAO.leaseJobs(NODE_2, 5001L, 9000L, 10);
+        assertEquals(leasedJobs.size(), 1);
+        assertEquals(leasedJobs.get(0).getLeaseOwner(), NODE_2);
+        assertEquals(leasedJobs.get(0).getAttemptCount(), 2);
+    }
+
+    @Test
+    public void testLeaseBatchSize() throws Exception {
+
+        for (int i = 0; i < 3; i++) {
+            jobDAO.addJob(createJob(1000L + i));
+        }
+
+        assertEquals(jobDAO.leaseJobs(NODE_1, 2000L, 5000L, 2).size(), 2);
+        assertEquals(jobDAO.leaseJobs(NODE_2, 2000L, 6000L, 2).size(), 1);
+    }
+
+    @Test
+    public void testDeadLetterAndRequeue() throws Exception {
+
+        jobDAO.addJob(createJob(1000L));
+        jobDAO.addJob(createJob(1000L));
+        List<OutboundProvisioningJob> leasedJobs = jobDAO.leaseJobs(NODE_1, 1000L, 5000L, 10);
+        assertEquals(leasedJobs.size(), 2);
+        for (OutboundProvisioningJob job : leasedJobs) {
+            assertTrue(jobDAO.moveToDeadLetter(job, 2000L, "Invalid credentials"));
+        }
+        assertTrue(jobDAO.leaseJobs(NODE_1, 10000L, 15000L, 10).isEmpty());
+
+        List<OutboundProvisioningJob> deadLetterJobs = jobDAO.getDeadLetterJobs(TENANT_ID, 10);
+        assertEquals(deadLetterJobs.size(), 2);
+        assertEquals(deadLetterJobs.get(0).getLastError(), "Invalid credentials");
+        assertEquals(deadLetterJobs.get(0).getDeadLetteredTime(), 2000L);
+        assertTrue(jobDAO.getDeadLetterJobs(1, 10).isEmpty(), "Dead letter jobs returned for another tenant.");
+
+        assertFalse(jobDAO.requeueDeadLetterJob(1, deadLetterJobs.get(0).getJobId()));
+        assertTrue(jobDAO.requeueDeadLetterJob(TENANT_ID, deadLetterJobs.get(0).getJobId()));
+        assertEquals(jobDAO.getDeadLetterJobs(TENANT_ID, 10).size(), 1);
+        assertEquals(jobDAO.requeueDeadLetterJobs(TENANT_ID), 1);
+        assertTrue(jobDAO.getDeadLetterJobs(TENANT_ID, 10).isEmpty());
+
+        leasedJobs = jobDAO.leaseJobs(NODE_2, System.currentTimeMillis(), Long.MAX_VALUE, 10);
+        assertEquals(leasedJobs.size(), 2);
+        assertEquals(leasedJobs.get(0).getAttemptCount(), 1, "Attempt count is not reset on requeue.");
+        assertNotNull(leasedJobs.get(0).getProvisioningEntity());
+    }
+
+    @Test
+    public void testPasswordIsNotStoredInPlainText() throws Exception {
+
+        OutboundProvisioningJob job = createJob(1000L);
+        ClaimMapping passwordClaim = ClaimMapping.build(IdentityProvisioningConstants.PASSWORD_CLAIM_URI, null, null,
+                false);
+        job.getProvisioningEntity().getAttributes().put(passwordClaim, Collections.singletonList(PASSWORD));
+        jobDAO.addJob(job);
+
+        assertEquals(job.getProvisioningEntity().getAttributes().get(passwordClaim).get(0), PASSWORD,
+                "Password of the queued entity is modified.");
+        String storedEntity = new String(getStoredEntity(job.getJobId()), StandardCharsets.ISO_8859_1);
+        assertFalse(storedEntity.contains(PASSWORD), "Password is stored in plain text.");
+
+        List<OutboundProvisioningJob> leasedJobs = jobDAO.leaseJobs(NODE_1, 1000L, 5000L, 10);
+        assertEquals(leasedJobs.size(), 1);
+        Map<ClaimMapping, List<String>> attributes = leasedJobs.get(0).getProvisioningEntity().getAttributes();
+        assertEquals(attributes.get(passwordClaim).get(0), PASSWORD);
+
+        assertTrue(jobDAO.moveToDeadLetter(leasedJobs.get(0), 2000L, "Invalid credentials"));
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.createStatement().executeQuery(
+                     "SELECT ENTITY_OBJECT FROM IDN_PROV_JOB_DEAD_LETTER")) {
+            assertTrue(resultSet.next());
+            assertFalse(new String(resultSet.getBytes(1), StandardCharsets.ISO_8859_1).contains(PASSWORD),
+                    "Password is stored in plain text in the dead letter table.");
+        }
+    }
+
+    @Test
+    public void testEntityWithUnmodifiableListsIsRead() throws Exception {
+
+        OutboundProvisioningJob job = createJob(1000L);
+        ClaimMapping emailClaim = ClaimMapping.build("http://wso2.org/claims/emailaddress", null, null, false);
+        ClaimMapping groupsClaim = ClaimMapping.build("http://wso2.org/claims/groups", null, null, false);
+        job.getProvisioningEntity().getAttributes().put(emailClaim,
+                Collections.unmodifiableList(new ArrayList<>(Collections.singletonList("john@wso2.com"))));
+        job.getProvisioningEntity().getAttributes().put(groupsClaim,
+                Collections.unmodifiableList(new LinkedList<>(Arrays.asList("admin", "manager"))));
+        jobDAO.addJob(job);
+
+        List<OutboundProvisioningJob> leasedJobs = jobDAO.leaseJobs(NODE_1, 1000L, 5000L, 10);
+        assertEquals(leasedJobs.size(), 1);
+        assertNotNull(leasedJobs.get(0).getProvisioningEntity(), "Entity with unmodifiable lists is not read.");
+        Map<ClaimMapping, List<String>> attributes = leasedJobs.get(0).getProvisioningEntity().getAttributes();
+        assertEquals(attributes.get(emailClaim), Collections.singletonList("john@wso2.com"));
+        assertEquals(attributes.get(groupsClaim), Arrays.asList("admin", "manager"));
+    }
+
+    @Test
+    public void testEntityOfUnexpectedClassIsNotRead() throws Exception {
+
+        OutboundProvisioningJob job = createJob(1000L);
+        jobDAO.addJob(job);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(new Date());
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement prepStmt = connection.prepareStatement(
+                     "UPDATE IDN_PROVISIONING_JOB SET ENTITY_OBJECT = ? WHERE JOB_ID = ?")) {
+            prepStmt.setBytes(1, outputStream.toByteArray());
+            prepStmt.setString(2, job.getJobId());
+            prepStmt.executeUpdate();
+        }
+
+        List<OutboundProvisioningJob> leasedJobs = jobDAO.leaseJobs(NODE_1, 1000L, 5000L, 10);
+        assertEquals(leasedJobs.size(), 1);
+        assertNull(leasedJobs.get(0).getProvisioningEntity(), "Entity of an unexpected class is read.");
+    }
+
+    private byte[] getStoredEntity(String jobId) throws Exception {
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement prepStmt = connection.prepareStatement(
+                     "SELECT ENTITY_OBJECT FROM IDN_PROVISIONING_JOB WHERE JOB_ID = ?")) {
+            prepStmt.setString(1, jobId);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getBytes(1);
+            }
+        }
+    }
+
+    private OutboundProvisioningJob createJob(long nextAttemptTime) {
+
+        ProvisioningEntity entity = new ProvisioningEntity(ProvisioningEntityType.USER, "john",
+                ProvisioningOperation.POST, new HashMap<>());
+        OutboundProvisioningJob job = new OutboundProvisioningJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setTenantId(TENANT_ID);
+        job.setSpTenantDomain("carbon.super");
+        job.setServiceProviderName("console");
+        job.setIdPName("scim-idp");
+        job.setConnectorType("SCIM2");
+        job.setEntityName(entity.getEntityName());
+        job.setOperation(entity.getOperation().toString());
+        job.setProvisioningEntity(entity);
+        job.setNextAttemptTime(nextAttemptTime);
+        job.setCreatedTime(nextAttemptTime);
+        return job;
+    }
+}
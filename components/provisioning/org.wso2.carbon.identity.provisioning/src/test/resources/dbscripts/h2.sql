@@ -651,6 +651,44 @@ CREATE TABLE IF NOT EXISTS IDP_PROVISIONING_ENTITY (
             UNIQUE (PROVISIONING_CONFIG_ID, ENTITY_TYPE, ENTITY_VALUE),
             FOREIGN KEY (PROVISIONING_CONFIG_ID) REFERENCES IDP_PROVISIONING_CONFIG(ID) ON DELETE CASCADE);
 
+CREATE TABLE IF NOT EXISTS IDN_PROVISIONING_JOB (
+            JOB_ID VARCHAR(36) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            SP_TENANT_DOMAIN VARCHAR(255) NOT NULL,
+            ENTITY_TENANT_DOMAIN VARCHAR(255),
+            SP_NAME VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_NAME VARCHAR(255),
+            OPERATION VARCHAR(10) NOT NULL,
+            ENTITY_OBJECT BLOB,
+            ATTEMPT_COUNT INTEGER DEFAULT 0,
+            NEXT_ATTEMPT_TIME BIGINT NOT NULL,
+            LEASE_OWNER VARCHAR(255),
+            LEASE_EXPIRY_TIME BIGINT DEFAULT 0,
+            LAST_ERROR VARCHAR(1024),
+            TIME_CREATED BIGINT NOT NULL,
+            PRIMARY KEY (JOB_ID)
+);
+
+CREATE TABLE IF NOT EXISTS IDN_PROV_JOB_DEAD_LETTER (
+            JOB_ID VARCHAR(36) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            SP_TENANT_DOMAIN VARCHAR(255) NOT NULL,
+            ENTITY_TENANT_DOMAIN VARCHAR(255),
+            SP_NAME VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_NAME VARCHAR(255),
+            OPERATION VARCHAR(10) NOT NULL,
+            ENTITY_OBJECT BLOB,
+            ATTEMPT_COUNT INTEGER DEFAULT 0,
+            LAST_ERROR VARCHAR(1024),
+            TIME_CREATED BIGINT NOT NULL,
+            DEAD_LETTERED_TIME BIGINT NOT NULL,
+            PRIMARY KEY (JOB_ID)
+);
+
 CREATE TABLE IF NOT EXISTS IDP_LOCAL_CLAIM (
             ID INTEGER AUTO_INCREMENT,
             TENANT_ID INTEGER,
@@ -1188,3 +1226,8 @@ CREATE INDEX IDX_CORS_ORIGIN_ID ON IDN_CORS_ASSOCIATION (IDN_CORS_ORIGIN_ID);
 
 -- IDN_SECRET --
 CREATE INDEX IDN_SECRET_TYPE_ID ON IDN_SECRET (TYPE_ID);
+
+-- PROVISIONING JOB --
+CREATE INDEX IDX_IDN_PROV_JOB_NAT_LET ON IDN_PROVISIONING_JOB (NEXT_ATTEMPT_TIME, LEASE_EXPIRY_TIME);
+CREATE INDEX IDX_IDN_PROV_JOB_LO_LET ON IDN_PROVISIONING_JOB (LEASE_OWNER, LEASE_EXPIRY_TIME);
+CREATE INDEX IDX_IDN_PROV_JOB_DL_TID_DLT ON IDN_PROV_JOB_DEAD_LETTER (TENANT_ID, DEAD_LETTERED_TIME);
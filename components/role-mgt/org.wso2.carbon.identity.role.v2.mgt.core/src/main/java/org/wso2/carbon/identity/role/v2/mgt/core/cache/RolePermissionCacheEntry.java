@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache entry for the permission names of a role.
+ */
+public class RolePermissionCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 1840395714486073112L;
+
+    private final ArrayList<String> permissions;
+
+    public RolePermissionCacheEntry(List<String> permissions) {
+
+        this.permissions = new ArrayList<>(permissions);
+    }
+
+    public List<String> getPermissions() {
+
+        return new ArrayList<>(permissions);
+    }
+}
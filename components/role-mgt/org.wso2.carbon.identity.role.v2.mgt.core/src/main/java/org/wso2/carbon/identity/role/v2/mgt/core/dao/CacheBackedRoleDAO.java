@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleCacheInvalidationListener;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.GroupBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.IdpGroup;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Role;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.UserBasicInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache backed implementation of {@link RoleDAO}.
+ * <p>
+ * Caches the role ids directly assigned to users and groups, and the permission names of roles, which are read on
+ * every authorization decision. Entries are invalidated when the role DAO changes the underlying assignments, and by
+ * {@link RoleCacheInvalidationListener} when they are changed through the user store manager.
+ */
+public class CacheBackedRoleDAO implements RoleDAO {
+
+    private static final Log LOG = LogFactory.getLog(CacheBackedRoleDAO.class);
+
+    private final RoleDAO roleDAO;
+    private final UserRoleCache userRoleCache;
+    private final GroupRoleCache groupRoleCache;
+    private final RolePermissionCache rolePermissionCache;
+
+    public CacheBackedRoleDAO(RoleDAO roleDAO) {
+
+        this.roleDAO = roleDAO;
+        this.userRoleCache = UserRoleCache.getInstance();
+        this.groupRoleCache = GroupRoleCache.getInstance();
+        this.rolePermissionCache = RolePermissionCache.getInstance();
+    }
+
+    @Override
+    public RoleBasicInfo addRole(String roleName, List<String> userList, List<String> groupList,
+                                 List<Permission> permissions, String audience, String audienceId,
+                                 String tenantDomain) throws IdentityRoleManagementException {
+
+        RoleBasicInfo roleBasicInfo =
+                roleDAO.addRole(roleName, userList, groupList, permissions, audience, audienceId, tenantDomain);
+        clearUserRoleCacheEntries(userList, tenantDomain);
+        clearGroupRoleCacheEntries(groupList, tenantDomain);
+        return roleBasicInfo;
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoles(Integer limit, Integer offset, String sortBy, String sortOrder,
+                                        String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(limit, offset, sortBy, sortOrder, tenantDomain);
+    }
+
+    @Override
+    public List<Role> getRoles(Integer limit, Integer offset, String sortBy, String sortOrder, String tenantDomain,
+                               List<String> requiredAttributes) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(limit, offset, sortBy, sortOrder, tenantDomain, requiredAttributes);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoles(List<ExpressionNode> expressionNodes, Integer limit, Integer offset,
+                                        String sortBy, String sortOrder, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain);
+    }
+
+    @Override
+    public List<Role> getRoles(List<ExpressionNode> expressionNodes, Integer limit, Integer offset, String sortBy,
+                               String sortOrder, String tenantDomain, List<String> requiredAttributes)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoles(expressionNodes, limit, offset, sortBy, sortOrder, tenantDomain, requiredAttributes);
+    }
+
+    @Override
+    public Role getRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public Role getRole(String roleId) throws IdentityRoleManagementException {
+
+        return roleDAO.getRole(roleId);
+    }
+
+    @Override
+    public List<Permission> getPermissionListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getPermissionListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return roleDAO.getPermissionListOfRoles(roleIds, tenantDomain);
+        }
+        Map<String, List<String>> permissionsOfRoles = new HashMap<>();
+        List<String> missedRoleIds = new ArrayList<>();
+        for (String roleId : roleIds) {
+            RolePermissionCacheEntry cacheEntry =
+                    rolePermissionCache.getValueFromCache(new RolePermissionCacheKey(roleId), tenantDomain);
+            if (cacheEntry != null) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cache entry found for the permissions of role: " + roleId);
+                }
+                permissionsOfRoles.put(roleId, cacheEntry.getPermissions());
+            } else {
+                missedRoleIds.add(roleId);
+            }
+        }
+        if (!missedRoleIds.isEmpty()) {
+            // The missed roles are loaded together, rather than with a query for each role.
+            Map<String, List<String>> loadedPermissions = roleDAO.getPermissionListsOfRoles(missedRoleIds,
+                    tenantDomain);
+            for (String roleId : missedRoleIds) {
+                List<String> rolePermissions = loadedPermissions.getOrDefault(roleId, Collections.emptyList());
+                rolePermissionCache.addToCache(new RolePermissionCacheKey(roleId),
+                        new RolePermissionCacheEntry(rolePermissions), tenantDomain);
+                permissionsOfRoles.put(roleId, rolePermissions);
+            }
+        }
+        Set<String> permissions = new LinkedHashSet<>();
+        for (String roleId : roleIds) {
+            permissions.addAll(permissionsOfRoles.get(roleId));
+        }
+        return new ArrayList<>(permissions);
+    }
+
+    @Override
+    public void updatePermissionListOfRole(String roleId, List<Permission> addedPermissions,
+                                           List<Permission> deletedPermissions, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.updatePermissionListOfRole(roleId, addedPermissions, deletedPermissions, tenantDomain);
+        rolePermissionCache.clearCacheEntry(new RolePermissionCacheKey(roleId), tenantDomain);
+        // Shared roles in sub organizations resolve their permissions from this role.
+        List<RoleDTO> sharedRoles =
+                roleDAO.getSharedHybridRoles(roleId, IdentityTenantUtil.getTenantId(tenantDomain));
+        if (sharedRoles != null) {
+            for (RoleDTO sharedRole : sharedRoles) {
+                rolePermissionCache.clearCacheEntry(new RolePermissionCacheKey(sharedRole.getId()),
+                        sharedRole.getTenantId());
+            }
+        }
+    }
+
+    @Override
+    public List<IdpGroup> getIdpGroupListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getIdpGroupListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateIdpGroupListOfRole(String roleId, List<IdpGroup> newGroupList, List<IdpGroup> deletedGroupList,
+                                         String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateIdpGroupListOfRole(roleId, newGroupList, deletedGroupList, tenantDomain);
+    }
+
+    @Override
+    public void deleteRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        // Shared roles are deleted along with the main role, hence they should be resolved before the deletion.
+        List<RoleDTO> sharedRoles =
+                roleDAO.getSharedHybridRoles(roleId, IdentityTenantUtil.getTenantId(tenantDomain));
+        roleDAO.deleteRole(roleId, tenantDomain);
+        // Members of the role are not known here, hence the assignments of the tenant are cleared.
+        clearRoleAssignmentCaches(tenantDomain);
+        rolePermissionCache.clearCacheEntry(new RolePermissionCacheKey(roleId), tenantDomain);
+        if (sharedRoles != null) {
+            for (RoleDTO sharedRole : sharedRoles) {
+                userRoleCache.clear(sharedRole.getTenantId());
+                groupRoleCache.clear(sharedRole.getTenantId());
+                rolePermissionCache.clearCacheEntry(new RolePermissionCacheKey(sharedRole.getId()),
+                        sharedRole.getTenantId());
+            }
+        }
+    }
+
+    @Override
+    public void updateRoleName(String roleId, String newRoleName, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        // Cached entries only hold role ids, which do not change with the role name.
+        roleDAO.updateRoleName(roleId, newRoleName, tenantDomain);
+    }
+
+    @Override
+    public List<UserBasicInfo> getUserListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getUserListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateGroupListOfRole(String roleId, List<String> newGroupIDList, List<String> deletedGroupIDList,
+                                      String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateGroupListOfRole(roleId, newGroupIDList, deletedGroupIDList, tenantDomain);
+        clearGroupRoleCacheEntries(newGroupIDList, tenantDomain);
+        clearGroupRoleCacheEntries(deletedGroupIDList, tenantDomain);
+    }
+
+    @Override
+    public List<GroupBasicInfo> getGroupListOfRole(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getGroupListOfRole(roleId, tenantDomain);
+    }
+
+    @Override
+    public void updateUserListOfRole(String roleId, List<String> newUserIDList, List<String> deletedUserIDList,
+                                     String tenantDomain) throws IdentityRoleManagementException {
+
+        roleDAO.updateUserListOfRole(roleId, newUserIDList, deletedUserIDList, tenantDomain);
+        clearUserRoleCacheEntries(newUserIDList, tenantDomain);
+        clearUserRoleCacheEntries(deletedUserIDList, tenantDomain);
+    }
+
+    @Override
+    public String getRoleNameByID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleNameByID(roleId, tenantDomain);
+    }
+
+    @Override
+    public String getRoleIdByName(String roleName, String audience, String audienceId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdByName(roleName, audience, audienceId, tenantDomain);
+    }
+
+    @Override
+    public boolean isExistingRoleName(String roleName, String audience, String audienceId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.isExistingRoleName(roleName, audience, audienceId, tenantDomain);
+    }
+
+    @Override
+    public boolean isExistingRoleID(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.isExistingRoleID(roleId, tenantDomain);
+    }
+
+    @Override
+    public RoleBasicInfo getRoleBasicInfoById(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleBasicInfoById(roleId, tenantDomain);
+    }
+
+    @Override
+    public Set<String> getSystemRoles() {
+
+        return roleDAO.getSystemRoles();
+    }
+
+    @Override
+    public int getRolesCount(String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRolesCount(tenantDomain);
+    }
+
+    @Override
+    public int getRolesCount(List<ExpressionNode> expressionNodes, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRolesCount(expressionNodes, tenantDomain);
+    }
+
+    @Override
+    public Role getRoleWithoutUsers(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleWithoutUsers(roleId, tenantDomain);
+    }
+
+    @Override
+    public void addMainRoleToSharedRoleRelationship(String mainRoleUUID, String sharedRoleUUID,
+                                                    String mainRoleTenantDomain, String sharedRoleTenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.addMainRoleToSharedRoleRelationship(mainRoleUUID, sharedRoleUUID, mainRoleTenantDomain,
+                sharedRoleTenantDomain);
+        rolePermissionCache.clearCacheEntry(new RolePermissionCacheKey(sharedRoleUUID), sharedRoleTenantDomain);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleListOfUser(userId, tenantDomain);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleListOfGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public List<RoleBasicInfo> getRoleListOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleListOfIdpGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfUser(String userId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        UserRoleCacheKey cacheKey = new UserRoleCacheKey(userId);
+        RoleIdListCacheEntry cacheEntry = userRoleCache.getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache entry found for the roles of user: " + userId);
+            }
+            return cacheEntry.getRoleIds();
+        }
+        List<String> roleIds = roleDAO.getRoleIdListOfUser(userId, tenantDomain);
+        userRoleCache.addToCache(cacheKey, new RoleIdListCacheEntry(roleIds), tenantDomain);
+        return roleIds;
+    }
+
+    @Override
+    public List<String> getRoleIdListOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (CollectionUtils.isEmpty(groupIds)) {
+            return roleDAO.getRoleIdListOfGroups(groupIds, tenantDomain);
+        }
+        Map<String, List<String>> roleIdsOfGroups = new HashMap<>();
+        List<String> missedGroupIds = new ArrayList<>();
+        for (String groupId : groupIds) {
+            RoleIdListCacheEntry cacheEntry =
+                    groupRoleCache.getValueFromCache(new GroupRoleCacheKey(groupId), tenantDomain);
+            if (cacheEntry != null) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cache entry found for the roles of group: " + groupId);
+                }
+                roleIdsOfGroups.put(groupId, cacheEntry.getRoleIds());
+            } else {
+                missedGroupIds.add(groupId);
+            }
+        }
+        if (!missedGroupIds.isEmpty()) {
+            // The missed groups are loaded together, rather than with a query for each group.
+            Map<String, List<String>> loadedRoleIds = roleDAO.getRoleIdListsOfGroups(missedGroupIds, tenantDomain);
+            for (String groupId : missedGroupIds) {
+                List<String> groupRoleIds = loadedRoleIds.getOrDefault(groupId, Collections.emptyList());
+                groupRoleCache.addToCache(new GroupRoleCacheKey(groupId), new RoleIdListCacheEntry(groupRoleIds),
+                        tenantDomain);
+                roleIdsOfGroups.put(groupId, groupRoleIds);
+            }
+        }
+        Set<String> roleIds = new LinkedHashSet<>();
+        for (String groupId : groupIds) {
+            roleIds.addAll(roleIdsOfGroups.get(groupId));
+        }
+        return new ArrayList<>(roleIds);
+    }
+
+    @Override
+    public List<String> getRoleIdListOfIdpGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleIdListOfIdpGroups(groupIds, tenantDomain);
+    }
+
+    @Override
+    public void deleteRolesByApplication(String applicationId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        roleDAO.deleteRolesByApplication(applicationId, tenantDomain);
+        clearRoleAssignmentCaches(tenantDomain);
+        rolePermissionCache.clear(tenantDomain);
+    }
+
+    @Override
+    public Map<String, String> getMainRoleToSharedRoleMappingsBySubOrg(List<String> roleIds,
+                                                                       String subOrgTenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getMainRoleToSharedRoleMappingsBySubOrg(roleIds, subOrgTenantDomain);
+    }
+
+    @Override
+    public Map<String, String> getSharedRoleToMainRoleMappingsBySubOrg(List<String> roleIds,
+                                                                       String subOrgTenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getSharedRoleToMainRoleMappingsBySubOrg(roleIds, subOrgTenantDomain);
+    }
+
+    @Override
+    public List<String> getAssociatedApplicationIdsByRoleId(String roleId, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return roleDAO.getAssociatedApplicationIdsByRoleId(roleId, tenantDomain);
+    }
+
+    @Override
+    public int getRoleAudienceRefId(String audience, String audienceId) throws IdentityRoleManagementException {
+
+        return roleDAO.getRoleAudienceRefId(audience, audienceId);
+    }
+
+    @Override
+    public List<RoleDTO> getSharedHybridRoles(String roleId, int tenantId) throws IdentityRoleManagementException {
+
+        return roleDAO.getSharedHybridRoles(roleId, tenantId);
+    }
+
+    @Override
+    public boolean isSharedRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
+
+        return roleDAO.isSharedRole(roleId, tenantDomain);
+    }
+
+    private void clearUserRoleCacheEntries(List<String> userIds, String tenantDomain) {
+
+        if (userIds == null) {
+            return;
+        }
+        for (String userId : userIds) {
+            userRoleCache.clearCacheEntry(new UserRoleCacheKey(userId), tenantDomain);
+        }
+    }
+
+    private void clearGroupRoleCacheEntries(List<String> groupIds, String tenantDomain) {
+
+        if (groupIds == null) {
+            return;
+        }
+        for (String groupId : groupIds) {
+            groupRoleCache.clearCacheEntry(new GroupRoleCacheKey(groupId), tenantDomain);
+        }
+    }
+
+    private void clearRoleAssignmentCaches(String tenantDomain) {
+
+        userRoleCache.clear(tenantDomain);
+        groupRoleCache.clear(tenantDomain);
+    }
+}
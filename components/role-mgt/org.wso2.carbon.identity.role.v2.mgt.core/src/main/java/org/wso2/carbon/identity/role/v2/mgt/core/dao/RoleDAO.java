@@ -29,6 +29,8 @@ import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.UserBasicInfo;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -164,6 +166,24 @@ public interface RoleDAO {
     List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
             throws IdentityRoleManagementException;
 
+    /**
+     * Get the permission list of each of the given role ids.
+     *
+     * @param roleIds      Role IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Map of the role ID to the names of the permissions of the role.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    default Map<String, List<String>> getPermissionListsOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<String>> permissionsOfRoles = new HashMap<>();
+        for (String roleId : roleIds) {
+            permissionsOfRoles.put(roleId, getPermissionListOfRoles(Collections.singletonList(roleId), tenantDomain));
+        }
+        return permissionsOfRoles;
+    }
+
     /**
      * Get permission list of the given role.
      *
@@ -420,6 +440,24 @@ public interface RoleDAO {
     List<String> getRoleIdListOfGroups(List<String> groupIds, String tenantDomain)
             throws IdentityRoleManagementException;
 
+    /**
+     * Get the role id list of each of the given groups.
+     *
+     * @param groupIds     Group IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Map of the group ID to the IDs of the roles of the group.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    default Map<String, List<String>> getRoleIdListsOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<String>> roleIdsOfGroups = new HashMap<>();
+        for (String groupId : groupIds) {
+            roleIdsOfGroups.put(groupId, getRoleIdListOfGroups(Collections.singletonList(groupId), tenantDomain));
+        }
+        return roleIdsOfGroups;
+    }
+
     /**
      * Get role id list of idp groups.
      *
@@ -82,6 +82,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -184,6 +186,7 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_IDP_GROUPS_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_USER_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_NAME_BY_ID_SQL;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_NAMES_BY_ROLES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_NAMES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_TENANT_DOMAIN_BY_ID;
@@ -611,6 +614,49 @@ public class RoleDAOImpl implements RoleDAO {
         return permissions;
     }
 
+    @Override
+    public Map<String, List<String>> getPermissionListsOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<String>> permissionsOfRoles = new HashMap<>();
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return permissionsOfRoles;
+        }
+        // Shared roles of an organization resolve their permissions from their main roles.
+        Map<String, String> mainRoleIds = isOrganization(tenantDomain) ?
+                getSharedRoleToMainRoleMappingsBySubOrg(roleIds, tenantDomain) : Collections.emptyMap();
+        List<String> scopeRoleIds = roleIds.stream().map(roleId -> mainRoleIds.getOrDefault(roleId, roleId))
+                .distinct().collect(Collectors.toList());
+        Map<String, Set<String>> scopesOfRoles = new HashMap<>();
+        String query = GET_ROLE_SCOPE_NAMES_BY_ROLES_SQL +
+                String.join(", ", Collections.nCopies(scopeRoleIds.size(), "?")) + ")";
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+            for (int i = 0; i < scopeRoleIds.size(); i++) {
+                statement.setString(i + 1, scopeRoleIds.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    scopesOfRoles.computeIfAbsent(resultSet.getString(1), key -> new LinkedHashSet<>())
+                            .add(resultSet.getString(2));
+                }
+            }
+        } catch (SQLException e) {
+            String errorMessage = "Error while retrieving permissions for role ids: " + String.join(", ", roleIds)
+                    + " and tenantDomain : " + tenantDomain;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+        for (String roleId : roleIds) {
+            String mainRoleId = mainRoleIds.get(roleId);
+            Set<String> scopes = scopesOfRoles.getOrDefault(mainRoleId != null ? mainRoleId : roleId,
+                    Collections.emptySet());
+            permissionsOfRoles.put(roleId, scopes.stream()
+                    .filter(scope -> mainRoleId == null || isValidSubOrgPermission(scope))
+                    .collect(Collectors.toList()));
+        }
+        return permissionsOfRoles;
+    }
+
     @Override
     public void updatePermissionListOfRole(String roleId, List<Permission> addedPermissions,
                                            List<Permission> deletedPermissions, String tenantDomain)
@@ -1103,18 +1149,18 @@ public class RoleDAOImpl implements RoleDAO {
                     RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                     roleBasicInfo.setAudience(audience);
                     roleBasicInfo.setAudienceId(audienceId);
-                    roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                     roles.add(roleBasicInfo);
                 }
             }
-            if (!isOrganization(tenantDomain)) {
-                roles.add(getEveryOneRole(tenantDomain));
-            }
         } catch (SQLException e) {
             String errorMessage =
                     "Error while retrieving role list of user by id: " + userId + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
+        if (!isOrganization(tenantDomain)) {
+            roles.add(getEveryOneRole(tenantDomain));
+        }
+        resolveAudienceNames(roles, tenantDomain);
         return roles;
     }
 
@@ -1156,8 +1202,7 @@ public class RoleDAOImpl implements RoleDAO {
         String roleId = getRoleIdByName(everyOneRoleName, ORGANIZATION, orgId, tenantDomain);
         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, everyOneRoleName);
         roleBasicInfo.setAudience(ORGANIZATION);
-        roleBasicInfo.setAudienceId(getOrganizationId(tenantDomain));
-        roleBasicInfo.setAudienceName(getOrganizationName(orgId));
+        roleBasicInfo.setAudienceId(orgId);
         return roleBasicInfo;
     }
 
@@ -1215,7 +1260,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1226,9 +1270,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        resolveAudienceNames(distinctRoles, tenantDomain);
+        return distinctRoles;
     }
 
     @Override
@@ -1252,7 +1298,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1263,9 +1308,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        resolveAudienceNames(distinctRoles, tenantDomain);
+        return distinctRoles;
     }
 
     @Override
@@ -1312,19 +1359,26 @@ public class RoleDAOImpl implements RoleDAO {
     public List<String> getRoleIdListOfGroups(List<String> groupIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
+        return getRoleIdListsOfGroups(groupIds, tenantDomain).values().stream().flatMap(List::stream).distinct()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, List<String>> getRoleIdListsOfGroups(List<String> groupIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
         Map<String, String> groupIdsToNames = getGroupNamesByIDs(groupIds, tenantDomain);
-        List<String> groupNamesList = new ArrayList<>(groupIdsToNames.values());
         String primaryDomainName = IdentityUtil.getPrimaryDomainName();
         if (primaryDomainName != null) {
             primaryDomainName = primaryDomainName.toUpperCase(Locale.ENGLISH);
         }
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        List<String> roleIds = new ArrayList<>();
+        Map<String, List<String>> roleIdsOfGroups = new LinkedHashMap<>();
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false);
              NamedPreparedStatement statement = new NamedPreparedStatement(connection, GET_ROLE_ID_LIST_OF_GROUP_SQL)) {
-            for (String groupName : groupNamesList) {
+            for (Map.Entry<String, String> groupIdToName : groupIdsToNames.entrySet()) {
                 // Add domain if not set.
-                groupName = UserCoreUtil.addDomainToName(groupName, primaryDomainName);
+                String groupName = UserCoreUtil.addDomainToName(groupIdToName.getValue(), primaryDomainName);
                 // Get domain from name.
                 String domainName = UserCoreUtil.extractDomainFromName(groupName);
                 if (domainName != null) {
@@ -1334,12 +1388,14 @@ public class RoleDAOImpl implements RoleDAO {
                 statement.setString(RoleConstants.RoleTableColumns.UM_GROUP_NAME, nameWithoutDomain);
                 statement.setInt(RoleConstants.RoleTableColumns.UM_TENANT_ID, tenantId);
                 statement.setString(RoleConstants.RoleTableColumns.UM_DOMAIN_NAME, domainName);
+                List<String> roleIds = new ArrayList<>();
                 try (ResultSet resultSet = statement.executeQuery()) {
                     while (resultSet.next()) {
                         String roleId = resultSet.getString(1);
                         roleIds.add(roleId);
                     }
                 }
+                roleIdsOfGroups.put(groupIdToName.getKey(), roleIds);
             }
         } catch (SQLException e) {
             String errorMessage =
@@ -1347,7 +1403,7 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return roleIds.stream().distinct().collect(Collectors.toList());
+        return roleIdsOfGroups;
     }
 
     @Override
@@ -2400,6 +2456,31 @@ public class RoleDAOImpl implements RoleDAO {
         return null;
     }
 
+    /**
+     * Set the audience names of the given roles. The roles of a listing commonly share a few audiences, hence each
+     * distinct audience is resolved only once instead of once per role.
+     *
+     * @param roles        Roles with the audience and audience id set.
+     * @param tenantDomain Tenant domain.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private void resolveAudienceNames(List<RoleBasicInfo> roles, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, String> audienceNames = new HashMap<>();
+        for (RoleBasicInfo role : roles) {
+            if (role.getAudience() == null) {
+                continue;
+            }
+            String audienceKey = role.getAudience().toLowerCase(Locale.ENGLISH) + ":" + role.getAudienceId();
+            if (!audienceNames.containsKey(audienceKey)) {
+                audienceNames.put(audienceKey, getAudienceName(role.getAudience(), role.getAudienceId(),
+                        tenantDomain));
+            }
+            role.setAudienceName(audienceNames.get(audienceKey));
+        }
+    }
+
     /**
      * Get organization name.
      *
@@ -2713,11 +2794,10 @@ public class RoleDAOImpl implements RoleDAO {
             if (roleAudience != null) {
                 roleBasicInfo.setAudience(roleAudience.getAudience());
                 roleBasicInfo.setAudienceId(roleAudience.getAudienceId());
-                roleBasicInfo.setAudienceName(getAudienceName(roleAudience.getAudience(),
-                        roleAudience.getAudienceId(), tenantDomain));
             }
             roles.add(roleBasicInfo);
         }
+        resolveAudienceNames(roles, tenantDomain);
         return roles;
     }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleCacheKey;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.Map;
+
+/**
+ * User operation event listener which invalidates the role assignment caches of the role management service, when
+ * role assignments are changed through the user store manager instead of the role management service.
+ * <p>
+ * The roles of a user are loaded with the username of the user, hence the cache entry of a user is also invalidated
+ * when the user is renamed by updating the username claim.
+ */
+public class RoleCacheInvalidationListener extends AbstractIdentityUserOperationEventListener {
+
+    private static final Log LOG = LogFactory.getLog(RoleCacheInvalidationListener.class);
+    private static final String USERNAME_CLAIM = "http://wso2.org/claims/username";
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 96;
+    }
+
+    @Override
+    public boolean doPostDeleteUserWithID(String userID, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearUserRoleCacheEntries(new String[]{userID}, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValueWithID(String userID, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        // The updated claim is not known, and it may be the username claim.
+        clearUserRoleCacheEntries(new String[]{userID}, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostSetUserClaimValuesWithID(String userID, Map<String, String> claims, String profileName,
+                                                  UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable() || claims == null || !claims.containsKey(USERNAME_CLAIM)) {
+            return true;
+        }
+        clearUserRoleCacheEntries(new String[]{userID}, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateRoleListOfUserWithID(String userID, String[] deletedRoles, String[] newRoles,
+                                                    UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearUserRoleCacheEntries(new String[]{userID}, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateUserListOfRoleWithID(String roleName, String[] deletedUserIDs, String[] newUserIDs,
+                                                    UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        clearUserRoleCacheEntries(deletedUserIDs, userStoreManager);
+        clearUserRoleCacheEntries(newUserIDs, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteRole(String roleName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        int tenantId = userStoreManager.getTenantId();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clearing the role assignment caches of tenant: " + tenantId + " as role: " + roleName +
+                    " is deleted.");
+        }
+        UserRoleCache.getInstance().clear(tenantId);
+        GroupRoleCache.getInstance().clear(tenantId);
+        return true;
+    }
+
+    private void clearUserRoleCacheEntries(String[] userIDs, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (userIDs == null) {
+            return;
+        }
+        int tenantId = userStoreManager.getTenantId();
+        for (String userID : userIDs) {
+            if (userID != null) {
+                UserRoleCache.getInstance().clearCacheEntry(new UserRoleCacheKey(userID), tenantId);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.GroupRoleCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdListCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleDTO;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Test class for CacheBackedRoleDAO.
+ */
+public class CacheBackedRoleDAOTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+    private static final String ROLE_ID = "roleId";
+
+    private RoleDAO roleDAO;
+    private UserRoleCache userRoleCache;
+    private GroupRoleCache groupRoleCache;
+    private RolePermissionCache rolePermissionCache;
+    private MockedStatic<UserRoleCache> userRoleCacheStatic;
+    private MockedStatic<GroupRoleCache> groupRoleCacheStatic;
+    private MockedStatic<RolePermissionCache> rolePermissionCacheStatic;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private CacheBackedRoleDAO cacheBackedRoleDAO;
+
+    @BeforeMethod
+    public void setUp() {
+
+        roleDAO = mock(RoleDAO.class);
+        userRoleCache = mock(UserRoleCache.class);
+        groupRoleCache = mock(GroupRoleCache.class);
+        rolePermissionCache = mock(RolePermissionCache.class);
+        userRoleCacheStatic = mockStatic(UserRoleCache.class);
+        userRoleCacheStatic.when(UserRoleCache::getInstance).thenReturn(userRoleCache);
+        groupRoleCacheStatic = mockStatic(GroupRoleCache.class);
+        groupRoleCacheStatic.when(GroupRoleCache::getInstance).thenReturn(groupRoleCache);
+        rolePermissionCacheStatic = mockStatic(RolePermissionCache.class);
+        rolePermissionCacheStatic.when(RolePermissionCache::getInstance).thenReturn(rolePermissionCache);
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(TENANT_ID);
+        cacheBackedRoleDAO = new CacheBackedRoleDAO(roleDAO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        userRoleCacheStatic.close();
+        groupRoleCacheStatic.close();
+        rolePermissionCacheStatic.close();
+        identityTenantUtil.close();
+    }
+
+    @Test
+    public void testGetRoleIdListOfUserFromCache() throws Exception {
+
+        when(userRoleCache.getValueFromCache(new UserRoleCacheKey("userId"), TENANT_DOMAIN))
+                .thenReturn(new RoleIdListCacheEntry(Arrays.asList("role1", "role2")));
+
+        assertEquals(cacheBackedRoleDAO.getRoleIdListOfUser("userId", TENANT_DOMAIN), Arrays.asList("role1", "role2"));
+        verify(roleDAO, never()).getRoleIdListOfUser(anyString(), anyString());
+    }
+
+    @Test
+    public void testGetRoleIdListOfUserAddsToCache() throws Exception {
+
+        when(roleDAO.getRoleIdListOfUser("userId", TENANT_DOMAIN)).thenReturn(Collections.singletonList("role1"));
+
+        assertEquals(cacheBackedRoleDAO.getRoleIdListOfUser("userId", TENANT_DOMAIN),
+                Collections.singletonList("role1"));
+        verify(userRoleCache).addToCache(eq(new UserRoleCacheKey("userId")), any(RoleIdListCacheEntry.class),
+                eq(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testGetRoleIdListOfGroupsLoadsOnlyMissingGroups() throws Exception {
+
+        when(groupRoleCache.getValueFromCache(new GroupRoleCacheKey("group1"), TENANT_DOMAIN))
+                .thenReturn(new RoleIdListCacheEntry(Arrays.asList("role1", "role2")));
+        when(roleDAO.getRoleIdListsOfGroups(Arrays.asList("group2", "group3"), TENANT_DOMAIN))
+                .thenReturn(Collections.singletonMap("group2", Arrays.asList("role2", "role3")));
+
+        List<String> roleIds = cacheBackedRoleDAO.getRoleIdListOfGroups(Arrays.asList("group1", "group2", "group3"),
+                TENANT_DOMAIN);
+
+        assertEquals(roleIds, Arrays.asList("role1", "role2", "role3"));
+        // The missing groups are loaded with a single call.
+        verify(roleDAO).getRoleIdListsOfGroups(Arrays.asList("group2", "group3"), TENANT_DOMAIN);
+        verify(roleDAO, never()).getRoleIdListOfGroups(anyList(), anyString());
+        verify(groupRoleCache).addToCache(eq(new GroupRoleCacheKey("group2")), any(RoleIdListCacheEntry.class),
+                eq(TENANT_DOMAIN));
+        verify(groupRoleCache).addToCache(eq(new GroupRoleCacheKey("group3")), any(RoleIdListCacheEntry.class),
+                eq(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testGetPermissionListOfRolesReturnsDistinctPermissions() throws Exception {
+
+        when(rolePermissionCache.getValueFromCache(new RolePermissionCacheKey("role1"), TENANT_DOMAIN))
+                .thenReturn(new RolePermissionCacheEntry(Arrays.asList("scope1", "scope2")));
+        when(roleDAO.getPermissionListsOfRoles(Collections.singletonList("role2"), TENANT_DOMAIN))
+                .thenReturn(Collections.singletonMap("role2", Arrays.asList("scope2", "scope3")));
+
+        List<String> permissions = cacheBackedRoleDAO.getPermissionListOfRoles(Arrays.asList("role1", "role2"),
+                TENANT_DOMAIN);
+
+        assertEquals(permissions, Arrays.asList("scope1", "scope2", "scope3"));
+        verify(rolePermissionCache).addToCache(eq(new RolePermissionCacheKey("role2")),
+                any(RolePermissionCacheEntry.class), eq(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testUpdateUserListOfRoleClearsUserEntries() throws Exception {
+
+        cacheBackedRoleDAO.updateUserListOfRole(ROLE_ID, Collections.singletonList("user1"),
+                Collections.singletonList("user2"), TENANT_DOMAIN);
+
+        verify(userRoleCache).clearCacheEntry(new UserRoleCacheKey("user1"), TENANT_DOMAIN);
+        verify(userRoleCache).clearCacheEntry(new UserRoleCacheKey("user2"), TENANT_DOMAIN);
+        verify(userRoleCache, never()).clear(TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUpdateGroupListOfRoleClearsGroupEntries() throws Exception {
+
+        cacheBackedRoleDAO.updateGroupListOfRole(ROLE_ID, Collections.singletonList("group1"),
+                Collections.emptyList(), TENANT_DOMAIN);
+
+        verify(groupRoleCache).clearCacheEntry(new GroupRoleCacheKey("group1"), TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testUpdatePermissionListOfRoleClearsSharedRoles() throws Exception {
+
+        when(roleDAO.getSharedHybridRoles(ROLE_ID, TENANT_ID))
+                .thenReturn(Collections.singletonList(new RoleDTO("role", "sharedRoleId", 1, 2)));
+
+        cacheBackedRoleDAO.updatePermissionListOfRole(ROLE_ID, Collections.emptyList(), Collections.emptyList(),
+                TENANT_DOMAIN);
+
+        verify(rolePermissionCache).clearCacheEntry(new RolePermissionCacheKey(ROLE_ID), TENANT_DOMAIN);
+        verify(rolePermissionCache).clearCacheEntry(new RolePermissionCacheKey("sharedRoleId"), 2);
+    }
+
+    @Test
+    public void testDeleteRoleClearsAssignmentsOfTenantAndSharedRoles() throws Exception {
+
+        when(roleDAO.getSharedHybridRoles(ROLE_ID, TENANT_ID))
+                .thenReturn(Collections.singletonList(new RoleDTO("role", "sharedRoleId", 1, 2)));
+
+        cacheBackedRoleDAO.deleteRole(ROLE_ID, TENANT_DOMAIN);
+
+        verify(roleDAO).deleteRole(ROLE_ID, TENANT_DOMAIN);
+        verify(userRoleCache).clear(TENANT_DOMAIN);
+        verify(groupRoleCache).clear(TENANT_DOMAIN);
+        verify(userRoleCache).clear(2);
+        verify(groupRoleCache).clear(2);
+        verify(rolePermissionCache).clearCacheEntry(new RolePermissionCacheKey(ROLE_ID), TENANT_DOMAIN);
+        verify(rolePermissionCache).clearCacheEntry(new RolePermissionCacheKey("sharedRoleId"), 2);
+    }
+}
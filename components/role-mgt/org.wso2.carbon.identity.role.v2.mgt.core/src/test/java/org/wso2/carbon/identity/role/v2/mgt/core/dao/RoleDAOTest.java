@@ -98,6 +98,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -581,6 +583,8 @@ public class RoleDAOTest {
         List<String> roleIds = Arrays.asList(role.getId());
         List<String> rolePermissions = roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN);
         Assert.assertEquals(rolePermissions, getPermissionNameList(permissions));
+        Assert.assertEquals(roleDAO.getPermissionListsOfRoles(roleIds, SAMPLE_TENANT_DOMAIN).get(role.getId()),
+                getPermissionNameList(permissions));
     }
 
     @Test
@@ -616,6 +620,8 @@ public class RoleDAOTest {
         List<String> roleIds = Arrays.asList(sharedRoleBasicInfo.getId());
         List<String> rolePermissions = roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_SUB_ORG_TENANT_DOMAIN);
         Assert.assertEquals(rolePermissions, getPermissionNameList(permissions));
+        Assert.assertEquals(roleDAO.getPermissionListsOfRoles(roleIds, SAMPLE_SUB_ORG_TENANT_DOMAIN)
+                .get(sharedRoleBasicInfo.getId()), getPermissionNameList(permissions));
     }
 
     @Test
@@ -925,6 +931,41 @@ public class RoleDAOTest {
         assertEquals(roles.size(), 3);
     }
 
+    @Test
+    public void testGetRoleListOfUserResolvesAudienceNameOnce() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        userCoreUtil.when(() -> UserCoreUtil.addDomainToName(anyString(), anyString())).thenCallRealMethod();
+        addRole(roleNamesList.get(0), ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+        addRole(roleNamesList.get(1), ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+        addRole("everyone", ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        RoleManagementServiceComponentHolder.getInstance().setOrganizationManager(organizationManager);
+        when(organizationManager.getOrganizationNameById(SAMPLE_ORG_ID)).thenReturn("test-org");
+        when(organizationManager.resolveOrganizationId(anyString())).thenReturn(SAMPLE_ORG_ID);
+        mockRealmConfiguration();
+        List<RoleBasicInfo> roles = roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN);
+
+        assertEquals(roles.size(), 3);
+        for (RoleBasicInfo role : roles) {
+            assertEquals(role.getAudienceName(), "test-org");
+        }
+        verify(organizationManager, times(1)).getOrganizationNameById(SAMPLE_ORG_ID);
+    }
+
     @Test
     public void testGetRoleListOfGroups() throws Exception {
 
@@ -1025,6 +1066,9 @@ public class RoleDAOTest {
 
         List<String> roles = roleDAO.getRoleIdListOfGroups(groupIDsList, SAMPLE_TENANT_DOMAIN);
         assertEquals(roles.size(), 2);
+        Map<String, List<String>> rolesOfGroups = roleDAO.getRoleIdListsOfGroups(groupIDsList, SAMPLE_TENANT_DOMAIN);
+        assertEquals(rolesOfGroups.keySet().size(), groupIDsList.size());
+        assertEquals(rolesOfGroups.values().stream().flatMap(List::stream).distinct().count(), 2);
 
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.listener;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.UserRoleCacheKey;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for RoleCacheInvalidationListener.
+ */
+public class RoleCacheInvalidationListenerTest {
+
+    private static final int TENANT_ID = -1234;
+    private static final String USER_ID = "userId";
+
+    private UserRoleCache userRoleCache;
+    private UserStoreManager userStoreManager;
+    private MockedStatic<UserRoleCache> userRoleCacheStatic;
+    private MockedStatic<IdentityUtil> identityUtil;
+    private RoleCacheInvalidationListener listener;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        userRoleCache = mock(UserRoleCache.class);
+        userRoleCacheStatic = mockStatic(UserRoleCache.class);
+        userRoleCacheStatic.when(UserRoleCache::getInstance).thenReturn(userRoleCache);
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.readEventListenerProperty(anyString(), anyString())).thenReturn(null);
+        userStoreManager = mock(UserStoreManager.class);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+        listener = new RoleCacheInvalidationListener();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        userRoleCacheStatic.close();
+        identityUtil.close();
+    }
+
+    @Test
+    public void testUserRoleCacheIsClearedOnUsernameUpdate() throws Exception {
+
+        listener.doPostSetUserClaimValuesWithID(USER_ID,
+                Collections.singletonMap("http://wso2.org/claims/username", "newName"), null, userStoreManager);
+
+        verify(userRoleCache).clearCacheEntry(new UserRoleCacheKey(USER_ID), TENANT_ID);
+    }
+
+    @Test
+    public void testUserRoleCacheIsKeptOnOtherClaimUpdates() throws Exception {
+
+        listener.doPostSetUserClaimValuesWithID(USER_ID,
+                Collections.singletonMap("http://wso2.org/claims/country", "Sri Lanka"), null, userStoreManager);
+
+        verify(userRoleCache, never()).clearCacheEntry(any(UserRoleCacheKey.class), anyInt());
+    }
+
+    @Test
+    public void testUserRoleCacheIsClearedOnUserDeletion() throws Exception {
+
+        listener.doPostDeleteUserWithID(USER_ID, userStoreManager);
+
+        verify(userRoleCache).clearCacheEntry(eq(new UserRoleCacheKey(USER_ID)), eq(TENANT_ID));
+    }
+}
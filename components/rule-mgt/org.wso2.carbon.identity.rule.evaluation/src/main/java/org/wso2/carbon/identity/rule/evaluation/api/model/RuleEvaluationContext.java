@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.rule.evaluation.api.model;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -27,18 +28,42 @@ import java.util.List;
 public class RuleEvaluationContext {
 
     String ruleId;
+    List<String> ruleIds;
     List<Field> fields;
 
     public RuleEvaluationContext(String ruleId, List<Field> fields) {
         this.ruleId = ruleId;
+        this.ruleIds = Collections.singletonList(ruleId);
         this.fields = fields;
     }
 
+    /**
+     * Create the context of a batch evaluation, where the fields are the union of the fields of all the rules.
+     *
+     * @param ruleIds Rule ids evaluated together.
+     * @param fields  Fields referenced by the rules.
+     */
+    public RuleEvaluationContext(List<String> ruleIds, List<Field> fields) {
+        this.ruleId = ruleIds.size() == 1 ? ruleIds.get(0) : null;
+        this.ruleIds = Collections.unmodifiableList(ruleIds);
+        this.fields = fields;
+    }
+
+    /**
+     * Get the rule id of the evaluation.
+     *
+     * @return Rule id, or null if several rules are evaluated together.
+     */
     public String getRuleId() {
 
         return ruleId;
     }
 
+    public List<String> getRuleIds() {
+
+        return ruleIds;
+    }
+
     public List<Field> getFields() {
 
         return fields;
@@ -22,9 +22,13 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowContext;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Rule evaluation service interface.
- * This interface is used to evaluate a rule.
+ * This interface is used to evaluate rules.
  */
 public interface RuleEvaluationService {
 
@@ -40,4 +44,26 @@ public interface RuleEvaluationService {
     RuleEvaluationResult evaluate(String ruleId, FlowContext flowContext, String tenantDomain)
             throws RuleEvaluationException;
 
+    /**
+     * Evaluate the rules with the given rule ids against the same flow context.
+     * The evaluation data of the fields referenced by the rules is gathered once for all the rules.
+     *
+     * @param ruleIds      Rule ids.
+     * @param flowContext  Flow context.
+     * @param tenantDomain Tenant domain.
+     * @return Rule evaluation results keyed by the rule id, in the order of the given rule ids.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rules.
+     */
+    default Map<String, RuleEvaluationResult> evaluate(List<String> ruleIds, FlowContext flowContext,
+                                                       String tenantDomain) throws RuleEvaluationException {
+
+        Map<String, RuleEvaluationResult> results = new LinkedHashMap<>();
+        for (String ruleId : ruleIds) {
+            if (!results.containsKey(ruleId)) {
+                results.put(ruleId, evaluate(ruleId, flowContext, tenantDomain));
+            }
+        }
+        return results;
+    }
+
 }
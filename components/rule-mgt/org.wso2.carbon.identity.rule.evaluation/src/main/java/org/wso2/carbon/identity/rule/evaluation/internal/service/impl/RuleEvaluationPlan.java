@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Field;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.BOOLEAN;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.LIST;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.NUMBER;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.REFERENCE;
+import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.STRING;
+
+/**
+ * Immutable evaluation plan compiled from a rule.
+ * The operators of the expressions are resolved and the expression values are parsed once at compilation, and the
+ * fields referenced by the rule are kept so that only those are requested from the evaluation data providers.
+ */
+public class RuleEvaluationPlan {
+
+    // Operators
+    private static final String EQUALS = "equals";
+    private static final String NOT_EQUALS = "notEquals";
+
+    private final String ruleId;
+    private final FlowType flowType;
+    private final List<Field> fields;
+    private final List<List<CompiledExpression>> orCombinedExpressions;
+
+    RuleEvaluationPlan(String ruleId, FlowType flowType, List<Field> fields,
+                       List<List<CompiledExpression>> orCombinedExpressions) {
+
+        this.ruleId = ruleId;
+        this.flowType = flowType;
+        this.fields = Collections.unmodifiableList(fields);
+        this.orCombinedExpressions = Collections.unmodifiableList(orCombinedExpressions);
+    }
+
+    public String getRuleId() {
+
+        return ruleId;
+    }
+
+    /**
+     * Get the flow type the fields of the plan are resolved for.
+     *
+     * @return Flow type or null if the fields are not resolved.
+     */
+    public FlowType getFlowType() {
+
+        return flowType;
+    }
+
+    /**
+     * Get the unique fields referenced by the rule.
+     *
+     * @return Fields referenced by the rule.
+     */
+    public List<Field> getFields() {
+
+        return fields;
+    }
+
+    /**
+     * Evaluate the plan against the given evaluation data.
+     *
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+        for (List<CompiledExpression> andCombinedExpressions : orCombinedExpressions) {
+            if (evaluateANDCombinedExpressions(andCombinedExpressions, evaluationData)) {
+                return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
+            }
+        }
+        return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
+    }
+
+    private boolean evaluateANDCombinedExpressions(List<CompiledExpression> expressions,
+                                                   Map<String, FieldValue> evaluationData)
+            throws RuleEvaluationException {
+
+        for (CompiledExpression expression : expressions) {
+            if (!expression.evaluate(evaluationData)) {
+                return false; // If any expression fails, the ANDCombinedRule fails
+            }
+        }
+        return true; // All expressions passed, the ANDCombinedRule passes
+    }
+
+    /**
+     * Expression with its operator resolved and its value parsed for each supported value type.
+     */
+    static class CompiledExpression {
+
+        private final String field;
+        private final String operatorName;
+        private final Operator operator;
+        private final String value;
+        private final boolean booleanValue;
+        private final Double numberValue;
+
+        CompiledExpression(String field, String operatorName, Operator operator, String value) {
+
+            this.field = field;
+            this.operatorName = operatorName;
+            this.operator = operator;
+            this.value = value;
+            this.booleanValue = Boolean.parseBoolean(value);
+            this.numberValue = parseNumber(value);
+        }
+
+        boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+            FieldValue fieldValue = evaluationData.get(field);
+            if (fieldValue == null) {
+                throw new RuleEvaluationException("Field value not found for the field: " + field);
+            }
+            if (operator == null) {
+                throw new RuleEvaluationException("Operator not found for the operator: " + operatorName);
+            }
+
+            // Evaluate based on the value type of the field
+            if (fieldValue.getValueType().equals(STRING)) {
+                return operator.apply(fieldValue.getValue(), value);
+            } else if (fieldValue.getValueType().equals(BOOLEAN)) {
+                return operator.apply(fieldValue.getValue(), booleanValue);
+            } else if (fieldValue.getValueType().equals(NUMBER)) {
+                // A value which is not a number is parsed again to fail the evaluation as it did before compiling.
+                return operator.apply(fieldValue.getValue(),
+                        numberValue != null ? numberValue : Double.parseDouble(value));
+            } else if (fieldValue.getValueType().equals(REFERENCE)) {
+                return operator.apply(fieldValue.getValue(), value);
+            } else if (fieldValue.getValueType().equals(LIST)) {
+                return applyOperatorForList(fieldValue.getValue());
+            }
+
+            throw new IllegalStateException("Unsupported value type: " + fieldValue.getValueType());
+        }
+
+        private boolean applyOperatorForList(Object fieldValue) {
+
+            List<?> list = (List<?>) fieldValue;
+
+            if (operator.getName().equals(EQUALS)) {
+                return list.contains(value);
+            } else if (operator.getName().equals(NOT_EQUALS)) {
+                return !list.contains(value);
+            }
+
+            throw new IllegalStateException("Unsupported operator: " + operator.getName() + " for LIST value type");
+        }
+
+        private static Double parseNumber(String value) {
+
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
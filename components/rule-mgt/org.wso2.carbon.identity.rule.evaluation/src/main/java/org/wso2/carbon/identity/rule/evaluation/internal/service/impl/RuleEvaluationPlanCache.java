@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Holds the evaluation plans compiled from the rules returned by the rule management service.
+ * Plans are keyed by the rule instance, which is shared while the rule stays in the RuleCache. A rule that is
+ * updated, deleted or evicted from the RuleCache is loaded into a new instance, hence its plan is compiled again
+ * and the stale plan is garbage collected with the old instance.
+ */
+public class RuleEvaluationPlanCache {
+
+    private static final RuleEvaluationPlanCache INSTANCE = new RuleEvaluationPlanCache();
+
+    private final Map<Rule, RuleEvaluationPlan> plans = new WeakHashMap<>();
+
+    private RuleEvaluationPlanCache() {
+
+    }
+
+    public static RuleEvaluationPlanCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the evaluation plan compiled from the given rule instance for the given flow type.
+     *
+     * @param rule     Rule instance.
+     * @param flowType Flow type.
+     * @return Evaluation plan or null if no plan is compiled from the rule instance for the flow type.
+     */
+    public RuleEvaluationPlan getPlan(Rule rule, FlowType flowType) {
+
+        RuleEvaluationPlan plan;
+        synchronized (plans) {
+            plan = plans.get(rule);
+        }
+        return plan != null && plan.getFlowType() == flowType ? plan : null;
+    }
+
+    /**
+     * Add the evaluation plan compiled from the given rule instance.
+     *
+     * @param rule Rule instance.
+     * @param plan Evaluation plan.
+     */
+    public void addPlan(Rule rule, RuleEvaluationPlan plan) {
+
+        synchronized (plans) {
+            plans.put(rule, plan);
+        }
+    }
+
+    /**
+     * Remove all the evaluation plans.
+     */
+    public void clear() {
+
+        synchronized (plans) {
+            plans.clear();
+        }
+    }
+}
@@ -34,7 +34,10 @@ import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.metadata.api.exception.RuleMetadataException;
 import org.wso2.carbon.identity.rule.metadata.api.model.FieldDefinition;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -59,29 +62,84 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
 
         LOG.debug("Starting to evaluate rule: " + rule.getId() + ".");
 
-        FieldExtractor fieldExtractor =
-                new FieldExtractor(getRuleMetaFromRuleMetadataService(flowContext.getFlowType(), tenantDomain));
-        List<Field> fieldsInRule = fieldExtractor.extractFields(rule);
+        RuleEvaluationPlan evaluationPlan = getEvaluationPlan(rule, flowContext.getFlowType(), tenantDomain);
 
-        Map<String, FieldValue> evaluationData =
-                getEvaluationData(ruleId, flowContext, tenantDomain, fieldsInRule);
+        Map<String, FieldValue> evaluationData = getEvaluationData(
+                new RuleEvaluationContext(ruleId, evaluationPlan.getFields()), flowContext, tenantDomain);
 
-        RuleEvaluator ruleEvaluator = new RuleEvaluator(RuleEvaluationComponentServiceHolder.getInstance()
-                .getOperatorRegistry());
-        boolean evaluationStatus = ruleEvaluator.evaluate(rule, evaluationData);
+        boolean evaluationStatus = evaluationPlan.evaluate(evaluationData);
         LOG.debug("Evaluated rule: " + rule.getId() + " to: " + evaluationStatus + ".");
 
         return new RuleEvaluationResult(ruleId, evaluationStatus);
     }
 
-    private Map<String, FieldValue> getEvaluationData(String ruleId, FlowContext flowContext,
-                                                      String tenantDomain, List<Field> fieldsInRule)
+    @Override
+    public Map<String, RuleEvaluationResult> evaluate(List<String> ruleIds, FlowContext flowContext,
+                                                      String tenantDomain) throws RuleEvaluationException {
+
+        Map<String, Rule> rules = getRulesFromRuleManagementService(ruleIds, tenantDomain);
+
+        Map<String, RuleEvaluationPlan> evaluationPlans = new LinkedHashMap<>();
+        Map<String, Field> fieldsInRules = new LinkedHashMap<>();
+        for (Rule rule : rules.values()) {
+            if (!rule.isActive()) {
+                LOG.debug("Rule: " + rule.getId() + " is inactive. Skip evaluation of rule.");
+                continue;
+            }
+            RuleEvaluationPlan evaluationPlan = getEvaluationPlan(rule, flowContext.getFlowType(), tenantDomain);
+            evaluationPlans.put(rule.getId(), evaluationPlan);
+            for (Field field : evaluationPlan.getFields()) {
+                fieldsInRules.putIfAbsent(field.getName(), field);
+            }
+        }
+
+        Map<String, FieldValue> evaluationData = Collections.emptyMap();
+        if (!evaluationPlans.isEmpty()) {
+            LOG.debug("Starting to evaluate " + evaluationPlans.size() + " rules with " + fieldsInRules.size() +
+                    " fields.");
+            evaluationData = getEvaluationData(new RuleEvaluationContext(new ArrayList<>(evaluationPlans.keySet()),
+                    new ArrayList<>(fieldsInRules.values())), flowContext, tenantDomain);
+        }
+
+        Map<String, RuleEvaluationResult> results = new LinkedHashMap<>();
+        for (String ruleId : rules.keySet()) {
+            RuleEvaluationPlan evaluationPlan = evaluationPlans.get(ruleId);
+            boolean evaluationStatus = evaluationPlan != null && evaluationPlan.evaluate(evaluationData);
+            LOG.debug("Evaluated rule: " + ruleId + " to: " + evaluationStatus + ".");
+            results.put(ruleId, new RuleEvaluationResult(ruleId, evaluationStatus));
+        }
+        return results;
+    }
+
+    private RuleEvaluationPlan getEvaluationPlan(Rule rule, FlowType flowType, String tenantDomain)
+            throws RuleEvaluationException {
+
+        RuleEvaluationPlanCache planCache = RuleEvaluationPlanCache.getInstance();
+        RuleEvaluationPlan evaluationPlan = planCache.getPlan(rule, flowType);
+        if (evaluationPlan != null) {
+            return evaluationPlan;
+        }
+
+        LOG.debug("Compiling evaluation plan for rule: " + rule.getId() + ".");
+        FieldExtractor fieldExtractor =
+                new FieldExtractor(getRuleMetaFromRuleMetadataService(flowType, tenantDomain));
+        List<Field> fieldsInRule = fieldExtractor.extractFields(rule);
+
+        RuleEvaluator ruleEvaluator = new RuleEvaluator(RuleEvaluationComponentServiceHolder.getInstance()
+                .getOperatorRegistry());
+        evaluationPlan = ruleEvaluator.compile(rule, flowType, fieldsInRule);
+        planCache.addPlan(rule, evaluationPlan);
+        return evaluationPlan;
+    }
+
+    private Map<String, FieldValue> getEvaluationData(RuleEvaluationContext ruleEvaluationContext,
+                                                      FlowContext flowContext, String tenantDomain)
             throws RuleEvaluationException {
 
         RuleEvaluationDataManager ruleEvaluationDataProviderManager = RuleEvaluationDataManager.getInstance();
 
         List<FieldValue> evaluationDataList = ruleEvaluationDataProviderManager.getEvaluationData(
-                new RuleEvaluationContext(ruleId, fieldsInRule), flowContext, tenantDomain);
+                ruleEvaluationContext, flowContext, tenantDomain);
 
         return (evaluationDataList == null || evaluationDataList.isEmpty())
                 ? Collections.emptyMap()
@@ -105,6 +163,34 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
         }
     }
 
+    private Map<String, Rule> getRulesFromRuleManagementService(List<String> ruleIds, String tenantDomain)
+            throws RuleEvaluationException {
+
+        Map<String, Rule> foundRules = new HashMap<>();
+        try {
+            List<Rule> rules = RuleEvaluationComponentServiceHolder.getInstance()
+                    .getRuleManagementService()
+                    .getRulesByRuleIds(ruleIds, tenantDomain);
+            if (rules != null) {
+                for (Rule rule : rules) {
+                    foundRules.put(rule.getId(), rule);
+                }
+            }
+        } catch (RuleManagementException e) {
+            throw new RuleEvaluationException("Error while retrieving the Rules.", e);
+        }
+
+        Map<String, Rule> orderedRules = new LinkedHashMap<>();
+        for (String ruleId : ruleIds) {
+            Rule rule = foundRules.get(ruleId);
+            if (rule == null) {
+                throw new RuleEvaluationException("Rule not found for the given ruleId: " + ruleId);
+            }
+            orderedRules.put(ruleId, rule);
+        }
+        return orderedRules;
+    }
+
     private List<FieldDefinition> getRuleMetaFromRuleMetadataService(FlowType flowType, String tenantDomain)
             throws RuleEvaluationException {
 
@@ -18,39 +18,28 @@
 
 package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
 
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Field;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
-import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
 import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
 import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.BOOLEAN;
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.LIST;
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.NUMBER;
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.REFERENCE;
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.STRING;
-
 /**
  * Rule evaluator.
  * This class is responsible for evaluating rules.
  */
 public class RuleEvaluator {
 
-    private static final Log LOG = LogFactory.getLog(RuleEvaluator.class);
-
     private final OperatorRegistry operatorRegistry;
 
-    // Operators
-    private static final String EQUALS = "equals";
-    private static final String NOT_EQUALS = "notEquals";
-
     public RuleEvaluator(OperatorRegistry operatorRegistry) {
 
         this.operatorRegistry = operatorRegistry;
@@ -66,69 +55,30 @@ public class RuleEvaluator {
      */
     public boolean evaluate(Rule rule, Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
 
-        ORCombinedRule orRule = (ORCombinedRule) rule;
-        return evaluateORCombinedRule(orRule, evaluationData);
+        return compile(rule, null, Collections.emptyList()).evaluate(evaluationData);
     }
 
-    private boolean evaluateORCombinedRule(ORCombinedRule orRule, Map<String, FieldValue> evaluationData)
-            throws RuleEvaluationException {
+    /**
+     * Compile a given rule into an evaluation plan.
+     *
+     * @param rule     Rule to compile.
+     * @param flowType Flow type the fields are resolved for.
+     * @param fields   Unique fields referenced by the rule.
+     * @return Evaluation plan of the rule.
+     */
+    public RuleEvaluationPlan compile(Rule rule, FlowType flowType, List<Field> fields) {
 
+        ORCombinedRule orRule = (ORCombinedRule) rule;
+        List<List<RuleEvaluationPlan.CompiledExpression>> orCombinedExpressions = new ArrayList<>();
         for (ANDCombinedRule andRule : orRule.getRules()) {
-            if (evaluateANDCombinedRule(andRule, evaluationData)) {
-                return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
+            List<RuleEvaluationPlan.CompiledExpression> andCombinedExpressions = new ArrayList<>();
+            for (Expression expression : andRule.getExpressions()) {
+                andCombinedExpressions.add(new RuleEvaluationPlan.CompiledExpression(expression.getField(),
+                        expression.getOperator(), operatorRegistry.getOperator(expression.getOperator()),
+                        expression.getValue().getFieldValue()));
             }
+            orCombinedExpressions.add(Collections.unmodifiableList(andCombinedExpressions));
         }
-        return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
-    }
-
-    private boolean evaluateANDCombinedRule(ANDCombinedRule andRule, Map<String, FieldValue> evaluationData)
-            throws RuleEvaluationException {
-
-        for (Expression expression : andRule.getExpressions()) {
-            if (!evaluateExpression(expression, evaluationData)) {
-                return false; // If any expression fails, the ANDCombinedRule fails
-            }
-        }
-        return true; // All expressions passed, the ANDCombinedRule passes
-    }
-
-    private boolean evaluateExpression(Expression expression, Map<String, FieldValue> evaluationData)
-            throws RuleEvaluationException {
-
-        FieldValue fieldValue = evaluationData.get(expression.getField());
-        if (fieldValue == null) {
-            throw new RuleEvaluationException("Field value not found for the field: " + expression.getField());
-        }
-
-        Operator operator = operatorRegistry.getOperator(expression.getOperator());
-
-        // Evaluate based on the value type of the field
-        if (fieldValue.getValueType().equals(STRING)) {
-            return operator.apply(fieldValue.getValue(), expression.getValue().getFieldValue());
-        } else if (fieldValue.getValueType().equals(BOOLEAN)) {
-            return operator.apply(fieldValue.getValue(),
-                    Boolean.parseBoolean(expression.getValue().getFieldValue()));
-        } else if (fieldValue.getValueType().equals(NUMBER)) {
-            return operator.apply(fieldValue.getValue(), Double.parseDouble(expression.getValue().getFieldValue()));
-        } else if (fieldValue.getValueType().equals(REFERENCE)) {
-            return operator.apply(fieldValue.getValue(), expression.getValue().getFieldValue());
-        } else if (fieldValue.getValueType().equals(LIST)) {
-            return applyOperatorForList(operator, fieldValue.getValue(), expression.getValue().getFieldValue());
-        }
-
-        throw new IllegalStateException("Unsupported value type: " + fieldValue.getValueType());
-    }
-
-    private boolean applyOperatorForList(Operator operator, Object fieldValue, Object expressionValue) {
-
-        List<?> list = (List<?>) fieldValue;
-
-        if (operator.getName().equals(EQUALS)) {
-            return list.contains(expressionValue);
-        } else if (operator.getName().equals(NOT_EQUALS)) {
-            return !list.contains(expressionValue);
-        }
-
-        throw new IllegalStateException("Unsupported operator: " + operator.getName() + " for LIST value type");
+        return new RuleEvaluationPlan(rule.getId(), flowType, fields, orCombinedExpressions);
     }
 }
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.rule.evaluation.service.impl;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -27,6 +28,7 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowContext;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FlowType;
+import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationContext;
 import org.wso2.carbon.identity.rule.evaluation.api.model.RuleEvaluationResult;
 import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
 import org.wso2.carbon.identity.rule.evaluation.api.provider.RuleEvaluationDataProvider;
@@ -58,11 +60,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -140,6 +145,79 @@ public class RuleEvaluationServiceImplTest {
         assertTrue(result.isRuleSatisfied());
     }
 
+    @Test
+    public void testEvaluationPlanReusedForSameRuleInstance() throws Exception {
+
+        String tenantDomain = "tenant1";
+        Rule rule = createRule(tenantDomain);
+        String ruleId = rule.getId();
+        FlowContext flowContext = new FlowContext(FlowType.PRE_ISSUE_ACCESS_TOKEN, Collections.emptyMap());
+
+        when(ruleManagementService.getRuleByRuleId(ruleId, tenantDomain)).thenReturn(rule);
+        assertTrue(ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain).isRuleSatisfied());
+        assertTrue(ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain).isRuleSatisfied());
+        verify(ruleMetadataService, times(1)).getExpressionMeta(
+                org.wso2.carbon.identity.rule.metadata.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain);
+
+        // An updated rule is returned as a new instance, hence the plan is compiled again.
+        Rule updatedRule = createRule(tenantDomain);
+        when(ruleManagementService.getRuleByRuleId(ruleId, tenantDomain)).thenReturn(updatedRule);
+        assertTrue(ruleEvaluationService.evaluate(ruleId, flowContext, tenantDomain).isRuleSatisfied());
+        verify(ruleMetadataService, times(2)).getExpressionMeta(
+                org.wso2.carbon.identity.rule.metadata.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain);
+    }
+
+    @Test
+    public void testEvaluateRulesWithSharedEvaluationData() throws Exception {
+
+        String tenantDomain = "tenant1";
+        Rule satisfiedRule = createRule(tenantDomain);
+
+        RuleBuilder ruleBuilder =
+                RuleBuilder.create(org.wso2.carbon.identity.rule.management.api.model.FlowType.PRE_ISSUE_ACCESS_TOKEN,
+                        tenantDomain);
+        ruleBuilder.addAndExpression(new Expression.Builder().field("grantType").operator("equals")
+                .value(new Value(Value.Type.STRING, "password")).build());
+        Rule unsatisfiedRule = ruleBuilder.build();
+
+        Rule inactiveRule = mock(Rule.class);
+        when(inactiveRule.getId()).thenReturn("inactiveRule");
+        when(inactiveRule.isActive()).thenReturn(false);
+
+        List<String> ruleIds = Arrays.asList(unsatisfiedRule.getId(), inactiveRule.getId(), satisfiedRule.getId());
+        when(ruleManagementService.getRulesByRuleIds(ruleIds, tenantDomain)).thenReturn(
+                Arrays.asList(satisfiedRule, unsatisfiedRule, inactiveRule));
+        FlowContext flowContext = new FlowContext(FlowType.PRE_ISSUE_ACCESS_TOKEN, Collections.emptyMap());
+
+        Map<String, RuleEvaluationResult> results =
+                ruleEvaluationService.evaluate(ruleIds, flowContext, tenantDomain);
+
+        assertEquals(new ArrayList<>(results.keySet()), ruleIds);
+        assertFalse(results.get(unsatisfiedRule.getId()).isRuleSatisfied());
+        assertFalse(results.get(inactiveRule.getId()).isRuleSatisfied());
+        assertTrue(results.get(satisfiedRule.getId()).isRuleSatisfied());
+
+        ArgumentCaptor<RuleEvaluationContext> contextCaptor = ArgumentCaptor.forClass(RuleEvaluationContext.class);
+        verify(ruleEvaluationDataProvider, times(1)).getEvaluationData(contextCaptor.capture(), any(), any());
+        assertEquals(contextCaptor.getValue().getRuleIds(),
+                Arrays.asList(unsatisfiedRule.getId(), satisfiedRule.getId()));
+        assertEquals(contextCaptor.getValue().getFields().size(), 2);
+    }
+
+    @Test(expectedExceptions = RuleEvaluationException.class,
+            expectedExceptionsMessageRegExp = "Rule not found for the given ruleId: missingRule")
+    public void testEvaluateRulesFailureWhenRuleNotFound() throws Exception {
+
+        String tenantDomain = "tenant1";
+        Rule rule = createRule(tenantDomain);
+        List<String> ruleIds = Arrays.asList(rule.getId(), "missingRule");
+        when(ruleManagementService.getRulesByRuleIds(ruleIds, tenantDomain)).thenReturn(
+                Collections.singletonList(rule));
+        FlowContext flowContext = new FlowContext(FlowType.PRE_ISSUE_ACCESS_TOKEN, Collections.emptyMap());
+
+        ruleEvaluationService.evaluate(ruleIds, flowContext, tenantDomain);
+    }
+
     @Test
     public void testEvaluateInactiveRule() throws Exception {
 
@@ -21,6 +21,9 @@ package org.wso2.carbon.identity.rule.management.api.service;
 import org.wso2.carbon.identity.rule.management.api.exception.RuleManagementException;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This interface is used to define the Rule Management Service.
  * This interface has the methods to add, update, delete, get and deactivate rules.
@@ -66,6 +69,27 @@ public interface RuleManagementService {
      */
     public Rule getRuleByRuleId(String ruleId, String tenantDomain) throws RuleManagementException;
 
+    /**
+     * Retrieves the rules of the given rule IDs.
+     *
+     * @param ruleIds      Rule IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Rules found for the given rule IDs. Rule IDs which do not exist are omitted.
+     * @throws RuleManagementException If an error occurs while retrieving the rules.
+     */
+    public default List<Rule> getRulesByRuleIds(List<String> ruleIds, String tenantDomain)
+            throws RuleManagementException {
+
+        List<Rule> rules = new ArrayList<>();
+        for (String ruleId : ruleIds) {
+            Rule rule = getRuleByRuleId(ruleId, tenantDomain);
+            if (rule != null) {
+                rules.add(rule);
+            }
+        }
+        return rules;
+    }
+
     /**
      * Deactivates a rule.
      *
@@ -48,6 +48,18 @@ public class RuleSQLConstants {
         }
     }
 
+    /**
+     * Placeholder of the rule ID list in {@link Query#GET_RULES_BY_IDS}, and the prefix of the named parameters
+     * replacing it.
+     */
+    public static final String RULE_IDS_PLACEHOLDER = "_RULE_IDS_";
+    public static final String RULE_ID_PARAMETER_PREFIX = "UUID_";
+
+    /**
+     * Maximum number of rule IDs bound to a single {@link Query#GET_RULES_BY_IDS} query.
+     */
+    public static final int MAX_RULE_IDS_PER_QUERY = 100;
+
     /**
      * This class is used to store SQL queries.
      */
@@ -67,6 +79,8 @@ public class RuleSQLConstants {
                 ":UUID; AND TENANT_ID = :TENANT_ID;";
         public static final String GET_RULE_BY_ID =
                 "SELECT CONTENT, IS_ACTIVE FROM IDN_RULE WHERE UUID = :UUID; AND TENANT_ID = :TENANT_ID;";
+        public static final String GET_RULES_BY_IDS =
+                "SELECT UUID, CONTENT, IS_ACTIVE FROM IDN_RULE WHERE UUID IN (_RULE_IDS_) AND TENANT_ID = :TENANT_ID;";
         public static final String GET_RULE_INTERNAL_ID_BY_ID =
                 "SELECT ID FROM IDN_RULE WHERE UUID = :UUID; AND TENANT_ID = :TENANT_ID;";
 
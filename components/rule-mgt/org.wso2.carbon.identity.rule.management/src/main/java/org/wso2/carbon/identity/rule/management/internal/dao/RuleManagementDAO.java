@@ -21,6 +21,8 @@ package org.wso2.carbon.identity.rule.management.internal.dao;
 import org.wso2.carbon.identity.rule.management.api.exception.RuleManagementException;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 
+import java.util.List;
+
 /**
  * Rule Management DAO.
  * This class is used to perform CRUD operations on Rule in the datastore.
@@ -64,6 +66,16 @@ public interface RuleManagementDAO {
      */
     public Rule getRuleByRuleId(String ruleId, int tenantId) throws RuleManagementException;
 
+    /**
+     * Get the Rules of the given Rule IDs.
+     *
+     * @param ruleIds  Rule IDs
+     * @param tenantId Tenant ID
+     * @return Rules found for the given Rule IDs. Rule IDs which do not exist are omitted.
+     * @throws RuleManagementException Rule Management Exception
+     */
+    public List<Rule> getRulesByRuleIds(List<String> ruleIds, int tenantId) throws RuleManagementException;
+
     /**
      * Activate a Rule.
      *
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.rule.management.internal.dao.impl;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.cache.SingleFlightLoader;
 import org.wso2.carbon.identity.rule.management.api.exception.RuleManagementException;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.core.cache.RuleCache;
@@ -27,6 +28,13 @@ import org.wso2.carbon.identity.rule.management.core.cache.RuleCacheEntry;
 import org.wso2.carbon.identity.rule.management.core.cache.RuleCacheKey;
 import org.wso2.carbon.identity.rule.management.internal.dao.RuleManagementDAO;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Cache backed Rule Management DAO.
  * This class is used to implement the caching on top of the data layer operations.
@@ -35,6 +43,8 @@ import org.wso2.carbon.identity.rule.management.internal.dao.RuleManagementDAO;
 public class CacheBackedRuleManagementDAO implements RuleManagementDAO {
 
     private static final Log LOG = LogFactory.getLog(CacheBackedRuleManagementDAO.class);
+    private static final SingleFlightLoader<String, Rule> RULE_LOADER =
+            new SingleFlightLoader<>("RuleCache", RuleCache::getInstance);
 
     private final RuleManagementDAO ruleManagementDAO;
     private final RuleCache ruleCache;
@@ -73,6 +83,8 @@ public class CacheBackedRuleManagementDAO implements RuleManagementDAO {
         ruleCache.clearCacheEntry(new RuleCacheKey(rule.getId()), tenantId);
         LOG.debug("Rule cache entry is cleared for rule id: " + rule.getId() + " for rule update.");
         ruleManagementDAO.updateRule(rule, tenantId);
+        // Loads which started before the change are not joined by the later lookups.
+        RULE_LOADER.invalidate(rule.getId(), String.valueOf(tenantId));
     }
 
     /**
@@ -89,6 +101,7 @@ public class CacheBackedRuleManagementDAO implements RuleManagementDAO {
         ruleCache.clearCacheEntry(new RuleCacheKey(ruleId), tenantId);
         LOG.debug("Rule cache entry is cleared for rule id: " + ruleId + " for rule deletion.");
         ruleManagementDAO.deleteRule(ruleId, tenantId);
+        RULE_LOADER.invalidate(ruleId, String.valueOf(tenantId));
     }
 
     /**
@@ -110,12 +123,58 @@ public class CacheBackedRuleManagementDAO implements RuleManagementDAO {
             return ruleCacheEntry.getRule();
         }
 
-        Rule rule = ruleManagementDAO.getRuleByRuleId(ruleId, tenantId);
-        if (rule != null) {
-            LOG.debug("Rule cache miss for rule id: " + ruleId + ". Adding to cache.");
-            ruleCache.addToCache(new RuleCacheKey(ruleId), new RuleCacheEntry(rule), tenantId);
+        return RULE_LOADER.load(ruleId, String.valueOf(tenantId), () -> {
+            Rule rule = ruleManagementDAO.getRuleByRuleId(ruleId, tenantId);
+            if (rule != null) {
+                LOG.debug("Rule cache miss for rule id: " + ruleId + ". Adding to cache.");
+                ruleCache.addToCache(new RuleCacheKey(ruleId), new RuleCacheEntry(rule), tenantId);
+            }
+            return rule;
+        });
+    }
+
+    /**
+     * Get the Rules of the given Rule IDs.
+     * This method returns the Rules found in the cache, and retrieves the rest from the data layer in a single
+     * operation and adds them to the cache.
+     *
+     * @param ruleIds  Rule IDs
+     * @param tenantId Tenant ID
+     * @return Rules found for the given Rule IDs, in the order of the Rule IDs.
+     * @throws RuleManagementException Rule Management Exception
+     */
+    @Override
+    public List<Rule> getRulesByRuleIds(List<String> ruleIds, int tenantId) throws RuleManagementException {
+
+        Map<String, Rule> rules = new LinkedHashMap<>();
+        List<String> uncachedRuleIds = new ArrayList<>();
+        Set<String> uniqueRuleIds = new LinkedHashSet<>(ruleIds);
+        for (String ruleId : uniqueRuleIds) {
+            RuleCacheEntry ruleCacheEntry = ruleCache.getValueFromCache(new RuleCacheKey(ruleId), tenantId);
+            if (ruleCacheEntry != null && ruleCacheEntry.getRule() != null) {
+                rules.put(ruleId, ruleCacheEntry.getRule());
+            } else {
+                uncachedRuleIds.add(ruleId);
+            }
+        }
+
+        if (!uncachedRuleIds.isEmpty()) {
+            LOG.debug("Rule cache miss for " + uncachedRuleIds.size() + " of " + uniqueRuleIds.size() +
+                    " rules. Retrieving them and adding to cache.");
+            for (Rule rule : ruleManagementDAO.getRulesByRuleIds(uncachedRuleIds, tenantId)) {
+                ruleCache.addToCache(new RuleCacheKey(rule.getId()), new RuleCacheEntry(rule), tenantId);
+                rules.put(rule.getId(), rule);
+            }
+        }
+
+        List<Rule> orderedRules = new ArrayList<>(rules.size());
+        for (String ruleId : uniqueRuleIds) {
+            Rule rule = rules.get(ruleId);
+            if (rule != null) {
+                orderedRules.add(rule);
+            }
         }
-        return rule;
+        return orderedRules;
     }
 
     /**
@@ -132,6 +191,7 @@ public class CacheBackedRuleManagementDAO implements RuleManagementDAO {
         ruleCache.clearCacheEntry(new RuleCacheKey(ruleId), tenantId);
         LOG.debug("Rule cache entry is cleared for rule id: " + ruleId + " for rule activation.");
         ruleManagementDAO.activateRule(ruleId, tenantId);
+        RULE_LOADER.invalidate(ruleId, String.valueOf(tenantId));
     }
 
     /**
@@ -148,5 +208,6 @@ public class CacheBackedRuleManagementDAO implements RuleManagementDAO {
         ruleCache.clearCacheEntry(new RuleCacheKey(ruleId), tenantId);
         LOG.debug("Rule cache entry is cleared for rule id: " + ruleId + " for rule deactivation.");
         ruleManagementDAO.deactivateRule(ruleId, tenantId);
+        RULE_LOADER.invalidate(ruleId, String.valueOf(tenantId));
     }
 }
@@ -20,13 +20,24 @@ package org.wso2.carbon.identity.rule.management.internal.dao.impl;
 
 /**
  * Represents a rule in the data layer.
- * This class has the rule JSON and the active status of the rule which is stored in the database.
+ * This class has the rule ID, the rule JSON and the active status of the rule which is stored in the database.
  */
 public class RuleData {
 
+    private String ruleId;
     private String ruleJson;
     private boolean isActive;
 
+    public String getRuleId() {
+
+        return ruleId;
+    }
+
+    public void setRuleId(String ruleId) {
+
+        this.ruleId = ruleId;
+    }
+
     public String getRuleJson() {
 
         return ruleJson;
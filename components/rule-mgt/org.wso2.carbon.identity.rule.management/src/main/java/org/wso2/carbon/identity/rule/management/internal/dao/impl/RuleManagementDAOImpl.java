@@ -40,6 +40,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Rule Management DAO Implementation.
@@ -162,6 +164,64 @@ public class RuleManagementDAOImpl implements RuleManagementDAO {
         }
     }
 
+    /**
+     * This method will retrieve the Rules of the given Rule IDs from the database.
+     * The Rule IDs are queried in chunks to keep the number of bound parameters of a query within the limits of
+     * the supported databases.
+     *
+     * @param ruleIds  Rule IDs
+     * @param tenantId Tenant ID
+     * @return Rules found for the given Rule IDs.
+     * @throws RuleManagementException If an error occurs while retrieving the rules from the database.
+     */
+    @Override
+    public List<Rule> getRulesByRuleIds(List<String> ruleIds, int tenantId) throws RuleManagementException {
+
+        List<Rule> rules = new ArrayList<>();
+        if (ruleIds == null || ruleIds.isEmpty()) {
+            return rules;
+        }
+
+        NamedJdbcTemplate jdbcTemplate = new NamedJdbcTemplate(IdentityDatabaseUtil.getDataSource());
+        List<RuleData> ruleDataList = new ArrayList<>();
+        try {
+            for (int from = 0; from < ruleIds.size(); from += RuleSQLConstants.MAX_RULE_IDS_PER_QUERY) {
+                List<String> ruleIdChunk = ruleIds.subList(from,
+                        Math.min(from + RuleSQLConstants.MAX_RULE_IDS_PER_QUERY, ruleIds.size()));
+                ruleDataList.addAll(jdbcTemplate.withTransaction(
+                        template -> template.executeQuery(buildGetRulesByIdsQuery(ruleIdChunk.size()),
+                                (resultSet, rowNumber) -> {
+                                    RuleData ruleData = new RuleData();
+                                    ruleData.setRuleId(resultSet.getString(RuleSQLConstants.Column.RULE_EXTERNAL_ID));
+                                    ruleData.setRuleJson(getStringValueFromInputStream(
+                                            resultSet.getBinaryStream(RuleSQLConstants.Column.RULE_CONTENT)));
+                                    ruleData.setActive(resultSet.getBoolean(RuleSQLConstants.Column.IS_ACTIVE));
+                                    return ruleData;
+                                },
+                                statement -> {
+                                    for (int i = 0; i < ruleIdChunk.size(); i++) {
+                                        statement.setString(RuleSQLConstants.RULE_ID_PARAMETER_PREFIX + i,
+                                                ruleIdChunk.get(i));
+                                    }
+                                    statement.setInt(RuleSQLConstants.Column.TENANT_ID, tenantId);
+                                })));
+            }
+        } catch (TransactionException e) {
+            throw new RuleManagementServerException("Error while retrieving the rules from the system.", e);
+        }
+
+        for (RuleData ruleData : ruleDataList) {
+            if (ruleData.getRuleJson() == null) {
+                continue;
+            }
+            rules.add(new ORCombinedRule.Builder(convertJsonToRule(ruleData.getRuleJson()))
+                    .setId(ruleData.getRuleId())
+                    .setActive(ruleData.isActive())
+                    .build());
+        }
+        return rules;
+    }
+
     /**
      * This method will activate the Rule in the database.
      *
@@ -214,6 +274,19 @@ public class RuleManagementDAOImpl implements RuleManagementDAO {
         }
     }
 
+    private String buildGetRulesByIdsQuery(int ruleIdCount) {
+
+        StringBuilder ruleIdParameters = new StringBuilder();
+        for (int i = 0; i < ruleIdCount; i++) {
+            if (i > 0) {
+                ruleIdParameters.append(", ");
+            }
+            ruleIdParameters.append(':').append(RuleSQLConstants.RULE_ID_PARAMETER_PREFIX).append(i).append(';');
+        }
+        return RuleSQLConstants.Query.GET_RULES_BY_IDS.replace(RuleSQLConstants.RULE_IDS_PLACEHOLDER,
+                ruleIdParameters.toString());
+    }
+
     private int addRuleToDB(Rule rule, int tenantId)
             throws TransactionException, IOException, RuleManagementException {
 
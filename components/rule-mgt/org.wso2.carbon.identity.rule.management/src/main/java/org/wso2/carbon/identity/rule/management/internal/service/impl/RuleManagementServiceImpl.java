@@ -27,6 +27,8 @@ import org.wso2.carbon.identity.rule.management.internal.dao.RuleManagementDAO;
 import org.wso2.carbon.identity.rule.management.internal.dao.impl.CacheBackedRuleManagementDAO;
 import org.wso2.carbon.identity.rule.management.internal.dao.impl.RuleManagementDAOImpl;
 
+import java.util.List;
+
 /**
  * Implementation of Rule Management Service.
  */
@@ -107,6 +109,20 @@ public class RuleManagementServiceImpl implements RuleManagementService {
         return ruleManagementDAO.getRuleByRuleId(ruleId, IdentityTenantUtil.getTenantId(tenantDomain));
     }
 
+    /**
+     * Retrieve the rules of the given rule IDs.
+     *
+     * @param ruleIds      Rule IDs.
+     * @param tenantDomain Tenant domain.
+     * @return Rules found for the given rule IDs.
+     * @throws RuleManagementException If an error occurs while retrieving the rules.
+     */
+    @Override
+    public List<Rule> getRulesByRuleIds(List<String> ruleIds, String tenantDomain) throws RuleManagementException {
+
+        return ruleManagementDAO.getRulesByRuleIds(ruleIds, IdentityTenantUtil.getTenantId(tenantDomain));
+    }
+
     /**
      * Deactivate a rule.
      *
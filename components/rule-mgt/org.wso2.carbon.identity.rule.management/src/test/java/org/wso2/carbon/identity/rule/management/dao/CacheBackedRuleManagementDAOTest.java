@@ -32,6 +32,10 @@ import org.wso2.carbon.identity.rule.management.core.cache.RuleCacheKey;
 import org.wso2.carbon.identity.rule.management.internal.dao.RuleManagementDAO;
 import org.wso2.carbon.identity.rule.management.internal.dao.impl.CacheBackedRuleManagementDAO;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -152,6 +156,30 @@ public class CacheBackedRuleManagementDAOTest {
         assertEquals(rule, ruleCache.getValueFromCache(new RuleCacheKey(RULE_ID), TENANT_ID).getRule());
     }
 
+    @Test
+    public void testGetRulesByRuleIdsFetchesOnlyCacheMisses() throws RuleManagementException {
+
+        ruleCache.clear(TENANT_ID);
+
+        Rule cachedRule = mock(Rule.class);
+        when(cachedRule.getId()).thenReturn(RULE_ID);
+        ruleCache.addToCache(new RuleCacheKey(RULE_ID), new RuleCacheEntry(cachedRule), TENANT_ID);
+
+        String uncachedRuleId = "uncachedRuleId";
+        Rule uncachedRule = mock(Rule.class);
+        when(uncachedRule.getId()).thenReturn(uncachedRuleId);
+        when(ruleManagementDAO.getRulesByRuleIds(Arrays.asList(uncachedRuleId, "missingRuleId"), TENANT_ID))
+                .thenReturn(Collections.singletonList(uncachedRule));
+
+        List<Rule> result = cacheBackedRuleManagementDAO.getRulesByRuleIds(
+                Arrays.asList(uncachedRuleId, RULE_ID, "missingRuleId", RULE_ID), TENANT_ID);
+
+        assertEquals(result, Arrays.asList(uncachedRule, cachedRule));
+        verify(ruleManagementDAO).getRulesByRuleIds(Arrays.asList(uncachedRuleId, "missingRuleId"), TENANT_ID);
+        assertEquals(ruleCache.getValueFromCache(new RuleCacheKey(uncachedRuleId), TENANT_ID).getRule(),
+                uncachedRule);
+    }
+
     @Test
     public void testActivateRule() throws RuleManagementException {
 
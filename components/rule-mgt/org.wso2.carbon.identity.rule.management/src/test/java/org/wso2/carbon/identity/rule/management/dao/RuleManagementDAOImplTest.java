@@ -29,6 +29,10 @@ import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.api.model.Value;
 import org.wso2.carbon.identity.rule.management.internal.dao.impl.RuleManagementDAOImpl;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
@@ -164,6 +168,21 @@ public class RuleManagementDAOImplTest {
         assertExpressions(retrievedAndCombinedRule3, expression4);
     }
 
+    @Test(dependsOnMethods = {"testUpdateRule"})
+    public void testGetRulesByRuleIds() throws RuleManagementException {
+
+        List<Rule> rules = ruleManagementDAOImpl.getRulesByRuleIds(
+                Arrays.asList(createdRule.getId(), "non-existing-rule-id"), TENANT_ID);
+        assertEquals(rules.size(), 1);
+        assertEquals(rules.get(0).getId(), createdRule.getId());
+        assertTrue(rules.get(0).isActive());
+        assertOrCombinedRule(rules.get(0), 3);
+
+        assertTrue(ruleManagementDAOImpl.getRulesByRuleIds(Collections.emptyList(), TENANT_ID).isEmpty());
+        assertTrue(ruleManagementDAOImpl.getRulesByRuleIds(
+                Collections.singletonList(createdRule.getId()), TENANT_ID + 1).isEmpty());
+    }
+
     @Test(dependsOnMethods = {"testUpdateRule"})
     public void testDeactivateRule() throws RuleManagementException {
 
@@ -23,7 +23,9 @@ import org.wso2.carbon.identity.webhook.metadata.api.model.Adapter;
 import org.wso2.carbon.identity.webhook.metadata.api.service.EventAdapterMetadataService;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Event publisher Component Service Holder.
@@ -34,6 +36,8 @@ public class EventPublisherComponentServiceHolder {
     private static final EventPublisherComponentServiceHolder INSTANCE =
             new EventPublisherComponentServiceHolder();
     private List<EventPublisher> eventPublishers = new ArrayList<>();
+    // Event publishers by their associated adapter, resolved on the first lookup after the publishers change.
+    private volatile Map<String, EventPublisher> eventPublishersByAdapter;
     private EventAdapterMetadataService eventAdapterMetadataService;
     private Adapter webhookAdapter;
 
@@ -61,9 +65,10 @@ public class EventPublisherComponentServiceHolder {
      *
      * @param eventPublisher Event publisher implementation.
      */
-    public void addEventPublisher(EventPublisher eventPublisher) {
+    public synchronized void addEventPublisher(EventPublisher eventPublisher) {
 
         eventPublishers.add(eventPublisher);
+        eventPublishersByAdapter = null;
     }
 
     /**
@@ -71,9 +76,10 @@ public class EventPublisherComponentServiceHolder {
      *
      * @param eventPublisher Event publisher implementation.
      */
-    public void removeEventPublisher(EventPublisher eventPublisher) {
+    public synchronized void removeEventPublisher(EventPublisher eventPublisher) {
 
         eventPublishers.remove(eventPublisher);
+        eventPublishersByAdapter = null;
     }
 
     /**
@@ -81,9 +87,37 @@ public class EventPublisherComponentServiceHolder {
      *
      * @param eventPublishers List of event publishers.
      */
-    public void setEventPublishers(List<EventPublisher> eventPublishers) {
+    public synchronized void setEventPublishers(List<EventPublisher> eventPublishers) {
 
         this.eventPublishers = eventPublishers;
+        eventPublishersByAdapter = null;
+    }
+
+    /**
+     * Get the event publisher associated with the given adapter. If more than one event publisher is associated with
+     * the adapter, the first one registered is returned.
+     *
+     * @param adapter Name of the adapter.
+     * @return Event publisher associated with the adapter, or null if there is none.
+     */
+    public EventPublisher getEventPublisher(String adapter) {
+
+        Map<String, EventPublisher> publishersByAdapter = eventPublishersByAdapter;
+        if (publishersByAdapter == null) {
+            synchronized (this) {
+                publishersByAdapter = eventPublishersByAdapter;
+                if (publishersByAdapter == null) {
+                    publishersByAdapter = new HashMap<>();
+                    if (eventPublishers != null) {
+                        for (EventPublisher eventPublisher : eventPublishers) {
+                            publishersByAdapter.putIfAbsent(eventPublisher.getAssociatedAdapter(), eventPublisher);
+                        }
+                    }
+                    eventPublishersByAdapter = publishersByAdapter;
+                }
+            }
+        }
+        return publishersByAdapter.get(adapter);
     }
 
     /**
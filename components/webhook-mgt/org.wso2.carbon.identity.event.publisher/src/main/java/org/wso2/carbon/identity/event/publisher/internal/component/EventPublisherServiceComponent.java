@@ -62,6 +62,9 @@ public class EventPublisherServiceComponent {
             EventPublisherComponentServiceHolder.getInstance()
                     .setWebhookAdapter(adapter);
 
+            // The publishing pipeline is shut down if the component was deactivated before.
+            EventPublisherServiceImpl.getInstance().start();
+
             // Register the EventPublisherService
             bundleContext.registerService(EventPublisherService.class.getName(),
                     EventPublisherServiceImpl.getInstance(), null);
@@ -81,6 +84,7 @@ public class EventPublisherServiceComponent {
     protected void deactivate(ComponentContext context) {
 
         try {
+            EventPublisherServiceImpl.getInstance().shutdown();
             LOG.debug("EventPublisherService is deactivated");
         } catch (Throwable e) {
             LOG.error("Error while deactivating EventPublisherService", e);
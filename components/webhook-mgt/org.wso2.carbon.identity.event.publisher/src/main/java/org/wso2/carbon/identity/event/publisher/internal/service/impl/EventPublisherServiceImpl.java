@@ -29,10 +29,7 @@ import org.wso2.carbon.identity.event.publisher.api.service.EventPublisherServic
 import org.wso2.carbon.identity.event.publisher.internal.component.EventPublisherComponentServiceHolder;
 import org.wso2.carbon.identity.event.publisher.internal.util.EventPublisherExceptionHandler;
 
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
 
 /**
  * Implementation of the EventPublisherService interface.
@@ -42,14 +39,14 @@ public class EventPublisherServiceImpl implements EventPublisherService {
 
     private static final Log log = LogFactory.getLog(EventPublisherServiceImpl.class);
     private static final EventPublisherServiceImpl eventPublisherServiceImpl = new EventPublisherServiceImpl();
-    private static final int THREAD_POOL_SIZE = 10;
-    private static final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
     private final String webhookAdapter;
+    private volatile EventPublishingPipeline publishingPipeline;
 
     private EventPublisherServiceImpl() {
 
         webhookAdapter = EventPublisherComponentServiceHolder.getInstance()
                 .getWebhookAdapter().getName();
+        publishingPipeline = EventPublishingPipeline.fromConfig();
     }
 
     /**
@@ -68,17 +65,7 @@ public class EventPublisherServiceImpl implements EventPublisherService {
         EventPublisher adapterManager = retrieveAdapterManager(webhookAdapter);
 
         log.debug("Invoking registered event publisher: " + adapterManager.getClass().getName());
-        CompletableFuture.runAsync(() -> {
-            try {
-                adapterManager.publish(eventPayload, eventContext);
-            } catch (EventPublisherException e) {
-                log.error("Error while publishing event with publisher: " +
-                        adapterManager.getClass().getName(), e);
-            }
-        }, executorService).exceptionally(ex -> {
-            log.error("Error occurred in async event publishing: " + ex.getMessage(), ex);
-            return null;
-        });
+        publishingPipeline.enqueue(webhookAdapter, adapterManager, eventPayload, eventContext);
     }
 
     @Override
@@ -96,15 +83,49 @@ public class EventPublisherServiceImpl implements EventPublisherService {
         return false;
     }
 
-    private EventPublisher retrieveAdapterManager(String adapter) throws EventPublisherException {
+    /**
+     * Get the publishing statistics of each adapter.
+     *
+     * @return Event publishing metrics by the adapter name.
+     */
+    public Map<String, EventPublishingMetrics> getPublishingMetrics() {
+
+        return publishingPipeline.getMetrics();
+    }
+
+    /**
+     * Get the number of events waiting to be published.
+     *
+     * @return Publishing queue size.
+     */
+    public int getPublishingQueueSize() {
+
+        return publishingPipeline.getQueueSize();
+    }
+
+    /**
+     * Start accepting events to publish again, after the service is shut down with the deactivation of its component.
+     */
+    public synchronized void start() {
+
+        if (publishingPipeline.isShutdown()) {
+            publishingPipeline = EventPublishingPipeline.fromConfig();
+        }
+    }
 
-        List<EventPublisher> managers =
-                EventPublisherComponentServiceHolder.getInstance().getEventPublishers();
+    /**
+     * Stop accepting events to publish. The events already accepted are still published.
+     */
+    public synchronized void shutdown() {
+
+        publishingPipeline.shutdown();
+    }
+
+    private EventPublisher retrieveAdapterManager(String adapter) throws EventPublisherException {
 
-        for (EventPublisher manager : managers) {
-            if (adapter.equals(manager.getAssociatedAdapter())) {
-                return manager;
-            }
+        EventPublisher manager = EventPublisherComponentServiceHolder.getInstance().getEventPublisher(adapter);
+        if (manager != null) {
+            return manager;
         }
 
         throw EventPublisherExceptionHandler.handleServerException(ErrorMessage.ERROR_CODE_EVENT_PUBLISHER_NOT_FOUND);
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.service.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of the events published through an adapter.
+ */
+public class EventPublishingMetrics {
+
+    private final LongAdder enqueuedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder totalPublishLagNanos = new LongAdder();
+    private final AtomicLong maxPublishLagNanos = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    void recordEnqueued() {
+
+        enqueuedEvents.increment();
+    }
+
+    void recordDropped() {
+
+        droppedEvents.increment();
+    }
+
+    void recordBatch(int batchSize) {
+
+        batches.increment();
+        maxBatchSize.accumulateAndGet(batchSize, Math::max);
+    }
+
+    void recordPublished(long publishLagNanos) {
+
+        publishedEvents.increment();
+        recordPublishLag(publishLagNanos);
+    }
+
+    void recordFailed(long publishLagNanos) {
+
+        failedEvents.increment();
+        recordPublishLag(publishLagNanos);
+    }
+
+    private void recordPublishLag(long publishLagNanos) {
+
+        totalPublishLagNanos.add(publishLagNanos);
+        maxPublishLagNanos.accumulateAndGet(publishLagNanos, Math::max);
+    }
+
+    public long getEnqueuedEvents() {
+
+        return enqueuedEvents.sum();
+    }
+
+    /**
+     * Number of events which were not published because the publishing queue stayed full for the offer timeout.
+     *
+     * @return Dropped event count.
+     */
+    public long getDroppedEvents() {
+
+        return droppedEvents.sum();
+    }
+
+    public long getPublishedEvents() {
+
+        return publishedEvents.sum();
+    }
+
+    /**
+     * Number of events for which the event publisher failed.
+     *
+     * @return Failed event count.
+     */
+    public long getFailedEvents() {
+
+        return failedEvents.sum();
+    }
+
+    public long getBatches() {
+
+        return batches.sum();
+    }
+
+    public long getMaxBatchSize() {
+
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Average time an event waited in the publishing queue before the event publisher was invoked for it.
+     *
+     * @return Average publish lag in milliseconds.
+     */
+    public long getAveragePublishLagMillis() {
+
+        long events = publishedEvents.sum() + failedEvents.sum();
+        return events == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalPublishLagNanos.sum() / events);
+    }
+
+    public long getMaxPublishLagMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxPublishLagNanos.get());
+    }
+
+    @Override
+    public String toString() {
+
+        return "EventPublishingMetrics{" +
+                "enqueued=" + getEnqueuedEvents() +
+                ", dropped=" + getDroppedEvents() +
+                ", published=" + getPublishedEvents() +
+                ", failed=" + getFailedEvents() +
+                ", batches=" + getBatches() +
+                ", maxBatchSize=" + getMaxBatchSize() +
+                ", avgPublishLagMs=" + getAveragePublishLagMillis() +
+                ", maxPublishLagMs=" + getMaxPublishLagMillis() +
+                '}';
+    }
+}
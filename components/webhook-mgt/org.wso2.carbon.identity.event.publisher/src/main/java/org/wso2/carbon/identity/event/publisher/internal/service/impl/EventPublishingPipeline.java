@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.service.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherException;
+import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
+import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes events asynchronously through a bounded queue consumed by a fixed number of threads.
+ * <p>
+ * Each consumer drains up to the batch size of queued events at once, groups them by adapter and topic, and publishes
+ * the events of each group in their queued order. A consumer drains at most its share of the queued events, so that a
+ * burst of events is published by all the consumers in parallel instead of by the consumer which polls it first.
+ * An event is dropped if the queue stays full for the offer timeout, so that a slow hub does not hold the threads
+ * which trigger the events.
+ */
+public class EventPublishingPipeline {
+
+    private static final Log log = LogFactory.getLog(EventPublishingPipeline.class);
+
+    private static final String POOL_SIZE = "Webhooks.EventPublishing.PoolSize";
+    private static final String QUEUE_CAPACITY = "Webhooks.EventPublishing.QueueCapacity";
+    private static final String BATCH_SIZE = "Webhooks.EventPublishing.BatchSize";
+    private static final String OFFER_TIMEOUT = "Webhooks.EventPublishing.OfferTimeout";
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 0;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final BlockingQueue<QueuedEvent> queue;
+    private final ExecutorService executorService;
+    private final int batchSize;
+    private final int consumerCount;
+    private final long offerTimeoutMillis;
+    private final Map<String, EventPublishingMetrics> metricsByAdapter = new ConcurrentHashMap<>();
+    private final AtomicBoolean dropping = new AtomicBoolean();
+    private volatile boolean running = true;
+
+    /**
+     * @param poolSize           Number of threads publishing the queued events.
+     * @param queueCapacity      Maximum number of events waiting to be published.
+     * @param batchSize          Maximum number of events drained from the queue at once by a thread.
+     * @param offerTimeoutMillis Time to wait for free capacity in a full queue before an event is dropped.
+     */
+    EventPublishingPipeline(int poolSize, int queueCapacity, int batchSize, long offerTimeoutMillis) {
+
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.offerTimeoutMillis = Math.max(0, offerTimeoutMillis);
+        this.consumerCount = Math.max(1, poolSize);
+        this.executorService = Executors.newFixedThreadPool(consumerCount);
+        for (int i = 0; i < consumerCount; i++) {
+            executorService.execute(this::consume);
+        }
+    }
+
+    /**
+     * Create the pipeline with the configuration in the identity.xml.
+     *
+     * @return Event publishing pipeline.
+     */
+    static EventPublishingPipeline fromConfig() {
+
+        int poolSize = IdentityUtil.getPropertyAsInt(POOL_SIZE, DEFAULT_POOL_SIZE);
+        int queueCapacity = IdentityUtil.getPropertyAsInt(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
+        int batchSize = IdentityUtil.getPropertyAsInt(BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        long offerTimeoutMillis = IdentityUtil.getPropertyAsMillis(OFFER_TIMEOUT, TimeUnit.MILLISECONDS,
+                DEFAULT_OFFER_TIMEOUT_MILLIS);
+        log.info(String.format("Thread pool size for webhook event publishing : %d, batch size : %d, " +
+                "queue capacity : %d", poolSize, batchSize, queueCapacity));
+        return new EventPublishingPipeline(poolSize, queueCapacity, batchSize, offerTimeoutMillis);
+    }
+
+    /**
+     * Queue an event to be published with the given event publisher.
+     *
+     * @param adapter        Name of the adapter of the event publisher.
+     * @param eventPublisher Event publisher.
+     * @param eventPayload   Event payload.
+     * @param eventContext   Event context.
+     * @return False if the event is dropped.
+     */
+    boolean enqueue(String adapter, EventPublisher eventPublisher, SecurityEventTokenPayload eventPayload,
+                    EventContext eventContext) {
+
+        EventPublishingMetrics metrics = getMetrics(adapter);
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queue.offer(new QueuedEvent(adapter, eventPublisher, eventPayload, eventContext),
+                        offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (queued) {
+            metrics.recordEnqueued();
+            if (dropping.get()) {
+                dropping.set(false);
+            }
+            return true;
+        }
+        metrics.recordDropped();
+        if (dropping.compareAndSet(false, true)) {
+            log.warn("Webhook event publishing queue is full. Events are dropped until the queue has free capacity.");
+        } else if (log.isDebugEnabled()) {
+            log.debug("Dropped webhook event of the topic: " + eventContext.getEventUri() + " of the tenant: " +
+                    eventContext.getTenantDomain());
+        }
+        return false;
+    }
+
+    private void consume() {
+
+        while (running) {
+            try {
+                QueuedEvent first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    List<QueuedEvent> drained = new ArrayList<>(batchSize);
+                    drained.add(first);
+                    queue.drainTo(drained, getDrainLimit());
+                    publish(drained);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // Keep the consumer alive, so that the events queued later are still published.
+                log.error("Error while publishing a batch of webhook events.", e);
+            }
+        }
+
+        // Publish the events accepted before the shutdown.
+        List<QueuedEvent> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            publish(remaining);
+            remaining = new ArrayList<>();
+        }
+    }
+
+    private int getDrainLimit() {
+
+        if (batchSize == 1) {
+            return 0;
+        }
+        // Leave the rest of the queued events to the other consumers.
+        return Math.min(batchSize - 1, queue.size() / consumerCount);
+    }
+
+    private void publish(List<QueuedEvent> drained) {
+
+        Map<String, List<QueuedEvent>> eventsByTopic = new LinkedHashMap<>();
+        for (QueuedEvent event : drained) {
+            eventsByTopic.computeIfAbsent(event.getTopicKey(), key -> new ArrayList<>()).add(event);
+        }
+        for (List<QueuedEvent> events : eventsByTopic.values()) {
+            EventPublishingMetrics metrics = getMetrics(events.get(0).adapter);
+            metrics.recordBatch(events.size());
+            for (QueuedEvent event : events) {
+                long publishLag = System.nanoTime() - event.enqueuedTime;
+                try {
+                    event.eventPublisher.publish(event.eventPayload, event.eventContext);
+                    metrics.recordPublished(publishLag);
+                } catch (EventPublisherException | RuntimeException e) {
+                    metrics.recordFailed(publishLag);
+                    log.error("Error while publishing event with publisher: " +
+                            event.eventPublisher.getClass().getName(), e);
+                }
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Published a batch of %d webhook events of %d topics.", drained.size(),
+                    eventsByTopic.size()));
+        }
+    }
+
+    private EventPublishingMetrics getMetrics(String adapter) {
+
+        return metricsByAdapter.computeIfAbsent(adapter, key -> new EventPublishingMetrics());
+    }
+
+    /**
+     * Get the publishing statistics of each adapter.
+     *
+     * @return Event publishing metrics by the adapter name.
+     */
+    public Map<String, EventPublishingMetrics> getMetrics() {
+
+        return Collections.unmodifiableMap(metricsByAdapter);
+    }
+
+    /**
+     * @return Number of events waiting to be published.
+     */
+    public int getQueueSize() {
+
+        return queue.size();
+    }
+
+    /**
+     * Stop accepting events. The consumers publish the events already queued and stop.
+     */
+    void shutdown() {
+
+        running = false;
+        executorService.shutdown();
+    }
+
+    /**
+     * @return True if the pipeline is shut down and no longer accepts events.
+     */
+    boolean isShutdown() {
+
+        return !running;
+    }
+
+    /**
+     * Event waiting in the queue to be published.
+     */
+    private static class QueuedEvent {
+
+        private final String adapter;
+        private final EventPublisher eventPublisher;
+        private final SecurityEventTokenPayload eventPayload;
+        private final EventContext eventContext;
+        private final long enqueuedTime = System.nanoTime();
+
+        QueuedEvent(String adapter, EventPublisher eventPublisher, SecurityEventTokenPayload eventPayload,
+                    EventContext eventContext) {
+
+            this.adapter = adapter;
+            this.eventPublisher = eventPublisher;
+            this.eventPayload = eventPayload;
+            this.eventContext = eventContext;
+        }
+
+        String getTopicKey() {
+
+            return adapter + ":" + eventContext.getTenantDomain() + ":" + eventContext.getEventUri();
+        }
+    }
+}
@@ -76,6 +76,22 @@ public class EventPublisherComponentServiceHolderTest {
         Assert.assertEquals(holder.getEventPublishers(), publishers);
     }
 
+    @Test
+    public void testGetEventPublisher() {
+
+        Mockito.when(publisher1.getAssociatedAdapter()).thenReturn("adapter1");
+        Mockito.when(publisher2.getAssociatedAdapter()).thenReturn("adapter2");
+        holder.addEventPublisher(publisher1);
+        Assert.assertSame(holder.getEventPublisher("adapter1"), publisher1);
+        Assert.assertNull(holder.getEventPublisher("adapter2"));
+
+        holder.addEventPublisher(publisher2);
+        Assert.assertSame(holder.getEventPublisher("adapter2"), publisher2);
+
+        holder.removeEventPublisher(publisher1);
+        Assert.assertNull(holder.getEventPublisher("adapter1"));
+    }
+
     @Test
     public void testGetEventPublishersReturnsMutableList() {
 
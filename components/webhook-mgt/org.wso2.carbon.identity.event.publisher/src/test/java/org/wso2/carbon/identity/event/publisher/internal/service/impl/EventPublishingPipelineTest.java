@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.service.impl;
+
+import org.mockito.InOrder;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherException;
+import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
+import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests of EventPublishingPipeline.
+ */
+public class EventPublishingPipelineTest {
+
+    private static final String ADAPTER = "webSubHubAdapter";
+
+    @Test
+    public void testEventIsDroppedWhenQueueIsFull() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        EventPublisher eventPublisher = mock(EventPublisher.class);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(eventPublisher).publish(any(), any());
+        EventContext eventContext = mock(EventContext.class);
+
+        EventPublishingPipeline pipeline = new EventPublishingPipeline(1, 1, 1, 0);
+        try {
+            assertTrue(pipeline.enqueue(ADAPTER, eventPublisher, mock(SecurityEventTokenPayload.class), eventContext));
+            // The only consumer holds the first event until it is released.
+            waitFor(() -> pipeline.getQueueSize() == 0);
+            assertTrue(pipeline.enqueue(ADAPTER, eventPublisher, mock(SecurityEventTokenPayload.class), eventContext));
+            assertFalse(pipeline.enqueue(ADAPTER, eventPublisher, mock(SecurityEventTokenPayload.class),
+                    eventContext));
+
+            release.countDown();
+            EventPublishingMetrics metrics = pipeline.getMetrics().get(ADAPTER);
+            waitFor(() -> metrics.getPublishedEvents() == 2);
+            assertEquals(metrics.getEnqueuedEvents(), 2);
+            assertEquals(metrics.getDroppedEvents(), 1);
+            assertEquals(metrics.getFailedEvents(), 0);
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedEventDoesNotStopPublishing() throws Exception {
+
+        EventPublisher eventPublisher = mock(EventPublisher.class);
+        EventContext eventContext = mock(EventContext.class);
+        SecurityEventTokenPayload payload1 = mock(SecurityEventTokenPayload.class);
+        SecurityEventTokenPayload payload2 = mock(SecurityEventTokenPayload.class);
+        SecurityEventTokenPayload payload3 = mock(SecurityEventTokenPayload.class);
+        doThrow(new EventPublisherException("E", "msg", "desc")).when(eventPublisher).publish(payload2, eventContext);
+
+        EventPublishingPipeline pipeline = new EventPublishingPipeline(1, 10, 10, 0);
+        try {
+            pipeline.enqueue(ADAPTER, eventPublisher, payload1, eventContext);
+            pipeline.enqueue(ADAPTER, eventPublisher, payload2, eventContext);
+            pipeline.enqueue(ADAPTER, eventPublisher, payload3, eventContext);
+
+            EventPublishingMetrics metrics = pipeline.getMetrics().get(ADAPTER);
+            waitFor(() -> metrics.getPublishedEvents() + metrics.getFailedEvents() == 3);
+            assertEquals(metrics.getPublishedEvents(), 2);
+            assertEquals(metrics.getFailedEvents(), 1);
+            assertTrue(metrics.getBatches() >= 1);
+
+            InOrder publishOrder = inOrder(eventPublisher);
+            publishOrder.verify(eventPublisher).publish(payload1, eventContext);
+            publishOrder.verify(eventPublisher).publish(payload2, eventContext);
+            publishOrder.verify(eventPublisher).publish(payload3, eventContext);
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testBurstIsPublishedInParallel() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger concurrentPublishes = new AtomicInteger();
+        EventPublisher eventPublisher = mock(EventPublisher.class);
+        doAnswer(invocation -> {
+            concurrentPublishes.incrementAndGet();
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(eventPublisher).publish(any(), any());
+        EventContext eventContext = mock(EventContext.class);
+
+        EventPublishingPipeline pipeline = new EventPublishingPipeline(3, 10, 10, 0);
+        try {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(pipeline.enqueue(ADAPTER, eventPublisher, mock(SecurityEventTokenPayload.class),
+                        eventContext));
+            }
+            // Each consumer takes one of the events, instead of one consumer draining all of them.
+            waitFor(() -> concurrentPublishes.get() == 3);
+
+            release.countDown();
+            EventPublishingMetrics metrics = pipeline.getMetrics().get(ADAPTER);
+            waitFor(() -> metrics.getPublishedEvents() == 3);
+            assertEquals(metrics.getMaxBatchSize(), 1);
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testEventIsDroppedAfterShutdown() {
+
+        EventPublishingPipeline pipeline = new EventPublishingPipeline(1, 10, 10, 0);
+        pipeline.shutdown();
+
+        assertFalse(pipeline.enqueue(ADAPTER, mock(EventPublisher.class), mock(SecurityEventTokenPayload.class),
+                mock(EventContext.class)));
+        assertEquals(pipeline.getMetrics().get(ADAPTER).getDroppedEvents(), 1);
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "Condition is not met within the timeout.");
+    }
+}
@@ -131,6 +131,23 @@ public class EventPublisherServiceImplTest {
         verify(mockEventPublisher2, never()).publish(any(), any());
     }
 
+    @Test
+    public void testPublishAfterRestart() throws Exception {
+
+        when(mockEventPublisher1.getAssociatedAdapter()).thenReturn("webSubHubAdapter");
+        when(mockEventPublisher2.getAssociatedAdapter()).thenReturn("otherAdapter");
+
+        // Component deactivation followed by a reactivation.
+        eventPublisherService.shutdown();
+        eventPublisherService.start();
+        eventPublisherService.publish(mockEventPayload, mockEventContext);
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(mockEventPublisher1, times(1)).publish(mockEventPayload, mockEventContext);
+        Assert.assertEquals(eventPublisherService.getPublishingMetrics().get("webSubHubAdapter")
+                .getDroppedEvents(), 0);
+    }
+
     @Test
     public void testPublishWithNoMatchingAdapter() {
 
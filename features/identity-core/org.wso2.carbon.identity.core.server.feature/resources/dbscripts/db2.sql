@@ -1038,6 +1038,44 @@ CREATE TRIGGER IDP_PROV_ENTITY_TRIG NO CASCADE
                     SET (NEW.ID) = (NEXTVAL FOR IDP_PROV_ENTITY_SEQ);
                 END
 /
+CREATE TABLE IDN_PROVISIONING_JOB (
+            JOB_ID VARCHAR(36) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            SP_TENANT_DOMAIN VARCHAR(255) NOT NULL,
+            ENTITY_TENANT_DOMAIN VARCHAR(255),
+            SP_NAME VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_NAME VARCHAR(255),
+            OPERATION VARCHAR(10) NOT NULL,
+            ENTITY_OBJECT BLOB,
+            ATTEMPT_COUNT INTEGER DEFAULT 0,
+            NEXT_ATTEMPT_TIME BIGINT NOT NULL,
+            LEASE_OWNER VARCHAR(255),
+            LEASE_EXPIRY_TIME BIGINT DEFAULT 0,
+            LAST_ERROR VARCHAR(1024),
+            TIME_CREATED BIGINT NOT NULL,
+            PRIMARY KEY (JOB_ID)
+)
+/
+CREATE TABLE IDN_PROV_JOB_DEAD_LETTER (
+            JOB_ID VARCHAR(36) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            SP_TENANT_DOMAIN VARCHAR(255) NOT NULL,
+            ENTITY_TENANT_DOMAIN VARCHAR(255),
+            SP_NAME VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_NAME VARCHAR(255),
+            OPERATION VARCHAR(10) NOT NULL,
+            ENTITY_OBJECT BLOB,
+            ATTEMPT_COUNT INTEGER DEFAULT 0,
+            LAST_ERROR VARCHAR(1024),
+            TIME_CREATED BIGINT NOT NULL,
+            DEAD_LETTERED_TIME BIGINT NOT NULL,
+            PRIMARY KEY (JOB_ID)
+)
+/
 CREATE TABLE IDP_LOCAL_CLAIM (
             ID INTEGER NOT NULL,
             TENANT_ID INTEGER NOT NULL,
@@ -3022,3 +3060,11 @@ CREATE INDEX IDX_SAML2_SP_PROPERTIES ON IDN_SAML2_SP_PROPERTIES (SP_ID)
 --SP_CLAIM_MAPPING--
 CREATE INDEX IDX_SPCM_APP ON SP_CLAIM_MAPPING (APP_ID)
 /
+
+-- PROVISIONING JOB --
+CREATE INDEX IDX_IDN_PROV_JOB_NAT_LET ON IDN_PROVISIONING_JOB (NEXT_ATTEMPT_TIME, LEASE_EXPIRY_TIME)
+/
+CREATE INDEX IDX_IDN_PROV_JOB_LO_LET ON IDN_PROVISIONING_JOB (LEASE_OWNER, LEASE_EXPIRY_TIME)
+/
+CREATE INDEX IDX_IDN_PROV_JOB_DL_TID_DLT ON IDN_PROV_JOB_DEAD_LETTER (TENANT_ID, DEAD_LETTERED_TIME)
+/
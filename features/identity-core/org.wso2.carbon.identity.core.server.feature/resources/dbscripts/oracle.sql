@@ -1176,6 +1176,44 @@ CREATE OR REPLACE TRIGGER IDP_PROV_ENTITY_TRIG
                    SELECT IDP_PROV_ENTITY_SEQ.nextval INTO :NEW.ID FROM dual;
                END;
 /
+CREATE TABLE IDN_PROVISIONING_JOB (
+            JOB_ID VARCHAR(36) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            SP_TENANT_DOMAIN VARCHAR(255) NOT NULL,
+            ENTITY_TENANT_DOMAIN VARCHAR(255),
+            SP_NAME VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_NAME VARCHAR(255),
+            OPERATION VARCHAR(10) NOT NULL,
+            ENTITY_OBJECT BLOB,
+            ATTEMPT_COUNT INTEGER DEFAULT 0,
+            NEXT_ATTEMPT_TIME NUMBER(19) NOT NULL,
+            LEASE_OWNER VARCHAR(255),
+            LEASE_EXPIRY_TIME NUMBER(19) DEFAULT 0,
+            LAST_ERROR VARCHAR(1024),
+            TIME_CREATED NUMBER(19) NOT NULL,
+            PRIMARY KEY (JOB_ID)
+)
+/
+CREATE TABLE IDN_PROV_JOB_DEAD_LETTER (
+            JOB_ID VARCHAR(36) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            SP_TENANT_DOMAIN VARCHAR(255) NOT NULL,
+            ENTITY_TENANT_DOMAIN VARCHAR(255),
+            SP_NAME VARCHAR(255) NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_NAME VARCHAR(255),
+            OPERATION VARCHAR(10) NOT NULL,
+            ENTITY_OBJECT BLOB,
+            ATTEMPT_COUNT INTEGER DEFAULT 0,
+            LAST_ERROR VARCHAR(1024),
+            TIME_CREATED NUMBER(19) NOT NULL,
+            DEAD_LETTERED_TIME NUMBER(19) NOT NULL,
+            PRIMARY KEY (JOB_ID)
+)
+/
 CREATE TABLE IDP_LOCAL_CLAIM (
             ID INTEGER,
             TENANT_ID INTEGER,
@@ -3159,3 +3197,11 @@ CREATE INDEX IDX_OAUTH2_ACCESS_TOKEN_ATTRIBUTES_TOKEN_ID ON IDN_OAUTH2_ACCESS_TO
 /
 CREATE INDEX IDX_OAUTH2_ACCESS_TOKEN_ATTRIBUTES_TOKEN_ATTR_NAME ON IDN_OAUTH2_ACCESS_TOKEN_ATTRIBUTES (TOKEN_ATTR_NAME);
 /
+
+-- PROVISIONING JOB --
+CREATE INDEX IDX_IDN_PROV_JOB_NAT_LET ON IDN_PROVISIONING_JOB (NEXT_ATTEMPT_TIME, LEASE_EXPIRY_TIME)
+/
+CREATE INDEX IDX_IDN_PROV_JOB_LO_LET ON IDN_PROVISIONING_JOB (LEASE_OWNER, LEASE_EXPIRY_TIME)
+/
+CREATE INDEX IDX_IDN_PROV_JOB_DL_TID_DLT ON IDN_PROV_JOB_DEAD_LETTER (TENANT_ID, DEAD_LETTERED_TIME)
+/